@@ -22,6 +22,20 @@ public final class MediaTypes {
      */
     public static final String APP_PREVIEW = "application/vnd.github.machine-man-preview+json";
 
+    /**
+     * Media type used to request the raw contents of files, instead of a JSON representation
+     *
+     * @since 1.3.0
+     */
+    public static final String RAW = "application/vnd.github.raw";
+
+    /**
+     * Media type used to request only the SHA of a commit, instead of a JSON representation
+     *
+     * @since 1.3.0
+     */
+    public static final String SHA = "application/vnd.github.sha";
+
     /**
      * Prevent instantiation of utility class
      */
@@ -6,6 +6,7 @@
  */
 package org.starchartlabs.calamari.core;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
@@ -31,11 +32,14 @@ public class ResponseConditions {
 
     private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
 
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
     /**
      * Analyzes a web response to determine if it represents exceeding GitHub's rate limits
      *
      * <p>
-     * If the response does represent exceeded rate limiting, throws a {@link RequestLimitExceededException}
+     * If the response does represent exceeded rate limiting, throws a {@link RequestLimitExceededException}. Both the
+     * primary rate limit and secondary rate limits which instruct clients to retry later are recognized
      *
      * <p>
      * To use this check with other web libraries, see {@link #checkRateLimit(Object, Function, BiFunction)}
@@ -143,18 +147,84 @@ public class ResponseConditions {
                 .findFirst()
                 .orElse("(unknown)");
 
+        Optional<Duration> retryAfter = getRetryAfter(response, headerLookup);
+
         String reset = Optional.ofNullable(headerLookup.apply(response, RATE_LIMIT_RESET_HEADER))
                 .orElse(Collections.emptyList())
                 .stream()
                 .findFirst()
-                .orElse("(unknown)");
+                .orElseGet(() -> retryAfter.map(delay -> "(retry after " + delay + ")").orElse("(unknown)"));
 
         Collection<String> remaining = Optional.ofNullable(headerLookup.apply(response, RATE_LIMIT_REMAINING_HEADER))
                 .orElse(Collections.emptyList());
 
-        boolean rateLimitExceeded = Objects.equals(codeLookup.apply(response), 403) && remaining.contains("0");
+        Integer code = codeLookup.apply(response);
+
+        // Secondary rate limits are reported as 403 or 429 responses which instruct clients when to retry
+        boolean rateLimitExceeded = (Objects.equals(code, 403) && (remaining.contains("0") || retryAfter.isPresent()))
+                || Objects.equals(code, 429);
 
         return rateLimitExceeded ? Optional.of(new RequestLimitExceededException(limit, reset)) : Optional.empty();
     }
 
+    /**
+     * Reads the amount of time GitHub has instructed clients to wait before retrying a request, such as when a
+     * secondary rate limit has been exceeded
+     *
+     * <p>
+     * To use this check with other web libraries, see {@link #getRetryAfter(Object, BiFunction)}
+     *
+     * @param response
+     *            OkHttp3 representation of a web response
+     * @return The amount of time to wait before retrying, if specified by the response
+     * @since 1.3.0
+     */
+    public static Optional<Duration> getRetryAfter(Response response) {
+        Objects.requireNonNull(response);
+
+        return getRetryAfter(response, (res, header) -> res.headers().values(header));
+    }
+
+    /**
+     * Reads the amount of time GitHub has instructed clients to wait before retrying a request, such as when a
+     * secondary rate limit has been exceeded
+     *
+     * <p>
+     * GitHub specifies the time to wait as a number of seconds - other forms of the Retry-After header are not read
+     *
+     * @param response
+     *            Representation of a web response
+     * @param headerLookup
+     *            Function which takes a response and header value as input, and produces all instances of that header
+     *            from the response
+     * @param <T>
+     *            Java type representing a web response
+     * @return The amount of time to wait before retrying, if specified by the response
+     * @since 1.3.0
+     */
+    public static <T> Optional<Duration> getRetryAfter(T response, BiFunction<T, String, Collection<String>> headerLookup) {
+        Objects.requireNonNull(response);
+        Objects.requireNonNull(headerLookup);
+
+        Optional<String> retryAfter = Optional.ofNullable(headerLookup.apply(response, RETRY_AFTER_HEADER))
+                .orElse(Collections.emptyList())
+                .stream()
+                .findFirst()
+                .map(String::trim);
+
+        Optional<Duration> result = Optional.empty();
+
+        if (retryAfter.isPresent()) {
+            try {
+                long seconds = Long.parseLong(retryAfter.get());
+
+                result = (seconds >= 0 ? Optional.of(Duration.ofSeconds(seconds)) : Optional.empty());
+            } catch (NumberFormatException e) {
+                result = Optional.empty();
+            }
+        }
+
+        return result;
+    }
+
 }
@@ -8,9 +8,11 @@ package org.starchartlabs.calamari.core.auth;
 
 import java.io.IOException;
 import java.io.StringReader;
-import java.security.Key;
 import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
 import java.security.Security;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
@@ -18,9 +20,11 @@ import java.util.Date;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
+import org.apache.commons.codec.digest.DigestUtils;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.PEMParser;
@@ -47,7 +51,9 @@ import io.jsonwebtoken.io.Serializer;
  * as a GitHub App</a>
  *
  * <p>
- * Uses Java {@link Supplier} pattern to allow re-generation of tokens as needed
+ * Uses Java {@link Supplier} pattern to allow re-generation of tokens as needed. By default, an expired token is
+ * re-generated by the first caller to request it - see {@link RefreshPolicy} for alternatives which re-generate tokens
+ * in the background
  *
  * @author romeara
  * @since 0.1.0
@@ -72,6 +78,11 @@ public class ApplicationKey implements Supplier<String> {
 
     private final int cacheExpirationMinutes;
 
+    // Parsed form of the most recently read private key - parsing is significantly more expensive than signing, and the
+    // key content rarely changes
+    @Nullable
+    private volatile SigningKey signingKey;
+
     /**
      * @param githubAppId
      *            Unique identifier provided by GitHub for the App
@@ -95,19 +106,39 @@ public class ApplicationKey implements Supplier<String> {
      * @since 0.4.0
      */
     public ApplicationKey(String githubAppId, Supplier<String> privateKeySupplier, int cacheExpirationMinutes) {
+        this(githubAppId, privateKeySupplier, cacheExpirationMinutes, RefreshPolicy.onExpiration());
+    }
+
+    /**
+     * @param githubAppId
+     *            Unique identifier provided by GitHub for the App
+     * @param privateKeySupplier
+     *            Supplier which allows lookup of the private (signing) key issued by GitHub for creating JWT tokens
+     *            used in web requests
+     * @param cacheExpirationMinutes
+     *            Number of minutes to cache generated JWT tokens for authentication with GitHub, maximum 10
+     * @param refreshPolicy
+     *            Policy describing how cached JWT tokens are renewed. The refresh margin, if any, must be less than the
+     *            cache expiration time
+     * @since 1.3.0
+     */
+    public ApplicationKey(String githubAppId, Supplier<String> privateKeySupplier, int cacheExpirationMinutes,
+            RefreshPolicy refreshPolicy) {
         this.githubAppId = Objects.requireNonNull(githubAppId);
         this.privateKeySupplier = Objects.requireNonNull(privateKeySupplier);
+        Objects.requireNonNull(refreshPolicy);
 
         Preconditions.checkArgument(cacheExpirationMinutes > 0, "Must provide an expiration time greater than zero");
         Preconditions.checkArgument(cacheExpirationMinutes <= 10,
                 "Must provide an expiration time less than or equal to 10");
+        Preconditions.checkArgument(
+                refreshPolicy.getRefreshMargin().compareTo(Duration.ofMinutes(cacheExpirationMinutes)) < 0,
+                "Must provide a refresh margin less than the expiration time");
 
         this.cacheExpirationMinutes = cacheExpirationMinutes;
         this.headerSupplier = Suppliers.map(
-                Suppliers.memoizeWithExpiration(this::generateNewPayload, this.cacheExpirationMinutes,
-                        TimeUnit.MINUTES),
-                ApplicationKey::toAuthorizationHeader);
-
+                new RefreshingSupplier<>(this::generateNewPayload, SignedPayload::getCacheExpiration, refreshPolicy),
+                SignedPayload::getHeader);
     }
 
     /**
@@ -121,20 +152,81 @@ public class ApplicationKey implements Supplier<String> {
         return headerSupplier.get();
     }
 
+    /**
+     * @return Unique identifier provided by GitHub for the App
+     * @since 1.3.0
+     */
+    public String getGitHubAppId() {
+        return githubAppId;
+    }
+
     /**
      * Generates a new JWT token from the private (signing) key reference and application ID
      *
      * <p>
-     * Some conversion logic is based on discussion on <a href=
-     * "https://stackoverflow.com/questions/22920131/read-an-encrypted-private-key-with-bouncycastle-spongycastle">StackOverflow</a>
+     * The private key is only re-parsed if the content provided by the private key supplier has changed since the
+     * previous generation
      *
      * @return Generated JWT valid for up to ten minutes after this function is called
      * @throws KeyLoadingException
      *             If the is an error reading the signing key prior to use
      */
-    private String generateNewPayload() throws KeyLoadingException {
-        String privateKey = privateKeySupplier.get();
+    private SignedPayload generateNewPayload() throws KeyLoadingException {
+        PrivateKey key = getSigningKey(privateKeySupplier.get());
+
+        // We add a minute to the expiration to give the cache a buffer, preventing stale keys from being cached
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        ZonedDateTime expiration = now.plusMinutes(Math.min(cacheExpirationMinutes + 1, 10));
+
+        JwtBuilder builder = Jwts.builder().setId(null)
+                .serializeToJsonWith(SERIALIZER)
+                .setIssuedAt(toDate(now))
+                .setExpiration(toDate(expiration))
+                .setIssuer(githubAppId)
+                .signWith(key, SignatureAlgorithm.RS256);
+
+        return new SignedPayload(toAuthorizationHeader(builder.compact()),
+                now.plusMinutes(cacheExpirationMinutes).toInstant());
+    }
 
+    /**
+     * Reads the signing key represented by the provided PEM content, re-using the previously parsed key if the content
+     * has not changed since it was last read
+     *
+     * @param privateKey
+     *            PEM-encoded private (signing) key issued by GitHub
+     * @return The parsed private key
+     * @throws KeyLoadingException
+     *             If the is an error reading the signing key prior to use
+     */
+    private PrivateKey getSigningKey(String privateKey) throws KeyLoadingException {
+        Objects.requireNonNull(privateKey);
+
+        byte[] fingerprint = DigestUtils.sha256(privateKey);
+        SigningKey current = signingKey;
+
+        if (current == null || !current.matches(fingerprint)) {
+            current = new SigningKey(fingerprint, parsePrivateKey(privateKey));
+            signingKey = current;
+        }
+
+        return current.getKey();
+    }
+
+    /**
+     * Parses a private (signing) key from PEM content
+     *
+     * <p>
+     * Some conversion logic is based on discussion on <a href=
+     * "https://stackoverflow.com/questions/22920131/read-an-encrypted-private-key-with-bouncycastle-spongycastle">StackOverflow</a>
+     *
+     * @param privateKey
+     *            PEM-encoded private (signing) key issued by GitHub
+     * @return The parsed private key
+     * @throws KeyLoadingException
+     *             If the is an error reading the signing key prior to use
+     */
+    private static PrivateKey parsePrivateKey(String privateKey) throws KeyLoadingException {
         try (PEMParser r = new PEMParser(new StringReader(privateKey))) {
             PEMKeyPair pemKeyPair = Optional.ofNullable((PEMKeyPair) r.readObject())
                     .orElseThrow(() -> new KeyLoadingException(
@@ -142,20 +234,7 @@ public class ApplicationKey implements Supplier<String> {
             JcaPEMKeyConverter converter = new JcaPEMKeyConverter().setProvider("BC");
             KeyPair keyPair = converter.getKeyPair(pemKeyPair);
 
-            Key key = keyPair.getPrivate();
-
-            // We add a minute to the expiration to give the cache a buffer, preventing stale keys from being cached
-            ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
-            ZonedDateTime expiration = now.plusMinutes(Math.min(cacheExpirationMinutes + 1, 10));
-
-            JwtBuilder builder = Jwts.builder().setId(null)
-                    .serializeToJsonWith(SERIALIZER)
-                    .setIssuedAt(toDate(now))
-                    .setExpiration(toDate(expiration))
-                    .setIssuer(githubAppId)
-                    .signWith(key, SignatureAlgorithm.RS256);
-
-            return builder.compact();
+            return keyPair.getPrivate();
         } catch (IOException e) {
             throw new KeyLoadingException("Error reading signing key", e);
         }
@@ -184,4 +263,58 @@ public class ApplicationKey implements Supplier<String> {
         return new Date(instant.toEpochMilli());
     }
 
+    /**
+     * Represents a generated authorization header value, and the point in time it should no longer be used from cache
+     *
+     * @author romeara
+     */
+    private static final class SignedPayload {
+
+        private final String header;
+
+        private final Instant cacheExpiration;
+
+        public SignedPayload(String header, Instant cacheExpiration) {
+            this.header = Objects.requireNonNull(header);
+            this.cacheExpiration = Objects.requireNonNull(cacheExpiration);
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public Instant getCacheExpiration() {
+            return cacheExpiration;
+        }
+
+    }
+
+    /**
+     * Represents a parsed private key, along with a fingerprint of the content it was parsed from to allow detection of
+     * changes to the key without retaining the raw content
+     *
+     * @author romeara
+     */
+    private static final class SigningKey {
+
+        private final byte[] fingerprint;
+
+        private final PrivateKey key;
+
+        public SigningKey(byte[] fingerprint, PrivateKey key) {
+            this.fingerprint = Objects.requireNonNull(fingerprint);
+            this.key = Objects.requireNonNull(key);
+        }
+
+        public boolean matches(byte[] fingerprint) {
+            // Constant-time comparison, as the fingerprint is derived from secret content
+            return MessageDigest.isEqual(this.fingerprint, fingerprint);
+        }
+
+        public PrivateKey getKey() {
+            return key;
+        }
+
+    }
+
 }
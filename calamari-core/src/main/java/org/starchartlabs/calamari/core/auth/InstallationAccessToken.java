@@ -7,10 +7,20 @@
 package org.starchartlabs.calamari.core.auth;
 
 import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.starchartlabs.alloy.core.Preconditions;
 import org.starchartlabs.alloy.core.Strings;
 import org.starchartlabs.alloy.core.Suppliers;
@@ -18,6 +28,8 @@ import org.starchartlabs.calamari.core.MediaTypes;
 import org.starchartlabs.calamari.core.ResponseConditions;
 import org.starchartlabs.calamari.core.exception.KeyLoadingException;
 import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitTracker;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -41,15 +53,31 @@ import okhttp3.ResponseBody;
  * a GitHub App</a>
  *
  * <p>
- * Uses Java {@link Supplier} pattern to allow re-generation of tokens as needed
+ * Uses Java {@link Supplier} pattern to allow re-generation of tokens as needed. Concurrent requests for a token which
+ * must be re-generated share a single exchange with GitHub - see {@link RefreshPolicy} for alternatives which
+ * re-generate tokens in the background instead of blocking callers
+ *
+ * <p>
+ * Tokens are cached until the expiration reported by GitHub, less a margin to account for clock skew and request
+ * latency. GitHub's expiration is interpreted relative to the server's {@code Date} response header when present, so
+ * differences between the local and server clocks do not shorten or extend the cache period
  *
  * @author romeara
  * @since 0.1.0
  */
 public class InstallationAccessToken implements Supplier<String> {
 
-    // The maximum is 60, allow for some drift
-    private static final int DEFAULT_EXPIRATION_MINUTES = 58;
+    // The maximum is 60 - GitHub-reported expiration, less a skew margin, governs caching within this limit
+    static final int DEFAULT_EXPIRATION_MINUTES = 60;
+
+    // Lifetime GitHub documents for installation tokens, assumed when a response does not report an expiration
+    private static final Duration MAXIMUM_TOKEN_LIFETIME = Duration.ofMinutes(60);
+
+    /** Default amount of time before the GitHub-reported expiration to stop using a cached token */
+    static final Duration DEFAULT_EXPIRATION_SKEW = Duration.ofMinutes(2);
+
+    /** Logger reference to output information to the application log files */
+    private static final Logger logger = LoggerFactory.getLogger(InstallationAccessToken.class);
 
     private static final Gson GSON = new GsonBuilder().create();
 
@@ -69,6 +97,12 @@ public class InstallationAccessToken implements Supplier<String> {
 
     private final int cacheExpirationMinutes;
 
+    private final Duration expirationSkew;
+
+    private final Clock clock;
+
+    private final RefreshingSupplier<GeneratedToken> generatedTokenSupplier;
+
     /**
      * @param installationAccessTokenUrl
      *            URL which represents access token resources for a specific GitHub App installation
@@ -111,25 +145,158 @@ public class InstallationAccessToken implements Supplier<String> {
      * @param mediaType
      *            The media type to request from the server via {@code Accept} header
      * @param cacheExpirationMinutes
-     *            Number of minutes to cache generated bearer tokens for authentication with GitHub, maximum 60
+     *            Maximum number of minutes to cache generated bearer tokens for authentication with GitHub, maximum 60.
+     *            Tokens are cached for less time if GitHub reports they expire sooner
      * @since 0.4.0
      */
     public InstallationAccessToken(String installationAccessTokenUrl, ApplicationKey applicationKey,
             String userAgent, String mediaType, int cacheExpirationMinutes) {
+        this(installationAccessTokenUrl, applicationKey, userAgent, mediaType, cacheExpirationMinutes,
+                RefreshPolicy.onExpiration());
+    }
+
+    /**
+     * @param installationAccessTokenUrl
+     *            URL which represents access token resources for a specific GitHub App installation
+     * @param applicationKey
+     *            Key used to access GitHub web resources as a GitHub App outside an installation context
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param cacheExpirationMinutes
+     *            Maximum number of minutes to cache generated bearer tokens for authentication with GitHub, maximum 60.
+     *            Tokens are cached for less time if GitHub reports they expire sooner
+     * @param refreshPolicy
+     *            Policy describing how cached tokens are renewed. The refresh margin, if any, must be less than the
+     *            cache expiration time
+     * @since 1.3.0
+     */
+    public InstallationAccessToken(String installationAccessTokenUrl, ApplicationKey applicationKey,
+            String userAgent, String mediaType, int cacheExpirationMinutes, RefreshPolicy refreshPolicy) {
+        this(installationAccessTokenUrl, applicationKey, userAgent, mediaType, cacheExpirationMinutes, refreshPolicy,
+                DEFAULT_EXPIRATION_SKEW);
+    }
+
+    /**
+     * @param installationAccessTokenUrl
+     *            URL which represents access token resources for a specific GitHub App installation
+     * @param applicationKey
+     *            Key used to access GitHub web resources as a GitHub App outside an installation context
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param cacheExpirationMinutes
+     *            Maximum number of minutes to cache generated bearer tokens for authentication with GitHub, maximum 60.
+     *            Tokens are cached for less time if GitHub reports they expire sooner
+     * @param refreshPolicy
+     *            Policy describing how cached tokens are renewed. The refresh margin, if any, must be less than the
+     *            cache expiration time
+     * @param expirationSkew
+     *            Amount of time before the GitHub-reported expiration to stop using a cached token, to account for
+     *            clock skew and request latency. Must be zero or greater, and leave time for the refresh margin within
+     *            the maximum token lifetime of 60 minutes
+     * @since 1.3.0
+     */
+    public InstallationAccessToken(String installationAccessTokenUrl, ApplicationKey applicationKey,
+            String userAgent, String mediaType, int cacheExpirationMinutes, RefreshPolicy refreshPolicy,
+            Duration expirationSkew) {
+        this(installationAccessTokenUrl, applicationKey, userAgent, mediaType, cacheExpirationMinutes, refreshPolicy,
+                expirationSkew, HttpClients.getDefault());
+    }
+
+    /**
+     * @param installationAccessTokenUrl
+     *            URL which represents access token resources for a specific GitHub App installation
+     * @param applicationKey
+     *            Key used to access GitHub web resources as a GitHub App outside an installation context
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param cacheExpirationMinutes
+     *            Maximum number of minutes to cache generated bearer tokens for authentication with GitHub, maximum 60.
+     *            Tokens are cached for less time if GitHub reports they expire sooner
+     * @param refreshPolicy
+     *            Policy describing how cached tokens are renewed. The refresh margin, if any, must be less than the
+     *            cache expiration time
+     * @param expirationSkew
+     *            Amount of time before the GitHub-reported expiration to stop using a cached token, to account for
+     *            clock skew and request latency. Must be zero or greater, and leave time for the refresh margin within
+     *            the maximum token lifetime of 60 minutes
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @since 1.3.0
+     */
+    public InstallationAccessToken(String installationAccessTokenUrl, ApplicationKey applicationKey, String userAgent,
+            String mediaType, int cacheExpirationMinutes, RefreshPolicy refreshPolicy, Duration expirationSkew,
+            OkHttpClient httpClient) {
+        this(installationAccessTokenUrl, applicationKey, userAgent, mediaType, cacheExpirationMinutes, refreshPolicy,
+                expirationSkew, httpClient, Clock.systemUTC());
+    }
+
+    /**
+     * @param installationAccessTokenUrl
+     *            URL which represents access token resources for a specific GitHub App installation
+     * @param applicationKey
+     *            Key used to access GitHub web resources as a GitHub App outside an installation context
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param cacheExpirationMinutes
+     *            Maximum number of minutes to cache generated bearer tokens for authentication with GitHub, maximum 60.
+     *            Tokens are cached for less time if GitHub reports they expire sooner
+     * @param refreshPolicy
+     *            Policy describing how cached tokens are renewed. The refresh margin, if any, must be less than the
+     *            cache expiration time
+     * @param expirationSkew
+     *            Amount of time before the GitHub-reported expiration to stop using a cached token, to account for
+     *            clock skew and request latency. Must be zero or greater, and leave time for the refresh margin within
+     *            the maximum token lifetime of 60 minutes
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param clock
+     *            Clock used to determine when cached tokens expire and must be renewed
+     * @since 1.3.0
+     */
+    public InstallationAccessToken(String installationAccessTokenUrl, ApplicationKey applicationKey, String userAgent,
+            String mediaType, int cacheExpirationMinutes, RefreshPolicy refreshPolicy, Duration expirationSkew,
+            OkHttpClient httpClient, Clock clock) {
         this.applicationKey = Objects.requireNonNull(applicationKey);
         this.installationAccessTokenUrl = Objects.requireNonNull(installationAccessTokenUrl);
         this.userAgent = Objects.requireNonNull(userAgent);
         this.mediaType = Objects.requireNonNull(mediaType);
+        this.expirationSkew = Objects.requireNonNull(expirationSkew);
+        Objects.requireNonNull(refreshPolicy);
 
         Preconditions.checkArgument(cacheExpirationMinutes > 0, "Must provide an expiration time greater than zero");
         Preconditions.checkArgument(cacheExpirationMinutes <= 60,
                 "Must provide an expiration time less than or equal to 60");
-
-        httpClient = new OkHttpClient();
+        Preconditions.checkArgument(!expirationSkew.isNegative(), "Must provide an expiration skew of zero or greater");
+        Preconditions.checkArgument(
+                refreshPolicy.getRefreshMargin().compareTo(Duration.ofMinutes(cacheExpirationMinutes)) < 0,
+                "Must provide a refresh margin less than the expiration time");
+        Preconditions.checkArgument(
+                refreshPolicy.getRefreshMargin().plus(expirationSkew).compareTo(MAXIMUM_TOKEN_LIFETIME) < 0,
+                "Must provide a refresh margin and expiration skew which total less than the maximum token lifetime");
+
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.clock = Objects.requireNonNull(clock);
         this.cacheExpirationMinutes = cacheExpirationMinutes;
-        tokenSupplier = Suppliers.memoizeWithExpiration(this::generateNewToken, this.cacheExpirationMinutes,
-                TimeUnit.MINUTES);
-        headerSupplier = Suppliers.map(tokenSupplier, InstallationAccessToken::toAuthorizationHeader);
+
+        generatedTokenSupplier = new RefreshingSupplier<>(this::generateNewToken, GeneratedToken::getCacheExpiration,
+                refreshPolicy, clock);
+
+        tokenSupplier = Suppliers.map(generatedTokenSupplier, GeneratedToken::getToken);
+        headerSupplier = Suppliers.map(generatedTokenSupplier, GeneratedToken::getHeader);
     }
 
     /**
@@ -166,31 +333,84 @@ public class InstallationAccessToken implements Supplier<String> {
         return tokenSupplier.get();
     }
 
+    /**
+     * @return The URL used to generate access tokens for the GitHub App installation
+     * @since 1.3.0
+     */
+    public String getInstallationAccessTokenUrl() {
+        return installationAccessTokenUrl;
+    }
+
+    /**
+     * Determines how much longer the currently cached token will be provided to callers before it is re-generated.
+     * Does not exchange for a new token if none is cached
+     *
+     * <p>
+     * Useful for scheduling operations which must complete with a single token, such as long-running native Git calls
+     *
+     * @return The remaining time the current token will be provided to callers, or {@link Duration#ZERO} if no token
+     *         is cached or the cached token has expired
+     * @since 1.3.0
+     */
+    public Duration getRemainingLifetime() {
+        Instant now = clock.instant();
+
+        return generatedTokenSupplier.getExpiration()
+                .filter(expiration -> expiration.isAfter(now))
+                .map(expiration -> Duration.between(now, expiration))
+                .orElse(Duration.ZERO);
+    }
+
+    /**
+     * @return True if a token was exchanged for and has since expired, false if the token has not expired or no token
+     *         has been exchanged for yet
+     */
+    boolean isExpired() {
+        Instant now = clock.instant();
+
+        return generatedTokenSupplier.getExpiration()
+                .map(expiration -> !expiration.isAfter(now))
+                .orElse(false);
+    }
+
     /**
      * Generates a new access token from the application key reference and a known installation instance
      *
-     * @return Generated access token valid for up to sixty minutes after this function is called
+     * @return Generated access token, and the point in time it should no longer be used from cache
      * @throws RequestLimitExceededException
      *             If the request exceeded the maximum allowed requests to GitHub in a given time period
      * @throws KeyLoadingException
      *             If there is an error making the GitHub web request to obtain the access token
      */
-    private String generateNewToken() {
+    private GeneratedToken generateNewToken() {
         HttpUrl url = HttpUrl.parse(installationAccessTokenUrl);
 
         RequestBody requestBody = RequestBody.create(new byte[] {}, null);
-        Request request = new Request.Builder()
+        Request.Builder requestBuilder = new Request.Builder()
                 .post(requestBody)
                 .header("Authorization", applicationKey.get())
                 .header("Accept", mediaType)
                 .header("User-Agent", userAgent)
-                .url(url)
+                .url(url);
+
+        Request request = RateLimitTracker.withScope(requestBuilder,
+                RateLimitTracker.applicationScope(applicationKey.getGitHubAppId()))
                 .build();
 
+        Instant requestedAt = clock.instant();
+
         try (Response response = httpClient.newCall(request).execute()) {
+            RateLimitTracker.getDefault().record(RateLimitTracker.getScope(request), response);
+
             if (response.isSuccessful()) {
                 try (ResponseBody body = response.body()) {
-                    return AccessTokenResponse.fromJson(body.string()).getToken();
+                    AccessTokenResponse accessTokenResponse = AccessTokenResponse.fromJson(body.string());
+
+                    Optional<Instant> serverTime = Optional.ofNullable(response.headers().getDate("Date"))
+                            .map(Date::toInstant);
+
+                    return new GeneratedToken(accessTokenResponse.getToken(),
+                            getCacheExpiration(accessTokenResponse.getExpiresAt(), serverTime, requestedAt));
                 }
             } else {
                 ResponseConditions.checkRateLimit(response);
@@ -204,6 +424,39 @@ public class InstallationAccessToken implements Supplier<String> {
         }
     }
 
+    /**
+     * Determines the point in time a newly generated token should no longer be provided from cache
+     *
+     * <p>
+     * The token lifetime is measured against the server's clock when the server time is known, and applied from the
+     * local time the request was made - this conservatively includes request latency in the lifetime, and avoids
+     * differences between local and server clocks causing tokens to be used past expiration or renewed early
+     *
+     * @param expiresAt
+     *            The expiration reported by GitHub, if any
+     * @param serverTime
+     *            The server time at which the token was issued, if known
+     * @param requestedAt
+     *            The local time at which the token was requested
+     * @return The point in time the token should no longer be provided from cache
+     */
+    private Instant getCacheExpiration(Optional<Instant> expiresAt, Optional<Instant> serverTime,
+            Instant requestedAt) {
+        Duration lifetime = expiresAt
+                .map(expiration -> Duration.between(serverTime.orElse(requestedAt), expiration))
+                .orElse(MAXIMUM_TOKEN_LIFETIME);
+
+        if (lifetime.compareTo(expirationSkew) <= 0) {
+            logger.warn("Installation token issued with remaining lifetime of {}, which is within the expiration skew of {}",
+                    lifetime, expirationSkew);
+        }
+
+        Instant serverExpiration = requestedAt.plus(lifetime).minus(expirationSkew);
+        Instant maximumExpiration = requestedAt.plus(cacheExpirationMinutes, ChronoUnit.MINUTES);
+
+        return (serverExpiration.isBefore(maximumExpiration) ? serverExpiration : maximumExpiration);
+    }
+
     /**
      * Creates an installation access token for the installation on a given repository.
      *
@@ -253,14 +506,45 @@ public class InstallationAccessToken implements Supplier<String> {
      */
     public static InstallationAccessToken forRepository(String repositoryUrl, ApplicationKey applicationKey,
             String userAgent, String mediaType) {
+        return forRepository(repositoryUrl, applicationKey, userAgent, mediaType, HttpClients.getDefault());
+    }
+
+    /**
+     * Creates an installation access token for the installation on a given repository.
+     *
+     * <p>
+     * Uses the provided {@code applicationKey} to read required installation details from GitHub specific to the
+     * repository represented at the provided URL
+     *
+     * @param repositoryUrl
+     *            The API URL which represents the target repository on GitHub
+     * @param applicationKey
+     *            Application key which allows authentication as a GitHub App in web requests
+     * @param userAgent
+     *            User agent to make repository requests with, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub, both for the installation lookup and for token exchanges
+     * @return A reference to a renewable access token for authentication as a specific installation in web requests to
+     *         GitHub
+     * @throws RequestLimitExceededException
+     *             If the request exceeded the maximum allowed requests to GitHub in a given time period
+     * @since 1.3.0
+     */
+    public static InstallationAccessToken forRepository(String repositoryUrl, ApplicationKey applicationKey,
+            String userAgent, String mediaType, OkHttpClient httpClient) {
         Objects.requireNonNull(applicationKey);
         Objects.requireNonNull(repositoryUrl);
         Objects.requireNonNull(userAgent);
         Objects.requireNonNull(mediaType);
+        Objects.requireNonNull(httpClient);
 
-        String installationAccessTokenUrl = getInstallationUrl(repositoryUrl, applicationKey, userAgent);
+        String installationAccessTokenUrl = getInstallationUrl(repositoryUrl, applicationKey, userAgent, httpClient);
 
-        return new InstallationAccessToken(installationAccessTokenUrl, applicationKey, userAgent, mediaType);
+        return new InstallationAccessToken(installationAccessTokenUrl, applicationKey, userAgent, mediaType,
+                DEFAULT_EXPIRATION_MINUTES, RefreshPolicy.onExpiration(), DEFAULT_EXPIRATION_SKEW, httpClient);
     }
 
     /**
@@ -270,7 +554,8 @@ public class InstallationAccessToken implements Supplier<String> {
      * Uses the provided {@code applicationKey} to read required installation details from GitHub specific to the
      * repository represented at the provided URL. It is recommended that clients use
      * {@link #forRepository(String, ApplicationKey, String)} when possible - this call is primarily meant for cases
-     * where the URL can be used with caching mechanisms to reduce the total number of calls to GitHub
+     * where the URL can be used with caching mechanisms to reduce the total number of calls to GitHub, such as
+     * {@link InstallationUrlCache}
      *
      * @param repositoryUrl
      *            The API URL which represents the target repository on GitHub
@@ -285,25 +570,55 @@ public class InstallationAccessToken implements Supplier<String> {
      * @since 0.1.2
      */
     public static String getInstallationUrl(String repositoryUrl, ApplicationKey applicationKey, String userAgent) {
+        return getInstallationUrl(repositoryUrl, applicationKey, userAgent, HttpClients.getDefault());
+    }
+
+    /**
+     * Looks up the location of the resource describing the installation for a given repository
+     *
+     * <p>
+     * Uses the provided {@code applicationKey} to read required installation details from GitHub specific to the
+     * repository represented at the provided URL
+     *
+     * @param repositoryUrl
+     *            The API URL which represents the target repository on GitHub
+     * @param applicationKey
+     *            Application key which allows authentication as a GitHub App in web requests
+     * @param userAgent
+     *            User agent to make repository requests with, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param httpClient
+     *            Client used to make web requests to GitHub
+     * @return A reference to a resource describing the installation on the repository
+     * @throws RequestLimitExceededException
+     *             If the request exceeded the maximum allowed requests to GitHub in a given time period
+     * @since 1.3.0
+     */
+    public static String getInstallationUrl(String repositoryUrl, ApplicationKey applicationKey, String userAgent,
+            OkHttpClient httpClient) {
         Objects.requireNonNull(applicationKey);
         Objects.requireNonNull(repositoryUrl);
         Objects.requireNonNull(userAgent);
-
-        OkHttpClient httpClient = new OkHttpClient();
+        Objects.requireNonNull(httpClient);
 
         HttpUrl url = HttpUrl.parse(repositoryUrl).newBuilder()
                 .addEncodedPathSegment("installation")
                 .build();
 
-        Request request = new Request.Builder()
+        Request.Builder requestBuilder = new Request.Builder()
                 .get()
                 .header("Authorization", applicationKey.get())
                 .header("Accept", MediaTypes.APP_PREVIEW)
                 .header("User-Agent", userAgent)
-                .url(url)
+                .url(url);
+
+        Request request = RateLimitTracker.withScope(requestBuilder,
+                RateLimitTracker.applicationScope(applicationKey.getGitHubAppId()))
                 .build();
 
         try (Response response = httpClient.newCall(request).execute()) {
+            RateLimitTracker.getDefault().record(RateLimitTracker.getScope(request), response);
+
             if (response.isSuccessful()) {
                 try (ResponseBody body = response.body()) {
                     return InstallationResponse.fromJson(body.string()).getAccessTokensUrl();
@@ -330,6 +645,39 @@ public class InstallationAccessToken implements Supplier<String> {
         return Strings.format("token %s", token);
     }
 
+    /**
+     * Represents a generated access token, and the point in time it should no longer be used from cache
+     *
+     * @author romeara
+     */
+    private static final class GeneratedToken {
+
+        private final String token;
+
+        private final String header;
+
+        private final Instant cacheExpiration;
+
+        public GeneratedToken(String token, Instant cacheExpiration) {
+            this.token = Objects.requireNonNull(token);
+            this.header = toAuthorizationHeader(token);
+            this.cacheExpiration = Objects.requireNonNull(cacheExpiration);
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public Instant getCacheExpiration() {
+            return cacheExpiration;
+        }
+
+    }
+
     /**
      * Represents relevant parts of a JSON response from GitHub describing an App <a href=
      * "https://developer.github.com/apps/building-github-apps/authenticating-with-github-apps/#authenticating-as-an-installation">installation
@@ -341,15 +689,35 @@ public class InstallationAccessToken implements Supplier<String> {
 
         private final String token;
 
+        @Nullable
+        @SerializedName("expires_at")
+        private final String expiresAt;
+
         @SuppressWarnings("unused")
-        public AccessTokenResponse(String token) {
+        public AccessTokenResponse(String token, @Nullable String expiresAt) {
             this.token = Objects.requireNonNull(token);
+            this.expiresAt = expiresAt;
         }
 
         public String getToken() {
             return token;
         }
 
+        public Optional<Instant> getExpiresAt() {
+            Instant result = null;
+
+            if (expiresAt != null) {
+                try {
+                    result = Instant.parse(expiresAt);
+                } catch (DateTimeParseException e) {
+                    logger.warn("Unable to parse installation token expiration '{}', using maximum token lifetime",
+                            expiresAt);
+                }
+            }
+
+            return Optional.ofNullable(result);
+        }
+
         public static AccessTokenResponse fromJson(String json) {
             return GSON.fromJson(json, AccessTokenResponse.class);
         }
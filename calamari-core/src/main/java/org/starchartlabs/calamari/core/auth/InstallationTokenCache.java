@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.auth;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.http.HttpClients;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+
+/**
+ * Provides access tokens for many GitHub App installations, bounding the number of installations which are retained
+ *
+ * <p>
+ * Intended for applications which serve many installations - a single cache may be shared by all tenants, with
+ * installations identified by either ID or
+ * <a href="https://docs.github.com/en/rest/apps/apps#create-an-installation-access-token-for-an-app">access token
+ * URL</a>. All tokens provided by a cache share a single HTTP client, which is the process-wide default client unless
+ * one is provided
+ *
+ * <p>
+ * Installations are divided into independently locked segments, so lookups for different installations do not
+ * generally contend with each other. When a segment is full, the least recently used installation within that segment
+ * is removed. As eviction is per-segment, it approximates least-recently-used ordering across the cache as a whole
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class InstallationTokenCache {
+
+    private static final String DEFAULT_API_URL = "https://api.github.com";
+
+    private static final int MAXIMUM_SEGMENTS = 16;
+
+    private final String apiUrl;
+
+    private final ApplicationKey applicationKey;
+
+    private final String userAgent;
+
+    private final String mediaType;
+
+    private final RefreshPolicy refreshPolicy;
+
+    private final OkHttpClient httpClient;
+
+    private final int maximumSize;
+
+    private final Segment[] segments;
+
+    /**
+     * @param applicationKey
+     *            Key used to access GitHub web resources as a GitHub App outside an installation context
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param maximumSize
+     *            The maximum number of installations to retain tokens for. Must be greater than zero
+     * @since 1.3.0
+     */
+    public InstallationTokenCache(ApplicationKey applicationKey, String userAgent, int maximumSize) {
+        this(DEFAULT_API_URL, applicationKey, userAgent, MediaTypes.APP_PREVIEW, maximumSize,
+                RefreshPolicy.onExpiration());
+    }
+
+    /**
+     * @param apiUrl
+     *            Root URL of the GitHub API to use when looking up installations by ID, such as
+     *            {@code https://api.github.com}
+     * @param applicationKey
+     *            Key used to access GitHub web resources as a GitHub App outside an installation context
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param maximumSize
+     *            The maximum number of installations to retain tokens for. Must be greater than zero
+     * @param refreshPolicy
+     *            Policy describing how cached tokens are renewed for each installation
+     * @since 1.3.0
+     */
+    public InstallationTokenCache(String apiUrl, ApplicationKey applicationKey, String userAgent, String mediaType,
+            int maximumSize, RefreshPolicy refreshPolicy) {
+        this(apiUrl, applicationKey, userAgent, mediaType, maximumSize, refreshPolicy, HttpClients.getDefault());
+    }
+
+    /**
+     * @param apiUrl
+     *            Root URL of the GitHub API to use when looking up installations by ID, such as
+     *            {@code https://api.github.com}
+     * @param applicationKey
+     *            Key used to access GitHub web resources as a GitHub App outside an installation context
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param maximumSize
+     *            The maximum number of installations to retain tokens for. Must be greater than zero
+     * @param refreshPolicy
+     *            Policy describing how cached tokens are renewed for each installation
+     * @param httpClient
+     *            Client used by all tokens provided by the cache to make web requests to GitHub
+     * @since 1.3.0
+     */
+    public InstallationTokenCache(String apiUrl, ApplicationKey applicationKey, String userAgent, String mediaType,
+            int maximumSize, RefreshPolicy refreshPolicy, OkHttpClient httpClient) {
+        this.apiUrl = Objects.requireNonNull(apiUrl);
+        this.applicationKey = Objects.requireNonNull(applicationKey);
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.refreshPolicy = Objects.requireNonNull(refreshPolicy);
+
+        Preconditions.checkArgument(maximumSize > 0, "Must provide a maximum size greater than zero");
+        Preconditions.checkArgument(HttpUrl.parse(apiUrl) != null, "Must provide a valid API URL");
+
+        this.maximumSize = maximumSize;
+        this.httpClient = Objects.requireNonNull(httpClient);
+
+        // Segment count must be a power of two, and no greater than the size so every segment may hold an installation
+        int segmentCount = Math.min(MAXIMUM_SEGMENTS, Integer.highestOneBit(maximumSize));
+
+        segments = new Segment[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            int remainder = (i < (maximumSize % segmentCount) ? 1 : 0);
+
+            segments[i] = new Segment((maximumSize / segmentCount) + remainder);
+        }
+    }
+
+    /**
+     * Provides the access token for a GitHub App installation, retaining it for future requests
+     *
+     * @param installationId
+     *            The GitHub-assigned ID of the installation
+     * @return A reference to a renewable access token for authentication as the installation in web requests to GitHub
+     * @since 1.3.0
+     */
+    public InstallationAccessToken forInstallation(long installationId) {
+        return forUrl(toAccessTokenUrl(installationId));
+    }
+
+    /**
+     * Provides the access token for a GitHub App installation, retaining it for future requests
+     *
+     * @param installationAccessTokenUrl
+     *            URL which represents access token resources for a specific GitHub App installation
+     * @return A reference to a renewable access token for authentication as the installation in web requests to GitHub
+     * @since 1.3.0
+     */
+    public InstallationAccessToken forUrl(String installationAccessTokenUrl) {
+        String key = normalize(installationAccessTokenUrl);
+
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * Removes the access token for a GitHub App installation, if retained. Future requests will exchange for a new token
+     *
+     * @param installationId
+     *            The GitHub-assigned ID of the installation
+     * @since 1.3.0
+     */
+    public void invalidate(long installationId) {
+        invalidate(toAccessTokenUrl(installationId));
+    }
+
+    /**
+     * Removes the access token for a GitHub App installation, if retained. Future requests will exchange for a new token
+     *
+     * @param installationAccessTokenUrl
+     *            URL which represents access token resources for a specific GitHub App installation
+     * @since 1.3.0
+     */
+    public void invalidate(String installationAccessTokenUrl) {
+        String key = normalize(installationAccessTokenUrl);
+
+        segmentFor(key).remove(key);
+    }
+
+    /**
+     * Removes all retained access tokens
+     *
+     * @since 1.3.0
+     */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Removes retained access tokens which were exchanged for and have since expired. Installations whose tokens have
+     * not been exchanged for yet are retained. Least recently used installations are removed as needed when the cache
+     * is full, so calling this is only necessary to release memory ahead of new installations being requested
+     *
+     * @since 1.3.0
+     */
+    public void cleanUp() {
+        for (Segment segment : segments) {
+            segment.removeExpired();
+        }
+    }
+
+    /**
+     * @return The number of installations access tokens are currently retained for
+     * @since 1.3.0
+     */
+    public int size() {
+        int size = 0;
+
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("apiUrl", apiUrl)
+                .add("userAgent", userAgent)
+                .add("mediaType", mediaType)
+                .add("maximumSize", maximumSize)
+                .add("refreshPolicy", refreshPolicy)
+                .toString();
+    }
+
+    private String toAccessTokenUrl(long installationId) {
+        return HttpUrl.get(apiUrl).newBuilder()
+                .addPathSegment("app")
+                .addPathSegment("installations")
+                .addPathSegment(Long.toString(installationId))
+                .addPathSegment("access_tokens")
+                .build()
+                .toString();
+    }
+
+    private String normalize(String installationAccessTokenUrl) {
+        Objects.requireNonNull(installationAccessTokenUrl);
+
+        return HttpUrl.get(installationAccessTokenUrl).toString();
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+
+        // Spread higher bits downward, as segment selection only uses the lowest bits
+        hash ^= (hash >>> 16);
+
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private InstallationAccessToken createToken(String installationAccessTokenUrl) {
+        return new InstallationAccessToken(installationAccessTokenUrl, applicationKey, userAgent, mediaType,
+                InstallationAccessToken.DEFAULT_EXPIRATION_MINUTES, refreshPolicy,
+                InstallationAccessToken.DEFAULT_EXPIRATION_SKEW, httpClient);
+    }
+
+    /**
+     * Independently locked portion of the cache, retaining installations in least-recently-used order
+     *
+     * @author romeara
+     */
+    private final class Segment {
+
+        private final int capacity;
+
+        private final LinkedHashMap<String, InstallationAccessToken> tokens;
+
+        public Segment(int capacity) {
+            this.capacity = capacity;
+
+            // Access-ordered, so iteration begins with the least recently used installation
+            tokens = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        public synchronized InstallationAccessToken get(String key) {
+            InstallationAccessToken token = tokens.get(key);
+
+            if (token == null) {
+                if (tokens.size() >= capacity) {
+                    Iterator<?> eldest = tokens.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+
+                // Construction does not contact GitHub - tokens are exchanged on first use, outside the segment lock
+                token = createToken(key);
+                tokens.put(key, token);
+            }
+
+            return token;
+        }
+
+        public synchronized void remove(String key) {
+            tokens.remove(key);
+        }
+
+        public synchronized void clear() {
+            tokens.clear();
+        }
+
+        public synchronized void removeExpired() {
+            Iterator<Map.Entry<String, InstallationAccessToken>> entries = tokens.entrySet().iterator();
+
+            while (entries.hasNext()) {
+                if (entries.next().getValue().isExpired()) {
+                    entries.remove();
+                }
+            }
+        }
+
+        public synchronized int size() {
+            return tokens.size();
+        }
+
+    }
+
+}
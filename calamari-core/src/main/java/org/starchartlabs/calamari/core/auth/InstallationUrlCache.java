@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.exception.KeyLoadingException;
+import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+
+/**
+ * Caches the location of the installation access token resource for repositories, as looked up by
+ * {@link InstallationAccessToken#getInstallationUrl(String, ApplicationKey, String)}
+ *
+ * <p>
+ * The installation a repository belongs to rarely changes, so repeating the lookup for each interaction with a
+ * repository is usually unnecessary. Lookups are retained for a bounded number of repositories, for a limited time.
+ * Concurrent lookups for the same repository share a single request to GitHub
+ *
+ * <p>
+ * When a repository is removed from an installation or an installation is deleted (as described by GitHub
+ * {@code installation} and {@code installation_repositories} webhook events), clients should call
+ * {@link #invalidateRepository(String)} or {@link #invalidateInstallation(long)} so subsequent lookups are not served
+ * stale locations
+ *
+ * <p>
+ * Cached locations may be combined with {@link InstallationTokenCache#forUrl(String)} to also re-use access tokens
+ * across repositories of the same installation
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class InstallationUrlCache {
+
+    private final ApplicationKey applicationKey;
+
+    private final String userAgent;
+
+    private final OkHttpClient httpClient;
+
+    private final int maximumSize;
+
+    private final Duration expiration;
+
+    private final Clock clock;
+
+    // Access-ordered, so iteration begins with the least recently used repository
+    private final LinkedHashMap<String, CompletableFuture<Entry>> entries;
+
+    /**
+     * @param applicationKey
+     *            Application key which allows authentication as a GitHub App in web requests
+     * @param userAgent
+     *            User agent to make repository requests with, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param maximumSize
+     *            The maximum number of repositories to retain installation locations for. Must be greater than zero
+     * @param expiration
+     *            The amount of time to retain an installation location before looking it up again. Must be greater
+     *            than zero
+     * @since 1.3.0
+     */
+    public InstallationUrlCache(ApplicationKey applicationKey, String userAgent, int maximumSize, Duration expiration) {
+        this(applicationKey, userAgent, maximumSize, expiration, HttpClients.getDefault());
+    }
+
+    /**
+     * @param applicationKey
+     *            Application key which allows authentication as a GitHub App in web requests
+     * @param userAgent
+     *            User agent to make repository requests with, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param maximumSize
+     *            The maximum number of repositories to retain installation locations for. Must be greater than zero
+     * @param expiration
+     *            The amount of time to retain an installation location before looking it up again. Must be greater
+     *            than zero
+     * @param httpClient
+     *            Client used to make web requests to GitHub
+     * @since 1.3.0
+     */
+    public InstallationUrlCache(ApplicationKey applicationKey, String userAgent, int maximumSize, Duration expiration,
+            OkHttpClient httpClient) {
+        this(applicationKey, userAgent, maximumSize, expiration, httpClient, Clock.systemUTC());
+    }
+
+    /**
+     * @param applicationKey
+     *            Application key which allows authentication as a GitHub App in web requests
+     * @param userAgent
+     *            User agent to make repository requests with, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param maximumSize
+     *            The maximum number of repositories to retain installation locations for. Must be greater than zero
+     * @param expiration
+     *            The amount of time to retain an installation location before looking it up again. Must be greater
+     *            than zero
+     * @param httpClient
+     *            Client used to make web requests to GitHub
+     * @param clock
+     *            Clock used to determine when installation locations must be looked up again
+     * @since 1.3.0
+     */
+    public InstallationUrlCache(ApplicationKey applicationKey, String userAgent, int maximumSize, Duration expiration,
+            OkHttpClient httpClient, Clock clock) {
+        this.applicationKey = Objects.requireNonNull(applicationKey);
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.expiration = Objects.requireNonNull(expiration);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.clock = Objects.requireNonNull(clock);
+
+        Preconditions.checkArgument(maximumSize > 0, "Must provide a maximum size greater than zero");
+        Preconditions.checkArgument(!expiration.isNegative() && !expiration.isZero(),
+                "Must provide an expiration greater than zero");
+
+        this.maximumSize = maximumSize;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Looks up the location of the resource describing the installation for a given repository, re-using a previous
+     * lookup if available
+     *
+     * @param repositoryUrl
+     *            The API URL which represents the target repository on GitHub
+     * @return A reference to a resource describing the installation on the repository
+     * @throws RequestLimitExceededException
+     *             If the request exceeded the maximum allowed requests to GitHub in a given time period
+     * @throws KeyLoadingException
+     *             If there is an error making the GitHub web request to look up the installation
+     * @since 1.3.0
+     */
+    public String getInstallationUrl(String repositoryUrl) {
+        String key = normalize(repositoryUrl);
+        CompletableFuture<Entry> future = null;
+        CompletableFuture<Entry> pending = null;
+
+        synchronized (entries) {
+            future = entries.get(key);
+
+            if (future == null || isExpired(future)) {
+                pending = new CompletableFuture<>();
+                entries.put(key, pending);
+                evictIfFull();
+
+                future = pending;
+            }
+        }
+
+        // The caller which registered the lookup performs it - others wait on its result
+        if (pending != null) {
+            load(key, repositoryUrl, pending);
+        }
+
+        return await(future).getInstallationUrl();
+    }
+
+    /**
+     * Creates an installation access token for the installation on a given repository, re-using a previous lookup of
+     * the installation if available
+     *
+     * @param repositoryUrl
+     *            The API URL which represents the target repository on GitHub
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @return A reference to a renewable access token for authentication as a specific installation in web requests to
+     *         GitHub
+     * @throws RequestLimitExceededException
+     *             If the request exceeded the maximum allowed requests to GitHub in a given time period
+     * @since 1.3.0
+     */
+    public InstallationAccessToken forRepository(String repositoryUrl, String mediaType) {
+        Objects.requireNonNull(mediaType);
+
+        String installationAccessTokenUrl = getInstallationUrl(repositoryUrl);
+
+        return new InstallationAccessToken(installationAccessTokenUrl, applicationKey, userAgent, mediaType,
+                InstallationAccessToken.DEFAULT_EXPIRATION_MINUTES, RefreshPolicy.onExpiration(),
+                InstallationAccessToken.DEFAULT_EXPIRATION_SKEW, httpClient);
+    }
+
+    /**
+     * Creates an installation access token for the installation on a given repository, re-using a previous lookup of
+     * the installation if available
+     *
+     * @param repositoryUrl
+     *            The API URL which represents the target repository on GitHub
+     * @return A reference to a renewable access token for authentication as a specific installation in web requests to
+     *         GitHub
+     * @throws RequestLimitExceededException
+     *             If the request exceeded the maximum allowed requests to GitHub in a given time period
+     * @since 1.3.0
+     */
+    public InstallationAccessToken forRepository(String repositoryUrl) {
+        return forRepository(repositoryUrl, MediaTypes.APP_PREVIEW);
+    }
+
+    /**
+     * Removes the installation location for a repository, if retained. Should be used when a repository is removed from
+     * an installation or transferred
+     *
+     * @param repositoryUrl
+     *            The API URL which represents the target repository on GitHub
+     * @since 1.3.0
+     */
+    public void invalidateRepository(String repositoryUrl) {
+        String key = normalize(repositoryUrl);
+
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes the installation location for all repositories which belong to an installation. Should be used when an
+     * installation is deleted or suspended
+     *
+     * @param installationAccessTokenUrl
+     *            URL which represents access token resources for a specific GitHub App installation
+     * @since 1.3.0
+     */
+    public void invalidateInstallation(String installationAccessTokenUrl) {
+        String installationUrl = normalize(installationAccessTokenUrl);
+
+        removeIf(entry -> Objects.equals(normalize(entry.getInstallationUrl()), installationUrl));
+    }
+
+    /**
+     * Removes the installation location for all repositories which belong to an installation. Should be used when an
+     * installation is deleted or suspended
+     *
+     * @param installationId
+     *            The GitHub-assigned ID of the installation
+     * @since 1.3.0
+     */
+    public void invalidateInstallation(long installationId) {
+        String id = Long.toString(installationId);
+
+        removeIf(entry -> isForInstallation(entry.getInstallationUrl(), id));
+    }
+
+    /**
+     * Removes all retained installation locations
+     *
+     * @since 1.3.0
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return The number of repositories installation locations are currently retained for, including lookups in
+     *         progress
+     * @since 1.3.0
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("userAgent", userAgent)
+                .add("maximumSize", maximumSize)
+                .add("expiration", expiration)
+                .toString();
+    }
+
+    /**
+     * Performs a lookup registered by the calling thread, and makes the result available to all waiting callers
+     *
+     * @param key
+     *            The normalized repository URL the lookup is registered under
+     * @param repositoryUrl
+     *            The API URL which represents the target repository on GitHub
+     * @param pending
+     *            The registered lookup to complete
+     */
+    private void load(String key, String repositoryUrl, CompletableFuture<Entry> pending) {
+        try {
+            String installationUrl = InstallationAccessToken.getInstallationUrl(repositoryUrl, applicationKey,
+                    userAgent, httpClient);
+
+            pending.complete(new Entry(installationUrl, clock.millis() + expiration.toMillis()));
+        } catch (Throwable e) {
+            // Failures, including errors, are not retained - the next caller will attempt the lookup again. Waiting
+            // callers are always released, as they wait without a timeout
+            synchronized (entries) {
+                entries.remove(key, pending);
+            }
+
+            pending.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Removes retained lookups which have completed and match the provided condition
+     *
+     * @param condition
+     *            Condition which determines if a lookup should be removed
+     */
+    private void removeIf(Predicate<Entry> condition) {
+        synchronized (entries) {
+            Iterator<CompletableFuture<Entry>> iterator = entries.values().iterator();
+
+            while (iterator.hasNext()) {
+                Entry entry = getIfComplete(iterator.next());
+
+                if (entry != null && condition.test(entry)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used lookups until the cache is within its maximum size. Must be called while holding
+     * the lock on {@link #entries}
+     */
+    private void evictIfFull() {
+        Iterator<CompletableFuture<Entry>> iterator = entries.values().iterator();
+
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private boolean isExpired(CompletableFuture<Entry> future) {
+        Entry entry = getIfComplete(future);
+
+        // In-progress lookups are never expired - failed lookups are removed by the thread which performed them
+        return entry != null && entry.isExpired(clock.millis());
+    }
+
+    private static String normalize(String url) {
+        Objects.requireNonNull(url);
+
+        return HttpUrl.get(url).toString();
+    }
+
+    private static boolean isForInstallation(String installationAccessTokenUrl, String installationId) {
+        List<String> segments = HttpUrl.get(installationAccessTokenUrl).pathSegments();
+        int index = segments.indexOf("installations");
+
+        return index >= 0 && index + 1 < segments.size() && Objects.equals(segments.get(index + 1), installationId);
+    }
+
+    @Nullable
+    private static Entry getIfComplete(CompletableFuture<Entry> future) {
+        return (future.isDone() && !future.isCompletedExceptionally() ? future.getNow(null) : null);
+    }
+
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new KeyLoadingException("Interrupted while waiting for GitHub installation lookup", e);
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new KeyLoadingException("Error looking up GitHub installation", cause);
+        }
+    }
+
+    /**
+     * Represents a completed lookup, and the point in time it should no longer be used
+     *
+     * @author romeara
+     */
+    private static final class Entry {
+
+        private final String installationUrl;
+
+        private final long expiresAt;
+
+        public Entry(String installationUrl, long expiresAt) {
+            this.installationUrl = Objects.requireNonNull(installationUrl);
+            this.expiresAt = expiresAt;
+        }
+
+        public String getInstallationUrl() {
+            return installationUrl;
+        }
+
+        public boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.auth;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Describes how cached authentication values are renewed as they approach expiration
+ *
+ * <p>
+ * By default, values are renewed by the first caller to request a value after the cached one has expired, which blocks
+ * that caller while the new value is generated. Alternate policies allow renewal to occur in the background before
+ * expiration, so callers do not wait on generation
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class RefreshPolicy {
+
+    private static final RefreshPolicy ON_EXPIRATION = new RefreshPolicy(Mode.ON_EXPIRATION, Duration.ZERO,
+            Duration.ZERO, null);
+
+    private final Mode mode;
+
+    private final Duration refreshMargin;
+
+    private final Duration hardDeadlineMargin;
+
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * @param mode
+     *            The strategy used to renew values
+     * @param refreshMargin
+     *            The amount of time before expiration to begin renewing a value
+     * @param hardDeadlineMargin
+     *            The amount of time before expiration after which a value is no longer provided to callers
+     * @param executor
+     *            The executor to run background renewal on, if background renewal is used
+     */
+    private RefreshPolicy(Mode mode, Duration refreshMargin, Duration hardDeadlineMargin,
+            @Nullable Executor executor) {
+        this.mode = Objects.requireNonNull(mode);
+        this.refreshMargin = Objects.requireNonNull(refreshMargin);
+        this.hardDeadlineMargin = Objects.requireNonNull(hardDeadlineMargin);
+        this.executor = executor;
+    }
+
+    /**
+     * @return A policy which renews values when they are requested after expiration, blocking the requesting caller
+     *         while the new value is generated
+     * @since 1.3.0
+     */
+    public static RefreshPolicy onExpiration() {
+        return ON_EXPIRATION;
+    }
+
+    /**
+     * Creates a policy which renews values in the background shortly before they expire, using an executor shared by
+     * all Calamari components
+     *
+     * @param refreshMargin
+     *            The amount of time before expiration to generate a replacement value. Must be positive
+     * @return A policy which renews values ahead of expiration
+     * @since 1.3.0
+     */
+    public static RefreshPolicy refreshAhead(Duration refreshMargin) {
+        return refreshAhead(refreshMargin, SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a policy which renews values in the background shortly before they expire
+     *
+     * @param refreshMargin
+     *            The amount of time before expiration to generate a replacement value. Must be positive
+     * @param scheduler
+     *            The executor to run background renewal on. Renewal may perform blocking operations, such as web
+     *            requests
+     * @return A policy which renews values ahead of expiration
+     * @since 1.3.0
+     */
+    public static RefreshPolicy refreshAhead(Duration refreshMargin, ScheduledExecutorService scheduler) {
+        Objects.requireNonNull(refreshMargin);
+        Objects.requireNonNull(scheduler);
+
+        Preconditions.checkArgument(!refreshMargin.isNegative() && !refreshMargin.isZero(),
+                "Must provide a refresh margin greater than zero");
+
+        return new RefreshPolicy(Mode.REFRESH_AHEAD, refreshMargin, Duration.ZERO, scheduler);
+    }
+
+    /**
+     * Creates a policy which renews values in the background once they are requested within a margin of expiration,
+     * using an executor shared by all Calamari components
+     *
+     * <p>
+     * A single renewal is performed at a time. While renewal is in progress, callers continue to receive the previous
+     * value until the hard deadline is reached, after which callers wait for the renewal to complete
+     *
+     * @param refreshMargin
+     *            The amount of time before expiration to begin renewing a value on request. Must be positive
+     * @param hardDeadlineMargin
+     *            The amount of time before expiration after which the previous value is no longer provided to callers.
+     *            Must be zero or greater, and less than the refresh margin
+     * @return A policy which provides previous values while renewing them in the background
+     * @since 1.3.0
+     */
+    public static RefreshPolicy staleWhileRevalidate(Duration refreshMargin, Duration hardDeadlineMargin) {
+        return staleWhileRevalidate(refreshMargin, hardDeadlineMargin, SharedScheduler.INSTANCE);
+    }
+
+    /**
+     * Creates a policy which renews values in the background once they are requested within a margin of expiration
+     *
+     * <p>
+     * A single renewal is performed at a time. While renewal is in progress, callers continue to receive the previous
+     * value until the hard deadline is reached, after which callers wait for the renewal to complete
+     *
+     * @param refreshMargin
+     *            The amount of time before expiration to begin renewing a value on request. Must be positive
+     * @param hardDeadlineMargin
+     *            The amount of time before expiration after which the previous value is no longer provided to callers.
+     *            Must be zero or greater, and less than the refresh margin
+     * @param executor
+     *            The executor to run background renewal on. Renewal may perform blocking operations, such as web
+     *            requests
+     * @return A policy which provides previous values while renewing them in the background
+     * @since 1.3.0
+     */
+    public static RefreshPolicy staleWhileRevalidate(Duration refreshMargin, Duration hardDeadlineMargin,
+            Executor executor) {
+        Objects.requireNonNull(refreshMargin);
+        Objects.requireNonNull(hardDeadlineMargin);
+        Objects.requireNonNull(executor);
+
+        Preconditions.checkArgument(!refreshMargin.isNegative() && !refreshMargin.isZero(),
+                "Must provide a refresh margin greater than zero");
+        Preconditions.checkArgument(!hardDeadlineMargin.isNegative(),
+                "Must provide a hard deadline margin of zero or greater");
+        Preconditions.checkArgument(hardDeadlineMargin.compareTo(refreshMargin) < 0,
+                "Must provide a hard deadline margin less than the refresh margin");
+
+        return new RefreshPolicy(Mode.STALE_WHILE_REVALIDATE, refreshMargin, hardDeadlineMargin, executor);
+    }
+
+    /**
+     * @return The strategy used to renew values
+     */
+    Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * @return The amount of time before expiration to begin renewing a value
+     */
+    Duration getRefreshMargin() {
+        return refreshMargin;
+    }
+
+    /**
+     * @return The amount of time before expiration after which a value is no longer provided to callers
+     */
+    Duration getHardDeadlineMargin() {
+        return hardDeadlineMargin;
+    }
+
+    /**
+     * @return The executor to run background renewal on, if background renewal is used
+     */
+    Optional<Executor> getExecutor() {
+        return Optional.ofNullable(executor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, refreshMargin, hardDeadlineMargin, executor);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof RefreshPolicy) {
+            RefreshPolicy compare = (RefreshPolicy) obj;
+
+            result = Objects.equals(compare.mode, mode)
+                    && Objects.equals(compare.refreshMargin, refreshMargin)
+                    && Objects.equals(compare.hardDeadlineMargin, hardDeadlineMargin)
+                    && Objects.equals(compare.executor, executor);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("mode", mode)
+                .add("refreshMargin", refreshMargin)
+                .add("hardDeadlineMargin", hardDeadlineMargin)
+                .toString();
+    }
+
+    /**
+     * Strategies which may be used to renew cached values
+     *
+     * @author romeara
+     */
+    enum Mode {
+        /** Values are renewed synchronously by the first caller after expiration */
+        ON_EXPIRATION,
+
+        /** Values are renewed by a scheduled task shortly before expiration */
+        REFRESH_AHEAD,
+
+        /** Values are renewed by a background task triggered by requests shortly before expiration */
+        STALE_WHILE_REVALIDATE;
+    }
+
+    /**
+     * Lazily-initialized executor shared by policies which do not specify their own. Threads are daemon threads, so
+     * pending renewals do not prevent JVM shutdown
+     *
+     * @author romeara
+     */
+    private static final class SharedScheduler {
+
+        private static final int THREAD_COUNT = 2;
+
+        static final ScheduledExecutorService INSTANCE = Executors.newScheduledThreadPool(THREAD_COUNT,
+                new DaemonThreadFactory());
+
+    }
+
+    /**
+     * Creates named daemon threads for background renewal
+     *
+     * @author romeara
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "calamari-refresh-" + count.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.auth;
+
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches a generated value until it expires, renewing it according to a {@link RefreshPolicy}
+ *
+ * <p>
+ * Reading a cached value which has not expired only requires a volatile read. Generation of new values is serialized,
+ * so concurrent callers which observe an expired value wait on a single generation instead of each generating their own.
+ * Likewise, at most one background renewal is in progress at a time
+ *
+ * @author romeara
+ *
+ * @param <T>
+ *            Type of the cached value
+ * @since 1.3.0
+ */
+class RefreshingSupplier<T> implements Supplier<T> {
+
+    // Minimum delay before re-attempting a failed background renewal, to avoid tight failure loops
+    private static final long MINIMUM_RETRY_DELAY_MILLIS = 1_000;
+
+    /** Logger reference to output information to the application log files */
+    private static final Logger logger = LoggerFactory.getLogger(RefreshingSupplier.class);
+
+    private final Supplier<T> loader;
+
+    private final Function<? super T, Instant> expirationLookup;
+
+    private final RefreshPolicy refreshPolicy;
+
+    private final Clock clock;
+
+    private final Object lock = new Object();
+
+    private final AtomicBoolean renewalInProgress = new AtomicBoolean(false);
+
+    @Nullable
+    private volatile Entry<T> current;
+
+    // Point in time before which request-triggered renewal is not re-attempted, after a failure
+    private volatile long retryNotBefore;
+
+    /**
+     * @param loader
+     *            Generates new values
+     * @param expirationLookup
+     *            Determines the point in time a generated value should no longer be provided to callers
+     * @param refreshPolicy
+     *            Policy describing how values are renewed
+     */
+    RefreshingSupplier(Supplier<T> loader, Function<? super T, Instant> expirationLookup, RefreshPolicy refreshPolicy) {
+        this(loader, expirationLookup, refreshPolicy, Clock.systemUTC());
+    }
+
+    /**
+     * @param loader
+     *            Generates new values
+     * @param expirationLookup
+     *            Determines the point in time a generated value should no longer be provided to callers
+     * @param refreshPolicy
+     *            Policy describing how values are renewed
+     * @param clock
+     *            Clock used to determine when values must be renewed
+     */
+    RefreshingSupplier(Supplier<T> loader, Function<? super T, Instant> expirationLookup, RefreshPolicy refreshPolicy,
+            Clock clock) {
+        this.loader = Objects.requireNonNull(loader);
+        this.expirationLookup = Objects.requireNonNull(expirationLookup);
+        this.refreshPolicy = Objects.requireNonNull(refreshPolicy);
+        this.clock = Objects.requireNonNull(clock);
+
+        current = null;
+        retryNotBefore = 0;
+    }
+
+    @Override
+    public T get() {
+        Entry<T> entry = current;
+        long now = clock.millis();
+
+        if (entry == null || entry.isExpired(now)) {
+            entry = loadIfExpired();
+        } else if (refreshPolicy.getMode() == RefreshPolicy.Mode.STALE_WHILE_REVALIDATE && entry.isRefreshDue(now)
+                && now >= retryNotBefore) {
+            renewInBackground(entry);
+        }
+
+        return entry.getValue();
+    }
+
+    /**
+     * Determines when the currently cached value will no longer be provided to callers, without generating a value if
+     * none is cached
+     *
+     * @return The point in time the currently cached value will no longer be provided to callers, or empty if no value
+     *         has been generated
+     */
+    Optional<Instant> getExpiration() {
+        return Optional.ofNullable(current)
+                .map(Entry::getExpiresAt)
+                .map(Instant::ofEpochMilli);
+    }
+
+    /**
+     * Generates and caches a new value, unless another caller has already done so while waiting to generate
+     *
+     * @return The entry which should be used by the caller
+     */
+    private Entry<T> loadIfExpired() {
+        synchronized (lock) {
+            Entry<T> entry = current;
+
+            if (entry == null || entry.isExpired(clock.millis())) {
+                entry = load();
+            }
+
+            return entry;
+        }
+    }
+
+    /**
+     * Generates a new value and makes it visible to callers. Must be called while holding {@link #lock}
+     *
+     * @return The newly installed entry
+     */
+    private Entry<T> load() {
+        T value = Objects.requireNonNull(loader.get());
+        Instant expiration = Objects.requireNonNull(expirationLookup.apply(value));
+
+        long now = clock.millis();
+        long expiresAt = expiration.minus(refreshPolicy.getHardDeadlineMargin()).toEpochMilli();
+        long refreshAt = expiration.minus(refreshPolicy.getRefreshMargin()).toEpochMilli();
+
+        // Values may be generated with less remaining lifetime than the refresh margin (such as server-issued
+        // expirations) - renew part way through the lifetime instead of immediately, to avoid tight renewal loops
+        if (refreshAt <= now) {
+            refreshAt = now + Math.max(0, (expiresAt - now) / 2);
+        }
+
+        Entry<T> entry = new Entry<>(value, expiresAt, refreshAt);
+        current = entry;
+
+        if (refreshPolicy.getMode() == RefreshPolicy.Mode.REFRESH_AHEAD && expiresAt > now) {
+            schedule(entry, refreshAt - now);
+        }
+
+        return entry;
+    }
+
+    /**
+     * Schedules background renewal of an entry
+     *
+     * @param entry
+     *            The entry to renew
+     * @param delayMillis
+     *            The amount of time to wait before renewing
+     */
+    private void schedule(Entry<T> entry, long delayMillis) {
+        ScheduledExecutorService scheduler = refreshPolicy.getExecutor()
+                .map(ScheduledExecutorService.class::cast)
+                .orElseThrow(() -> new IllegalStateException("Refresh-ahead policy has no scheduler"));
+
+        try {
+            scheduler.schedule(new RenewalTask<>(this, entry), Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Not fatal - callers will renew synchronously once the value has expired
+            logger.warn("Unable to schedule background renewal, value will be renewed on next request", e);
+        }
+    }
+
+    /**
+     * Starts a background renewal of an entry, unless one is already in progress
+     *
+     * @param observed
+     *            The entry the caller observed as due for renewal
+     */
+    private void renewInBackground(Entry<T> observed) {
+        if (renewalInProgress.compareAndSet(false, true)) {
+            Executor executor = refreshPolicy.getExecutor()
+                    .orElseThrow(() -> new IllegalStateException("Stale-while-revalidate policy has no executor"));
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        renew(observed);
+                    } finally {
+                        renewalInProgress.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                renewalInProgress.set(false);
+
+                // Not fatal - callers will renew synchronously once the value has expired
+                logger.warn("Unable to start background renewal, value will be renewed on next request", e);
+            }
+        }
+    }
+
+    /**
+     * Renews a value in the background, if it has not already been replaced
+     *
+     * @param observed
+     *            The entry which was scheduled for renewal
+     */
+    private void renew(Entry<T> observed) {
+        synchronized (lock) {
+            if (current == observed) {
+                try {
+                    load();
+                } catch (RuntimeException e) {
+                    long now = clock.millis();
+                    long remaining = observed.getExpiresAt() - now;
+
+                    // Callers will renew synchronously once the value has expired - until then, keep retrying
+                    if (remaining > 0) {
+                        logger.warn("Background renewal failed, retrying before expiration", e);
+
+                        if (refreshPolicy.getMode() == RefreshPolicy.Mode.REFRESH_AHEAD) {
+                            schedule(observed, Math.max(MINIMUM_RETRY_DELAY_MILLIS, remaining / 2));
+                        } else {
+                            retryNotBefore = now + Math.max(MINIMUM_RETRY_DELAY_MILLIS, remaining / 2);
+                        }
+                    } else {
+                        logger.warn("Background renewal failed, value will be renewed on next request", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Represents a cached value and the points in time it should be renewed and no longer used
+     *
+     * @author romeara
+     *
+     * @param <T>
+     *            Type of the cached value
+     */
+    private static final class Entry<T> {
+
+        private final T value;
+
+        private final long expiresAt;
+
+        private final long refreshAt;
+
+        public Entry(T value, long expiresAt, long refreshAt) {
+            this.value = Objects.requireNonNull(value);
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+
+        public long getRefreshAt() {
+            return refreshAt;
+        }
+
+        public boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        public boolean isRefreshDue(long now) {
+            return now >= refreshAt;
+        }
+
+    }
+
+    /**
+     * Scheduled renewal of a cached value. Only weakly references the owning supplier, so suppliers which are no longer
+     * in use by clients may be garbage collected while renewals are pending
+     *
+     * @author romeara
+     *
+     * @param <T>
+     *            Type of the cached value
+     */
+    private static final class RenewalTask<T> implements Runnable {
+
+        private final WeakReference<RefreshingSupplier<T>> owner;
+
+        private final Entry<T> entry;
+
+        public RenewalTask(RefreshingSupplier<T> owner, Entry<T> entry) {
+            this.owner = new WeakReference<>(Objects.requireNonNull(owner));
+            this.entry = Objects.requireNonNull(entry);
+        }
+
+        @Override
+        public void run() {
+            RefreshingSupplier<T> supplier = owner.get();
+
+            if (supplier != null) {
+                supplier.renew(entry);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.exception.FileContentException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Reads the contents of an entire GitHub repository with a single request, via the
+ * <a href="https://docs.github.com/en/rest/repos/contents#download-a-repository-archive-tar">repository archive
+ * API</a>
+ *
+ * <p>
+ * The archive is decompressed and read as it is received, without holding the archive in memory or on disk. Only files
+ * whose repository-root relative path matches a provided filter, such as a {@link PathGlob}, are extracted - either to
+ * a directory, or to a callback as they are read. Directories, symbolic links, and sub-modules are not extracted
+ *
+ * <p>
+ * Archive entries with absolute paths or paths containing {@code ..} segments are rejected, so that extracted files
+ * are never written outside of the target directory
+ *
+ * <p>
+ * If used by a GitHub App, access to the GitHub APIs used requires "contents:read" permission
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class ArchiveContentLoader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OkHttpClient httpClient;
+
+    private final String userAgent;
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @since 1.3.0
+     */
+    public ArchiveContentLoader(String userAgent) {
+        this(userAgent, HttpClients.getDefault());
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @since 1.3.0
+     */
+    public ArchiveContentLoader(String userAgent, OkHttpClient httpClient) {
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.httpClient = Objects.requireNonNull(httpClient);
+    }
+
+    /**
+     * Extracts matching files from a repository into a directory, creating sub-directories as needed. Existing files
+     * are replaced
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param filter
+     *            Filter repository-root relative file paths must match to be extracted
+     * @param directory
+     *            The directory to extract files into
+     * @return The number of files extracted, if the branch/tag/commit existed in the repository
+     * @since 1.3.0
+     */
+    public OptionalInt extractTo(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            Predicate<String> filter, Path directory) {
+        Objects.requireNonNull(directory);
+
+        Path root = directory.toAbsolutePath().normalize();
+
+        return readArchive(installationToken, repositoryUrl, ref, filter, (path, size, contents) -> {
+            Path target = root.resolve(path).normalize();
+
+            if (!target.startsWith(root) || target.equals(root)) {
+                throw new FileContentException("Archive entry '" + path + "' is outside of the target directory");
+            }
+
+            Files.createDirectories(target.getParent());
+            Files.copy(contents, target, StandardCopyOption.REPLACE_EXISTING);
+        });
+    }
+
+    /**
+     * Provides the contents of matching files from a repository to a callback, one at a time as they are read from the
+     * archive
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param filter
+     *            Filter repository-root relative file paths must match to be extracted
+     * @param consumer
+     *            Callback provided the repository-root relative path and contents of each matching file
+     * @return The number of files extracted, if the branch/tag/commit existed in the repository
+     * @since 1.3.0
+     */
+    public OptionalInt extract(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            Predicate<String> filter, BiConsumer<String, byte[]> consumer) {
+        Objects.requireNonNull(consumer);
+
+        return readArchive(installationToken, repositoryUrl, ref, filter, (path, size, contents) -> {
+            if (size > Integer.MAX_VALUE) {
+                throw new FileContentException("Archive entry '" + path + "' is too large to read into memory");
+            }
+
+            byte[] bytes = new byte[(int) size];
+            int read = 0;
+
+            while (read < bytes.length) {
+                int count = contents.read(bytes, read, bytes.length - read);
+
+                if (count < 0) {
+                    throw new FileContentException("Archive entry '" + path + "' ended unexpectedly");
+                }
+
+                read += count;
+            }
+
+            consumer.accept(path, bytes);
+        });
+    }
+
+    /**
+     * Reads the archive of a repository, providing matching files to a handler
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param filter
+     *            Filter repository-root relative file paths must match to be provided to the handler
+     * @param handler
+     *            Handler for the contents of matching files
+     * @return The number of files provided to the handler, if the branch/tag/commit existed in the repository
+     */
+    private OptionalInt readArchive(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            Predicate<String> filter, EntryHandler handler) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+        Objects.requireNonNull(filter);
+
+        HttpUrl url = HttpUrl.parse(repositoryUrl).newBuilder()
+                .addEncodedPathSegment("tarball")
+                .addPathSegments(ref)
+                .build();
+
+        Request request = GitHubRequests.newRequest(installationToken, url, null, userAgent).build();
+
+        try {
+            OptionalInt result = OptionalInt.empty();
+            Optional<Response> response = GitHubRequests.execute(httpClient, request);
+
+            if (response.isPresent()) {
+                try (ResponseBody body = response.get().body();
+                        TarArchiveReader reader = new TarArchiveReader(new BufferedInputStream(
+                                new GZIPInputStream(body.byteStream(), BUFFER_SIZE), BUFFER_SIZE))) {
+                    result = OptionalInt.of(extractEntries(reader, filter, handler));
+                }
+            }
+
+            return result;
+        } catch (IOException e) {
+            throw new FileContentException("Error requesting or extracting GitHub repository archive response.", e);
+        }
+    }
+
+    /**
+     * @param reader
+     *            Reader of the repository archive
+     * @param filter
+     *            Filter repository-root relative file paths must match to be provided to the handler
+     * @param handler
+     *            Handler for the contents of matching files
+     * @return The number of files provided to the handler
+     * @throws IOException
+     *             If there is an error reading the archive or handling file contents
+     */
+    private static int extractEntries(TarArchiveReader reader, Predicate<String> filter, EntryHandler handler)
+            throws IOException {
+        int result = 0;
+        Optional<TarArchiveReader.Entry> entry = reader.next();
+
+        while (entry.isPresent()) {
+            Optional<String> path = getRepositoryPath(entry.get().getName());
+
+            if (entry.get().isFile() && path.isPresent() && filter.test(path.get())) {
+                handler.handle(path.get(), entry.get().getSize(), reader.openEntry());
+                result++;
+            }
+
+            entry = reader.next();
+        }
+
+        return result;
+    }
+
+    /**
+     * @param entryName
+     *            The name of an entry in a GitHub repository archive
+     * @return The repository-root relative path of the entry, or empty if the entry is the archive's root directory
+     */
+    private static Optional<String> getRepositoryPath(String entryName) {
+        // GitHub archives place all contents within a single directory named for the repository and commit
+        int separator = entryName.indexOf('/');
+        String path = (separator >= 0 ? entryName.substring(separator + 1) : "");
+
+        boolean parentSegment = false;
+
+        for (String segment : path.split("/")) {
+            parentSegment = parentSegment || segment.equals("..");
+        }
+
+        if (path.startsWith("/") || parentSegment) {
+            throw new FileContentException("Archive entry '" + entryName + "' has an unsupported path");
+        }
+
+        return (path.isEmpty() ? Optional.empty() : Optional.of(path));
+    }
+
+    /**
+     * Handles the contents of a single file read from an archive
+     *
+     * @author romeara
+     */
+    @FunctionalInterface
+    private interface EntryHandler {
+
+        void handle(String path, long size, InputStream contents) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.exception.FileContentException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Reads the contents of files of any size from a GitHub repository via the
+ * <a href="https://docs.github.com/en/rest/git/blobs">Git blobs API</a>
+ *
+ * <p>
+ * The file content API used by {@link FileContentLoader} only provides contents inline for files up to 1 MB. This
+ * loader instead resolves a path to the SHA of its blob, by listing the directory containing the file (which does not
+ * include file contents), and then requests the blob in the {@link MediaTypes#RAW raw media type}. Contents are written
+ * to a channel or stream through a fixed-size buffer as they are received, so memory use does not depend on file size,
+ * and binary files are transferred unmodified
+ *
+ * <p>
+ * GitHub lists at most 1,000 entries for a directory. Files in larger directories may be read via
+ * {@link #transferBlob(InstallationAccessToken, String, String, WritableByteChannel)} with a blob SHA obtained from
+ * the Git trees API
+ *
+ * <p>
+ * If used by a GitHub App, access to the GitHub APIs used requires "contents:read" permission
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class BlobContentLoader {
+
+    private static final String TYPE_FILE = "file";
+
+    private final OkHttpClient httpClient;
+
+    private final String userAgent;
+
+    private final String mediaType;
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @since 1.3.0
+     */
+    public BlobContentLoader(String userAgent) {
+        this(userAgent, MediaTypes.APP_PREVIEW);
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header when listing directories
+     * @since 1.3.0
+     */
+    public BlobContentLoader(String userAgent, String mediaType) {
+        this(userAgent, mediaType, HttpClients.getDefault());
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header when listing directories
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @since 1.3.0
+     */
+    public BlobContentLoader(String userAgent, String mediaType, OkHttpClient httpClient) {
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.httpClient = Objects.requireNonNull(httpClient);
+    }
+
+    /**
+     * Determines the SHA of the blob which stores a file's contents
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @return The SHA of the file's blob, if the file existed in the repository on the given branch/tag/commit
+     * @since 1.3.0
+     */
+    public Optional<String> resolveBlobSha(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            String path) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+        Objects.requireNonNull(path);
+
+        String normalizedPath = trimSlashes(path);
+        Preconditions.checkArgument(!normalizedPath.isEmpty(), "Must provide the path of a file");
+
+        int separator = normalizedPath.lastIndexOf('/');
+        String directory = (separator >= 0 ? normalizedPath.substring(0, separator) : "");
+        String name = normalizedPath.substring(separator + 1);
+
+        HttpUrl.Builder url = HttpUrl.parse(repositoryUrl).newBuilder()
+                .addEncodedPathSegment("contents");
+
+        if (!directory.isEmpty()) {
+            url.addPathSegments(directory);
+        }
+
+        Request request = GitHubRequests.newRequest(installationToken, url.addQueryParameter("ref", ref).build(),
+                mediaType, userAgent).build();
+
+        try {
+            Optional<String> result = Optional.empty();
+            Optional<Response> response = GitHubRequests.execute(httpClient, request);
+
+            if (response.isPresent()) {
+                try (ResponseBody body = response.get().body()) {
+                    result = findBlobSha(body, name);
+                }
+            }
+
+            return result;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new FileContentException("Error requesting or deserializing GitHub directory content response.", e);
+        }
+    }
+
+    /**
+     * Writes the contents of a blob to a channel, through a fixed-size buffer as they are received. The channel is not
+     * closed
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read blob contents from
+     * @param blobSha
+     *            The SHA of the blob to read
+     * @param target
+     *            The channel to write blob contents to, such as a {@link java.nio.channels.FileChannel}
+     * @return The number of bytes written, if the blob existed in the repository
+     * @since 1.3.0
+     */
+    public OptionalLong transferBlob(InstallationAccessToken installationToken, String repositoryUrl, String blobSha,
+            WritableByteChannel target) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(blobSha);
+        Objects.requireNonNull(target);
+
+        HttpUrl url = HttpUrl.parse(repositoryUrl).newBuilder()
+                .addEncodedPathSegment("git")
+                .addEncodedPathSegment("blobs")
+                .addPathSegment(blobSha)
+                .build();
+
+        Request request = GitHubRequests.newRequest(installationToken, url, MediaTypes.RAW, userAgent).build();
+
+        try {
+            OptionalLong result = OptionalLong.empty();
+            Optional<Response> response = GitHubRequests.execute(httpClient, request);
+
+            if (response.isPresent()) {
+                try (ResponseBody body = response.get().body()) {
+                    result = OptionalLong.of(FileContentLoader.transfer(body.source(), target));
+                }
+            }
+
+            return result;
+        } catch (IOException e) {
+            throw new FileContentException("Error transferring GitHub blob content response.", e);
+        }
+    }
+
+    /**
+     * Writes the contents of a file to a channel, through a fixed-size buffer as they are received. The channel is not
+     * closed
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @param target
+     *            The channel to write file contents to, such as a {@link java.nio.channels.FileChannel}
+     * @return The number of bytes written, if the file existed in the repository on the given branch/tag/commit
+     * @since 1.3.0
+     */
+    public OptionalLong transferContents(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            String path, WritableByteChannel target) {
+        Objects.requireNonNull(target);
+
+        Optional<String> blobSha = resolveBlobSha(installationToken, repositoryUrl, ref, path);
+
+        return blobSha.isPresent() ? transferBlob(installationToken, repositoryUrl, blobSha.get(), target)
+                : OptionalLong.empty();
+    }
+
+    /**
+     * Writes the contents of a file to a stream, through a fixed-size buffer as they are received. The stream is not
+     * closed
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @param target
+     *            The stream to write file contents to
+     * @return The number of bytes written, if the file existed in the repository on the given branch/tag/commit
+     * @since 1.3.0
+     */
+    public OptionalLong transferContents(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            String path, OutputStream target) {
+        Objects.requireNonNull(target);
+
+        OptionalLong result = transferContents(installationToken, repositoryUrl, ref, path,
+                Channels.newChannel(target));
+
+        try {
+            target.flush();
+        } catch (IOException e) {
+            throw new FileContentException("Error transferring GitHub blob content response.", e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads a directory listing as it is received, stopping once the named file is found
+     *
+     * @param body
+     *            JSON-encoded directory listing response
+     * @param name
+     *            The name of the file to find
+     * @return The blob SHA of the named file, if it is listed
+     * @throws IOException
+     *             If there is an error reading the response
+     */
+    private static Optional<String> findBlobSha(ResponseBody body, String name) throws IOException {
+        String result = null;
+
+        try (JsonReader reader = new JsonReader(body.charStream())) {
+            // A single object is provided if the "directory" is a file, in which case the path cannot exist
+            if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+
+                while (result == null && reader.hasNext()) {
+                    result = readEntry(reader, name);
+                }
+            }
+        }
+
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * @param reader
+     *            Reader positioned at the start of a directory entry
+     * @param name
+     *            The name of the file to find
+     * @return The blob SHA of the entry, if it is the named file
+     * @throws IOException
+     *             If there is an error reading the response
+     */
+    @Nullable
+    private static String readEntry(JsonReader reader, String name) throws IOException {
+        String entryName = null;
+        String entryType = null;
+        String entrySha = null;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+
+            if (reader.peek() != JsonToken.STRING) {
+                reader.skipValue();
+            } else if (Objects.equals(field, "name")) {
+                entryName = reader.nextString();
+            } else if (Objects.equals(field, "type")) {
+                entryType = reader.nextString();
+            } else if (Objects.equals(field, "sha")) {
+                entrySha = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+
+        return (Objects.equals(entryName, name) && Objects.equals(entryType, TYPE_FILE) ? entrySha : null);
+    }
+
+    private static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+
+        return path.substring(start, end);
+    }
+
+}
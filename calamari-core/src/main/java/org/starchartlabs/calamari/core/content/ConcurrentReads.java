@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Handles performing blocking reads for many items concurrently with bounded concurrency
+ *
+ * <p>
+ * A fixed number of workers are started on the provided executor, each performing reads for queued items one after
+ * another until none remain. This bounds the number of concurrent reads regardless of the size of the executor, so
+ * executors may be shared with other work
+ *
+ * @author romeara
+ */
+final class ConcurrentReads {
+
+    /**
+     * Prevent instantiation of utility class
+     */
+    private ConcurrentReads() throws InstantiationException {
+        throw new InstantiationException("Cannot instantiate instance of utility class '" + getClass().getName() + "'");
+    }
+
+    /**
+     * Performs an action for each item, returning once all actions have completed
+     *
+     * @param items
+     *            The items to perform the action for
+     * @param executor
+     *            The executor to perform actions on
+     * @param maxConcurrency
+     *            The maximum number of actions to perform at once. Must be greater than zero
+     * @param action
+     *            The action to perform for each item
+     * @param <T>
+     *            The type of item actions are performed for
+     * @throws RuntimeException
+     *             The first error thrown by an action, once all workers have stopped. Items not yet started when an
+     *             action fails are not processed
+     */
+    static <T> void forEach(Collection<T> items, Executor executor, int maxConcurrency, Consumer<T> action) {
+        Objects.requireNonNull(items);
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(action);
+        Preconditions.checkArgument(maxConcurrency > 0, "Must provide a maximum concurrency greater than zero");
+
+        Queue<T> remaining = new ConcurrentLinkedQueue<>(items);
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(maxConcurrency, items.size())];
+
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> drain(remaining, action), executor);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    private static <T> void drain(Queue<T> remaining, Consumer<T> action) {
+        T item = remaining.poll();
+
+        while (item != null) {
+            try {
+                action.accept(item);
+            } catch (RuntimeException e) {
+                // Stop other workers from starting further items
+                remaining.clear();
+
+                throw e;
+            }
+
+            item = remaining.poll();
+        }
+    }
+
+}
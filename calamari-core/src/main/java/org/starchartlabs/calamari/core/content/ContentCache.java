@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Retains file contents read by {@link FileContentLoader}, bounded by the total size of the retained contents
+ *
+ * <p>
+ * Contents read at a full commit SHA can never change, and are retained until evicted. Contents read at a branch or
+ * tag are only used for a short time-to-live, after which they are revalidated with a conditional request if GitHub
+ * provided an {@code ETag} - conditional requests answered with {@code 304 Not Modified} do not count against GitHub's
+ * rate limit. Files which were not found are also retained for the time-to-live, regardless of the ref they were read
+ * at, as a commit may not yet be visible to GitHub's API when first referenced
+ *
+ * <p>
+ * When storing contents would exceed the maximum size, the least recently used contents are removed. Contents larger
+ * than the maximum size are not retained. A single cache may be shared by many loaders, and is safe for use by multiple
+ * threads
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class ContentCache {
+
+    /** Default amount of time to use contents read at a branch or tag before revalidating them */
+    public static final Duration DEFAULT_REF_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private static final Pattern COMMIT_SHA = Pattern.compile("[0-9a-fA-F]{40}|[0-9a-fA-F]{64}");
+
+    /** Approximate memory used by an entry beyond its key and contents, so that "not found" entries are bounded */
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+
+    private final long maximumBytes;
+
+    private final Duration refTimeToLive;
+
+    private final Clock clock;
+
+    // Access-ordered, so iteration begins with the least recently used contents
+    private final LinkedHashMap<String, Entry> entries;
+
+    private long currentBytes;
+
+    /**
+     * @param maximumBytes
+     *            The maximum total size of retained contents, in bytes. Must be greater than zero
+     * @since 1.3.0
+     */
+    public ContentCache(long maximumBytes) {
+        this(maximumBytes, DEFAULT_REF_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param maximumBytes
+     *            The maximum total size of retained contents, in bytes. Must be greater than zero
+     * @param refTimeToLive
+     *            The amount of time to use contents read at a branch or tag, or files which were not found, before
+     *            revalidating them. Must be zero or greater
+     * @since 1.3.0
+     */
+    public ContentCache(long maximumBytes, Duration refTimeToLive) {
+        this(maximumBytes, refTimeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * @param maximumBytes
+     *            The maximum total size of retained contents, in bytes. Must be greater than zero
+     * @param refTimeToLive
+     *            The amount of time to use contents read at a branch or tag, or files which were not found, before
+     *            revalidating them. Must be zero or greater
+     * @param clock
+     *            Clock used to determine when contents must be revalidated
+     * @since 1.3.0
+     */
+    public ContentCache(long maximumBytes, Duration refTimeToLive, Clock clock) {
+        this.refTimeToLive = Objects.requireNonNull(refTimeToLive);
+        this.clock = Objects.requireNonNull(clock);
+
+        Preconditions.checkArgument(maximumBytes > 0, "Must provide a maximum size greater than zero");
+        Preconditions.checkArgument(!refTimeToLive.isNegative(), "Must provide a time-to-live of zero or greater");
+
+        this.maximumBytes = maximumBytes;
+
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        currentBytes = 0;
+    }
+
+    /**
+     * @param ref
+     *            A branch, tag, or commit
+     * @return True if the provided ref is a full commit SHA, whose contents can never change
+     * @since 1.3.0
+     */
+    public static boolean isCommitSha(String ref) {
+        Objects.requireNonNull(ref);
+
+        return COMMIT_SHA.matcher(ref).matches();
+    }
+
+    /**
+     * Removes all retained contents
+     *
+     * @since 1.3.0
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * @return The number of files currently retained, including files which were not found
+     * @since 1.3.0
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The approximate total size of contents currently retained, in bytes
+     * @since 1.3.0
+     */
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("maximumBytes", maximumBytes)
+                .add("refTimeToLive", refTimeToLive)
+                .toString();
+    }
+
+    /**
+     * @param key
+     *            Key representing a file read
+     * @return The retained entry for the key, which may need revalidation, or empty if none is retained
+     */
+    synchronized Optional<Entry> get(String key) {
+        Objects.requireNonNull(key);
+
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * @param entry
+     *            Entry previously provided by this cache
+     * @return True if the entry may be used without revalidation
+     */
+    boolean isFresh(Entry entry) {
+        Objects.requireNonNull(entry);
+
+        return entry.getExpiresAt()
+                .map(expiresAt -> clock.instant().isBefore(expiresAt))
+                .orElse(true);
+    }
+
+    /**
+     * Stores the result of reading a file, replacing any result previously stored for the key
+     *
+     * @param key
+     *            Key representing a file read
+     * @param ref
+     *            The branch, tag, or commit the file was read at
+     * @param contents
+     *            The contents of the file, or null if the file was not found
+     * @param entityTag
+     *            The {@code ETag} header provided with the file contents, if any
+     * @return The stored entry
+     */
+    Entry put(String key, String ref, @Nullable byte[] contents, @Nullable String entityTag) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(ref);
+
+        Instant expiresAt = (contents != null && isCommitSha(ref) ? null : clock.instant().plus(refTimeToLive));
+        Entry entry = new Entry(contents, entityTag, expiresAt, key.length() * 2L + ENTRY_OVERHEAD_BYTES);
+
+        store(key, entry);
+
+        return entry;
+    }
+
+    /**
+     * Extends the time an entry may be used after GitHub has reported it has not been modified
+     *
+     * @param key
+     *            Key representing a file read
+     * @param entry
+     *            The entry which was revalidated
+     * @return The stored entry
+     */
+    Entry revalidated(String key, Entry entry) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(entry);
+
+        Entry result = entry.withExpiresAt(clock.instant().plus(refTimeToLive));
+
+        store(key, result);
+
+        return result;
+    }
+
+    private synchronized void store(String key, Entry entry) {
+        Entry removed = entries.remove(key);
+
+        if (removed != null) {
+            currentBytes -= removed.getSize();
+        }
+
+        if (entry.getSize() <= maximumBytes) {
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+
+            while (currentBytes + entry.getSize() > maximumBytes && eldest.hasNext()) {
+                currentBytes -= eldest.next().getValue().getSize();
+                eldest.remove();
+            }
+
+            entries.put(key, entry);
+            currentBytes += entry.getSize();
+        }
+    }
+
+    /**
+     * Represents the result of reading a file, and the point in time it must be revalidated, if any
+     *
+     * @author romeara
+     */
+    static final class Entry {
+
+        @Nullable
+        private final byte[] contents;
+
+        @Nullable
+        private final String entityTag;
+
+        @Nullable
+        private final Instant expiresAt;
+
+        private final long overheadBytes;
+
+        private Entry(@Nullable byte[] contents, @Nullable String entityTag, @Nullable Instant expiresAt,
+                long overheadBytes) {
+            this.contents = contents;
+            this.entityTag = entityTag;
+            this.expiresAt = expiresAt;
+            this.overheadBytes = overheadBytes;
+        }
+
+        /**
+         * @return The contents of the file, or empty if the file was not found. The returned array must not be
+         *         modified
+         */
+        public Optional<byte[]> getContents() {
+            return Optional.ofNullable(contents);
+        }
+
+        public Optional<String> getEntityTag() {
+            return Optional.ofNullable(entityTag);
+        }
+
+        public Optional<Instant> getExpiresAt() {
+            return Optional.ofNullable(expiresAt);
+        }
+
+        public long getSize() {
+            return overheadBytes + (contents != null ? contents.length : 0);
+        }
+
+        public Entry withExpiresAt(Instant expiresAt) {
+            return new Entry(contents, entityTag, Objects.requireNonNull(expiresAt), overheadBytes);
+        }
+
+    }
+
+}
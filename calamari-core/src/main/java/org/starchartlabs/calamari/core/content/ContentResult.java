@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * Represents the outcome of reading a single file as part of a batch read via
+ * {@link FileContentLoader#loadAllContents(org.starchartlabs.calamari.core.auth.InstallationAccessToken, String, String, java.util.Collection, java.util.concurrent.Executor)}
+ *
+ * <p>
+ * Each file in a batch is read independently - a file which could not be read does not prevent other files from being
+ * read, and the error encountered is retained with the file's path
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class ContentResult {
+
+    private final String path;
+
+    @Nullable
+    private final String contents;
+
+    @Nullable
+    private final RuntimeException error;
+
+    private ContentResult(String path, @Nullable String contents, @Nullable RuntimeException error) {
+        this.path = Objects.requireNonNull(path);
+        this.contents = contents;
+        this.error = error;
+    }
+
+    /**
+     * @param path
+     *            The repository-root relative path of the file read
+     * @param contents
+     *            Plain-text contents of the file
+     * @return A result representing a file which was read successfully
+     */
+    static ContentResult found(String path, String contents) {
+        return new ContentResult(path, Objects.requireNonNull(contents), null);
+    }
+
+    /**
+     * @param path
+     *            The repository-root relative path of the file read
+     * @return A result representing a file which did not exist on the requested branch/tag/commit
+     */
+    static ContentResult notFound(String path) {
+        return new ContentResult(path, null, null);
+    }
+
+    /**
+     * @param path
+     *            The repository-root relative path of the file read
+     * @param error
+     *            The error encountered reading the file
+     * @return A result representing a file which could not be read
+     */
+    static ContentResult failed(String path, RuntimeException error) {
+        return new ContentResult(path, null, Objects.requireNonNull(error));
+    }
+
+    /**
+     * @return The repository-root relative path of the file read
+     * @since 1.3.0
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Provides the contents of the file, with the same behavior as reading the file individually via
+     * {@link FileContentLoader#loadContents(org.starchartlabs.calamari.core.auth.InstallationAccessToken, String, String, String)}
+     *
+     * @return Plain-text file contents, if the file existed in the repository on the given branch/tag
+     * @throws RuntimeException
+     *             The error encountered reading the file, if it could not be read
+     * @since 1.3.0
+     */
+    public Optional<String> getContents() {
+        if (error != null) {
+            throw error;
+        }
+
+        return Optional.ofNullable(contents);
+    }
+
+    /**
+     * @return The error encountered reading the file, if it could not be read
+     * @since 1.3.0
+     */
+    public Optional<RuntimeException> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return True if the file was read without error, regardless of whether it existed
+     * @since 1.3.0
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getPath(), contents, error);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof ContentResult) {
+            ContentResult compare = (ContentResult) obj;
+
+            result = Objects.equals(compare.getPath(), getPath())
+                    && Objects.equals(compare.contents, contents)
+                    && Objects.equals(compare.error, error);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("path", getPath())
+                .add("found", contents != null)
+                .add("error", error)
+                .toString();
+    }
+
+}
@@ -7,20 +7,36 @@
 package org.starchartlabs.calamari.core.content;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.starchartlabs.alloy.core.Preconditions;
 import org.starchartlabs.alloy.core.Strings;
 import org.starchartlabs.calamari.core.MediaTypes;
-import org.starchartlabs.calamari.core.ResponseConditions;
 import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
 import org.starchartlabs.calamari.core.exception.FileContentException;
-import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+import org.starchartlabs.calamari.core.http.HttpClients;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -41,6 +57,26 @@ import okhttp3.ResponseBody;
  * {@link #loadContents(InstallationAccessToken, String, String, String)} for each individual repository lookup desired
  *
  * <p>
+ * Raw file contents may also be read via {@link #loadRawContents(InstallationAccessToken, String, String, String)},
+ * {@link #openRawContents(InstallationAccessToken, String, String, String)}, and
+ * {@link #transferRawContents(InstallationAccessToken, String, String, String, WritableByteChannel)}. These request
+ * the {@link MediaTypes#RAW raw media type}, reading the file directly from the response instead of decoding it from a
+ * JSON representation, which avoids holding several copies of the file in memory
+ *
+ * <p>
+ * Many files may be read concurrently via
+ * {@link #loadAllContents(InstallationAccessToken, String, String, Collection, Executor)}, so that the time taken to
+ * read a set of files is close to that of reading the slowest file instead of the sum of all of them
+ *
+ * <p>
+ * Loaders constructed with a {@link ContentCache} re-use contents previously read by
+ * {@link #loadContents(InstallationAccessToken, String, String, String)} and
+ * {@link #loadRawContents(InstallationAccessToken, String, String, String)} - indefinitely for contents read at a full
+ * commit SHA, and for a short time (followed by conditional revalidation) for contents read at a branch or tag. Loaders
+ * also constructed with a {@link RefResolver} resolve branches and tags to a commit SHA before reading, so cached
+ * contents are always keyed by an immutable commit
+ *
+ * <p>
  * If used by a GitHub App, access to the GitHub APIs used requires "contents:read" or "single file:read" permission(s)
  *
  * @author romeara
@@ -48,6 +84,13 @@ import okhttp3.ResponseBody;
  */
 public class FileContentLoader {
 
+    /** Default maximum number of files read concurrently by a single batch read */
+    public static final int DEFAULT_BATCH_CONCURRENCY = 8;
+
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
     /** Logger reference to output information to the application log files */
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -57,6 +100,12 @@ public class FileContentLoader {
 
     private final String mediaType;
 
+    @Nullable
+    private final ContentCache contentCache;
+
+    @Nullable
+    private final RefResolver refResolver;
+
     /**
      * Handles decoding the "content" field in JSON responses from the GitHub file contents API
      * 
@@ -110,10 +159,77 @@ public class FileContentLoader {
      * @since 0.3.0
      */
     public FileContentLoader(String userAgent, String mediaType) {
+        this(userAgent, mediaType, HttpClients.getDefault());
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @since 1.3.0
+     */
+    public FileContentLoader(String userAgent, String mediaType, OkHttpClient httpClient) {
         this.userAgent = Objects.requireNonNull(userAgent);
         this.mediaType = Objects.requireNonNull(mediaType);
+        this.httpClient = Objects.requireNonNull(httpClient);
 
-        httpClient = new OkHttpClient();
+        contentCache = null;
+        refResolver = null;
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param contentCache
+     *            Cache used to retain contents read via {@link #loadContents(InstallationAccessToken, String, String,
+     *            String)} and {@link #loadRawContents(InstallationAccessToken, String, String, String)}. May be shared
+     *            between loaders
+     * @since 1.3.0
+     */
+    public FileContentLoader(String userAgent, String mediaType, OkHttpClient httpClient, ContentCache contentCache) {
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.contentCache = Objects.requireNonNull(contentCache);
+        refResolver = null;
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param contentCache
+     *            Cache used to retain contents read via {@link #loadContents(InstallationAccessToken, String, String,
+     *            String)} and {@link #loadRawContents(InstallationAccessToken, String, String, String)}. May be shared
+     *            between loaders
+     * @param refResolver
+     *            Resolver used to read cached contents at the commit a branch or tag references. May be shared between
+     *            loaders
+     * @since 1.3.0
+     */
+    public FileContentLoader(String userAgent, String mediaType, OkHttpClient httpClient, ContentCache contentCache,
+            RefResolver refResolver) {
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.contentCache = Objects.requireNonNull(contentCache);
+        this.refResolver = Objects.requireNonNull(refResolver);
     }
 
     /**
@@ -138,21 +254,25 @@ public class FileContentLoader {
         Objects.requireNonNull(ref);
         Objects.requireNonNull(path);
 
+        if (contentCache != null) {
+            return resolveRef(installationToken, repositoryUrl, ref)
+                    .flatMap(resolved -> loadCached(contentCache, installationToken, repositoryUrl, resolved, path,
+                            mediaType, this::decodeContents))
+                    .map(contents -> new String(contents, StandardCharsets.UTF_8));
+        }
+
         String result = null;
         String responseBody = null;
-        Request request = createRequest(installationToken, repositoryUrl, ref, path);
+        Request request = createRequest(installationToken, repositoryUrl, ref, path, mediaType).build();
 
-        try (Response response = httpClient.newCall(request).execute()) {
+        try (Response response = GitHubRequests.call(httpClient, request)) {
             if (response.isSuccessful()) {
                 try (ResponseBody body = response.body()) {
                     responseBody = body.string();
                     result = deserializeResponse(responseBody);
                 }
             } else if (response.code() != 404) {
-                ResponseConditions.checkRateLimit(response);
-
-                throw new GitHubResponseException(
-                        "Request unsuccessful (" + response.code() + " - " + response.message() + ")");
+                throw GitHubRequests.unsuccessful(response);
             }
 
             return Optional.ofNullable(result);
@@ -164,6 +284,396 @@ public class FileContentLoader {
         }
     }
 
+    /**
+     * Reads the contents of many files concurrently, as per
+     * {@link #loadContents(InstallationAccessToken, String, String, String)}
+     *
+     * <p>
+     * At most {@link #DEFAULT_BATCH_CONCURRENCY} files are requested at once. See
+     * {@link #loadAllContents(InstallationAccessToken, String, String, Collection, Executor, int)}
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param paths
+     *            The repository-root relative paths of the files to read
+     * @param executor
+     *            The executor to make requests on. Requests perform blocking network operations
+     * @return The result of reading each distinct path, in the order the paths were provided
+     * @since 1.3.0
+     */
+    public Map<String, ContentResult> loadAllContents(InstallationAccessToken installationToken, String repositoryUrl,
+            String ref, Collection<String> paths, Executor executor) {
+        return loadAllContents(installationToken, repositoryUrl, ref, paths, executor, DEFAULT_BATCH_CONCURRENCY);
+    }
+
+    /**
+     * Reads the contents of many files concurrently, as per
+     * {@link #loadContents(InstallationAccessToken, String, String, String)}
+     *
+     * <p>
+     * Duplicate paths are requested once. Requests are made on the provided executor, with at most
+     * {@code maxConcurrency} files requested at once - the executor may be shared with other work, and does not need to
+     * be bounded itself. Requests share the connection pool of the loader's HTTP client, and, if configured, its
+     * {@link ContentCache}
+     *
+     * <p>
+     * If a {@link RefResolver} is configured, the ref is resolved once for the batch and all files are read from the
+     * resulting commit. If the ref does not exist, all files are reported as not found
+     *
+     * <p>
+     * A file which cannot be read does not prevent other files from being read - the error is provided by the file's
+     * {@link ContentResult}. Once GitHub reports the rate limit is exceeded, files which have not yet been requested are
+     * not requested, and fail with the same error
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param paths
+     *            The repository-root relative paths of the files to read
+     * @param executor
+     *            The executor to make requests on. Requests perform blocking network operations
+     * @param maxConcurrency
+     *            The maximum number of files to request at once. Must be greater than zero
+     * @return The result of reading each distinct path, in the order the paths were provided
+     * @since 1.3.0
+     */
+    public Map<String, ContentResult> loadAllContents(InstallationAccessToken installationToken, String repositoryUrl,
+            String ref, Collection<String> paths, Executor executor, int maxConcurrency) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+        Objects.requireNonNull(paths);
+        Objects.requireNonNull(executor);
+        Preconditions.checkArgument(maxConcurrency > 0, "Must provide a maximum concurrency greater than zero");
+
+        Set<String> distinctPaths = new LinkedHashSet<>();
+
+        for (String path : paths) {
+            distinctPaths.add(Objects.requireNonNull(path));
+        }
+
+        Map<String, ContentResult> loaded = new ConcurrentHashMap<>();
+        Optional<String> resolved = Optional.empty();
+        RuntimeException resolveError = null;
+
+        // Resolved once for the batch, so that all files are read from the same commit
+        try {
+            resolved = resolveRef(installationToken, repositoryUrl, ref);
+        } catch (RuntimeException e) {
+            logger.debug("Error resolving {}", ref, e);
+
+            resolveError = e;
+        }
+
+        if (resolved.isPresent()) {
+            String commit = resolved.get();
+            AtomicReference<RequestLimitExceededException> rateLimitExceeded = new AtomicReference<>();
+
+            ConcurrentReads.forEach(distinctPaths, executor, maxConcurrency, path -> loaded.put(path,
+                    loadResult(installationToken, repositoryUrl, commit, path, rateLimitExceeded)));
+        } else {
+            for (String path : distinctPaths) {
+                loaded.put(path, (resolveError != null ? ContentResult.failed(path, resolveError)
+                        : ContentResult.notFound(path)));
+            }
+        }
+
+        Map<String, ContentResult> result = new LinkedHashMap<>();
+
+        for (String path : distinctPaths) {
+            result.put(path, loaded.get(path));
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Reads the raw contents of a file as per the
+     * <a href="https://docs.github.com/en/rest/repos/contents">GitHub file content API specification</a>
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @return File contents, if the file existed in the repository on the given branch/tag/commit
+     * @since 1.3.0
+     */
+    public Optional<byte[]> loadRawContents(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            String path) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+        Objects.requireNonNull(path);
+
+        if (contentCache != null) {
+            // Cached contents are shared, so callers are provided a copy they may modify
+            return resolveRef(installationToken, repositoryUrl, ref)
+                    .flatMap(resolved -> loadCached(contentCache, installationToken, repositoryUrl, resolved, path,
+                            MediaTypes.RAW, ResponseBody::bytes))
+                    .map(byte[]::clone);
+        }
+
+        byte[] result = null;
+
+        try {
+            Optional<Response> response = requestRawContents(installationToken, repositoryUrl, ref, path);
+
+            if (response.isPresent()) {
+                try (ResponseBody body = response.get().body()) {
+                    result = body.bytes();
+                }
+            }
+
+            return Optional.ofNullable(result);
+        } catch (IOException e) {
+            throw new FileContentException("Error requesting GitHub raw file content response.", e);
+        }
+    }
+
+    /**
+     * Opens a stream of the raw contents of a file as per the
+     * <a href="https://docs.github.com/en/rest/repos/contents">GitHub file content API specification</a>
+     *
+     * <p>
+     * The stream reads directly from the response, and must be closed by the caller to release the connection
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @return Stream of file contents, if the file existed in the repository on the given branch/tag/commit
+     * @since 1.3.0
+     */
+    public Optional<InputStream> openRawContents(InstallationAccessToken installationToken, String repositoryUrl,
+            String ref, String path) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+        Objects.requireNonNull(path);
+
+        try {
+            return requestRawContents(installationToken, repositoryUrl, ref, path)
+                    .map(response -> response.body().byteStream());
+        } catch (IOException e) {
+            throw new FileContentException("Error requesting GitHub raw file content response.", e);
+        }
+    }
+
+    /**
+     * Writes the raw contents of a file to a channel as per the
+     * <a href="https://docs.github.com/en/rest/repos/contents">GitHub file content API specification</a>
+     *
+     * <p>
+     * Contents are transferred through a fixed-size buffer as they are received, without holding the file in memory. The
+     * channel is not closed
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @param target
+     *            The channel to write file contents to
+     * @return The number of bytes written, if the file existed in the repository on the given branch/tag/commit
+     * @since 1.3.0
+     */
+    public OptionalLong transferRawContents(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            String path, WritableByteChannel target) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(target);
+
+        OptionalLong result = OptionalLong.empty();
+
+        try {
+            Optional<Response> response = requestRawContents(installationToken, repositoryUrl, ref, path);
+
+            if (response.isPresent()) {
+                try (ResponseBody body = response.get().body()) {
+                    result = OptionalLong.of(transfer(body.source(), target));
+                }
+            }
+
+            return result;
+        } catch (IOException e) {
+            throw new FileContentException("Error transferring GitHub raw file content response.", e);
+        }
+    }
+
+    /**
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @return The commit SHA the ref references if a resolver was provided, the ref as-is otherwise. Empty if the ref
+     *         does not exist in the repository
+     */
+    private Optional<String> resolveRef(InstallationAccessToken installationToken, String repositoryUrl, String ref) {
+        return (refResolver != null ? refResolver.resolve(installationToken, repositoryUrl, ref) : Optional.of(ref));
+    }
+
+    /**
+     * Reads the contents of a file, re-using contents previously read if they are still valid and revalidating them
+     * via conditional request otherwise
+     *
+     * @param cache
+     *            Cache of previously read contents
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @param accept
+     *            The media type to request from the server via {@code Accept} header
+     * @param reader
+     *            Reads file contents from a successful response
+     * @return File contents, if the file existed in the repository on the given branch/tag/commit
+     */
+    private Optional<byte[]> loadCached(ContentCache cache, InstallationAccessToken installationToken,
+            String repositoryUrl, String ref, String path, String accept, ContentReader reader) {
+        String key = GitHubRequests.cacheKey(installationToken, accept, createUrl(repositoryUrl, ref, path).toString());
+
+        Optional<ContentCache.Entry> cached = cache.get(key);
+        Optional<byte[]> result = Optional.empty();
+
+        if (cached.isPresent() && cache.isFresh(cached.get())) {
+            result = cached.get().getContents();
+        } else {
+            Request.Builder requestBuilder = createRequest(installationToken, repositoryUrl, ref, path, accept);
+
+            cached.flatMap(ContentCache.Entry::getEntityTag)
+                    .ifPresent(entityTag -> requestBuilder.header("If-None-Match", entityTag));
+
+            Request request = requestBuilder.build();
+
+            try (Response response = GitHubRequests.call(httpClient, request)) {
+                if (cached.isPresent() && response.code() == HTTP_NOT_MODIFIED) {
+                    result = cache.revalidated(key, cached.get()).getContents();
+                } else if (response.isSuccessful()) {
+                    try (ResponseBody body = response.body()) {
+                        result = cache.put(key, ref, reader.read(body), response.header("ETag")).getContents();
+                    }
+                } else if (response.code() == 404) {
+                    result = cache.put(key, ref, null, null).getContents();
+                } else {
+                    throw GitHubRequests.unsuccessful(response);
+                }
+            } catch (IOException e) {
+                throw new FileContentException("Error requesting or deserializing GitHub file content response.", e);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads a single file as part of a batch, capturing any error encountered
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @param rateLimitExceeded
+     *            The first rate limit error encountered by the batch, if any
+     * @return The result of reading the file
+     */
+    private ContentResult loadResult(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            String path, AtomicReference<RequestLimitExceededException> rateLimitExceeded) {
+        ContentResult result = null;
+        RequestLimitExceededException limitError = rateLimitExceeded.get();
+
+        if (limitError != null) {
+            result = ContentResult.failed(path, limitError);
+        } else {
+            try {
+                result = loadContents(installationToken, repositoryUrl, ref, path)
+                        .map(contents -> ContentResult.found(path, contents))
+                        .orElseGet(() -> ContentResult.notFound(path));
+            } catch (RequestLimitExceededException e) {
+                rateLimitExceeded.compareAndSet(null, e);
+                result = ContentResult.failed(path, e);
+            } catch (RuntimeException e) {
+                logger.debug("Error reading contents of {}", path, e);
+
+                result = ContentResult.failed(path, e);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads file contents from a JSON response body
+     *
+     * @param body
+     *            JSON-encoded response
+     * @return File contents, as UTF-8 bytes
+     * @throws IOException
+     *             If there is an error reading the response
+     */
+    private byte[] decodeContents(ResponseBody body) throws IOException {
+        String responseBody = body.string();
+
+        try {
+            return deserializeResponse(responseBody).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonSyntaxException e) {
+            logger.error("Error reading contents: {}", responseBody);
+
+            throw new FileContentException("Error requesting or deserializing GitHub file content response.", e);
+        }
+    }
+
+    /**
+     * Requests the raw contents of a file, validating the response
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @return The successful response, which must be closed by the caller, if the file existed
+     * @throws IOException
+     *             If there is an error communicating with GitHub
+     */
+    private Optional<Response> requestRawContents(InstallationAccessToken installationToken, String repositoryUrl,
+            String ref, String path) throws IOException {
+        Request request = createRequest(installationToken, repositoryUrl, ref, path, MediaTypes.RAW).build();
+
+        return GitHubRequests.execute(httpClient, request);
+    }
+
     /**
      * Generates an HTTP request representation for the given repository
      *
@@ -175,23 +685,58 @@ public class FileContentLoader {
      *            The branch/tag to read contents from
      * @param path
      *            The repository-root relative path to the configuration file to read when loading contents
-     * @return HTTP request for the repository, including authorization headers
+     * @param accept
+     *            The media type to request from the server via {@code Accept} header
+     * @return Builder for the HTTP request for the repository, including authorization headers
      */
-    private Request createRequest(InstallationAccessToken installationToken, String repositoryUrl, String ref,
-            String path) {
-        HttpUrl url = HttpUrl.parse(repositoryUrl).newBuilder()
+    private Request.Builder createRequest(InstallationAccessToken installationToken, String repositoryUrl, String ref,
+            String path, String accept) {
+        return GitHubRequests.newRequest(installationToken, createUrl(repositoryUrl, ref, path), accept, userAgent);
+    }
+
+    /**
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param path
+     *            The repository-root relative path to the file to read
+     * @return The URL of the contents of the file
+     */
+    private static HttpUrl createUrl(String repositoryUrl, String ref, String path) {
+        return HttpUrl.parse(repositoryUrl).newBuilder()
                 .addEncodedPathSegment("contents")
                 .addPathSegments(path)
                 .addQueryParameter("ref", ref)
                 .build();
+    }
 
-        return new Request.Builder()
-                .get()
-                .header("Authorization", installationToken.get())
-                .header("Accept", mediaType)
-                .header("User-Agent", userAgent)
-                .url(url)
-                .build();
+    /**
+     * Copies all content from a source to a target channel through a fixed-size buffer
+     *
+     * @param source
+     *            The channel to read content from
+     * @param target
+     *            The channel to write content to
+     * @return The number of bytes copied
+     * @throws IOException
+     *             If there is an error reading or writing content
+     */
+    static long transfer(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        long result = 0;
+
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+
+            while (buffer.hasRemaining()) {
+                result += target.write(buffer);
+            }
+
+            buffer.clear();
+        }
+
+        return result;
     }
 
     /**
@@ -209,6 +754,18 @@ public class FileContentLoader {
         return decodeFileContent(content.getEncoding(), content.getContent());
     }
 
+    /**
+     * Reads file contents from a successful response
+     *
+     * @author romeara
+     */
+    @FunctionalInterface
+    private interface ContentReader {
+
+        byte[] read(ResponseBody body) throws IOException;
+
+    }
+
     /**
      * Represents JSON structure provided by GitHub for file contents
      *
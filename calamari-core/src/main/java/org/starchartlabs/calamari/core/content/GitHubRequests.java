@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.calamari.core.ResponseConditions;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitTracker;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Handles building and validating requests for repository contents made on behalf of a GitHub App installation
+ *
+ * @author romeara
+ */
+final class GitHubRequests {
+
+    /**
+     * Prevent instantiation of utility class
+     */
+    private GitHubRequests() throws InstantiationException {
+        throw new InstantiationException("Cannot instantiate instance of utility class '" + getClass().getName() + "'");
+    }
+
+    /**
+     * Generates an HTTP request representation for the given resource
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param url
+     *            The URL of the resource to request
+     * @param accept
+     *            The media type to request from the server via {@code Accept} header, or null to accept the server's
+     *            default
+     * @param userAgent
+     *            The user agent to make web requests as
+     * @return Builder for the HTTP request, including authorization headers and rate limit scope
+     */
+    static Request.Builder newRequest(InstallationAccessToken installationToken, HttpUrl url, @Nullable String accept,
+            String userAgent) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(url);
+        Objects.requireNonNull(userAgent);
+
+        Request.Builder request = new Request.Builder()
+                .get()
+                .header("Authorization", installationToken.get());
+
+        if (accept != null) {
+            request.header("Accept", accept);
+        }
+
+        request.header("User-Agent", userAgent)
+                .url(url);
+
+        return RateLimitTracker.withScope(request,
+                RateLimitTracker.installationScope(installationToken.getInstallationAccessTokenUrl()));
+    }
+
+    /**
+     * Executes a request, recording the rate limit reported in the response
+     *
+     * @param httpClient
+     *            Client to make HTTP requests with
+     * @param request
+     *            The request to execute
+     * @return The response, which must be closed by the caller
+     * @throws IOException
+     *             If there is an error communicating with GitHub
+     */
+    static Response call(OkHttpClient httpClient, Request request) throws IOException {
+        Response response = httpClient.newCall(request).execute();
+
+        RateLimitTracker.getDefault().record(RateLimitTracker.getScope(request), response);
+
+        return response;
+    }
+
+    /**
+     * Executes a request, validating the response
+     *
+     * @param httpClient
+     *            Client to make HTTP requests with
+     * @param request
+     *            The request to execute
+     * @return The successful response, which must be closed by the caller, or empty if the requested resource does not
+     *         exist
+     * @throws IOException
+     *             If there is an error communicating with GitHub
+     */
+    static Optional<Response> execute(OkHttpClient httpClient, Request request) throws IOException {
+        Response response = call(httpClient, request);
+        Optional<Response> result = Optional.empty();
+
+        if (response.isSuccessful()) {
+            result = Optional.of(response);
+        } else {
+            try {
+                if (response.code() != 404) {
+                    throw unsuccessful(response);
+                }
+            } finally {
+                response.close();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Describes a response GitHub did not successfully fulfill
+     *
+     * @param response
+     *            The unsuccessful response
+     * @return Exception describing the unsuccessful response, to be thrown by the caller
+     * @throws org.starchartlabs.calamari.core.exception.RequestLimitExceededException
+     *             If the response indicates the installation's rate limit was exceeded
+     */
+    static GitHubResponseException unsuccessful(Response response) {
+        ResponseConditions.checkRateLimit(response);
+
+        return new GitHubResponseException(
+                "Request unsuccessful (" + response.code() + " - " + response.message() + ")");
+    }
+
+    /**
+     * Generates a key for retaining results of requests made on behalf of an installation
+     *
+     * <p>
+     * Keys are built from the installation rather than the token, so retained results may be provided without renewing
+     * the token
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param parts
+     *            Values identifying the result within the installation
+     * @return Key for the result
+     */
+    static String cacheKey(InstallationAccessToken installationToken, String... parts) {
+        Objects.requireNonNull(installationToken);
+
+        return Stream.concat(
+                Stream.of(RateLimitTracker.installationScope(installationToken.getInstallationAccessTokenUrl())),
+                Stream.of(parts))
+                .collect(Collectors.joining("\n"));
+    }
+
+}
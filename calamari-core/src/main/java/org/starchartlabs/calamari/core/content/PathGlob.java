@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Matches repository-root relative file paths against a glob pattern
+ *
+ * <p>
+ * Paths are separated by {@code /} regardless of platform. The following are supported:
+ * <ul>
+ * <li>{@code *} matches any characters within a single path segment</li>
+ * <li>{@code ?} matches a single character within a path segment</li>
+ * <li>{@code **} matches any characters across path segments - {@code **}{@code /} also matches no directories, so
+ * {@code **}{@code /*.yml} matches {@code a.yml} as well as {@code a/b.yml}</li>
+ * <li>{@code {a,b}} matches any one of the comma-separated alternatives</li>
+ * </ul>
+ *
+ * <p>
+ * All other characters match themselves. A leading {@code /} is ignored
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class PathGlob implements Predicate<String> {
+
+    private static final String WILDCARDS = "*?{";
+
+    private final String glob;
+
+    private final Pattern pattern;
+
+    // Leading directories which contain every match, ending with a separator if not empty
+    private final String literalDirectory;
+
+    /**
+     * @param glob
+     *            Glob pattern to match repository-root relative paths against
+     * @since 1.3.0
+     */
+    public PathGlob(String glob) {
+        Objects.requireNonNull(glob);
+
+        this.glob = (glob.startsWith("/") ? glob.substring(1) : glob);
+
+        Preconditions.checkArgument(!this.glob.isEmpty(), "Must provide a non-empty glob pattern");
+
+        pattern = Pattern.compile(toRegex(this.glob));
+        literalDirectory = getLiteralDirectory(this.glob);
+    }
+
+    /**
+     * @param path
+     *            Repository-root relative path of a file
+     * @return True if the path matches the glob pattern
+     * @since 1.3.0
+     */
+    @Override
+    public boolean test(String path) {
+        Objects.requireNonNull(path);
+
+        return pattern.matcher(path.startsWith("/") ? path.substring(1) : path).matches();
+    }
+
+    /**
+     * Determines if files within a directory could match the glob pattern, allowing directories which cannot contain
+     * matches to be skipped
+     *
+     * @param directory
+     *            Repository-root relative path of a directory
+     * @return True if files within the directory, or its sub-directories, may match the glob pattern
+     * @since 1.3.0
+     */
+    public boolean mayMatchWithin(String directory) {
+        Objects.requireNonNull(directory);
+
+        String normalized = (directory.startsWith("/") ? directory.substring(1) : directory);
+        normalized = (normalized.isEmpty() || normalized.endsWith("/") ? normalized : normalized + "/");
+
+        return normalized.startsWith(literalDirectory) || literalDirectory.startsWith(normalized);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(glob);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof PathGlob) {
+            PathGlob compare = (PathGlob) obj;
+
+            result = Objects.equals(compare.glob, glob);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("glob", glob)
+                .toString();
+    }
+
+    private static String toRegex(String glob) {
+        StringBuilder result = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        boolean inAlternatives = false;
+        int index = 0;
+
+        while (index < glob.length()) {
+            char current = glob.charAt(index);
+            String special = null;
+
+            if (glob.startsWith("**/", index)) {
+                special = "(?:.*/)?";
+                index += 3;
+            } else if (glob.startsWith("**", index)) {
+                special = ".*";
+                index += 2;
+            } else if (current == '*') {
+                special = "[^/]*";
+                index++;
+            } else if (current == '?') {
+                special = "[^/]";
+                index++;
+            } else if (current == '{' && !inAlternatives) {
+                special = "(?:";
+                inAlternatives = true;
+                index++;
+            } else if (current == ',' && inAlternatives) {
+                special = "|";
+                index++;
+            } else if (current == '}' && inAlternatives) {
+                special = ")";
+                inAlternatives = false;
+                index++;
+            } else {
+                literal.append(current);
+                index++;
+            }
+
+            if (special != null) {
+                appendLiteral(result, literal);
+                result.append(special);
+            }
+        }
+
+        Preconditions.checkArgument(!inAlternatives, "Glob pattern contains an unclosed '{': " + glob);
+
+        appendLiteral(result, literal);
+
+        return result.toString();
+    }
+
+    private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    private static String getLiteralDirectory(String glob) {
+        int wildcard = glob.length();
+
+        for (int i = 0; i < glob.length(); i++) {
+            if (WILDCARDS.indexOf(glob.charAt(i)) >= 0) {
+                wildcard = i;
+                break;
+            }
+        }
+
+        return glob.substring(0, glob.lastIndexOf('/', wildcard - 1) + 1);
+    }
+
+}
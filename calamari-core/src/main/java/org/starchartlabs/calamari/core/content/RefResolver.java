@@ -0,0 +1,589 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiPredicate;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.exception.FileContentException;
+import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Resolves branch and tag names to the commit SHA they currently reference, so that contents may be read and cached
+ * at an immutable commit
+ *
+ * <p>
+ * Resolutions are retained for a short time-to-live, after which they are revalidated with a
+ * <a href="https://docs.github.com/en/rest/overview/resources-in-the-rest-api#conditional-requests">conditional
+ * request</a> - revalidations answered with {@code 304 Not Modified} do not count against GitHub's rate limit. Full
+ * commit SHAs are provided as-is, without a request. Concurrent resolutions of the same ref share a single request to
+ * GitHub
+ *
+ * <p>
+ * When a branch or tag is updated (as described by GitHub {@code push} webhook events), clients should call
+ * {@link #invalidate(String, String)} with the event's {@code repository.full_name} and {@code ref}, so subsequent
+ * resolutions are not served a stale commit
+ *
+ * <p>
+ * A single resolver may be shared by many loaders, and is safe for use by multiple threads
+ *
+ * <p>
+ * If used by a GitHub App, access to the GitHub APIs used requires "contents:read" permission
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class RefResolver {
+
+    /** Default maximum number of resolutions retained */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    /** Default amount of time to use a resolution before revalidating it */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+
+    private static final String[] REF_PREFIXES = { "refs/heads/", "refs/tags/", "heads/", "tags/" };
+
+    private final OkHttpClient httpClient;
+
+    private final String userAgent;
+
+    private final int maximumSize;
+
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    // Access-ordered, so iteration begins with the least recently used resolution
+    private final LinkedHashMap<String, Entry> entries;
+
+    // Lookups awaiting a response from GitHub, by key. Guarded by the lock on entries
+    private final Map<String, Lookup> lookups;
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @since 1.3.0
+     */
+    public RefResolver(String userAgent) {
+        this(userAgent, HttpClients.getDefault());
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @since 1.3.0
+     */
+    public RefResolver(String userAgent, OkHttpClient httpClient) {
+        this(userAgent, httpClient, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param maximumSize
+     *            The maximum number of resolutions to retain. Must be greater than zero
+     * @param timeToLive
+     *            The amount of time to use a resolution before revalidating it. Must be zero or greater
+     * @since 1.3.0
+     */
+    public RefResolver(String userAgent, OkHttpClient httpClient, int maximumSize, Duration timeToLive) {
+        this(userAgent, httpClient, maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param maximumSize
+     *            The maximum number of resolutions to retain. Must be greater than zero
+     * @param timeToLive
+     *            The amount of time to use a resolution before revalidating it. Must be zero or greater
+     * @param clock
+     *            Clock used to determine when resolutions must be revalidated
+     * @since 1.3.0
+     */
+    public RefResolver(String userAgent, OkHttpClient httpClient, int maximumSize, Duration timeToLive, Clock clock) {
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+        this.clock = Objects.requireNonNull(clock);
+
+        Preconditions.checkArgument(maximumSize > 0, "Must provide a maximum size greater than zero");
+        Preconditions.checkArgument(!timeToLive.isNegative(), "Must provide a time-to-live of zero or greater");
+
+        this.maximumSize = maximumSize;
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        lookups = new HashMap<>();
+    }
+
+    /**
+     * Determines the commit SHA a branch, tag, or commit currently references, re-using a previous resolution if it is
+     * still valid
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to resolve the ref in
+     * @param ref
+     *            The branch/tag/commit to resolve
+     * @return The full SHA of the referenced commit, if the ref existed in the repository
+     * @since 1.3.0
+     */
+    public Optional<String> resolve(InstallationAccessToken installationToken, String repositoryUrl, String ref) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+
+        if (ContentCache.isCommitSha(ref)) {
+            return Optional.of(ref);
+        }
+
+        String repository = getRepositoryName(repositoryUrl);
+
+        String key = GitHubRequests.cacheKey(installationToken, repository, ref);
+
+        Entry cached = null;
+        Lookup lookup = null;
+        boolean registered = false;
+
+        synchronized (entries) {
+            cached = entries.get(key);
+
+            if (cached == null || !clock.instant().isBefore(cached.getExpiresAt())) {
+                lookup = lookups.get(key);
+
+                if (lookup == null) {
+                    lookup = new Lookup(repository, ref);
+                    lookups.put(key, lookup);
+                    registered = true;
+                }
+            }
+        }
+
+        Optional<String> result = null;
+
+        if (lookup == null) {
+            result = Optional.of(cached.getSha());
+        } else if (registered) {
+            // The caller which registered the lookup performs it - others wait on its result
+            result = load(installationToken, repositoryUrl, key, cached, lookup);
+        } else {
+            result = lookup.await();
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes the resolution of a branch or tag, in all installations. Should be used when a branch or tag is updated
+     * or deleted
+     *
+     * @param repositoryFullName
+     *            The full name of the repository, in the form {@code owner/name}
+     * @param ref
+     *            The updated branch or tag. Fully qualified refs, such as {@code refs/heads/main} provided by
+     *            {@code push} webhook events, are supported
+     * @since 1.3.0
+     */
+    public void invalidate(String repositoryFullName, String ref) {
+        Objects.requireNonNull(repositoryFullName);
+        Objects.requireNonNull(ref);
+
+        String repository = repositoryFullName.toLowerCase(Locale.ROOT);
+        String name = getShortName(ref);
+
+        invalidateIf((entryRepository, entryRef) -> Objects.equals(entryRepository, repository)
+                && Objects.equals(getShortName(entryRef), name));
+    }
+
+    /**
+     * Removes the resolutions of all branches and tags of a repository, in all installations
+     *
+     * @param repositoryFullName
+     *            The full name of the repository, in the form {@code owner/name}
+     * @since 1.3.0
+     */
+    public void invalidateRepository(String repositoryFullName) {
+        Objects.requireNonNull(repositoryFullName);
+
+        String repository = repositoryFullName.toLowerCase(Locale.ROOT);
+
+        invalidateIf((entryRepository, entryRef) -> Objects.equals(entryRepository, repository));
+    }
+
+    /**
+     * Removes all retained resolutions
+     *
+     * @since 1.3.0
+     */
+    public void invalidateAll() {
+        invalidateIf((entryRepository, entryRef) -> true);
+    }
+
+    /**
+     * @return The number of resolutions currently retained
+     * @since 1.3.0
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("userAgent", userAgent)
+                .add("maximumSize", maximumSize)
+                .add("timeToLive", timeToLive)
+                .toString();
+    }
+
+    /**
+     * Performs a lookup registered by the calling thread, and makes the result available to all waiting callers
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to resolve the ref in
+     * @param key
+     *            The key the resolution is retained under
+     * @param cached
+     *            The previous resolution, if any
+     * @param lookup
+     *            The registered lookup to complete
+     * @return The full SHA of the referenced commit, if the ref existed in the repository
+     */
+    private Optional<String> load(InstallationAccessToken installationToken, String repositoryUrl, String key,
+            @Nullable Entry cached, Lookup lookup) {
+        try {
+            Optional<String> result = request(installationToken, repositoryUrl, key, cached, lookup);
+            lookup.complete(result);
+
+            return result;
+        } catch (RuntimeException | Error e) {
+            // Waiting callers are always released, as they wait without a timeout
+            lookup.fail(e);
+
+            throw e;
+        } finally {
+            synchronized (entries) {
+                lookups.remove(key, lookup);
+            }
+        }
+    }
+
+    /**
+     * Requests the commit a ref references, conditionally if a previous resolution is available
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to resolve the ref in
+     * @param key
+     *            The key the resolution is retained under
+     * @param cached
+     *            The previous resolution, if any
+     * @param lookup
+     *            The lookup the request is made for
+     * @return The full SHA of the referenced commit, if the ref existed in the repository
+     */
+    private Optional<String> request(InstallationAccessToken installationToken, String repositoryUrl, String key,
+            @Nullable Entry cached, Lookup lookup) {
+        String repository = lookup.getRepository();
+        String ref = lookup.getRef();
+
+        HttpUrl url = HttpUrl.parse(repositoryUrl).newBuilder()
+                .addEncodedPathSegment("commits")
+                .addPathSegments(ref)
+                .build();
+
+        Request.Builder requestBuilder = GitHubRequests.newRequest(installationToken, url, MediaTypes.SHA, userAgent);
+
+        if (cached != null && cached.getEntityTag() != null) {
+            requestBuilder.header("If-None-Match", cached.getEntityTag());
+        }
+
+        Request request = requestBuilder.build();
+
+        try (Response response = GitHubRequests.call(httpClient, request)) {
+            Optional<String> result = Optional.empty();
+            Instant expiresAt = clock.instant().plus(timeToLive);
+
+            if (cached != null && response.code() == HTTP_NOT_MODIFIED) {
+                store(key, lookup, new Entry(repository, ref, cached.getSha(), cached.getEntityTag(), expiresAt));
+                result = Optional.of(cached.getSha());
+            } else if (response.isSuccessful()) {
+                try (ResponseBody body = response.body()) {
+                    String sha = body.string().trim();
+
+                    if (!ContentCache.isCommitSha(sha)) {
+                        throw new GitHubResponseException("Unexpected commit SHA response from GitHub");
+                    }
+
+                    store(key, lookup, new Entry(repository, ref, sha, response.header("ETag"), expiresAt));
+                    result = Optional.of(sha);
+                }
+            } else if (response.code() == 404 || response.code() == HTTP_UNPROCESSABLE_ENTITY) {
+                // GitHub reports refs which do not exist as unprocessable, as they may be partial commit SHAs
+                synchronized (entries) {
+                    entries.remove(key);
+                }
+            } else {
+                throw GitHubRequests.unsuccessful(response);
+            }
+
+            return result;
+        } catch (IOException e) {
+            throw new FileContentException("Error requesting GitHub commit SHA response.", e);
+        }
+    }
+
+    /**
+     * Retains a resolution, unless the ref was invalidated while it was being looked up - in which case the resolution
+     * may describe the commit referenced before a push
+     *
+     * @param key
+     *            The key to retain the resolution under
+     * @param lookup
+     *            The lookup which produced the resolution
+     * @param entry
+     *            The resolution to retain
+     */
+    private void store(String key, Lookup lookup, Entry entry) {
+        synchronized (entries) {
+            if (!lookup.isInvalidated()) {
+                entries.put(key, entry);
+
+                Iterator<Entry> iterator = entries.values().iterator();
+
+                while (entries.size() > maximumSize && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes retained resolutions, and prevents lookups in progress from being retained or joined by later callers, for
+     * refs matching a condition
+     *
+     * @param condition
+     *            Condition on the normalized repository name and ref which determines if a resolution is invalidated
+     */
+    private void invalidateIf(BiPredicate<String, String> condition) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> condition.test(entry.getRepository(), entry.getRef()));
+
+            Iterator<Lookup> iterator = lookups.values().iterator();
+
+            while (iterator.hasNext()) {
+                Lookup lookup = iterator.next();
+
+                if (condition.test(lookup.getRepository(), lookup.getRef())) {
+                    lookup.invalidate();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param repositoryUrl
+     *            The API URL of a repository, such as {@code https://api.github.com/repos/owner/name}
+     * @return The full name of the repository, in lower case as GitHub names are not case sensitive
+     */
+    private static String getRepositoryName(String repositoryUrl) {
+        List<String> segments = HttpUrl.get(repositoryUrl).pathSegments();
+        int index = segments.lastIndexOf("repos");
+
+        String result = (index >= 0 && index + 2 < segments.size()
+                ? segments.get(index + 1) + "/" + segments.get(index + 2)
+                : repositoryUrl);
+
+        return result.toLowerCase(Locale.ROOT);
+    }
+
+    private static String getShortName(String ref) {
+        String result = ref;
+
+        for (String prefix : REF_PREFIXES) {
+            if (result.startsWith(prefix)) {
+                result = result.substring(prefix.length());
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Represents a resolution, and the point in time it must be revalidated
+     *
+     * @author romeara
+     */
+    private static final class Entry {
+
+        private final String repository;
+
+        private final String ref;
+
+        private final String sha;
+
+        @Nullable
+        private final String entityTag;
+
+        private final Instant expiresAt;
+
+        public Entry(String repository, String ref, String sha, @Nullable String entityTag, Instant expiresAt) {
+            this.repository = Objects.requireNonNull(repository);
+            this.ref = Objects.requireNonNull(ref);
+            this.sha = Objects.requireNonNull(sha);
+            this.entityTag = entityTag;
+            this.expiresAt = Objects.requireNonNull(expiresAt);
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        public String getRef() {
+            return ref;
+        }
+
+        public String getSha() {
+            return sha;
+        }
+
+        @Nullable
+        public String getEntityTag() {
+            return entityTag;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+    }
+
+    /**
+     * Represents a lookup awaiting a response from GitHub, whether its ref was invalidated in the meantime, and the
+     * result provided to callers waiting on it
+     *
+     * @author romeara
+     */
+    private static final class Lookup {
+
+        private final String repository;
+
+        private final String ref;
+
+        private final CompletableFuture<Optional<String>> result;
+
+        private boolean invalidated;
+
+        public Lookup(String repository, String ref) {
+            this.repository = Objects.requireNonNull(repository);
+            this.ref = Objects.requireNonNull(ref);
+
+            result = new CompletableFuture<>();
+            invalidated = false;
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        public String getRef() {
+            return ref;
+        }
+
+        public boolean isInvalidated() {
+            return invalidated;
+        }
+
+        public void invalidate() {
+            invalidated = true;
+        }
+
+        public void complete(Optional<String> sha) {
+            result.complete(sha);
+        }
+
+        public void fail(Throwable error) {
+            result.completeExceptionally(error);
+        }
+
+        public Optional<String> await() {
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new FileContentException("Interrupted while waiting for GitHub commit SHA response.", e);
+            } catch (ExecutionException | CompletionException e) {
+                Throwable cause = e.getCause();
+
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw new FileContentException("Error requesting GitHub commit SHA response.", cause);
+            }
+        }
+
+    }
+
+}
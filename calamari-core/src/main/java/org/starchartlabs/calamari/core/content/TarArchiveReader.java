@@ -0,0 +1,406 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads entries from a tar archive as they are received, without retaining the archive in memory
+ *
+ * <p>
+ * Supports the ustar format with POSIX (pax) and GNU long path extensions, as produced by {@code git archive} and
+ * GitHub's tarball API. Contents of each entry must be read before advancing to the next entry - contents not read are
+ * skipped
+ *
+ * @author romeara
+ */
+final class TarArchiveReader implements Closeable {
+
+    private static final int BLOCK_SIZE = 512;
+
+    private static final int NAME_OFFSET = 0;
+
+    private static final int NAME_LENGTH = 100;
+
+    private static final int SIZE_OFFSET = 124;
+
+    private static final int SIZE_LENGTH = 12;
+
+    private static final int CHECKSUM_OFFSET = 148;
+
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private static final int TYPE_OFFSET = 156;
+
+    private static final int MAGIC_OFFSET = 257;
+
+    private static final int MAGIC_LENGTH = 6;
+
+    private static final int PREFIX_OFFSET = 345;
+
+    private static final int PREFIX_LENGTH = 155;
+
+    private static final char TYPE_PAX_HEADER = 'x';
+
+    private static final char TYPE_PAX_GLOBAL_HEADER = 'g';
+
+    private static final char TYPE_GNU_LONG_NAME = 'L';
+
+    private final InputStream source;
+
+    // Unread bytes of the current entry, and the padding following them
+    private long remaining;
+
+    private long padding;
+
+    /**
+     * @param source
+     *            Stream of uncompressed archive contents. Closed when the reader is closed
+     */
+    TarArchiveReader(InputStream source) {
+        this.source = Objects.requireNonNull(source);
+
+        remaining = 0;
+        padding = 0;
+    }
+
+    /**
+     * Advances to the next entry of the archive, skipping any unread contents of the current entry
+     *
+     * @return The next entry, or empty if the end of the archive has been reached
+     * @throws IOException
+     *             If there is an error reading the archive, or it is not a valid tar archive
+     */
+    Optional<Entry> next() throws IOException {
+        Entry result = null;
+        String extendedName = null;
+        boolean end = false;
+
+        while (result == null && !end) {
+            skip(remaining + padding);
+            remaining = 0;
+            padding = 0;
+
+            byte[] header = readHeader();
+
+            if (header == null) {
+                end = true;
+            } else {
+                long size = parseNumber(header, SIZE_OFFSET, SIZE_LENGTH);
+                char type = (char) header[TYPE_OFFSET];
+
+                remaining = size;
+                padding = (BLOCK_SIZE - (size % BLOCK_SIZE)) % BLOCK_SIZE;
+
+                if (type == TYPE_PAX_HEADER) {
+                    String path = parsePaxPath(readContents());
+                    extendedName = (path != null ? path : extendedName);
+                } else if (type == TYPE_GNU_LONG_NAME) {
+                    extendedName = trimNul(new String(readContents(), StandardCharsets.UTF_8));
+                } else if (type != TYPE_PAX_GLOBAL_HEADER) {
+                    result = new Entry(extendedName != null ? extendedName : parseName(header), size, type);
+                }
+            }
+        }
+
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * @return Stream of the contents of the current entry. Closing the stream does not close the archive
+     */
+    InputStream openEntry() {
+        return new EntryInputStream();
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    /**
+     * @return The next header block, or null if the end of the archive has been reached
+     * @throws IOException
+     *             If there is an error reading the archive, or the header is not valid
+     */
+    @Nullable
+    private byte[] readHeader() throws IOException {
+        byte[] header = new byte[BLOCK_SIZE];
+        int read = readFully(header, 0, BLOCK_SIZE);
+        byte[] result = null;
+
+        // Archives are terminated by blocks of zeros, though some writers omit them
+        if (read == BLOCK_SIZE && !isZeros(header)) {
+            long expected = parseNumber(header, CHECKSUM_OFFSET, CHECKSUM_LENGTH);
+
+            if (expected != computeChecksum(header)) {
+                throw new IOException("Invalid tar header checksum");
+            }
+
+            result = header;
+        } else if (read > 0 && read < BLOCK_SIZE) {
+            throw new EOFException("Unexpected end of tar archive");
+        }
+
+        return result;
+    }
+
+    private byte[] readContents() throws IOException {
+        if (remaining > Integer.MAX_VALUE) {
+            throw new IOException("Tar extended header too large");
+        }
+
+        byte[] result = new byte[(int) remaining];
+
+        if (readFully(result, 0, result.length) < result.length) {
+            throw new EOFException("Unexpected end of tar archive");
+        }
+
+        remaining = 0;
+
+        return result;
+    }
+
+    private int readFully(byte[] buffer, int offset, int length) throws IOException {
+        int total = 0;
+
+        while (total < length) {
+            int read = source.read(buffer, offset + total, length - total);
+
+            if (read < 0) {
+                break;
+            }
+
+            total += read;
+        }
+
+        return total;
+    }
+
+    private void skip(long count) throws IOException {
+        byte[] buffer = new byte[BLOCK_SIZE];
+        long left = count;
+
+        // InputStream.skip may skip fewer bytes than requested without reaching the end of the stream
+        while (left > 0) {
+            int read = source.read(buffer, 0, (int) Math.min(buffer.length, left));
+
+            if (read < 0) {
+                throw new EOFException("Unexpected end of tar archive");
+            }
+
+            left -= read;
+        }
+    }
+
+    private static String parseName(byte[] header) {
+        String name = parseString(header, NAME_OFFSET, NAME_LENGTH);
+        // Only POSIX ustar headers have a prefix - the same location is used for other fields by older GNU headers
+        if (Objects.equals(parseString(header, MAGIC_OFFSET, MAGIC_LENGTH), "ustar") && header[MAGIC_OFFSET + 5] == 0) {
+            String prefix = parseString(header, PREFIX_OFFSET, PREFIX_LENGTH);
+
+            name = (prefix.isEmpty() ? name : prefix + "/" + name);
+        }
+
+        return name;
+    }
+
+    @Nullable
+    private static String parsePaxPath(byte[] contents) throws IOException {
+        String result = null;
+        int position = 0;
+
+        // Records are of the form "<length> <key>=<value>\n", where length includes the entire record
+        while (position < contents.length) {
+            int space = position;
+
+            while (space < contents.length && contents[space] != ' ') {
+                space++;
+            }
+
+            int length;
+
+            try {
+                length = Integer.parseInt(new String(contents, position, space - position, StandardCharsets.UTF_8));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid tar extended header record", e);
+            }
+
+            if (length <= space - position || position + length > contents.length) {
+                throw new IOException("Invalid tar extended header record length");
+            }
+
+            String record = new String(contents, space + 1, position + length - space - 2, StandardCharsets.UTF_8);
+
+            if (record.startsWith("path=")) {
+                result = record.substring("path=".length());
+            }
+
+            position += length;
+        }
+
+        return result;
+    }
+
+    private static long parseNumber(byte[] header, int offset, int length) throws IOException {
+        long result = 0;
+
+        // Values too large for octal are stored as big-endian binary, indicated by the high bit of the first byte
+        if ((header[offset] & 0x80) != 0) {
+            result = header[offset] & 0x7F;
+
+            for (int i = offset + 1; i < offset + length; i++) {
+                result = (result << 8) | (header[i] & 0xFF);
+            }
+        } else {
+            String value = parseString(header, offset, length).trim();
+
+            try {
+                result = (value.isEmpty() ? 0 : Long.parseLong(value, 8));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid numeric field in tar header", e);
+            }
+        }
+
+        return result;
+    }
+
+    private static String parseString(byte[] header, int offset, int length) {
+        int end = offset;
+
+        while (end < offset + length && header[end] != 0) {
+            end++;
+        }
+
+        return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private static String trimNul(String value) {
+        int end = value.indexOf('\0');
+
+        return (end >= 0 ? value.substring(0, end) : value);
+    }
+
+    private static long computeChecksum(byte[] header) {
+        long result = 0;
+
+        for (int i = 0; i < header.length; i++) {
+            // The checksum field itself is counted as spaces
+            boolean checksumField = (i >= CHECKSUM_OFFSET && i < CHECKSUM_OFFSET + CHECKSUM_LENGTH);
+
+            result += (checksumField ? ' ' : header[i] & 0xFF);
+        }
+
+        return result;
+    }
+
+    private static boolean isZeros(byte[] block) {
+        boolean result = true;
+
+        for (int i = 0; result && i < block.length; i++) {
+            result = (block[i] == 0);
+        }
+
+        return result;
+    }
+
+    /**
+     * Represents a single entry of a tar archive
+     *
+     * @author romeara
+     */
+    static final class Entry {
+
+        private static final char TYPE_FILE = '0';
+
+        private static final char TYPE_FILE_LEGACY = '\0';
+
+        private static final char TYPE_CONTIGUOUS_FILE = '7';
+
+        private final String name;
+
+        private final long size;
+
+        private final char type;
+
+        private Entry(String name, long size, char type) {
+            this.name = Objects.requireNonNull(name);
+            this.size = size;
+            this.type = type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * @return True if the entry is a regular file, as opposed to a directory, link, or other special entry
+         */
+        public boolean isFile() {
+            return type == TYPE_FILE || type == TYPE_FILE_LEGACY || type == TYPE_CONTIGUOUS_FILE;
+        }
+
+    }
+
+    /**
+     * Reads the contents of the current entry
+     *
+     * @author romeara
+     */
+    private final class EntryInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+
+            return (read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int result = -1;
+
+            if (length == 0) {
+                result = 0;
+            } else if (remaining > 0) {
+                result = source.read(buffer, offset, (int) Math.min(length, remaining));
+
+                if (result < 0) {
+                    throw new EOFException("Unexpected end of tar archive");
+                }
+
+                remaining -= result;
+            }
+
+            return result;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(source.available(), remaining);
+        }
+
+        @Override
+        public void close() {
+            // Remaining contents are skipped when advancing to the next entry
+        }
+
+    }
+
+}
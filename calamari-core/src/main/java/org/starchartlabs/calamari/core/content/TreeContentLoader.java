@@ -0,0 +1,598 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.content;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.exception.FileContentException;
+import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Reads the contents of all files matching a {@link PathGlob glob pattern} from a GitHub repository, such as every file
+ * under {@code .github/}, in as few requests as possible
+ *
+ * <p>
+ * Files are located with a single recursive request to the
+ * <a href="https://docs.github.com/en/rest/git/trees">Git trees API</a>, and only matching files are then read via the
+ * <a href="https://docs.github.com/en/rest/git/blobs">Git blobs API</a>, concurrently. Files with identical contents
+ * share a blob, and are read once
+ *
+ * <p>
+ * GitHub limits the size of recursive tree listings, indicating an incomplete listing via a {@code truncated} flag. When
+ * a listing is truncated, the directory is instead listed without recursion, and each sub-directory which may contain
+ * matching files is listed recursively in the same way, concurrently
+ *
+ * <p>
+ * Loaders constructed with a {@link ContentCache} retain blob contents, which can never change for a given blob SHA.
+ * Blobs which have been retained are not requested again, even when read at a different branch/tag/commit. Symbolic
+ * links and sub-modules are not read
+ *
+ * <p>
+ * If used by a GitHub App, access to the GitHub APIs used requires "contents:read" permission
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class TreeContentLoader {
+
+    /** Default maximum number of requests made concurrently by a single read */
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    private static final String TYPE_BLOB = "blob";
+
+    private static final String TYPE_TREE = "tree";
+
+    private static final String MODE_SYMBOLIC_LINK = "120000";
+
+    private final OkHttpClient httpClient;
+
+    private final String userAgent;
+
+    private final String mediaType;
+
+    @Nullable
+    private final ContentCache contentCache;
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @since 1.3.0
+     */
+    public TreeContentLoader(String userAgent) {
+        this(userAgent, MediaTypes.APP_PREVIEW);
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header when listing trees
+     * @since 1.3.0
+     */
+    public TreeContentLoader(String userAgent, String mediaType) {
+        this(userAgent, mediaType, HttpClients.getDefault());
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header when listing trees
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @since 1.3.0
+     */
+    public TreeContentLoader(String userAgent, String mediaType, OkHttpClient httpClient) {
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.httpClient = Objects.requireNonNull(httpClient);
+
+        contentCache = null;
+    }
+
+    /**
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header when listing trees
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param contentCache
+     *            Cache used to retain blob contents. May be shared between loaders
+     * @since 1.3.0
+     */
+    public TreeContentLoader(String userAgent, String mediaType, OkHttpClient httpClient, ContentCache contentCache) {
+        this.userAgent = Objects.requireNonNull(userAgent);
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.contentCache = Objects.requireNonNull(contentCache);
+    }
+
+    /**
+     * Reads the contents of all files matching a glob pattern
+     *
+     * <p>
+     * At most {@link #DEFAULT_CONCURRENCY} requests are made at once. See
+     * {@link #loadContents(InstallationAccessToken, String, String, PathGlob, Executor, int)}
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param glob
+     *            Pattern repository-root relative file paths must match to be read
+     * @param executor
+     *            The executor to make requests on. Requests perform blocking network operations
+     * @return File contents by repository-root relative path, sorted by path, if the branch/tag/commit existed in the
+     *         repository
+     * @since 1.3.0
+     */
+    public Optional<Map<String, byte[]>> loadContents(InstallationAccessToken installationToken, String repositoryUrl,
+            String ref, PathGlob glob, Executor executor) {
+        return loadContents(installationToken, repositoryUrl, ref, glob, executor, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Reads the contents of all files matching a glob pattern
+     *
+     * <p>
+     * Requests are made on the provided executor, with at most {@code maxConcurrency} requests made at once - the
+     * executor may be shared with other work, and does not need to be bounded itself. If any file cannot be read, an
+     * exception is thrown once requests in progress have completed
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read file contents from
+     * @param ref
+     *            The branch/tag/commit to read contents from
+     * @param glob
+     *            Pattern repository-root relative file paths must match to be read
+     * @param executor
+     *            The executor to make requests on. Requests perform blocking network operations
+     * @param maxConcurrency
+     *            The maximum number of requests to make at once. Must be greater than zero
+     * @return File contents by repository-root relative path, sorted by path, if the branch/tag/commit existed in the
+     *         repository
+     * @since 1.3.0
+     */
+    public Optional<Map<String, byte[]>> loadContents(InstallationAccessToken installationToken, String repositoryUrl,
+            String ref, PathGlob glob, Executor executor, int maxConcurrency) {
+        Objects.requireNonNull(installationToken);
+        Objects.requireNonNull(repositoryUrl);
+        Objects.requireNonNull(ref);
+        Objects.requireNonNull(glob);
+        Objects.requireNonNull(executor);
+        Preconditions.checkArgument(maxConcurrency > 0, "Must provide a maximum concurrency greater than zero");
+
+        // Matching file paths, by the SHA of the blob storing their contents
+        Map<String, Queue<String>> pathsByBlob = new ConcurrentHashMap<>();
+        Optional<List<Subtree>> pending = listTree(installationToken, repositoryUrl, new Subtree("", ref), glob,
+                pathsByBlob);
+
+        if (!pending.isPresent()) {
+            return Optional.empty();
+        }
+
+        // Descend into sub-directories of truncated listings one level at a time
+        List<Subtree> subtrees = pending.get();
+
+        while (!subtrees.isEmpty()) {
+            Queue<Subtree> next = new ConcurrentLinkedQueue<>();
+
+            ConcurrentReads.forEach(subtrees, executor, maxConcurrency,
+                    subtree -> next.addAll(listTree(installationToken, repositoryUrl, subtree, glob, pathsByBlob)
+                            .orElseThrow(() -> new GitHubResponseException(
+                                    "Tree " + subtree.getSha() + " listed by GitHub was not found"))));
+
+            subtrees = new ArrayList<>(next);
+        }
+
+        Map<String, byte[]> blobs = readBlobs(installationToken, repositoryUrl, pathsByBlob.keySet(), executor,
+                maxConcurrency);
+
+        Map<String, byte[]> result = new TreeMap<>();
+
+        for (Map.Entry<String, Queue<String>> entry : pathsByBlob.entrySet()) {
+            byte[] contents = blobs.get(entry.getKey());
+
+            for (String path : entry.getValue()) {
+                // Each path is provided its own copy when contents are shared with the cache or other paths
+                result.put(path, (contentCache != null || entry.getValue().size() > 1 ? contents.clone() : contents));
+            }
+        }
+
+        return Optional.of(Collections.unmodifiableMap(result));
+    }
+
+    /**
+     * Lists a tree recursively, recording matching files. If the listing is truncated, the tree is listed without
+     * recursion instead
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to list trees from
+     * @param tree
+     *            The tree to list
+     * @param glob
+     *            Pattern repository-root relative file paths must match to be recorded
+     * @param pathsByBlob
+     *            Matching file paths by blob SHA, to record files in
+     * @return Sub-trees which must be listed to find all matching files, or empty if the tree does not exist
+     */
+    private Optional<List<Subtree>> listTree(InstallationAccessToken installationToken, String repositoryUrl,
+            Subtree tree, PathGlob glob, Map<String, Queue<String>> pathsByBlob) {
+        Optional<TreeListing> listing = readTree(installationToken, repositoryUrl, tree, glob, true);
+
+        if (listing.isPresent() && listing.get().isTruncated()) {
+            listing = readTree(installationToken, repositoryUrl, tree, glob, false);
+        }
+
+        listing.ifPresent(contents -> contents.getFiles()
+                .forEach((path, blobSha) -> pathsByBlob.computeIfAbsent(blobSha, key -> new ConcurrentLinkedQueue<>()).add(path)));
+
+        return listing.map(TreeListing::getSubtrees);
+    }
+
+    /**
+     * Reads a single tree listing as it is received, retaining only matching files and sub-trees which may contain them
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to list trees from
+     * @param tree
+     *            The tree to list
+     * @param glob
+     *            Pattern repository-root relative file paths must match to be retained
+     * @param recursive
+     *            True to list the contents of sub-trees, false to only list the immediate contents of the tree
+     * @return The matching contents of the tree, or empty if the tree does not exist
+     */
+    private Optional<TreeListing> readTree(InstallationAccessToken installationToken, String repositoryUrl,
+            Subtree tree, PathGlob glob, boolean recursive) {
+        HttpUrl.Builder url = HttpUrl.parse(repositoryUrl).newBuilder()
+                .addEncodedPathSegment("git")
+                .addEncodedPathSegment("trees")
+                .addPathSegments(tree.getSha());
+
+        if (recursive) {
+            url.addQueryParameter("recursive", "1");
+        }
+
+        Request request = GitHubRequests.newRequest(installationToken, url.build(), mediaType, userAgent).build();
+
+        try {
+            Optional<TreeListing> result = Optional.empty();
+            Optional<Response> response = GitHubRequests.execute(httpClient, request);
+
+            if (response.isPresent()) {
+                try (ResponseBody body = response.get().body();
+                        JsonReader reader = new JsonReader(body.charStream())) {
+                    result = Optional.of(readListing(reader, tree.getPath(), glob, recursive));
+                }
+            }
+
+            return result;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new FileContentException("Error requesting or deserializing GitHub tree response.", e);
+        }
+    }
+
+    /**
+     * Reads blob contents, re-using retained contents where available
+     *
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read blobs from
+     * @param blobShas
+     *            The SHAs of the blobs to read
+     * @param executor
+     *            The executor to make requests on
+     * @param maxConcurrency
+     *            The maximum number of requests to make at once
+     * @return Blob contents by SHA
+     */
+    private Map<String, byte[]> readBlobs(InstallationAccessToken installationToken, String repositoryUrl,
+            Collection<String> blobShas, Executor executor, int maxConcurrency) {
+        Map<String, byte[]> result = new ConcurrentHashMap<>();
+        List<String> requested = new ArrayList<>();
+
+        for (String blobSha : blobShas) {
+            Optional<byte[]> cached = Optional.ofNullable(contentCache)
+                    .flatMap(cache -> cache.get(getBlobKey(installationToken, repositoryUrl, blobSha)))
+                    .flatMap(ContentCache.Entry::getContents);
+
+            if (cached.isPresent()) {
+                result.put(blobSha, cached.get());
+            } else {
+                requested.add(blobSha);
+            }
+        }
+
+        ConcurrentReads.forEach(requested, executor, maxConcurrency,
+                blobSha -> result.put(blobSha, readBlob(installationToken, repositoryUrl, blobSha)));
+
+        return result;
+    }
+
+    /**
+     * @param installationToken
+     *            Token specific to an application/repository authorizing a GitHub App to take actions on GitHub
+     * @param repositoryUrl
+     *            The URL of the repository to read the blob from
+     * @param blobSha
+     *            The SHA of the blob to read
+     * @return The contents of the blob
+     */
+    private byte[] readBlob(InstallationAccessToken installationToken, String repositoryUrl, String blobSha) {
+        Request request = GitHubRequests.newRequest(installationToken, getBlobUrl(repositoryUrl, blobSha),
+                MediaTypes.RAW, userAgent).build();
+
+        try {
+            Response response = GitHubRequests.execute(httpClient, request)
+                    .orElseThrow(() -> new GitHubResponseException(
+                            "Blob " + blobSha + " listed by GitHub was not found"));
+
+            try (ResponseBody body = response.body()) {
+                byte[] result = body.bytes();
+
+                if (contentCache != null) {
+                    contentCache.put(getBlobKey(installationToken, repositoryUrl, blobSha), blobSha, result,
+                            response.header("ETag"));
+                }
+
+                return result;
+            }
+        } catch (IOException e) {
+            throw new FileContentException("Error requesting GitHub blob content response.", e);
+        }
+    }
+
+    private static String getBlobKey(InstallationAccessToken installationToken, String repositoryUrl, String blobSha) {
+        return GitHubRequests.cacheKey(installationToken, MediaTypes.RAW,
+                getBlobUrl(repositoryUrl, blobSha).toString());
+    }
+
+    private static HttpUrl getBlobUrl(String repositoryUrl, String blobSha) {
+        return HttpUrl.parse(repositoryUrl).newBuilder()
+                .addEncodedPathSegment("git")
+                .addEncodedPathSegment("blobs")
+                .addPathSegment(blobSha)
+                .build();
+    }
+
+    /**
+     * @param reader
+     *            Reader positioned at the start of a tree listing
+     * @param path
+     *            The repository-root relative path of the listed tree, ending with a separator if not empty
+     * @param glob
+     *            Pattern repository-root relative file paths must match to be retained
+     * @param recursive
+     *            True if the listing includes the contents of sub-trees
+     * @return The matching contents of the tree
+     * @throws IOException
+     *             If there is an error reading the response
+     */
+    private static TreeListing readListing(JsonReader reader, String path, PathGlob glob, boolean recursive)
+            throws IOException {
+        Map<String, String> files = new HashMap<>();
+        List<Subtree> subtrees = new ArrayList<>();
+        boolean truncated = false;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+
+            if (Objects.equals(field, "tree") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+
+                while (reader.hasNext()) {
+                    TreeEntry entry = readEntry(reader);
+                    String entryPath = path + entry.getPath();
+
+                    if (entry.isFile() && glob.test(entryPath)) {
+                        files.put(entryPath, entry.getSha());
+                    } else if (!recursive && entry.isTree() && glob.mayMatchWithin(entryPath)) {
+                        subtrees.add(new Subtree(entryPath + "/", entry.getSha()));
+                    }
+                }
+
+                reader.endArray();
+            } else if (Objects.equals(field, "truncated") && reader.peek() == JsonToken.BOOLEAN) {
+                truncated = reader.nextBoolean();
+            } else {
+                reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+
+        return new TreeListing(files, subtrees, truncated);
+    }
+
+    private static TreeEntry readEntry(JsonReader reader) throws IOException {
+        String entryPath = null;
+        String entryMode = null;
+        String entryType = null;
+        String entrySha = null;
+
+        reader.beginObject();
+
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+
+            if (reader.peek() != JsonToken.STRING) {
+                reader.skipValue();
+            } else if (Objects.equals(field, "path")) {
+                entryPath = reader.nextString();
+            } else if (Objects.equals(field, "mode")) {
+                entryMode = reader.nextString();
+            } else if (Objects.equals(field, "type")) {
+                entryType = reader.nextString();
+            } else if (Objects.equals(field, "sha")) {
+                entrySha = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+
+        if (entryPath == null || entrySha == null) {
+            throw new JsonParseException("Tree entry is missing a path or SHA");
+        }
+
+        return new TreeEntry(entryPath, entryMode, entryType, entrySha);
+    }
+
+    /**
+     * Represents a tree to list, and its location within the repository
+     *
+     * @author romeara
+     */
+    private static final class Subtree {
+
+        private final String path;
+
+        private final String sha;
+
+        public Subtree(String path, String sha) {
+            this.path = Objects.requireNonNull(path);
+            this.sha = Objects.requireNonNull(sha);
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getSha() {
+            return sha;
+        }
+
+    }
+
+    /**
+     * Represents a single entry of a GitHub tree listing
+     *
+     * @author romeara
+     */
+    private static final class TreeEntry {
+
+        private final String path;
+
+        @Nullable
+        private final String mode;
+
+        @Nullable
+        private final String type;
+
+        private final String sha;
+
+        public TreeEntry(String path, @Nullable String mode, @Nullable String type, String sha) {
+            this.path = Objects.requireNonNull(path);
+            this.mode = mode;
+            this.type = type;
+            this.sha = Objects.requireNonNull(sha);
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getSha() {
+            return sha;
+        }
+
+        public boolean isFile() {
+            return Objects.equals(type, TYPE_BLOB) && !Objects.equals(mode, MODE_SYMBOLIC_LINK);
+        }
+
+        public boolean isTree() {
+            return Objects.equals(type, TYPE_TREE);
+        }
+
+    }
+
+    /**
+     * Represents the matching contents of a GitHub tree listing
+     *
+     * @author romeara
+     */
+    private static final class TreeListing {
+
+        private final Map<String, String> files;
+
+        private final List<Subtree> subtrees;
+
+        private final boolean truncated;
+
+        public TreeListing(Map<String, String> files, List<Subtree> subtrees, boolean truncated) {
+            this.files = Objects.requireNonNull(files);
+            this.subtrees = Objects.requireNonNull(subtrees);
+            this.truncated = truncated;
+        }
+
+        /**
+         * @return Blob SHAs of matching files, by repository-root relative path
+         */
+        public Map<String, String> getFiles() {
+            return files;
+        }
+
+        public List<Subtree> getSubtrees() {
+            return subtrees;
+        }
+
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+    }
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitGate;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Provides HTTP clients for communicating with GitHub
+ *
+ * <p>
+ * Each {@link OkHttpClient} maintains its own connection pool, dispatcher threads, and TLS session cache - sharing a
+ * client allows connections to GitHub to be re-used across Calamari components, avoiding repeated handshakes. Calamari
+ * components constructed without an explicit client use the process-wide default provided by {@link #getDefault()}
+ *
+ * <p>
+ * Clients which need different settings for specific components (such as longer timeouts) should be derived from an
+ * existing client via {@link OkHttpClient#newBuilder()}, which continues to share its connection pool and dispatcher
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class HttpClients {
+
+    private static final AtomicReference<OkHttpClient> DEFAULT_CLIENT = new AtomicReference<>();
+
+    /**
+     * Prevent instantiation of utility class
+     */
+    private HttpClients() throws InstantiationException {
+        throw new InstantiationException("Cannot instantiate instance of utility class '" + getClass().getName() + "'");
+    }
+
+    /**
+     * @return The HTTP client used by Calamari components which are not provided a client explicitly. Created with the
+     *         settings of {@link #builder()} unless a different client has been set via {@link #setDefault(OkHttpClient)}
+     * @since 1.3.0
+     */
+    public static OkHttpClient getDefault() {
+        OkHttpClient result = DEFAULT_CLIENT.get();
+
+        if (result == null) {
+            DEFAULT_CLIENT.compareAndSet(null, builder().build());
+            result = DEFAULT_CLIENT.get();
+        }
+
+        return result;
+    }
+
+    /**
+     * Replaces the HTTP client used by Calamari components which are not provided a client explicitly
+     *
+     * <p>
+     * Components retain the client they were constructed with, so this should be called during application
+     * initialization, before Calamari components are created
+     *
+     * @param httpClient
+     *            The client to use by default
+     * @since 1.3.0
+     */
+    public static void setDefault(OkHttpClient httpClient) {
+        Objects.requireNonNull(httpClient);
+
+        DEFAULT_CLIENT.set(httpClient);
+    }
+
+    /**
+     * @return A builder for creating HTTP clients, initialized with Calamari's default settings
+     * @since 1.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Configures the connection pooling, timeouts, and protocols of an HTTP client used to communicate with GitHub
+     *
+     * <p>
+     * Settings which are not configured use the defaults of the underlying HTTP client library. Requests which fail
+     * due to transient server errors, or secondary rate limits GitHub asks to be retried within a few seconds, are
+     * retried according to {@link RetryPolicy#defaults()}. Waiting out secondary rate limits, which usually requires a
+     * minute or more, must be enabled by configuring a longer {@link RetryPolicy#withMaximumWait(Duration) maximum
+     * wait}
+     *
+     * @author romeara
+     * @since 1.3.0
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+        private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
+        private int maxIdleConnections;
+
+        private Duration keepAlive;
+
+        @Nullable
+        private Integer maxRequests;
+
+        @Nullable
+        private Integer maxRequestsPerHost;
+
+        @Nullable
+        private Duration connectTimeout;
+
+        @Nullable
+        private Duration readTimeout;
+
+        @Nullable
+        private Duration writeTimeout;
+
+        @Nullable
+        private Duration callTimeout;
+
+        private boolean http2Enabled;
+
+        private RetryPolicy retryPolicy;
+
+        @Nullable
+        private RateLimitGate rateLimitGate;
+
+        private Builder() {
+            maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+            keepAlive = DEFAULT_KEEP_ALIVE;
+            maxRequests = null;
+            maxRequestsPerHost = null;
+            connectTimeout = null;
+            readTimeout = null;
+            writeTimeout = null;
+            callTimeout = null;
+            http2Enabled = true;
+            retryPolicy = RetryPolicy.defaults();
+            rateLimitGate = null;
+        }
+
+        /**
+         * @param maxIdleConnections
+         *            The maximum number of idle connections to retain for re-use. Must be zero or greater
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            Preconditions.checkArgument(maxIdleConnections >= 0, "Must provide a maximum of zero or greater");
+
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * @param keepAlive
+         *            The amount of time to retain idle connections for re-use. Must be greater than zero
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder keepAlive(Duration keepAlive) {
+            Objects.requireNonNull(keepAlive);
+            Preconditions.checkArgument(!keepAlive.isNegative() && !keepAlive.isZero(),
+                    "Must provide a keep-alive greater than zero");
+
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * @param maxRequests
+         *            The maximum number of asynchronous requests to execute concurrently. Must be greater than zero
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder maxRequests(int maxRequests) {
+            Preconditions.checkArgument(maxRequests > 0, "Must provide a maximum greater than zero");
+
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * @param maxRequestsPerHost
+         *            The maximum number of asynchronous requests to execute concurrently against a single host. Must be
+         *            greater than zero
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            Preconditions.checkArgument(maxRequestsPerHost > 0, "Must provide a maximum greater than zero");
+
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * @param connectTimeout
+         *            The maximum amount of time to wait to establish a connection, or zero for no timeout
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = checkTimeout(connectTimeout);
+            return this;
+        }
+
+        /**
+         * @param readTimeout
+         *            The maximum amount of time to wait between reads from a connection, or zero for no timeout
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = checkTimeout(readTimeout);
+            return this;
+        }
+
+        /**
+         * @param writeTimeout
+         *            The maximum amount of time to wait between writes to a connection, or zero for no timeout
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder writeTimeout(Duration writeTimeout) {
+            this.writeTimeout = checkTimeout(writeTimeout);
+            return this;
+        }
+
+        /**
+         * @param callTimeout
+         *            The maximum amount of time to allow for a complete request, including redirects and reading the
+         *            response, or zero for no timeout
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder callTimeout(Duration callTimeout) {
+            this.callTimeout = checkTimeout(callTimeout);
+            return this;
+        }
+
+        /**
+         * @param http2Enabled
+         *            True to negotiate HTTP/2 with servers which support it, false to only use HTTP/1.1
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder http2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+            return this;
+        }
+
+        /**
+         * @param retryPolicy
+         *            Policy describing how requests which fail due to secondary rate limits or transient server errors
+         *            are retried. Defaults to {@link RetryPolicy#defaults()}, which only waits briefly before a
+         *            retry, and may be disabled via {@link RetryPolicy#none()}
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = Objects.requireNonNull(retryPolicy);
+            return this;
+        }
+
+        /**
+         * @param rateLimitGate
+         *            Gate which paces requests made with the client against the remaining GitHub rate limit budget
+         * @return This builder
+         * @since 1.3.0
+         */
+        public Builder rateLimitGate(RateLimitGate rateLimitGate) {
+            this.rateLimitGate = Objects.requireNonNull(rateLimitGate);
+            return this;
+        }
+
+        /**
+         * @return A new HTTP client with the configured settings, and its own connection pool and dispatcher
+         * @since 1.3.0
+         */
+        public OkHttpClient build() {
+            Dispatcher dispatcher = new Dispatcher();
+
+            if (maxRequests != null) {
+                dispatcher.setMaxRequests(maxRequests);
+            }
+
+            if (maxRequestsPerHost != null) {
+                dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+            }
+
+            OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                    .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                    .dispatcher(dispatcher)
+                    .protocols(http2Enabled ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                            : Collections.singletonList(Protocol.HTTP_1_1));
+
+            if (connectTimeout != null) {
+                builder.connectTimeout(connectTimeout);
+            }
+
+            if (readTimeout != null) {
+                builder.readTimeout(readTimeout);
+            }
+
+            if (writeTimeout != null) {
+                builder.writeTimeout(writeTimeout);
+            }
+
+            if (callTimeout != null) {
+                builder.callTimeout(callTimeout);
+            }
+
+            // Retries are made through the rate limit gate, so that they are paced along with other requests
+            if (retryPolicy.getMaxRetries() > 0) {
+                builder.addInterceptor(new RetryInterceptor(retryPolicy));
+            }
+
+            if (rateLimitGate != null) {
+                builder.addInterceptor(rateLimitGate);
+            }
+
+            return builder.build();
+        }
+
+        private static Duration checkTimeout(Duration timeout) {
+            Objects.requireNonNull(timeout);
+            Preconditions.checkArgument(!timeout.isNegative(), "Must provide a timeout of zero or greater");
+
+            return timeout;
+        }
+
+    }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.ResponseConditions;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Retries requests to GitHub which fail due to secondary rate limits or transient server errors, according to a
+ * {@link RetryPolicy}
+ *
+ * <p>
+ * Responses which indicate a secondary rate limit (429 responses, and 403 responses with a Retry-After header or
+ * describing a secondary rate limit) are retried for any request method, as GitHub has not processed the request. 502,
+ * 503, and 504 responses are only retried for idempotent request methods. 403 responses for an exhausted primary rate
+ * limit are not retried, as the limit will not recover until it resets
+ *
+ * <p>
+ * Requests which are not retried, or exhaust their retries, provide the last response received. The interceptor is
+ * installed on HTTP clients created via {@link HttpClients#builder()}, and configured via
+ * {@link HttpClients.Builder#retryPolicy(RetryPolicy)}
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class RetryInterceptor implements Interceptor {
+
+    /** Logger reference to output information to the application log files */
+    private static final Logger logger = LoggerFactory.getLogger(RetryInterceptor.class);
+
+    private static final String RATE_LIMIT_RESET_HEADER = "X-RateLimit-Reset";
+
+    private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final String SECONDARY_RATE_LIMIT_MESSAGE = "secondary rate limit";
+
+    private static final long SECONDARY_RATE_LIMIT_MESSAGE_BYTES = 4096;
+
+    /** GitHub recommends waiting at least a minute after a secondary rate limit which does not specify a time */
+    private static final Duration SECONDARY_RATE_LIMIT_WAIT = Duration.ofMinutes(1);
+
+    private static final Collection<Integer> TRANSIENT_STATUS_CODES = new HashSet<>(Arrays.asList(502, 503, 504));
+
+    private static final Collection<String> IDEMPOTENT_METHODS = new HashSet<>(
+            Arrays.asList("GET", "HEAD", "OPTIONS", "PUT", "DELETE"));
+
+    private final RetryPolicy retryPolicy;
+
+    private final Clock clock;
+
+    private final DoubleSupplier random;
+
+    private double retryBudget;
+
+    /**
+     * @param retryPolicy
+     *            Policy describing how failed requests are retried
+     * @since 1.3.0
+     */
+    public RetryInterceptor(RetryPolicy retryPolicy) {
+        this(retryPolicy, Clock.systemUTC(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * @param retryPolicy
+     *            Policy describing how failed requests are retried
+     * @param clock
+     *            Clock used to measure the time remaining until rate limits reset
+     * @param random
+     *            Source of random values between zero (inclusive) and one (exclusive), used to add jitter to waits
+     *            between retries
+     * @since 1.3.0
+     */
+    public RetryInterceptor(RetryPolicy retryPolicy, Clock clock, DoubleSupplier random) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+        this.clock = Objects.requireNonNull(clock);
+        this.random = Objects.requireNonNull(random);
+
+        retryBudget = retryPolicy.getRetryBudget();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+
+        depositRetryBudget();
+
+        Response response = chain.proceed(request);
+        int retry = 1;
+        Optional<Duration> delay = getRetryDelay(response, retry);
+
+        while (delay.isPresent() && isRepeatable(request) && withdrawRetryBudget()) {
+            logger.debug("Retrying request to {} after {} in {} (retry {})", request.url(), response.code(), delay.get(),
+                    retry);
+
+            response.close();
+            sleep(delay.get());
+
+            response = chain.proceed(request);
+            retry++;
+            delay = getRetryDelay(response, retry);
+        }
+
+        return response;
+    }
+
+    /**
+     * Determines how long to wait before retrying the request which produced a response
+     *
+     * <p>
+     * Used by {@link #intercept(Chain)} after each response. Does not consider or consume the retry budget
+     *
+     * @param response
+     *            The response to a request
+     * @param retry
+     *            The number of the retry which would be made, starting at 1. Must be greater than zero
+     * @return The amount of time to wait before retrying, or empty if the request should not be retried
+     * @since 1.3.0
+     */
+    public Optional<Duration> getRetryDelay(Response response, int retry) {
+        Objects.requireNonNull(response);
+        Preconditions.checkArgument(retry > 0, "Must provide a retry number greater than zero");
+
+        Optional<Duration> result = Optional.empty();
+
+        if (retry <= retryPolicy.getMaxRetries()) {
+            result = getDelay(response, retry)
+                    .filter(delay -> delay.compareTo(retryPolicy.getMaximumWait()) <= 0);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("retryPolicy", retryPolicy)
+                .toString();
+    }
+
+    private Optional<Duration> getDelay(Response response, int retry) {
+        int code = response.code();
+        Optional<Duration> retryAfter = ResponseConditions.getRetryAfter(response);
+        Optional<Duration> result = Optional.empty();
+
+        if (code == 429 || (code == 403 && (retryAfter.isPresent() || isSecondaryRateLimit(response)))) {
+            // Jitter is added so that clients instructed to wait the same amount of time do not retry in lock-step
+            Duration wait = retryAfter.orElseGet(() -> getSecondaryRateLimitWait(response));
+
+            result = Optional.of(wait.plus(scale(retryPolicy.getInitialBackoff())));
+        } else if (TRANSIENT_STATUS_CODES.contains(code) && IDEMPOTENT_METHODS.contains(response.request().method())) {
+            Duration backoff = getBackoff(retry);
+
+            result = Optional.of(retryAfter.filter(wait -> wait.compareTo(backoff) > 0).orElse(backoff));
+        }
+
+        return result;
+    }
+
+    private Duration getSecondaryRateLimitWait(Response response) {
+        Duration result = SECONDARY_RATE_LIMIT_WAIT;
+        String reset = response.header(RATE_LIMIT_RESET_HEADER);
+
+        // When the primary limit is also exhausted, GitHub recommends waiting until it resets
+        if (Objects.equals(response.header(RATE_LIMIT_REMAINING_HEADER), "0") && reset != null) {
+            try {
+                Duration untilReset = Duration.between(clock.instant(), Instant.ofEpochSecond(Long.parseLong(reset)));
+
+                result = (untilReset.isNegative() ? Duration.ZERO : untilReset);
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid rate limit reset '{}' from {}", reset, response.request().url());
+            }
+        }
+
+        return result;
+    }
+
+    private Duration getBackoff(int retry) {
+        Duration backoff = retryPolicy.getInitialBackoff();
+
+        for (int i = 1; i < retry && backoff.compareTo(retryPolicy.getMaxBackoff()) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+
+        if (backoff.compareTo(retryPolicy.getMaxBackoff()) > 0) {
+            backoff = retryPolicy.getMaxBackoff();
+        }
+
+        // Half of the back off is randomized, spreading out retries from many clients while still backing off
+        Duration fixed = backoff.dividedBy(2);
+
+        return fixed.plus(scale(backoff.minus(fixed)));
+    }
+
+    private Duration scale(Duration duration) {
+        return Duration.ofNanos((long) (duration.toNanos() * random.getAsDouble()));
+    }
+
+    private synchronized void depositRetryBudget() {
+        retryBudget = Math.min(retryPolicy.getRetryBudget(), retryBudget + retryPolicy.getRetryRatio());
+    }
+
+    private synchronized boolean withdrawRetryBudget() {
+        boolean result = (retryBudget >= 1.0);
+
+        if (result) {
+            retryBudget -= 1.0;
+        } else {
+            logger.debug("Not retrying request - retry budget is exhausted");
+        }
+
+        return result;
+    }
+
+    private static boolean isSecondaryRateLimit(Response response) {
+        boolean result = false;
+
+        try {
+            result = response.body() != null && response.peekBody(SECONDARY_RATE_LIMIT_MESSAGE_BYTES).string()
+                    .toLowerCase(Locale.ROOT)
+                    .contains(SECONDARY_RATE_LIMIT_MESSAGE);
+        } catch (IOException e) {
+            logger.debug("Unable to read response from {} to check for secondary rate limits", response.request().url(),
+                    e);
+        }
+
+        return result;
+    }
+
+    private static boolean isRepeatable(Request request) {
+        return request.body() == null || !request.body().isOneShot();
+    }
+
+    private static void sleep(Duration delay) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException("Interrupted while waiting to retry request");
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.http;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Describes how requests to GitHub are retried when GitHub reports a transient failure or a secondary rate limit
+ *
+ * <p>
+ * Retries wait for the time GitHub specifies via the Retry-After header when present, and otherwise back off
+ * exponentially with random jitter. Retries are limited by a budget shared by all requests made with a client, which
+ * allows a retry for a fraction of requests made beyond a small reserve - so that widespread failures do not multiply
+ * the load placed on GitHub
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class RetryPolicy {
+
+    private static final RetryPolicy NONE = new RetryPolicy(0, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0, 0.0);
+
+    private static final RetryPolicy DEFAULT = new RetryPolicy(3, Duration.ofSeconds(1), Duration.ofSeconds(30),
+            Duration.ofSeconds(10), 10, 0.1);
+
+    private final int maxRetries;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    private final Duration maximumWait;
+
+    private final int retryBudget;
+
+    private final double retryRatio;
+
+    /**
+     * @param maxRetries
+     *            The maximum number of times a single request is retried
+     * @param initialBackoff
+     *            The amount of time to back off before the first retry, doubled for each subsequent retry
+     * @param maxBackoff
+     *            The longest amount of time to back off between retries
+     * @param maximumWait
+     *            The longest amount of time to wait before a retry, including waits specified by GitHub
+     * @param retryBudget
+     *            The maximum number of retries which may be made in succession before further retries are only allowed
+     *            as new requests are made
+     * @param retryRatio
+     *            The number of retries allowed per request made, once the retry budget is used
+     */
+    private RetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff, Duration maximumWait,
+            int retryBudget, double retryRatio) {
+        this.maxRetries = maxRetries;
+        this.initialBackoff = Objects.requireNonNull(initialBackoff);
+        this.maxBackoff = Objects.requireNonNull(maxBackoff);
+        this.maximumWait = Objects.requireNonNull(maximumWait);
+        this.retryBudget = retryBudget;
+        this.retryRatio = retryRatio;
+    }
+
+    /**
+     * @return A policy which never retries requests
+     * @since 1.3.0
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Secondary rate limits are only retried when GitHub specifies a wait within the policy's 10 second maximum -
+     * GitHub asks clients to wait at least a minute after most secondary rate limits, which requires a longer maximum
+     * wait to be configured via {@link #withMaximumWait(Duration)}
+     *
+     * @return A policy which retries each request up to 3 times, backing off from 1 second up to 30 seconds, waiting at
+     *         most 10 seconds before a retry, and allowing 10 retries in succession before limiting retries to one per
+     *         10 requests made
+     * @since 1.3.0
+     */
+    public static RetryPolicy defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a policy which retries requests with exponential back off, retaining the wait and budget limits of
+     * {@link #defaults()}
+     *
+     * @param maxRetries
+     *            The maximum number of times a single request is retried. Must be greater than zero
+     * @param initialBackoff
+     *            The amount of time to back off before the first retry, doubled for each subsequent retry. Must be
+     *            greater than zero
+     * @param maxBackoff
+     *            The longest amount of time to back off between retries. Must be at least the initial back off
+     * @return A policy which retries requests with exponential back off
+     * @since 1.3.0
+     */
+    public static RetryPolicy exponentialBackoff(int maxRetries, Duration initialBackoff, Duration maxBackoff) {
+        Objects.requireNonNull(initialBackoff);
+        Objects.requireNonNull(maxBackoff);
+        Preconditions.checkArgument(maxRetries > 0, "Must provide a maximum number of retries greater than zero");
+        Preconditions.checkArgument(!initialBackoff.isNegative() && !initialBackoff.isZero(),
+                "Must provide an initial back off greater than zero");
+        Preconditions.checkArgument(maxBackoff.compareTo(initialBackoff) >= 0,
+                "Must provide a maximum back off of at least the initial back off");
+
+        return new RetryPolicy(maxRetries, initialBackoff, maxBackoff, DEFAULT.maximumWait, DEFAULT.retryBudget,
+                DEFAULT.retryRatio);
+    }
+
+    /**
+     * @param maximumWait
+     *            The longest amount of time to wait before a retry, including waits specified by GitHub. Requests which
+     *            would need to wait longer are not retried. Must be zero or greater
+     * @return A copy of this policy with the provided maximum wait
+     * @since 1.3.0
+     */
+    public RetryPolicy withMaximumWait(Duration maximumWait) {
+        Objects.requireNonNull(maximumWait);
+        Preconditions.checkArgument(!maximumWait.isNegative(), "Must provide a maximum wait of zero or greater");
+
+        return new RetryPolicy(maxRetries, initialBackoff, maxBackoff, maximumWait, retryBudget, retryRatio);
+    }
+
+    /**
+     * @param retryBudget
+     *            The maximum number of retries which may be made in succession before further retries are only allowed
+     *            as new requests are made. Must be greater than zero
+     * @param retryRatio
+     *            The number of retries allowed per request made, once the retry budget is used. Must be between zero
+     *            and one, inclusive
+     * @return A copy of this policy with the provided retry budget
+     * @since 1.3.0
+     */
+    public RetryPolicy withRetryBudget(int retryBudget, double retryRatio) {
+        Preconditions.checkArgument(retryBudget > 0, "Must provide a retry budget greater than zero");
+        Preconditions.checkArgument(retryRatio >= 0.0 && retryRatio <= 1.0, "Must provide a retry ratio between 0 and 1");
+
+        return new RetryPolicy(maxRetries, initialBackoff, maxBackoff, maximumWait, retryBudget, retryRatio);
+    }
+
+    /**
+     * @return The maximum number of times a single request is retried
+     */
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @return The amount of time to back off before the first retry, doubled for each subsequent retry
+     */
+    Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * @return The longest amount of time to back off between retries
+     */
+    Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * @return The longest amount of time to wait before a retry, including waits specified by GitHub
+     */
+    Duration getMaximumWait() {
+        return maximumWait;
+    }
+
+    /**
+     * @return The maximum number of retries which may be made in succession
+     */
+    int getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * @return The number of retries allowed per request made, once the retry budget is used
+     */
+    double getRetryRatio() {
+        return retryRatio;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxRetries, initialBackoff, maxBackoff, maximumWait, retryBudget, retryRatio);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof RetryPolicy) {
+            RetryPolicy compare = (RetryPolicy) obj;
+
+            result = Objects.equals(compare.maxRetries, maxRetries)
+                    && Objects.equals(compare.initialBackoff, initialBackoff)
+                    && Objects.equals(compare.maxBackoff, maxBackoff)
+                    && Objects.equals(compare.maximumWait, maximumWait)
+                    && Objects.equals(compare.retryBudget, retryBudget)
+                    && Objects.equals(compare.retryRatio, retryRatio);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("maxRetries", maxRetries)
+                .add("initialBackoff", initialBackoff)
+                .add("maxBackoff", maxBackoff)
+                .add("maximumWait", maximumWait)
+                .add("retryBudget", retryBudget)
+                .add("retryRatio", retryRatio)
+                .toString();
+    }
+
+}
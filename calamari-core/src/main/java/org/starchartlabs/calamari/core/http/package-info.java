@@ -0,0 +1,15 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+/**
+ * Utilities for configuring HTTP communication with GitHub shared by Calamari components
+ *
+ * @author romeara
+ */
+@ParametersAreNonnullByDefault
+package org.starchartlabs.calamari.core.http;
+
+import javax.annotation.ParametersAreNonnullByDefault;
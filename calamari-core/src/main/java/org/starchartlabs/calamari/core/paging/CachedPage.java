@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.paging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Represents a page of data previously read from GitHub, along with the validators GitHub provided to allow
+ * conditional requests for the same page
+ *
+ * <p>
+ * The raw response content is retained rather than deserialized elements, so that a cached page may be replayed to
+ * iterators with any element representation, and stored outside the application's memory
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class CachedPage {
+
+    private final byte[] body;
+
+    @Nullable
+    private final String entityTag;
+
+    @Nullable
+    private final String lastModified;
+
+    private final List<String> links;
+
+    /**
+     * @param body
+     *            The raw content of the page response
+     * @param entityTag
+     *            The {@code ETag} header provided with the page response, if any
+     * @param lastModified
+     *            The {@code Last-Modified} header provided with the page response, if any
+     * @param links
+     *            The {@code Link} header values provided with the page response
+     * @since 1.3.0
+     */
+    public CachedPage(byte[] body, @Nullable String entityTag, @Nullable String lastModified,
+            Collection<String> links) {
+        Objects.requireNonNull(body);
+        Objects.requireNonNull(links);
+        Preconditions.checkArgument(entityTag != null || lastModified != null,
+                "Must provide at least one of an entity tag or last modified date to cache a page");
+
+        this.body = Arrays.copyOf(body, body.length);
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+        this.links = Collections.unmodifiableList(new ArrayList<>(links));
+    }
+
+    /**
+     * @return The raw content of the page response
+     * @since 1.3.0
+     */
+    public byte[] getBody() {
+        return Arrays.copyOf(body, body.length);
+    }
+
+    /**
+     * @return The {@code ETag} header provided with the page response, if any
+     * @since 1.3.0
+     */
+    public Optional<String> getEntityTag() {
+        return Optional.ofNullable(entityTag);
+    }
+
+    /**
+     * @return The {@code Last-Modified} header provided with the page response, if any
+     * @since 1.3.0
+     */
+    public Optional<String> getLastModified() {
+        return Optional.ofNullable(lastModified);
+    }
+
+    /**
+     * @return The {@code Link} header values provided with the page response
+     * @since 1.3.0
+     */
+    public List<String> getLinks() {
+        return links;
+    }
+
+    /**
+     * @return The approximate number of bytes required to retain this page, used to bound the size of caches
+     * @since 1.3.0
+     */
+    public long getSize() {
+        long size = body.length;
+
+        size += (entityTag != null ? entityTag.length() : 0);
+        size += (lastModified != null ? lastModified.length() : 0);
+
+        for (String link : links) {
+            size += link.length();
+        }
+
+        return size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(body),
+                getEntityTag(),
+                getLastModified(),
+                getLinks());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof CachedPage) {
+            CachedPage compare = (CachedPage) obj;
+
+            result = Arrays.equals(compare.body, body)
+                    && Objects.equals(compare.getEntityTag(), getEntityTag())
+                    && Objects.equals(compare.getLastModified(), getLastModified())
+                    && Objects.equals(compare.getLinks(), getLinks());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("size", body.length)
+                .add("entityTag", entityTag)
+                .add("lastModified", lastModified)
+                .add("links", links)
+                .toString();
+    }
+
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.paging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * {@link PageCache} which stores pages as files within a directory, bounded by the total size of the stored files
+ *
+ * <p>
+ * Pages stored by a previous instance using the same directory are available, allowing conditional requests to be made
+ * across application restarts. When storing a page would exceed the maximum size, the least recently used pages are
+ * removed. Errors reading or writing files are logged, and treated as the page not being stored
+ *
+ * <p>
+ * The directory should not be shared with other content, or with caches in other processes
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class DiskPageCache implements PageCache {
+
+    /** Logger reference to output information to the application log files */
+    private static final Logger logger = LoggerFactory.getLogger(DiskPageCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String FILE_SUFFIX = ".page";
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]+");
+
+    private final Path directory;
+
+    private final long maximumBytes;
+
+    private long currentBytes;
+
+    /**
+     * @param directory
+     *            The directory to store pages in. Created if it does not exist
+     * @param maximumBytes
+     *            The maximum total size of stored pages, in bytes. Must be greater than zero
+     * @throws UncheckedIOException
+     *             If the directory cannot be created or read
+     * @since 1.3.0
+     */
+    public DiskPageCache(Path directory, long maximumBytes) {
+        this.directory = Objects.requireNonNull(directory);
+
+        Preconditions.checkArgument(maximumBytes > 0, "Must provide a maximum size greater than zero");
+
+        this.maximumBytes = maximumBytes;
+
+        try {
+            Files.createDirectories(directory);
+
+            currentBytes = 0;
+
+            for (Path file : getPageFiles()) {
+                currentBytes += Files.size(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to initialize page cache directory " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized Optional<CachedPage> get(String key) {
+        Path file = getFile(key);
+        CachedPage result = null;
+
+        if (Files.exists(file)) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                result = read(input, Files.size(file));
+
+                // Track use, so that the least recently used pages are removed first
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (NoSuchFileException e) {
+                result = null;
+            } catch (IOException e) {
+                logger.warn("Unable to read cached page {}, removing it", file, e);
+
+                invalidate(key);
+            }
+        }
+
+        return Optional.ofNullable(result);
+    }
+
+    @Override
+    public synchronized void put(String key, CachedPage page) {
+        Objects.requireNonNull(page);
+
+        Path file = getFile(key);
+        invalidate(key);
+
+        if (page.getSize() <= maximumBytes) {
+            try {
+                Path temporary = Files.createTempFile(directory, key, ".tmp");
+
+                try {
+                    try (DataOutputStream output = new DataOutputStream(
+                            new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                        write(output, page);
+                    }
+
+                    long size = Files.size(temporary);
+
+                    // Stored files include framing beyond the page's size, and may exceed the bound on their own
+                    if (size <= maximumBytes) {
+                        removeLeastRecentlyUsed(maximumBytes - size);
+
+                        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+                                StandardCopyOption.ATOMIC_MOVE);
+                        currentBytes += size;
+                    }
+                } finally {
+                    Files.deleteIfExists(temporary);
+                }
+            } catch (IOException e) {
+                logger.warn("Unable to store cached page {}", file, e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String key) {
+        Path file = getFile(key);
+
+        try {
+            if (Files.exists(file)) {
+                long size = Files.size(file);
+
+                if (Files.deleteIfExists(file)) {
+                    currentBytes -= size;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to remove cached page {}", file, e);
+        }
+    }
+
+    /**
+     * @return The total size of pages currently stored, in bytes
+     * @since 1.3.0
+     */
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("directory", directory)
+                .add("maximumBytes", maximumBytes)
+                .toString();
+    }
+
+    private Path getFile(String key) {
+        Objects.requireNonNull(key);
+        Preconditions.checkArgument(KEY_PATTERN.matcher(key).matches(), "Page cache keys must be hexadecimal");
+
+        return directory.resolve(key + FILE_SUFFIX);
+    }
+
+    /**
+     * Removes stored pages, least recently used first, until the total size of stored pages is no greater than the
+     * provided target
+     *
+     * @param targetBytes
+     *            The maximum total size of stored pages to reach
+     * @throws IOException
+     *             If there is an error reading the directory
+     */
+    private void removeLeastRecentlyUsed(long targetBytes) throws IOException {
+        if (currentBytes > targetBytes) {
+            List<Path> files = getPageFiles().stream()
+                    .sorted(Comparator.comparing(DiskPageCache::getLastModifiedTime))
+                    .collect(Collectors.toList());
+
+            for (Path file : files) {
+                if (currentBytes <= targetBytes) {
+                    break;
+                }
+
+                long size = Files.size(file);
+
+                if (Files.deleteIfExists(file)) {
+                    currentBytes -= size;
+                }
+            }
+        }
+    }
+
+    private List<Path> getPageFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            // Files which cannot be read are removed first
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * @param input
+     *            Stream of a stored page
+     * @param fileSize
+     *            The size of the stored file, which bounds the lengths read from it
+     * @return The stored page
+     * @throws IOException
+     *             If there is an error reading the page, or the page is corrupt
+     */
+    private static CachedPage read(DataInputStream input, long fileSize) throws IOException {
+        int version = input.readInt();
+
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported cached page format version " + version);
+        }
+
+        String entityTag = readNullable(input, fileSize);
+        String lastModified = readNullable(input, fileSize);
+
+        if (entityTag == null && lastModified == null) {
+            throw new IOException("Cached page has no validators");
+        }
+
+        int linkCount = readLength(input, fileSize);
+        List<String> links = new ArrayList<>(linkCount);
+
+        for (int i = 0; i < linkCount; i++) {
+            links.add(readString(input, fileSize));
+        }
+
+        byte[] body = new byte[readLength(input, fileSize)];
+        input.readFully(body);
+
+        return new CachedPage(body, entityTag, lastModified, links);
+    }
+
+    private static void write(DataOutputStream output, CachedPage page) throws IOException {
+        output.writeInt(FORMAT_VERSION);
+
+        writeNullable(output, page.getEntityTag().orElse(null));
+        writeNullable(output, page.getLastModified().orElse(null));
+
+        output.writeInt(page.getLinks().size());
+
+        for (String link : page.getLinks()) {
+            writeString(output, link);
+        }
+
+        byte[] body = page.getBody();
+
+        output.writeInt(body.length);
+        output.write(body);
+    }
+
+    @Nullable
+    private static String readNullable(DataInputStream input, long fileSize) throws IOException {
+        return (input.readBoolean() ? readString(input, fileSize) : null);
+    }
+
+    private static void writeNullable(DataOutputStream output, @Nullable String value) throws IOException {
+        output.writeBoolean(value != null);
+
+        if (value != null) {
+            writeString(output, value);
+        }
+    }
+
+    // Header values may exceed the 64KB limit of modified UTF-8 (DataOutput.writeUTF), so are length-prefixed instead
+    private static String readString(DataInputStream input, long fileSize) throws IOException {
+        byte[] value = new byte[readLength(input, fileSize)];
+        input.readFully(value);
+
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    // Lengths are checked against the file size before use, so corrupt files are reported as such instead of allocating
+    // arbitrarily large arrays
+    private static int readLength(DataInputStream input, long fileSize) throws IOException {
+        int length = input.readInt();
+
+        if (length < 0 || length > fileSize) {
+            throw new IOException("Cached page is corrupt");
+        }
+
+        return length;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+}
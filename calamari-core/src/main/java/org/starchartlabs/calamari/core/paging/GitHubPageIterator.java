@@ -7,25 +7,54 @@
 package org.starchartlabs.calamari.core.paging;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.starchartlabs.alloy.core.Preconditions;
 import org.starchartlabs.alloy.core.collections.MoreSpliterators;
 import org.starchartlabs.alloy.core.collections.PageIterator;
 import org.starchartlabs.calamari.core.MediaTypes;
 import org.starchartlabs.calamari.core.ResponseConditions;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
 import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitTracker;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
 
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -41,6 +70,28 @@ import okhttp3.ResponseBody;
  * Uses paging links to estimate remaining size
  *
  * <p>
+ * Iterators created via {@link #gson(String, Supplier, String)}, {@link #ofType(String, Supplier, String, Class)}, or
+ * {@link #streaming(String, Supplier, String, TypeAdapter, String, OkHttpClient)} read the elements of each page from
+ * the response stream one at a time. Iterators constructed with a deserializer function read the full content of each
+ * page as a string before providing it to the function
+ *
+ * <p>
+ * By default, pages are requested from GitHub as they are read. {@link #withPrefetch(int, Executor)} allows requests
+ * for upcoming pages to be made in the background while previously read pages are processed
+ *
+ * <p>
+ * {@link #withParallelism(int, int)} allows the iterator to be split into disjoint page ranges via
+ * {@link #trySplit()}, so that a parallel stream may request pages concurrently
+ *
+ * <p>
+ * {@link #withCache(PageCache)} allows pages to be stored and requested conditionally, so that unchanged pages do not
+ * count against GitHub's rate limit
+ *
+ * <p>
+ * {@link #getCursor()} and {@link #withCheckpoint(Consumer)} provide the position of the iterator between pages, which
+ * may be stored and later continued via {@link #resumeFrom(PageCursor)}
+ *
+ * <p>
  * See {@link MoreSpliterators#ofPaged(PageIterator)} for a path to consuming paged data as a Java Stream via
  * spliterator
  *
@@ -53,6 +104,24 @@ import okhttp3.ResponseBody;
  */
 public class GitHubPageIterator<T> implements PageIterator<T> {
 
+    /** Logger reference to output information to the application log files */
+    private static final Logger logger = LoggerFactory.getLogger(GitHubPageIterator.class);
+
+    private static final String PAGE_PARAMETER = "page";
+
+    private static final String PER_PAGE_PARAMETER = "per_page";
+
+    // Largest number of elements GitHub provides per page
+    private static final int MAXIMUM_PER_PAGE = 100;
+
+    private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.get("application/json; charset=utf-8");
+
     private final Supplier<String> authorizationHeader;
 
     private final String userAgent;
@@ -61,12 +130,48 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
 
     private final OkHttpClient httpClient;
 
+    private final Options options;
+
+    // Pending requests for upcoming pages, beginning with the page at the current URL, if prefetching is enabled
+    private final Deque<CompletableFuture<Page<T>>> prefetched;
+
+    // URL of the next page to read, or null once there are no further pages
+    @Nullable
     private String url;
 
     private String mediaType;
 
     private Optional<Long> remainingEstimate;
 
+    // Shared by an iterator and all iterators split from it, limiting how many may be split off in total
+    private AtomicInteger splitBudget;
+
+    // Inclusive page number iteration ends at, if iteration was split before the final page
+    @Nullable
+    private Integer endPage;
+
+    // Paging links of the most recently read page, if any
+    @Nullable
+    private PagingLinks pagingLinks;
+
+    // Remaining rate limit reported with the most recently read page, if any
+    @Nullable
+    private Integer rateLimitRemaining;
+
+    // Page read before iteration began in order to determine the range of pages to split, not yet provided to callers
+    @Nullable
+    private Page<T> buffered;
+
+    // Number of elements which may still be provided, if iteration is limited
+    @Nullable
+    private Integer remainingLimit;
+
+    // URL the buffered page was read from, so that cursors may resume before it
+    @Nullable
+    private String bufferedUrl;
+
+    private long elementsConsumed;
+
     /**
      * Creates a new {@link GitHubPageIterator}
      *
@@ -83,8 +188,7 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
      */
     public GitHubPageIterator(String url, Supplier<String> authorizationHeader, String userAgent,
             Function<String, Collection<T>> jsonDeserializer) {
-        this(url, authorizationHeader, userAgent, new JsonArrayConverter<>(jsonDeserializer, Function.identity()),
-                MediaTypes.APP_PREVIEW);
+        this(url, authorizationHeader, userAgent, jsonDeserializer, MediaTypes.APP_PREVIEW);
     }
 
     /**
@@ -105,8 +209,7 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
      */
     public GitHubPageIterator(String url, Supplier<String> authorizationHeader, String userAgent,
             Function<String, Collection<T>> jsonDeserializer, String mediaType) {
-        this(url, authorizationHeader, userAgent, new JsonArrayConverter<>(jsonDeserializer, Function.identity()),
-                mediaType);
+        this(url, authorizationHeader, userAgent, jsonDeserializer, mediaType, HttpClients.getDefault());
     }
 
     /**
@@ -119,21 +222,61 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
      * @param userAgent
      *            The user agent to make web requests as, as
      *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param jsonDeserializer
+     *            Function which transforms a raw JSON response representing a full page into individual data elements
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @since 1.3.0
+     */
+    public GitHubPageIterator(String url, Supplier<String> authorizationHeader, String userAgent,
+            Function<String, Collection<T>> jsonDeserializer, String mediaType, OkHttpClient httpClient) {
+        this(Objects.requireNonNull(url), authorizationHeader, userAgent,
+                new JsonArrayConverter<>(new StringPageDeserializer<>(jsonDeserializer), Function.identity()), mediaType,
+                httpClient, Options.defaults());
+    }
+
+    /**
+     * Creates a new {@link GitHubPageIterator}
+     *
+     * @param url
+     *            The initial URL to request paged data from, or null if there are no further pages to read
+     * @param authorizationHeader
+     *            Supplier which provides contents for the {@code Authorization} header when making requests
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
      * @param itemMapper
      *            Function which transforms page elements to the representation desired by clients
      * @param mediaType
      *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub
+     * @param options
+     *            Settings controlling how pages are requested
      */
-    private GitHubPageIterator(String url, Supplier<String> authorizationHeader, String userAgent,
-            JsonArrayConverter<?, T> itemMapper, String mediaType) {
+    private GitHubPageIterator(@Nullable String url, Supplier<String> authorizationHeader, String userAgent,
+            JsonArrayConverter<?, T> itemMapper, String mediaType, OkHttpClient httpClient, Options options) {
         this.authorizationHeader = Objects.requireNonNull(authorizationHeader);
         this.userAgent = Objects.requireNonNull(userAgent);
-        this.url = Objects.requireNonNull(url);
+        this.url = url;
         this.itemMapper = Objects.requireNonNull(itemMapper);
         this.mediaType = Objects.requireNonNull(mediaType);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.options = Objects.requireNonNull(options);
 
-        httpClient = new OkHttpClient();
+        prefetched = new ArrayDeque<>();
         remainingEstimate = Optional.empty();
+        splitBudget = new AtomicInteger(options.getMaxConcurrency() - 1);
+        endPage = null;
+        pagingLinks = null;
+        rateLimitRemaining = null;
+        buffered = null;
+        remainingLimit = null;
+        bufferedUrl = null;
+        elementsConsumed = 0;
     }
 
     /**
@@ -150,12 +293,302 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
     public <S> GitHubPageIterator<S> map(Function<T, S> mapperPerElement) {
         Objects.requireNonNull(mapperPerElement);
 
-        return new GitHubPageIterator<>(url, authorizationHeader, userAgent, itemMapper.andThenEach(mapperPerElement));
+        GitHubPageIterator<S> result = new GitHubPageIterator<>(url, authorizationHeader, userAgent,
+                itemMapper.andThenEach(mapperPerElement), mediaType, httpClient, options);
+
+        return continuePosition(result, mapperPerElement);
+    }
+
+    /**
+     * Requests upcoming pages in the background, so that network requests overlap processing of previously read pages
+     *
+     * <p>
+     * Each time a page is read, requests for up to {@code depth} following pages are in progress. As the location of a
+     * page is only known once the previous page is read, upcoming pages are still requested one after another - a depth
+     * of one is sufficient to overlap processing and network latency, while greater depths allow for variation in the
+     * time taken to process pages. Errors reading an upcoming page are reported when that page is read
+     *
+     * <p>
+     * Should be called before iteration begins - the returned iterator begins from the current position of this one
+     *
+     * @param depth
+     *            The number of pages to request ahead of the page most recently read. Must be greater than zero
+     * @param executor
+     *            The executor to make background requests on. Requests perform blocking network operations
+     * @return A GitHubPageIterator which requests upcoming pages in the background
+     * @since 1.3.0
+     */
+    public GitHubPageIterator<T> withPrefetch(int depth, Executor executor) {
+        Objects.requireNonNull(executor);
+        Preconditions.checkArgument(depth > 0, "Must provide a prefetch depth greater than zero");
+
+        GitHubPageIterator<T> result = new GitHubPageIterator<>(url, authorizationHeader, userAgent, itemMapper,
+                mediaType, httpClient, options.withPrefetch(depth, executor));
+
+        return continuePosition(result, Function.identity());
+    }
+
+    /**
+     * Allows the iterator to be split into disjoint ranges of pages via {@link #trySplit()}, so that pages may be
+     * requested concurrently when consumed as a parallel stream
+     *
+     * <p>
+     * Splitting requires the range of pages to be known, which GitHub indicates via the {@code last} paging link. If no
+     * page has been read when splitting is first attempted, the first page is read immediately to determine the range.
+     * Endpoints which do not provide a {@code last} link with a page number are read sequentially
+     *
+     * <p>
+     * Splitting is declined once reading the remaining pages would leave fewer than {@code rateLimitHeadroom} requests
+     * in the most recently reported GitHub rate limit, so that concurrent iteration does not exhaust the rate limit
+     * shared with other work
+     *
+     * <p>
+     * Should be called before iteration begins - the returned iterator begins from the current position of this one
+     *
+     * @param maxConcurrency
+     *            The maximum number of iterators the remaining pages may be divided among, including this one. Splits
+     *            are counted over the whole iteration, so an exhausted range does not allow another split. Must be
+     *            greater than zero - a value of one disables splitting
+     * @param rateLimitHeadroom
+     *            The number of requests which should remain available in the rate limit after the remaining pages are
+     *            read in order to split. Must be zero or greater
+     * @return A GitHubPageIterator which may be split into disjoint page ranges
+     * @since 1.3.0
+     */
+    public GitHubPageIterator<T> withParallelism(int maxConcurrency, int rateLimitHeadroom) {
+        Preconditions.checkArgument(maxConcurrency > 0, "Must provide a maximum concurrency greater than zero");
+        Preconditions.checkArgument(rateLimitHeadroom >= 0, "Must provide a rate limit headroom of zero or greater");
+
+        GitHubPageIterator<T> result = new GitHubPageIterator<>(url, authorizationHeader, userAgent, itemMapper,
+                mediaType, httpClient, options.withParallelism(maxConcurrency, rateLimitHeadroom));
+
+        return continuePosition(result, Function.identity());
+    }
+
+    /**
+     * Stores pages read from GitHub, and makes
+     * <a href="https://docs.github.com/en/rest/overview/resources-in-the-rest-api#conditional-requests">conditional
+     * requests</a> for pages which have been stored. When GitHub reports a page has not been modified, the stored page
+     * is read instead - such requests do not count against GitHub's rate limit
+     *
+     * <p>
+     * Pages are stored per authorization header value. As installation access tokens are periodically renewed, use
+     * {@link #withCache(PageCache, String)} to share stored pages across tokens with the same access
+     *
+     * <p>
+     * Pages are only stored if GitHub provides an {@code ETag} or {@code Last-Modified} header. Pages which are stored
+     * are read fully into memory before deserialization, rather than deserialized as they are read
+     *
+     * <p>
+     * Should be called before iteration begins - the returned iterator begins from the current position of this one
+     *
+     * @param pageCache
+     *            Cache to store pages in, which may be shared with other iterators
+     * @return A GitHubPageIterator which stores pages and makes conditional requests
+     * @since 1.3.0
+     */
+    public GitHubPageIterator<T> withCache(PageCache pageCache) {
+        Objects.requireNonNull(pageCache);
+
+        GitHubPageIterator<T> result = new GitHubPageIterator<>(url, authorizationHeader, userAgent, itemMapper,
+                mediaType, httpClient, options.withCache(pageCache, null));
+
+        return continuePosition(result, Function.identity());
+    }
+
+    /**
+     * Stores pages read from GitHub, and makes
+     * <a href="https://docs.github.com/en/rest/overview/resources-in-the-rest-api#conditional-requests">conditional
+     * requests</a> for pages which have been stored. When GitHub reports a page has not been modified, the stored page
+     * is read instead - such requests do not count against GitHub's rate limit
+     *
+     * <p>
+     * Pages are only stored if GitHub provides an {@code ETag} or {@code Last-Modified} header. Pages which are stored
+     * are read fully into memory before deserialization, rather than deserialized as they are read
+     *
+     * <p>
+     * Should be called before iteration begins - the returned iterator begins from the current position of this one
+     *
+     * @param pageCache
+     *            Cache to store pages in, which may be shared with other iterators
+     * @param cacheScope
+     *            Identifies the access pages are read with, such as an installation ID. Stored pages are only read by
+     *            iterators with the same scope, and must not be shared between scopes with different access
+     * @return A GitHubPageIterator which stores pages and makes conditional requests
+     * @since 1.3.0
+     */
+    public GitHubPageIterator<T> withCache(PageCache pageCache, String cacheScope) {
+        Objects.requireNonNull(pageCache);
+        Objects.requireNonNull(cacheScope);
+
+        GitHubPageIterator<T> result = new GitHubPageIterator<>(url, authorizationHeader, userAgent, itemMapper,
+                mediaType, httpClient, options.withCache(pageCache, cacheScope));
+
+        return continuePosition(result, Function.identity());
+    }
+
+    /**
+     * Provides paged elements as a <a href="https://www.reactive-streams.org/">Reactive Streams</a> publisher, for use
+     * in non-blocking pipelines
+     *
+     * <p>
+     * Pages are requested asynchronously via the HTTP client's dispatcher, so subscriptions do not occupy a thread
+     * while waiting for GitHub to respond. The authorization header is also read on the dispatcher's threads, as it may
+     * block to renew an installation token. A page is only requested once all elements of the previous page have been
+     * delivered and the subscriber has outstanding demand, and cancelling a subscription cancels any request in
+     * progress. Each subscription reads pages independently, starting from the current position of this iterator
+     *
+     * <p>
+     * Errors reading pages are signaled to the subscriber via {@link Subscriber#onError(Throwable)}, as the exceptions
+     * {@link #next()} would throw. On Java 9 and later, {@code org.reactivestreams.FlowAdapters} converts the
+     * publisher to a {@code java.util.concurrent.Flow.Publisher}
+     *
+     * <p>
+     * Should be called before iteration begins
+     *
+     * @return A publisher which provides paged elements to each subscriber
+     * @since 1.3.0
+     */
+    public Publisher<T> toPublisher() {
+        String startUrl = url;
+        Integer limit = remainingLimit;
+
+        return subscriber -> {
+            Objects.requireNonNull(subscriber);
+
+            PageSubscription subscription = new PageSubscription(startUrl, limit, subscriber);
+
+            subscriber.onSubscribe(subscription);
+            subscription.drain();
+        };
+    }
+
+    /**
+     * Limits iteration to at most the provided number of elements
+     *
+     * <p>
+     * The number of elements requested per page is chosen to read the elements in as few requests as possible, while
+     * requesting as few elements beyond the limit as possible. For example, a limit of 50 is read as a single page of 50
+     * elements, and a limit of 150 as two pages of 75 elements. If the initial URL specifies a smaller number of
+     * elements per page, it is retained. No further pages are requested once the limit is reached, and elements of the
+     * final page beyond the limit are discarded
+     *
+     * <p>
+     * Limited iterators are not split via {@link #trySplit()}
+     *
+     * <p>
+     * Should be called before iteration begins - the returned iterator begins from the current position of this one
+     *
+     * @param maximumElements
+     *            The maximum number of elements to provide. Must be greater than zero
+     * @return A GitHubPageIterator which provides at most the provided number of elements
+     * @since 1.3.0
+     */
+    public GitHubPageIterator<T> withLimit(int maximumElements) {
+        Preconditions.checkArgument(maximumElements > 0, "Must provide a maximum number of elements greater than zero");
+
+        int limit = (remainingLimit != null ? Math.min(remainingLimit, maximumElements) : maximumElements);
+        String startUrl = url;
+        Integer lastPage = endPage;
+
+        if (startUrl != null) {
+            Optional<Integer> requestedPerPage = PagingLinks.getPerPage(startUrl);
+            int pageCount = (limit + MAXIMUM_PER_PAGE - 1) / MAXIMUM_PER_PAGE;
+            int perPage = (limit + pageCount - 1) / pageCount;
+
+            if (requestedPerPage.isPresent() && requestedPerPage.get() < perPage) {
+                perPage = requestedPerPage.get();
+                pageCount = (limit + perPage - 1) / perPage;
+            }
+
+            int limitPage = PagingLinks.getPage(startUrl).orElse(1) + pageCount - 1;
+
+            startUrl = HttpUrl.get(startUrl).newBuilder()
+                    .setQueryParameter(PER_PAGE_PARAMETER, Integer.toString(perPage))
+                    .build()
+                    .toString();
+            lastPage = (lastPage != null ? Math.min(lastPage, limitPage) : limitPage);
+        }
+
+        GitHubPageIterator<T> result = continuePosition(new GitHubPageIterator<>(url, authorizationHeader, userAgent,
+                itemMapper, mediaType, httpClient, options), Function.identity());
+
+        result.url = startUrl;
+        result.endPage = lastPage;
+        result.remainingLimit = limit;
+
+        return result;
+    }
+
+    /**
+     * Reports the position of the iterator after each page is read, so that long-running iteration may record progress
+     * and later resume via {@link #resumeFrom(PageCursor)} instead of re-reading consumed pages
+     *
+     * <p>
+     * The checkpoint is called by {@link #next()} before the page is returned, with a cursor positioned after that page.
+     * Clients which must process every element at least once should record the cursor only after processing the page,
+     * or record {@link #getCursor()} before reading each page instead. Iterators split via {@link #trySplit()} each
+     * report their own position
+     *
+     * <p>
+     * Should be called before iteration begins - the returned iterator begins from the current position of this one
+     *
+     * @param checkpoint
+     *            Callback provided the position of the iterator after each page is read
+     * @return A GitHubPageIterator which reports its position after each page is read
+     * @since 1.3.0
+     */
+    public GitHubPageIterator<T> withCheckpoint(Consumer<PageCursor> checkpoint) {
+        Objects.requireNonNull(checkpoint);
+
+        GitHubPageIterator<T> result = new GitHubPageIterator<>(url, authorizationHeader, userAgent, itemMapper,
+                mediaType, httpClient, options.withCheckpoint(checkpoint));
+
+        return continuePosition(result, Function.identity());
+    }
+
+    /**
+     * @return The current position of the iterator, which may be stored and provided to
+     *         {@link #resumeFrom(PageCursor)} to continue iteration from the next unread page
+     * @since 1.3.0
+     */
+    public PageCursor getCursor() {
+        // Pages read to determine split ranges have not been provided to callers, and are read again on resume
+        String nextUrl = (buffered != null ? bufferedUrl : url);
+
+        return new PageCursor(nextUrl, mediaType, elementsConsumed, endPage, remainingLimit);
+    }
+
+    /**
+     * Continues iteration from a previously recorded position, without re-reading pages consumed before that position
+     *
+     * <p>
+     * The returned iterator retains the element representation, credentials, and settings of this iterator, while
+     * requesting pages from the location and media type recorded by the cursor. No requests are made until the next
+     * page is read
+     *
+     * @param cursor
+     *            The position to continue iteration from, as provided by {@link #getCursor()} or a checkpoint
+     * @return A GitHubPageIterator which reads the pages following the provided position
+     * @since 1.3.0
+     */
+    public GitHubPageIterator<T> resumeFrom(PageCursor cursor) {
+        Objects.requireNonNull(cursor);
+
+        // Completed cursors resume as an iterator with no further pages
+        GitHubPageIterator<T> result = new GitHubPageIterator<>(cursor.getNextUrl().orElse(null), authorizationHeader,
+                userAgent, itemMapper, cursor.getMediaType(), httpClient, options);
+
+        result.endPage = cursor.getLastPage().orElse(null);
+        result.remainingLimit = cursor.getRemainingLimit().orElse(null);
+        result.elementsConsumed = cursor.getElementsConsumed();
+
+        return result;
     }
 
     @Override
     public boolean hasNext() {
-        return url != null;
+        return url != null || buffered != null;
     }
 
     @Override
@@ -164,44 +597,127 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
             throw new NoSuchElementException("No more pages may be read from the provided GitHub endpoint");
         }
 
-        try {
-            // Populate next set of elements, if possible
-            Response response = getResponse(url);
+        Page<T> page = buffered;
 
-            if (!response.isSuccessful()) {
-                ResponseConditions.checkRateLimit(response);
+        if (page != null) {
+            // Paging position was already updated when the page was read
+            buffered = null;
+            bufferedUrl = null;
+        } else {
+            page = (options.getPrefetchExecutor().isPresent() ? nextPrefetched() : readPage(url));
 
-                throw new GitHubResponseException("Response returned unsuccessfully (" + response.code() + ")");
-            }
+            advance(page);
+        }
 
-            // Update tracking of paging position (URL and paging links)
-            PagingLinks pagingLinks = new PagingLinks(response.headers("Link"));
-            url = pagingLinks.getNextPageUrl().orElse(null);
+        Collection<T> elements = page.getElements();
 
-            remainingEstimate = estimateRemaining(pagingLinks);
+        if (remainingLimit != null) {
+            if (elements.size() >= remainingLimit) {
+                elements = truncate(elements, remainingLimit);
 
-            // Update cache of previously read elements, which will be read from until the next page is needed
-            try (ResponseBody responseBody = response.body()) {
-                return itemMapper.apply(responseBody.string());
+                // Stop iteration, cancelling any background requests which have not yet been made
+                url = null;
+                discardPrefetched();
             }
-        } catch (IOException e) {
-            throw new GitHubResponseException("Error reading response from GitHub", e);
+
+            remainingLimit -= elements.size();
         }
+
+        elementsConsumed += elements.size();
+        options.getCheckpoint().ifPresent(checkpoint -> checkpoint.accept(getCursor()));
+
+        return elements;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Splitting is only supported when enabled via {@link #withParallelism(int, int)}, and the range of remaining pages
+     * is known. The returned iterator reads the first half of the remaining pages, while this iterator continues from
+     * the first page of the second half
+     */
     @Override
+    @Nullable
     public PageIterator<T> trySplit() {
-        // TODO romeara Implementation of this will require further investigation
-        // At minimum, logic to allow ending the iteration before a "next" link is absent would be needed in order to
-        // sub-divide pages. For a first implementation iteration, this will be kept simpler and less bug-prone by not
-        // allowing splitting
-        return null;
+        // Pages already requested in the background cannot be divided between iterators
+        if (splitBudget.get() <= 0 || !prefetched.isEmpty() || url == null || remainingLimit != null) {
+            return null;
+        }
+
+        if (pagingLinks == null) {
+            Page<T> page = readPage(url);
+
+            bufferedUrl = url;
+            advance(page);
+            buffered = page;
+        }
+
+        Optional<String> lastPageUrl = Optional.ofNullable(pagingLinks)
+                .flatMap(PagingLinks::getLastPageUrl);
+        Optional<Integer> firstPageNumber = Optional.ofNullable(url)
+                .flatMap(PagingLinks::getPage);
+        Optional<Integer> lastPageNumber = lastPageUrl
+                .flatMap(PagingLinks::getPage)
+                .map(last -> (endPage != null ? Math.min(last, endPage) : last));
+
+        if (!lastPageUrl.isPresent() || !firstPageNumber.isPresent() || !lastPageNumber.isPresent()) {
+            return null;
+        }
+
+        int pagesRemaining = lastPageNumber.get() - firstPageNumber.get() + 1;
+        int bufferedPages = (buffered != null ? 1 : 0);
+
+        // The buffered page has been read, and always remains with the first half of the split
+        int firstHalfPages = ((pagesRemaining + bufferedPages) / 2) - bufferedPages;
+        int secondHalfPages = pagesRemaining - firstHalfPages;
+
+        if (firstHalfPages + bufferedPages <= 0 || secondHalfPages <= 0 || !hasRateLimitHeadroom(pagesRemaining)) {
+            return null;
+        }
+
+        if (!reserveSplit()) {
+            return null;
+        }
+
+        int secondHalfStart = firstPageNumber.get() + firstHalfPages;
+        Optional<Integer> perPage = PagingLinks.getPerPage(lastPageUrl.get());
+
+        GitHubPageIterator<T> result = new GitHubPageIterator<>(url, authorizationHeader, userAgent, itemMapper,
+                mediaType, httpClient, options);
+        result.splitBudget = splitBudget;
+        result.endPage = secondHalfStart - 1;
+        result.pagingLinks = pagingLinks;
+        result.rateLimitRemaining = rateLimitRemaining;
+        result.buffered = buffered;
+        result.bufferedUrl = bufferedUrl;
+        result.elementsConsumed = elementsConsumed;
+        result.remainingEstimate = perPage.map(size -> (long) firstHalfPages * size);
+
+        if (firstHalfPages == 0) {
+            result.url = null;
+        }
+
+        url = HttpUrl.get(lastPageUrl.get()).newBuilder()
+                .setQueryParameter(PAGE_PARAMETER, Integer.toString(secondHalfStart))
+                .build()
+                .toString();
+        buffered = null;
+        bufferedUrl = null;
+        remainingEstimate = perPage.map(size -> (long) secondHalfPages * size);
+
+        return result;
     }
 
     @Override
     public long estimateSize() {
-        return remainingEstimate
+        long bufferedSize = (buffered != null ? buffered.getElements().size() : 0);
+
+        long estimate = remainingEstimate
+                .map(remaining -> remaining + bufferedSize)
                 .orElse(Long.MAX_VALUE);
+
+        return (remainingLimit != null ? Math.min(estimate, remainingLimit) : estimate);
     }
 
     /**
@@ -220,7 +736,7 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
      */
     public static GitHubPageIterator<JsonElement> gson(String url, Supplier<String> authorizationHeader,
             String userAgent) {
-        return new GitHubPageIterator<>(url, authorizationHeader, userAgent, new JsonElementConverter());
+        return gson(url, authorizationHeader, userAgent, MediaTypes.APP_PREVIEW);
     }
 
     /**
@@ -241,134 +757,1040 @@ public class GitHubPageIterator<T> implements PageIterator<T> {
      */
     public static GitHubPageIterator<JsonElement> gson(String url, Supplier<String> authorizationHeader,
             String userAgent, String mediaType) {
-        return new GitHubPageIterator<>(url, authorizationHeader, userAgent, new JsonElementConverter(), mediaType);
+        return gson(url, authorizationHeader, userAgent, mediaType, HttpClients.getDefault());
     }
 
     /**
-     * Generates and executes a request to the provided URL with the configured user agent, media type, and
-     * authorization header
+     * Creates a new {@link GitHubPageIterator} configured to extract paged elements into Gson {@link JsonElement}
+     * instances
      *
      * @param url
-     *            The URL to make a request to
-     * @return Representation of the response provided from the server
-     * @throws IOException
-     *             If there is an issue making the request to the server (connection issue, timeout, etc)
+     *            The initial URL to request paged data from
+     * @param authorizationHeader
+     *            Supplier which provides contents for the {@code Authorization} header when making requests
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @return A GitHubPageIterator which allows iteration over elements as JsonElement instances
+     * @since 1.3.0
      */
-    private Response getResponse(String url) throws IOException {
-        Objects.requireNonNull(url);
-
-        Request request = new Request.Builder()
-                .get()
-                .header("User-Agent", userAgent)
-                .header("Accept", mediaType)
-                .header("Authorization", authorizationHeader.get())
-                .url(url)
-                .build();
-
-        return httpClient.newCall(request).execute();
+    public static GitHubPageIterator<JsonElement> gson(String url, Supplier<String> authorizationHeader,
+            String userAgent, String mediaType, OkHttpClient httpClient) {
+        return streaming(url, authorizationHeader, userAgent, GSON.getAdapter(JsonElement.class), mediaType,
+                httpClient);
     }
 
     /**
-     * Estimates the maximum number of elements which may be remaining based on the page read and the next page to read
-     *
-     * <p>
-     * This function notable over-estimates - it provides the maximum possible number of elements, assuming that even
-     * the last page will contain exactly as many elements as were request per-page
+     * Creates a new {@link GitHubPageIterator} configured to read paged elements directly into instances of the provided
+     * type via Gson, without creating an intermediate JSON representation of each page
      *
-     * @param pagingLinks
-     *            Representation of the GitHub links used to traverse paged responses
-     * @return A high-ball estimate of the remaining elements, or empty if not enough information is available to make a
-     *         reasonable estimate
+     * @param url
+     *            The initial URL to request paged data from
+     * @param authorizationHeader
+     *            Supplier which provides contents for the {@code Authorization} header when making requests
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param type
+     *            The type to read each paged element as
+     * @param <T>
+     *            Type representing an individual paged element
+     * @return A GitHubPageIterator which allows iteration over elements as instances of the provided type
+     * @since 1.3.0
      */
-    private Optional<Long> estimateRemaining(PagingLinks pagingLinks) {
-        Objects.requireNonNull(pagingLinks);
-
-        Integer result = null;
-
-        if (hasNext()) {
-            Optional<Integer> perPage = Optional.ofNullable(pagingLinks)
-                    .flatMap(PagingLinks::getNextPageUrl)
-                    .flatMap(PagingLinks::getPerPage);
-
-            Optional<Integer> nextPageNumber = Optional.ofNullable(pagingLinks)
-                    .flatMap(PagingLinks::getNextPageUrl)
-                    .flatMap(PagingLinks::getPage);
-
-            Optional<Integer> lastPageNumber = Optional.ofNullable(pagingLinks)
-                    .flatMap(PagingLinks::getLastPageUrl)
-                    .flatMap(PagingLinks::getPage);
-
-            if (perPage.isPresent() && nextPageNumber.isPresent() && lastPageNumber.isPresent()) {
-                // The plus one accounts for having not read the next page
-                int pagesRemaining = lastPageNumber.get() - nextPageNumber.get() + 1;
-
-                result = pagesRemaining * perPage.get();
-            }
-        } else {
-            result = 0;
-        }
-
-        return Optional.ofNullable(result).map(Integer::longValue);
+    public static <T> GitHubPageIterator<T> ofType(String url, Supplier<String> authorizationHeader, String userAgent,
+            Class<T> type) {
+        return ofType(url, authorizationHeader, userAgent, type, MediaTypes.APP_PREVIEW);
     }
 
     /**
-     * Function implementation which allows chaining of additional functions to transform the individual elements of a
-     * paged response
+     * Creates a new {@link GitHubPageIterator} configured to read paged elements directly into instances of the provided
+     * type via Gson, without creating an intermediate JSON representation of each page
      *
-     * @author romeara
+     * @param url
+     *            The initial URL to request paged data from
+     * @param authorizationHeader
+     *            Supplier which provides contents for the {@code Authorization} header when making requests
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param type
+     *            The type to read each paged element as
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param <T>
+     *            Type representing an individual paged element
+     * @return A GitHubPageIterator which allows iteration over elements as instances of the provided type
+     * @since 1.3.0
+     */
+    public static <T> GitHubPageIterator<T> ofType(String url, Supplier<String> authorizationHeader, String userAgent,
+            Class<T> type, String mediaType) {
+        return ofType(url, authorizationHeader, userAgent, type, mediaType, HttpClients.getDefault());
+    }
+
+    /**
+     * Creates a new {@link GitHubPageIterator} configured to read paged elements directly into instances of the provided
+     * type via Gson, without creating an intermediate JSON representation of each page
+     *
+     * @param url
+     *            The initial URL to request paged data from
+     * @param authorizationHeader
+     *            Supplier which provides contents for the {@code Authorization} header when making requests
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param type
+     *            The type to read each paged element as
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param <T>
+     *            Type representing an individual paged element
+     * @return A GitHubPageIterator which allows iteration over elements as instances of the provided type
+     * @since 1.3.0
+     */
+    public static <T> GitHubPageIterator<T> ofType(String url, Supplier<String> authorizationHeader, String userAgent,
+            Class<T> type, String mediaType, OkHttpClient httpClient) {
+        Objects.requireNonNull(type);
+
+        return streaming(url, authorizationHeader, userAgent, GSON.getAdapter(type), mediaType, httpClient);
+    }
+
+    /**
+     * Creates a new {@link GitHubPageIterator} which reads the elements of each page's JSON array one at a time from
+     * the response stream via the provided adapter
+     *
+     * <p>
+     * Neither the response body nor a JSON tree of the full page is held in memory, which reduces the memory required
+     * per page compared to deserializers which operate on the full response content. Allows use of adapters from a
+     * client-configured {@link Gson} instance, such as those with custom naming policies or type adapters
+     *
+     * @param url
+     *            The initial URL to request paged data from
+     * @param authorizationHeader
+     *            Supplier which provides contents for the {@code Authorization} header when making requests
+     * @param userAgent
+     *            The user agent to make web requests as, as
+     *            <a href="https://developer.github.com/v3/#user-agent-required">required by GitHub</a>
+     * @param elementAdapter
+     *            Adapter which reads a single element of the page's JSON array
+     * @param mediaType
+     *            The media type to request from the server via {@code Accept} header
+     * @param httpClient
+     *            Client used to make web requests to GitHub. See {@link HttpClients} for sharing clients between
+     *            components
+     * @param <T>
+     *            Type representing an individual paged element
+     * @return A GitHubPageIterator which allows iteration over elements as read by the provided adapter
+     * @since 1.3.0
+     */
+    public static <T> GitHubPageIterator<T> streaming(String url, Supplier<String> authorizationHeader,
+            String userAgent, TypeAdapter<T> elementAdapter, String mediaType, OkHttpClient httpClient) {
+        return new GitHubPageIterator<>(Objects.requireNonNull(url), authorizationHeader, userAgent,
+                new JsonArrayConverter<>(new StreamingPageDeserializer<>(elementAdapter), Function.identity()),
+                mediaType, httpClient, Options.defaults());
+    }
+
+    /**
+     * Reads the page at the current URL from requests made in the background, and ensures requests for upcoming pages
+     * are in progress
+     *
+     * @return The page at the current URL
+     */
+    private Page<T> nextPrefetched() {
+        Executor executor = options.getPrefetchExecutor()
+                .orElseThrow(() -> new IllegalStateException("Prefetching is not enabled"));
+
+        if (prefetched.isEmpty()) {
+            String pageUrl = url;
+
+            prefetched.add(CompletableFuture.supplyAsync(() -> readPage(pageUrl), executor));
+        }
+
+        // Chain requests for upcoming pages, each using the next page link of the page before it
+        while (prefetched.size() <= options.getPrefetchDepth()) {
+            prefetched.add(prefetched.getLast().thenApplyAsync(this::readFollowingPage, executor));
+        }
+
+        try {
+            Page<T> result = prefetched.poll().join();
+
+            // Requests past the final page resolve to no page
+            if (!getNextPageUrl(result.getPagingLinks()).isPresent()) {
+                discardPrefetched();
+            }
+
+            return result;
+        } catch (CompletionException e) {
+            // Discard requests chained from the failed one - a later call will request the current URL again
+            discardPrefetched();
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new GitHubResponseException("Error reading response from GitHub", e.getCause());
+        }
+    }
+
+    /**
+     * Discards pages requested in the background. Requests which have not started are cancelled, so that they are never
+     * made - requests already in progress are allowed to complete, but their pages are not read
+     */
+    private void discardPrefetched() {
+        prefetched.forEach(future -> future.cancel(false));
+        prefetched.clear();
+    }
+
+    /**
+     * Requests and reads the page following a previously read page, if there is one
+     *
+     * @param previous
+     *            The previously read page, or null if there was no previous page to read
+     * @return The following page, or null if there is no following page
+     */
+    @Nullable
+    private Page<T> readFollowingPage(@Nullable Page<T> previous) {
+        return Optional.ofNullable(previous)
+                .flatMap(page -> getNextPageUrl(page.getPagingLinks()))
+                .map(this::readPage)
+                .orElse(null);
+    }
+
+    /**
+     * Requests and reads a single page of elements
+     *
+     * @param pageUrl
+     *            The URL of the page to read
+     * @return The elements of the page, and the links to related pages
+     * @throws GitHubResponseException
+     *             If the request was unsuccessful, or there is an error reading the response
+     */
+    private Page<T> readPage(String pageUrl) {
+        PageRequest pageRequest = newPageRequest(pageUrl);
+
+        try (Response response = httpClient.newCall(pageRequest.getRequest()).execute()) {
+            return readResponse(pageRequest, response);
+        } catch (IOException e) {
+            throw new GitHubResponseException("Error reading response from GitHub", e);
+        }
+    }
+
+    /**
+     * Reads a single page of elements from the response to a page request
+     *
+     * @param pageRequest
+     *            The request made for the page
+     * @param response
+     *            The response provided by GitHub
+     * @return The elements of the page, and the links to related pages
+     * @throws IOException
+     *             If there is an error reading the response
+     * @throws GitHubResponseException
+     *             If the request was unsuccessful
+     */
+    private Page<T> readResponse(PageRequest pageRequest, Response response) throws IOException {
+        Integer rateLimitRemaining = getRateLimitRemaining(response);
+        RateLimitTracker.getDefault().record(RateLimitTracker.getScope(pageRequest.getRequest()), response);
+        CachedPage cached = pageRequest.getCached().orElse(null);
+
+        if (cached != null && response.code() == HTTP_NOT_MODIFIED) {
+            try (ResponseBody cachedBody = ResponseBody.create(cached.getBody(), JSON_MEDIA_TYPE)) {
+                return new Page<>(itemMapper.read(cachedBody), new PagingLinks(cached.getLinks()),
+                        rateLimitRemaining);
+            }
+        }
+
+        if (!response.isSuccessful()) {
+            ResponseConditions.checkRateLimit(response);
+
+            throw new GitHubResponseException("Response returned unsuccessfully (" + response.code() + ")");
+        }
+
+        PagingLinks pagingLinks = new PagingLinks(response.headers("Link"));
+        String entityTag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+
+        PageCache pageCache = options.getPageCache().orElse(null);
+        String cacheKey = pageRequest.getCacheKey().orElse(null);
+
+        try (ResponseBody responseBody = response.body()) {
+            if (pageCache == null || cacheKey == null || (entityTag == null && lastModified == null)) {
+                return new Page<>(itemMapper.read(responseBody), pagingLinks, rateLimitRemaining);
+            }
+
+            // Content is retained for future conditional requests, so it is buffered rather than streamed
+            byte[] body = responseBody.bytes();
+            Collection<T> elements;
+
+            try (ResponseBody bufferedBody = ResponseBody.create(body, responseBody.contentType())) {
+                elements = itemMapper.read(bufferedBody);
+            }
+
+            pageCache.put(cacheKey, new CachedPage(body, entityTag, lastModified, response.headers("Link")));
+
+            return new Page<>(elements, pagingLinks, rateLimitRemaining);
+        }
+    }
+
+    /**
+     * Updates tracking of paging position (URL, paging links, and rate limit) based on a newly read page
+     *
+     * @param page
+     *            The page most recently read
+     */
+    private void advance(Page<T> page) {
+        url = getNextPageUrl(page.getPagingLinks()).orElse(null);
+        pagingLinks = page.getPagingLinks();
+        remainingEstimate = estimateRemaining(page.getPagingLinks());
+
+        if (page.getRateLimitRemaining() != null) {
+            rateLimitRemaining = page.getRateLimitRemaining();
+        }
+    }
+
+    /**
+     * @param pagingLinks
+     *            Representation of the GitHub links used to traverse paged responses
+     * @return The URL of the page following the one the links were read from, or empty if there are no further pages
+     *         within the range of this iterator
+     */
+    private Optional<String> getNextPageUrl(PagingLinks pagingLinks) {
+        Integer end = endPage;
+
+        return pagingLinks.getNextPageUrl()
+                .filter(next -> end == null || PagingLinks.getPage(next).map(page -> page <= end).orElse(true));
+    }
+
+    /**
+     * @param elements
+     *            Elements of a page
+     * @param maximum
+     *            The maximum number of elements to retain
+     * @param <E>
+     *            Type representing an individual paged element
+     * @return The first elements of the page, up to the provided maximum
+     */
+    private static <E> Collection<E> truncate(Collection<E> elements, int maximum) {
+        return (elements.size() <= maximum ? elements
+                : elements.stream()
+                .limit(maximum)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @param pagesRemaining
+     *            The number of pages which remain to be read
+     * @return True if reading the remaining pages is expected to leave at least the configured headroom in the most
+     *         recently reported rate limit, or if no rate limit has been reported
+     */
+    private boolean hasRateLimitHeadroom(int pagesRemaining) {
+        return rateLimitRemaining == null || (rateLimitRemaining - pagesRemaining) >= options.getRateLimitHeadroom();
+    }
+
+    /**
+     * Consumes one split from the budget shared by related iterators, if any remain
+     *
+     * @return True if a split was reserved, false if the maximum concurrency has been reached
+     */
+    private boolean reserveSplit() {
+        int available = splitBudget.get();
+
+        while (available > 0) {
+            if (splitBudget.compareAndSet(available, available - 1)) {
+                return true;
+            }
+
+            available = splitBudget.get();
+        }
+
+        return false;
+    }
+
+    /**
+     * Transfers the paging position of this iterator to a newly configured iterator starting from the same URL
+     *
+     * @param target
+     *            The newly configured iterator
+     * @param mapperPerElement
+     *            Function transforming elements of this iterator to the representation of the target iterator
+     * @param <S>
+     *            Type representing an individual paged element of the target iterator
+     * @return The target iterator
+     */
+    private <S> GitHubPageIterator<S> continuePosition(GitHubPageIterator<S> target, Function<T, S> mapperPerElement) {
+        target.endPage = endPage;
+        target.pagingLinks = pagingLinks;
+        target.rateLimitRemaining = rateLimitRemaining;
+        target.remainingEstimate = remainingEstimate;
+        target.remainingLimit = remainingLimit;
+        target.bufferedUrl = bufferedUrl;
+        target.elementsConsumed = elementsConsumed;
+        target.buffered = Optional.ofNullable(buffered)
+                .map(page -> page.map(mapperPerElement))
+                .orElse(null);
+
+        return target;
+    }
+
+    /**
+     * @param response
+     *            Response read from GitHub
+     * @return The number of requests remaining in the current rate limit window, or null if not reported
+     */
+    @Nullable
+    private static Integer getRateLimitRemaining(Response response) {
+        Integer result = null;
+        String header = response.header(RATE_LIMIT_REMAINING_HEADER);
+
+        if (header != null) {
+            try {
+                result = Integer.valueOf(header.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Non-numeric rate limit remaining header encountered: {}", header);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates a request to the provided URL with the configured user agent, media type, and authorization header
+     *
+     * <p>
+     * If a previously read copy of the page is stored, the request is made conditional on the page having been
+     * modified since
+     *
+     * @param url
+     *            The URL to make a request to
+     * @return Representation of the request to make, and the stored copy of the page it was made conditional on
+     */
+    private PageRequest newPageRequest(String url) {
+        Objects.requireNonNull(url);
+
+        String authorization = authorizationHeader.get();
+        PageCache pageCache = options.getPageCache().orElse(null);
+        String cacheKey = (pageCache != null ? getCacheKey(url, authorization) : null);
+        CachedPage cached = (pageCache != null ? pageCache.get(cacheKey).orElse(null) : null);
+
+        Request.Builder request = new Request.Builder()
+                .get()
+                .header("User-Agent", userAgent)
+                .header("Accept", mediaType)
+                .header("Authorization", authorization)
+                .url(url);
+
+        RateLimitTracker.withScope(request, getRateLimitScope(authorization));
+
+        if (cached != null) {
+            cached.getEntityTag().ifPresent(entityTag -> request.header("If-None-Match", entityTag));
+            cached.getLastModified().ifPresent(lastModified -> request.header("If-Modified-Since", lastModified));
+        }
+
+        return new PageRequest(request.build(), cacheKey, cached);
+    }
+
+    /**
+     * @param authorization
+     *            Contents for the {@code Authorization} header used to read a page
+     * @return The identity pages are requested as, for recording and pacing against reported rate limits
+     */
+    private String getRateLimitScope(String authorization) {
+        String result = null;
+
+        // Installations share a rate limit across all tokens generated for them
+        if (authorizationHeader instanceof InstallationAccessToken) {
+            result = RateLimitTracker.installationScope(
+                    ((InstallationAccessToken) authorizationHeader).getInstallationAccessTokenUrl());
+        } else {
+            result = RateLimitTracker.authorizationScope(authorization);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param pageUrl
+     *            The URL of the page to read
+     * @param authorization
+     *            Contents for the {@code Authorization} header used to read the page
+     * @return Key representing the page, media type, and authorization scope within a {@link PageCache}
+     */
+    private String getCacheKey(String pageUrl, String authorization) {
+        String scope = options.getCacheScope()
+                .orElseGet(() -> DigestUtils.sha256Hex(authorization));
+
+        return DigestUtils.sha256Hex(scope + "\n" + mediaType + "\n" + pageUrl);
+    }
+
+    /**
+     * Estimates the maximum number of elements which may be remaining based on the page read and the next page to read
+     *
+     * <p>
+     * This function notable over-estimates - it provides the maximum possible number of elements, assuming that even
+     * the last page will contain exactly as many elements as were request per-page
+     *
+     * @param pagingLinks
+     *            Representation of the GitHub links used to traverse paged responses
+     * @return A high-ball estimate of the remaining elements, or empty if not enough information is available to make a
+     *         reasonable estimate
+     */
+    private Optional<Long> estimateRemaining(PagingLinks pagingLinks) {
+        Objects.requireNonNull(pagingLinks);
+
+        Integer result = null;
+
+        if (url != null) {
+            Optional<Integer> perPage = Optional.ofNullable(pagingLinks)
+                    .flatMap(PagingLinks::getNextPageUrl)
+                    .flatMap(PagingLinks::getPerPage);
+
+            Optional<Integer> nextPageNumber = Optional.ofNullable(pagingLinks)
+                    .flatMap(PagingLinks::getNextPageUrl)
+                    .flatMap(PagingLinks::getPage);
+
+            Optional<Integer> lastPageNumber = Optional.ofNullable(pagingLinks)
+                    .flatMap(PagingLinks::getLastPageUrl)
+                    .flatMap(PagingLinks::getPage)
+                    .map(last -> (endPage != null ? Math.min(last, endPage) : last));
+
+            if (perPage.isPresent() && nextPageNumber.isPresent() && lastPageNumber.isPresent()) {
+                // The plus one accounts for having not read the next page
+                int pagesRemaining = lastPageNumber.get() - nextPageNumber.get() + 1;
+
+                result = pagesRemaining * perPage.get();
+            }
+        } else {
+            result = 0;
+        }
+
+        return Optional.ofNullable(result).map(Integer::longValue);
+    }
+
+    /**
+     * Represents the elements read from a single page, and the links to related pages
+     *
+     * @author romeara
+     *
+     * @param <T>
+     *            Type representing an individual paged element
+     */
+    private static final class Page<T> {
+
+        private final Collection<T> elements;
+
+        private final PagingLinks pagingLinks;
+
+        @Nullable
+        private final Integer rateLimitRemaining;
+
+        public Page(Collection<T> elements, PagingLinks pagingLinks, @Nullable Integer rateLimitRemaining) {
+            this.elements = Objects.requireNonNull(elements);
+            this.pagingLinks = Objects.requireNonNull(pagingLinks);
+            this.rateLimitRemaining = rateLimitRemaining;
+        }
+
+        public Collection<T> getElements() {
+            return elements;
+        }
+
+        public PagingLinks getPagingLinks() {
+            return pagingLinks;
+        }
+
+        @Nullable
+        public Integer getRateLimitRemaining() {
+            return rateLimitRemaining;
+        }
+
+        public <S> Page<S> map(Function<T, S> mapperPerElement) {
+            Collection<S> mapped = elements.stream()
+                    .map(mapperPerElement)
+                    .collect(Collectors.toList());
+
+            return new Page<>(mapped, pagingLinks, rateLimitRemaining);
+        }
+
+    }
+
+    /**
+     * Subscription which reads pages asynchronously as a subscriber demands elements
+     *
+     * <p>
+     * All signals to the subscriber are made from {@link #drain()}, which allows only one thread to signal at a time.
+     * Other threads record state changes and request a drain, which the thread currently draining completes before
+     * exiting
+     *
+     * @author romeara
+     */
+    private final class PageSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+
+        // Elements of the most recently read page which have not been delivered
+        private final Queue<T> undelivered;
+
+        private final AtomicLong demand;
+
+        private final AtomicInteger drainRequests;
+
+        @Nullable
+        private volatile String nextUrl;
+
+        // True from the start of building a page request until its response is handled
+        private volatile boolean inFlight;
+
+        @Nullable
+        private volatile Call call;
+
+        @Nullable
+        private volatile Throwable failure;
+
+        private volatile boolean cancelled;
+
+        // Number of elements which may still be read, if limited. Only accessed by the thread handling a response
+        @Nullable
+        private Integer limit;
+
+        // Only accessed while draining
+        private boolean terminated;
+
+        public PageSubscription(@Nullable String startUrl, @Nullable Integer limit, Subscriber<? super T> subscriber) {
+            this.nextUrl = startUrl;
+            this.limit = limit;
+            this.subscriber = Objects.requireNonNull(subscriber);
+
+            undelivered = new ConcurrentLinkedQueue<>();
+            demand = new AtomicLong(0);
+            drainRequests = new AtomicInteger(0);
+            inFlight = false;
+            call = null;
+            failure = null;
+            cancelled = false;
+            terminated = false;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reactive Streams rule 3.9 requires an error to be signaled for non-positive requests
+                failure = new IllegalArgumentException("Must request a positive number of elements (rule 3.9)");
+                stop();
+            } else {
+                demand.getAndUpdate(current -> (current + n < 0 ? Long.MAX_VALUE : current + n));
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            stop();
+            drain();
+        }
+
+        public void drain() {
+            if (drainRequests.getAndIncrement() == 0) {
+                int missed = 1;
+
+                while (missed != 0) {
+                    if (!terminated) {
+                        drainOnce();
+                    }
+
+                    missed = drainRequests.addAndGet(-missed);
+                }
+            }
+        }
+
+        private void drainOnce() {
+            while (!cancelled && demand.get() > 0 && !undelivered.isEmpty()) {
+                subscriber.onNext(undelivered.poll());
+
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+            }
+
+            if (cancelled) {
+                terminated = true;
+                undelivered.clear();
+            } else if (undelivered.isEmpty() && !inFlight) {
+                String pageUrl = nextUrl;
+
+                if (failure != null) {
+                    terminated = true;
+                    subscriber.onError(failure);
+                } else if (pageUrl == null) {
+                    terminated = true;
+                    subscriber.onComplete();
+                } else if (demand.get() > 0) {
+                    requestPage(pageUrl);
+                }
+            }
+        }
+
+        private void requestPage(String pageUrl) {
+            inFlight = true;
+
+            try {
+                // Reading the authorization header may renew an installation token, which would block the subscriber's
+                // thread if done within request(n) (rules 3.4 and 3.5)
+                CompletableFuture.supplyAsync(() -> newPageRequest(pageUrl), httpClient.dispatcher().executorService())
+                .whenComplete((pageRequest, error) -> {
+                    if (error != null) {
+                        boolean wrapped = (error instanceof CompletionException && error.getCause() != null);
+
+                        onRequestFailure(wrapped ? error.getCause() : error);
+                    } else {
+                        enqueue(pageRequest);
+                    }
+                });
+            } catch (RuntimeException e) {
+                inFlight = false;
+                failure = e;
+
+                // Called while draining - ensures the failure is signaled before draining completes
+                drainRequests.incrementAndGet();
+            }
+        }
+
+        private void enqueue(PageRequest pageRequest) {
+            try {
+                Call pageCall = httpClient.newCall(pageRequest.getRequest());
+
+                call = pageCall;
+                pageCall.enqueue(new Callback() {
+
+                    @Override
+                    public void onResponse(Call call, Response response) {
+                        onPageResponse(pageRequest, response);
+                    }
+
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        onRequestFailure(new GitHubResponseException("Error reading response from GitHub", e));
+                    }
+
+                });
+
+                // Cancellation may have occurred before the call was recorded
+                if (cancelled) {
+                    pageCall.cancel();
+                }
+            } catch (RuntimeException e) {
+                onRequestFailure(e);
+            }
+        }
+
+        private void onPageResponse(PageRequest pageRequest, Response response) {
+            try (Response closeable = response) {
+                if (!cancelled && failure == null) {
+                    Page<T> page = readResponse(pageRequest, closeable);
+                    Collection<T> elements = page.getElements();
+                    String followingUrl = getNextPageUrl(page.getPagingLinks()).orElse(null);
+
+                    if (limit != null) {
+                        elements = truncate(elements, limit);
+                        limit -= elements.size();
+                        followingUrl = (limit > 0 ? followingUrl : null);
+                    }
+
+                    undelivered.addAll(elements);
+                    nextUrl = followingUrl;
+                }
+            } catch (IOException e) {
+                failure = new GitHubResponseException("Error reading response from GitHub", e);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+
+            call = null;
+            inFlight = false;
+            drain();
+        }
+
+        private void onRequestFailure(Throwable e) {
+            if (!cancelled && failure == null) {
+                failure = e;
+            }
+
+            call = null;
+            inFlight = false;
+            drain();
+        }
+
+        /**
+         * Stops reading further pages, cancelling any request in progress
+         */
+        private void stop() {
+            nextUrl = null;
+            undelivered.clear();
+
+            Call pageCall = call;
+
+            if (pageCall != null) {
+                pageCall.cancel();
+            }
+        }
+
+    }
+
+    /**
+     * Represents a request for a single page, and the stored copy of the page the request was made conditional on
+     *
+     * @author romeara
+     */
+    private static final class PageRequest {
+
+        private final Request request;
+
+        @Nullable
+        private final String cacheKey;
+
+        @Nullable
+        private final CachedPage cached;
+
+        public PageRequest(Request request, @Nullable String cacheKey, @Nullable CachedPage cached) {
+            this.request = Objects.requireNonNull(request);
+            this.cacheKey = cacheKey;
+            this.cached = cached;
+        }
+
+        public Request getRequest() {
+            return request;
+        }
+
+        public Optional<String> getCacheKey() {
+            return Optional.ofNullable(cacheKey);
+        }
+
+        public Optional<CachedPage> getCached() {
+            return Optional.ofNullable(cached);
+        }
+
+    }
+
+    /**
+     * Settings which control how pages are requested, which are retained when an iterator is transformed
+     *
+     * @author romeara
+     */
+    private static final class Options {
+
+        private static final Options DEFAULTS = new Options(0, null, 1, 0, null, null, null);
+
+        private final int prefetchDepth;
+
+        @Nullable
+        private final Executor prefetchExecutor;
+
+        private final int maxConcurrency;
+
+        private final int rateLimitHeadroom;
+
+        @Nullable
+        private final PageCache pageCache;
+
+        @Nullable
+        private final String cacheScope;
+
+        @Nullable
+        private final Consumer<PageCursor> checkpoint;
+
+        private Options(int prefetchDepth, @Nullable Executor prefetchExecutor, int maxConcurrency,
+                int rateLimitHeadroom, @Nullable PageCache pageCache, @Nullable String cacheScope,
+                @Nullable Consumer<PageCursor> checkpoint) {
+            this.prefetchDepth = prefetchDepth;
+            this.prefetchExecutor = prefetchExecutor;
+            this.maxConcurrency = maxConcurrency;
+            this.rateLimitHeadroom = rateLimitHeadroom;
+            this.pageCache = pageCache;
+            this.cacheScope = cacheScope;
+            this.checkpoint = checkpoint;
+        }
+
+        public static Options defaults() {
+            return DEFAULTS;
+        }
+
+        public int getPrefetchDepth() {
+            return prefetchDepth;
+        }
+
+        public Optional<Executor> getPrefetchExecutor() {
+            return Optional.ofNullable(prefetchExecutor);
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public int getRateLimitHeadroom() {
+            return rateLimitHeadroom;
+        }
+
+        public Optional<PageCache> getPageCache() {
+            return Optional.ofNullable(pageCache);
+        }
+
+        public Optional<String> getCacheScope() {
+            return Optional.ofNullable(cacheScope);
+        }
+
+        public Optional<Consumer<PageCursor>> getCheckpoint() {
+            return Optional.ofNullable(checkpoint);
+        }
+
+        public Options withPrefetch(int prefetchDepth, Executor prefetchExecutor) {
+            return new Options(prefetchDepth, prefetchExecutor, maxConcurrency, rateLimitHeadroom, pageCache,
+                    cacheScope, checkpoint);
+        }
+
+        public Options withParallelism(int maxConcurrency, int rateLimitHeadroom) {
+            return new Options(prefetchDepth, prefetchExecutor, maxConcurrency, rateLimitHeadroom, pageCache,
+                    cacheScope, checkpoint);
+        }
+
+        public Options withCache(PageCache pageCache, @Nullable String cacheScope) {
+            return new Options(prefetchDepth, prefetchExecutor, maxConcurrency, rateLimitHeadroom, pageCache,
+                    cacheScope, checkpoint);
+        }
+
+        public Options withCheckpoint(Consumer<PageCursor> checkpoint) {
+            return new Options(prefetchDepth, prefetchExecutor, maxConcurrency, rateLimitHeadroom, pageCache,
+                    cacheScope, checkpoint);
+        }
+
+    }
+
+    /**
+     * Reads the body of a paged response into individual elements
+     *
+     * @author romeara
+     *
+     * @param <S>
+     *            The representation elements are read as
+     */
+    @FunctionalInterface
+    private interface PageDeserializer<S> {
+
+        /**
+         * Reads the elements of a page, transforming each as it is read
+         *
+         * @param responseBody
+         *            The body of a paged response
+         * @param mapperPerElement
+         *            Function to apply to each element as it is read
+         * @param <T>
+         *            The representation elements are transformed to
+         * @return The transformed elements of the page
+         * @throws IOException
+         *             If there is an error reading the response body
+         */
+        <T> Collection<T> read(ResponseBody responseBody, Function<S, T> mapperPerElement) throws IOException;
+
+    }
+
+    /**
+     * Allows chaining of additional functions to transform the individual elements of a paged response
+     *
+     * @author romeara
      *
      * @param <S>
      *            The starting representation of a given element
      * @param <T>
      *            The current provided implementation of the given element
      */
-    private static final class JsonArrayConverter<S, T> implements Function<String, Collection<T>> {
+    private static final class JsonArrayConverter<S, T> {
 
-        private final Function<String, Collection<S>> jsonDeserializer;
+        private final PageDeserializer<S> pageDeserializer;
 
         private final Function<S, T> mapperPerElement;
 
-        public JsonArrayConverter(Function<String, Collection<S>> jsonDeserializer, Function<S, T> mapperPerElement) {
-            this.jsonDeserializer = Objects.requireNonNull(jsonDeserializer);
+        public JsonArrayConverter(PageDeserializer<S> pageDeserializer, Function<S, T> mapperPerElement) {
+            this.pageDeserializer = Objects.requireNonNull(pageDeserializer);
             this.mapperPerElement = Objects.requireNonNull(mapperPerElement);
         }
 
-        @Override
-        public Collection<T> apply(String json) {
-            return jsonDeserializer.apply(json).stream()
-                    .map(mapperPerElement)
-                    .collect(Collectors.toList());
+        public Collection<T> read(ResponseBody responseBody) throws IOException {
+            return pageDeserializer.read(responseBody, mapperPerElement);
         }
 
         public <U> JsonArrayConverter<S, U> andThenEach(Function<T, U> mapperPerElement) {
-            return new JsonArrayConverter<>(jsonDeserializer, this.mapperPerElement.andThen(mapperPerElement));
+            return new JsonArrayConverter<>(pageDeserializer, this.mapperPerElement.andThen(mapperPerElement));
         }
 
     }
 
     /**
-     * Converter used in {@link GitHubPageIterator#gson(String, Supplier, String)} call to support basic conversion from
-     * JSON string to JSON elements from the array
+     * Deserializer which reads the full body of a page as a string, and provides it to a client-provided function
+     *
+     * @author romeara
+     *
+     * @param <S>
+     *            The representation elements are read as
+     */
+    private static final class StringPageDeserializer<S> implements PageDeserializer<S> {
+
+        private final Function<String, Collection<S>> jsonDeserializer;
+
+        public StringPageDeserializer(Function<String, Collection<S>> jsonDeserializer) {
+            this.jsonDeserializer = Objects.requireNonNull(jsonDeserializer);
+        }
+
+        @Override
+        public <T> Collection<T> read(ResponseBody responseBody, Function<S, T> mapperPerElement) throws IOException {
+            return jsonDeserializer.apply(responseBody.string()).stream()
+                    .map(mapperPerElement)
+                    .collect(Collectors.toList());
+        }
+
+    }
+
+    /**
+     * Deserializer which reads elements of a JSON array one at a time directly from the response stream
      *
      * <p>
-     * A full implementation is provided to avoid re-instantiating an instance of {@link Gson} every invocation
+     * Neither the full response body nor a JSON tree of the full page is held in memory - each element is read and
+     * transformed before the next is read, so only the transformed elements of the page are retained
      *
      * @author romeara
+     *
+     * @param <S>
+     *            The representation elements are read as
      */
-    private static final class JsonElementConverter implements Function<String, Collection<JsonElement>> {
+    private static final class StreamingPageDeserializer<S> implements PageDeserializer<S> {
 
-        private Gson gson;
+        private final TypeAdapter<S> elementAdapter;
 
-        public JsonElementConverter() {
-            gson = new GsonBuilder().create();
+        public StreamingPageDeserializer(TypeAdapter<S> elementAdapter) {
+            this.elementAdapter = Objects.requireNonNull(elementAdapter);
         }
 
         @Override
-        public Collection<JsonElement> apply(String json) {
-            JsonElement element = gson.fromJson(json, JsonElement.class);
+        public <T> Collection<T> read(ResponseBody responseBody, Function<S, T> mapperPerElement) throws IOException {
+            List<T> result = new ArrayList<>();
 
-            return StreamSupport.stream(element.getAsJsonArray().spliterator(), false)
-                    .collect(Collectors.toList());
+            try (JsonReader reader = new JsonReader(responseBody.charStream())) {
+                reader.beginArray();
+
+                while (reader.hasNext()) {
+                    result.add(mapperPerElement.apply(elementAdapter.read(reader)));
+                }
+
+                reader.endArray();
+            }
+
+            return result;
         }
 
     }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.paging;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * {@link PageCache} which retains pages in memory, bounded by the total size of the retained pages
+ *
+ * <p>
+ * When storing a page would exceed the maximum size, the least recently used pages are removed. Pages larger than the
+ * maximum size are not retained
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class MemoryPageCache implements PageCache {
+
+    private final long maximumBytes;
+
+    private final LinkedHashMap<String, CachedPage> pages;
+
+    private long currentBytes;
+
+    /**
+     * @param maximumBytes
+     *            The maximum total size of retained pages, in bytes. Must be greater than zero
+     * @since 1.3.0
+     */
+    public MemoryPageCache(long maximumBytes) {
+        Preconditions.checkArgument(maximumBytes > 0, "Must provide a maximum size greater than zero");
+
+        this.maximumBytes = maximumBytes;
+
+        // Access-ordered, so iteration begins with the least recently used page
+        pages = new LinkedHashMap<>(16, 0.75f, true);
+        currentBytes = 0;
+    }
+
+    @Override
+    public synchronized Optional<CachedPage> get(String key) {
+        Objects.requireNonNull(key);
+
+        return Optional.ofNullable(pages.get(key));
+    }
+
+    @Override
+    public synchronized void put(String key, CachedPage page) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(page);
+
+        invalidate(key);
+
+        if (page.getSize() <= maximumBytes) {
+            Iterator<Map.Entry<String, CachedPage>> eldest = pages.entrySet().iterator();
+
+            while (currentBytes + page.getSize() > maximumBytes && eldest.hasNext()) {
+                currentBytes -= eldest.next().getValue().getSize();
+                eldest.remove();
+            }
+
+            pages.put(key, page);
+            currentBytes += page.getSize();
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String key) {
+        Objects.requireNonNull(key);
+
+        CachedPage removed = pages.remove(key);
+
+        if (removed != null) {
+            currentBytes -= removed.getSize();
+        }
+    }
+
+    /**
+     * @return The number of pages currently retained
+     * @since 1.3.0
+     */
+    public synchronized int size() {
+        return pages.size();
+    }
+
+    /**
+     * @return The total size of pages currently retained, in bytes
+     * @since 1.3.0
+     */
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("maximumBytes", maximumBytes)
+                .toString();
+    }
+
+}
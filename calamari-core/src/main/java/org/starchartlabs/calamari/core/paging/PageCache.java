@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.paging;
+
+import java.util.Optional;
+
+/**
+ * Stores pages previously read from GitHub, allowing iterators to make
+ * <a href="https://docs.github.com/en/rest/overview/resources-in-the-rest-api#conditional-requests">conditional
+ * requests</a> and replay the stored page when GitHub reports it has not been modified. Conditional requests answered
+ * with {@code 304 Not Modified} do not count against GitHub's rate limit
+ *
+ * <p>
+ * Keys are provided by {@link GitHubPageIterator}, and consist only of lower-case hexadecimal characters. Each key
+ * represents a single page URL, media type, and authorization scope
+ *
+ * <p>
+ * Implementations must be safe for use by multiple threads, and may discard stored pages at any time
+ *
+ * @author romeara
+ * @since 1.3.0
+ * @see MemoryPageCache
+ * @see DiskPageCache
+ * @see TieredPageCache
+ */
+public interface PageCache {
+
+    /**
+     * @param key
+     *            Key representing a page request
+     * @return The page stored for the key, or empty if no page is stored
+     * @since 1.3.0
+     */
+    Optional<CachedPage> get(String key);
+
+    /**
+     * Stores a page, replacing any page previously stored for the key
+     *
+     * @param key
+     *            Key representing a page request
+     * @param page
+     *            The page read from GitHub for the request
+     * @since 1.3.0
+     */
+    void put(String key, CachedPage page);
+
+    /**
+     * Removes the page stored for a key, if any
+     *
+     * @param key
+     *            Key representing a page request
+     * @since 1.3.0
+     */
+    void invalidate(String key);
+
+}
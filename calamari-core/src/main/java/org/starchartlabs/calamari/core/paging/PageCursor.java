@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.paging;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Represents the position of a {@link GitHubPageIterator} between pages, allowing iteration to be resumed later - such
+ * as by another process after a restart - without re-reading pages already consumed
+ *
+ * <p>
+ * Cursors contain only the location of the next page and how to request it. Credentials are not included, and must be
+ * provided by the iterator the cursor is resumed on
+ *
+ * @author romeara
+ * @since 1.3.0
+ * @see GitHubPageIterator#getCursor()
+ * @see GitHubPageIterator#resumeFrom(PageCursor)
+ */
+public final class PageCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Nullable
+    private final String nextUrl;
+
+    private final String mediaType;
+
+    private final long elementsConsumed;
+
+    @Nullable
+    private final Integer lastPage;
+
+    @Nullable
+    private final Integer remainingLimit;
+
+    /**
+     * @param nextUrl
+     *            The URL of the next page to read, or null if all pages have been read
+     * @param mediaType
+     *            The media type requested from the server via {@code Accept} header
+     * @param elementsConsumed
+     *            The number of elements provided by the iterator before this position. Must be zero or greater
+     * @since 1.3.0
+     */
+    public PageCursor(@Nullable String nextUrl, String mediaType, long elementsConsumed) {
+        this(nextUrl, mediaType, elementsConsumed, null, null);
+    }
+
+    /**
+     * @param nextUrl
+     *            The URL of the next page to read, or null if all pages have been read
+     * @param mediaType
+     *            The media type requested from the server via {@code Accept} header
+     * @param elementsConsumed
+     *            The number of elements provided by the iterator before this position. Must be zero or greater
+     * @param lastPage
+     *            The number of the last page to read, if iteration is bounded
+     * @param remainingLimit
+     *            The number of elements which may still be provided, if iteration is limited
+     */
+    PageCursor(@Nullable String nextUrl, String mediaType, long elementsConsumed, @Nullable Integer lastPage,
+            @Nullable Integer remainingLimit) {
+        Preconditions.checkArgument(elementsConsumed >= 0, "Must provide a number of consumed elements of zero or greater");
+
+        this.nextUrl = nextUrl;
+        this.mediaType = Objects.requireNonNull(mediaType);
+        this.elementsConsumed = elementsConsumed;
+        this.lastPage = lastPage;
+        this.remainingLimit = remainingLimit;
+    }
+
+    /**
+     * @return The URL of the next page to read, or empty if all pages have been read
+     * @since 1.3.0
+     */
+    public Optional<String> getNextUrl() {
+        return Optional.ofNullable(nextUrl);
+    }
+
+    /**
+     * @return The media type requested from the server via {@code Accept} header
+     * @since 1.3.0
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return The number of elements provided by the iterator before this position
+     * @since 1.3.0
+     */
+    public long getElementsConsumed() {
+        return elementsConsumed;
+    }
+
+    /**
+     * @return True if all pages have been read, false otherwise
+     * @since 1.3.0
+     */
+    public boolean isComplete() {
+        return nextUrl == null;
+    }
+
+    /**
+     * @return The number of the last page to read, or empty if iteration continues until GitHub provides no further
+     *         pages
+     */
+    Optional<Integer> getLastPage() {
+        return Optional.ofNullable(lastPage);
+    }
+
+    /**
+     * @return The number of elements which may still be provided, or empty if iteration is not limited
+     */
+    Optional<Integer> getRemainingLimit() {
+        return Optional.ofNullable(remainingLimit);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getNextUrl(),
+                getMediaType(),
+                getElementsConsumed(),
+                getLastPage(),
+                getRemainingLimit());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof PageCursor) {
+            PageCursor compare = (PageCursor) obj;
+
+            result = Objects.equals(compare.getNextUrl(), getNextUrl())
+                    && Objects.equals(compare.getMediaType(), getMediaType())
+                    && compare.getElementsConsumed() == getElementsConsumed()
+                    && Objects.equals(compare.getLastPage(), getLastPage())
+                    && Objects.equals(compare.getRemainingLimit(), getRemainingLimit());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("nextUrl", nextUrl)
+                .add("mediaType", mediaType)
+                .add("elementsConsumed", elementsConsumed)
+                .add("lastPage", lastPage)
+                .add("remainingLimit", remainingLimit)
+                .toString();
+    }
+
+}
@@ -6,13 +6,9 @@
  */
 package org.starchartlabs.calamari.core.paging;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -38,11 +34,7 @@ import okhttp3.HttpUrl;
  */
 public class PagingLinks {
 
-    // Pattern which matches link header format returned by GitHub and allows extraction of the URL and rel key
-    // Example value: <https://api.github.com/user/repos?page=1&per_page=100>; rel="first"
-    // Example extraction: https://api.github.com/user/repos?page=1&per_page=100, first
-    private static final Pattern LINK_PATTERN = Pattern
-            .compile("\\A.*<([A-Za-z0-9\\-._~:/?#\\[\\]@!$&'()*+,;=%]*)>; rel=\"([A-Za-z0-9]*)\"");
+    private static final String REL_PARAMETER = "rel";
 
     private static final String FIRST_PAGE_REL = "first";
 
@@ -56,6 +48,14 @@ public class PagingLinks {
 
     private static final String PER_PAGE_PARAMETER = "per_page";
 
+    private static final int FIRST_INDEX = 0;
+
+    private static final int PREVIOUS_INDEX = 1;
+
+    private static final int NEXT_INDEX = 2;
+
+    private static final int LAST_INDEX = 3;
+
     /** Logger reference to output information to the application log files */
     private static final Logger logger = LoggerFactory.getLogger(PagingLinks.class);
 
@@ -80,39 +80,17 @@ public class PagingLinks {
 
         logger.debug("Link Headers: {}", links);
 
-        String firstUrl = null;
-        String prevUrl = null;
-        String nextUrl = null;
-        String lastUrl = null;
-
-        Collection<String> allLinks = links.stream()
-                .flatMap(s -> Arrays.asList(s.split(",")).stream())
-                .map(String::trim)
-                .collect(Collectors.toSet());
-
-        for (String link : allLinks) {
-            Matcher matcher = LINK_PATTERN.matcher(link);
-
-            if (matcher.matches()) {
-                String href = matcher.group(1);
-                String rel = matcher.group(2);
-
-                if (Objects.equals(rel, FIRST_PAGE_REL)) {
-                    firstUrl = href;
-                } else if (Objects.equals(rel, PREVIOUS_PAGE_REL)) {
-                    prevUrl = href;
-                } else if (Objects.equals(rel, NEXT_PAGE_REL)) {
-                    nextUrl = href;
-                } else if (Objects.equals(rel, LAST_PAGE_REL)) {
-                    lastUrl = href;
-                }
-            }
+        // Indexed by FIRST_INDEX, PREVIOUS_INDEX, NEXT_INDEX, and LAST_INDEX
+        String[] urls = new String[4];
+
+        for (String header : links) {
+            parseHeader(header, urls);
         }
 
-        firstPageUrl = Optional.ofNullable(firstUrl);
-        previousPageUrl = Optional.ofNullable(prevUrl);
-        nextPageUrl = Optional.ofNullable(nextUrl);
-        lastPageUrl = Optional.ofNullable(lastUrl);
+        firstPageUrl = Optional.ofNullable(urls[FIRST_INDEX]);
+        previousPageUrl = Optional.ofNullable(urls[PREVIOUS_INDEX]);
+        nextPageUrl = Optional.ofNullable(urls[NEXT_INDEX]);
+        lastPageUrl = Optional.ofNullable(urls[LAST_INDEX]);
     }
 
     /**
@@ -181,6 +159,172 @@ public class PagingLinks {
                 .flatMap(PagingLinks::getInteger);
     }
 
+    /**
+     * Reads the paging links within a single "Link" header value in a single pass, recording the URL of each link with
+     * a paging relation
+     *
+     * <p>
+     * Each link has the form {@code <url>; param=value; param="value"}, with links separated by commas. Commas within a
+     * URL or a quoted value do not separate links. Malformed links are skipped
+     *
+     * @param header
+     *            A "Link" header value, containing one or more links
+     * @param urls
+     *            Paging link URLs found so far, indexed by relation
+     */
+    private static void parseHeader(String header, String[] urls) {
+        int length = header.length();
+        int position = 0;
+
+        while (position < length) {
+            int urlStart = header.indexOf('<', position);
+            int urlEnd = (urlStart >= 0 ? header.indexOf('>', urlStart + 1) : -1);
+
+            if (urlEnd < 0) {
+                break;
+            }
+
+            int relStart = -1;
+            int relEnd = -1;
+            position = urlEnd + 1;
+
+            // Read parameters until the end of the link
+            while (position < length && header.charAt(position) != ',') {
+                char current = header.charAt(position);
+
+                if (current != ';') {
+                    position++;
+                    continue;
+                }
+
+                int nameStart = skipWhitespace(header, position + 1);
+                int nameEnd = nameStart;
+
+                while (nameEnd < length && isTokenCharacter(header.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+
+                position = skipWhitespace(header, nameEnd);
+
+                if (position < length && header.charAt(position) == '=') {
+                    int valueStart = skipWhitespace(header, position + 1);
+                    int valueEnd;
+
+                    if (valueStart < length && header.charAt(valueStart) == '"') {
+                        valueStart++;
+                        valueEnd = header.indexOf('"', valueStart);
+                        valueEnd = (valueEnd < 0 ? length : valueEnd);
+                        position = Math.min(valueEnd + 1, length);
+                    } else {
+                        valueEnd = valueStart;
+
+                        while (valueEnd < length && isTokenCharacter(header.charAt(valueEnd))) {
+                            valueEnd++;
+                        }
+
+                        position = valueEnd;
+                    }
+
+                    if (nameEnd - nameStart == REL_PARAMETER.length()
+                            && header.regionMatches(true, nameStart, REL_PARAMETER, 0, REL_PARAMETER.length())) {
+                        relStart = valueStart;
+                        relEnd = valueEnd;
+                    }
+                }
+            }
+
+            if (relStart >= 0) {
+                recordRelations(header, urlStart + 1, urlEnd, relStart, relEnd, urls);
+            }
+
+            // Skip the separating comma, if present
+            position++;
+        }
+    }
+
+    /**
+     * Records a link's URL for each paging relation in its (space-separated) relation value
+     *
+     * @param header
+     *            A "Link" header value
+     * @param urlStart
+     *            Index of the first character of the link URL within the header
+     * @param urlEnd
+     *            Index after the last character of the link URL within the header
+     * @param relStart
+     *            Index of the first character of the relation value within the header
+     * @param relEnd
+     *            Index after the last character of the relation value within the header
+     * @param urls
+     *            Paging link URLs found so far, indexed by relation
+     */
+    private static void recordRelations(String header, int urlStart, int urlEnd, int relStart, int relEnd,
+            String[] urls) {
+        String url = null;
+        int position = relStart;
+
+        while (position < relEnd) {
+            int tokenStart = position;
+
+            while (position < relEnd && !Character.isWhitespace(header.charAt(position))) {
+                position++;
+            }
+
+            int index = getRelationIndex(header, tokenStart, position - tokenStart);
+
+            if (index >= 0) {
+                url = (url != null ? url : header.substring(urlStart, urlEnd));
+                urls[index] = url;
+            }
+
+            position = skipWhitespace(header, position);
+        }
+    }
+
+    /**
+     * @param header
+     *            A "Link" header value
+     * @param start
+     *            Index of the first character of a relation within the header
+     * @param length
+     *            Length of the relation
+     * @return The index paging links of the relation are recorded at, or -1 if the relation is not a paging relation
+     */
+    private static int getRelationIndex(String header, int start, int length) {
+        int result = -1;
+
+        if (matchesRelation(header, start, length, FIRST_PAGE_REL)) {
+            result = FIRST_INDEX;
+        } else if (matchesRelation(header, start, length, PREVIOUS_PAGE_REL)) {
+            result = PREVIOUS_INDEX;
+        } else if (matchesRelation(header, start, length, NEXT_PAGE_REL)) {
+            result = NEXT_INDEX;
+        } else if (matchesRelation(header, start, length, LAST_PAGE_REL)) {
+            result = LAST_INDEX;
+        }
+
+        return result;
+    }
+
+    private static boolean matchesRelation(String header, int start, int length, String relation) {
+        return length == relation.length() && header.regionMatches(start, relation, 0, length);
+    }
+
+    private static int skipWhitespace(String value, int position) {
+        int result = position;
+
+        while (result < value.length() && Character.isWhitespace(value.charAt(result))) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private static boolean isTokenCharacter(char candidate) {
+        return candidate != ';' && candidate != ',' && candidate != '=' && candidate != '"'
+                && !Character.isWhitespace(candidate);
+    }
+
     /**
      * Converts a URL parameter expected to be an integer, if possible
      *
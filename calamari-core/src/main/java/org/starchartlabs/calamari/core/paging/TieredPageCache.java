@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.paging;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+
+/**
+ * {@link PageCache} which combines a fast, smaller cache with a slower, larger one - such as a {@link MemoryPageCache}
+ * in front of a {@link DiskPageCache}
+ *
+ * <p>
+ * Pages are stored in both caches. Pages found only in the secondary cache are copied to the primary cache when read
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class TieredPageCache implements PageCache {
+
+    private final PageCache primary;
+
+    private final PageCache secondary;
+
+    /**
+     * @param primary
+     *            Cache checked first when reading pages
+     * @param secondary
+     *            Cache checked when a page is not found in the primary cache
+     * @since 1.3.0
+     */
+    public TieredPageCache(PageCache primary, PageCache secondary) {
+        this.primary = Objects.requireNonNull(primary);
+        this.secondary = Objects.requireNonNull(secondary);
+    }
+
+    @Override
+    public Optional<CachedPage> get(String key) {
+        Objects.requireNonNull(key);
+
+        Optional<CachedPage> result = primary.get(key);
+
+        if (!result.isPresent()) {
+            result = secondary.get(key);
+            result.ifPresent(page -> primary.put(key, page));
+        }
+
+        return result;
+    }
+
+    @Override
+    public void put(String key, CachedPage page) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(page);
+
+        primary.put(key, page);
+        secondary.put(key, page);
+    }
+
+    @Override
+    public void invalidate(String key) {
+        Objects.requireNonNull(key);
+
+        primary.invalidate(key);
+        secondary.invalidate(key);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("primary", primary)
+                .add("secondary", secondary)
+                .toString();
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.ratelimit;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Represents the state of a single GitHub rate limit, as most recently reported via response headers
+ *
+ * <p>
+ * See the <a href="https://docs.github.com/en/rest/overview/resources-in-the-rest-api#rate-limiting">GitHub API rate
+ * limit documentation</a>
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class RateLimit {
+
+    private final String resource;
+
+    private final int limit;
+
+    private final int remaining;
+
+    private final Instant reset;
+
+    private final Instant observedAt;
+
+    /**
+     * @param resource
+     *            The GitHub resource the limit applies to, such as {@code core} or {@code search}
+     * @param limit
+     *            The number of requests allowed per rate limit window. Must be zero or greater
+     * @param remaining
+     *            The number of requests remaining in the current rate limit window. Must be zero or greater
+     * @param reset
+     *            The point in time the current rate limit window ends
+     * @param observedAt
+     *            The point in time the limit was reported
+     * @since 1.3.0
+     */
+    public RateLimit(String resource, int limit, int remaining, Instant reset, Instant observedAt) {
+        Preconditions.checkArgument(limit >= 0, "Must provide a limit of zero or greater");
+        Preconditions.checkArgument(remaining >= 0, "Must provide a remaining count of zero or greater");
+
+        this.resource = Objects.requireNonNull(resource);
+        this.limit = limit;
+        this.remaining = remaining;
+        this.reset = Objects.requireNonNull(reset);
+        this.observedAt = Objects.requireNonNull(observedAt);
+    }
+
+    /**
+     * @return The GitHub resource the limit applies to, such as {@code core} or {@code search}
+     * @since 1.3.0
+     */
+    public String getResource() {
+        return resource;
+    }
+
+    /**
+     * @return The number of requests allowed per rate limit window
+     * @since 1.3.0
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The number of requests remaining in the current rate limit window
+     * @since 1.3.0
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * @return The point in time the current rate limit window ends
+     * @since 1.3.0
+     */
+    public Instant getReset() {
+        return reset;
+    }
+
+    /**
+     * @return The point in time the limit was reported
+     * @since 1.3.0
+     */
+    public Instant getObservedAt() {
+        return observedAt;
+    }
+
+    /**
+     * @param now
+     *            The current point in time
+     * @return True if the rate limit window this state was reported for has ended, false otherwise
+     * @since 1.3.0
+     */
+    public boolean isExpired(Instant now) {
+        Objects.requireNonNull(now);
+
+        return !now.isBefore(reset);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getResource(),
+                getLimit(),
+                getRemaining(),
+                getReset(),
+                getObservedAt());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof RateLimit) {
+            RateLimit compare = (RateLimit) obj;
+
+            result = Objects.equals(compare.getResource(), getResource())
+                    && compare.getLimit() == getLimit()
+                    && compare.getRemaining() == getRemaining()
+                    && Objects.equals(compare.getReset(), getReset())
+                    && Objects.equals(compare.getObservedAt(), getObservedAt());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("resource", resource)
+                .add("limit", limit)
+                .add("remaining", remaining)
+                .add("reset", reset)
+                .add("observedAt", observedAt)
+                .toString();
+    }
+
+}
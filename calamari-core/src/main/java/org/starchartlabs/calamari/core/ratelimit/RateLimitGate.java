@@ -0,0 +1,294 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.ratelimit;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Paces requests to GitHub against the remaining rate limit budget, so that work slows down smoothly as the budget is
+ * used instead of exhausting it and failing until the limit resets
+ *
+ * <p>
+ * For each scope (see {@link RateLimitTracker#getScope(Request)}), the requests remaining in the current
+ * {@value RateLimitTracker#DEFAULT_RESOURCE} rate limit window, less a reserved count, are spread evenly over the time
+ * until the window resets. Requests may be made in bursts of up to a configured size before being spaced out, in the
+ * manner of a token bucket. Requests which may not be made yet are parked or rejected according to a
+ * {@link ThrottlePolicy}, and rejected requests fail with {@link RequestLimitExceededException}. Scopes with no known
+ * rate limit state are not paced
+ *
+ * <p>
+ * The gate is installed as an interceptor on an HTTP client, such as via
+ * {@link org.starchartlabs.calamari.core.http.HttpClients.Builder#rateLimitGate(RateLimitGate)}. Parking blocks the
+ * thread making the request, including threads of the HTTP client's dispatcher for asynchronous requests
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class RateLimitGate implements Interceptor {
+
+    /** Default number of requests which may be made in a burst before requests are spaced out */
+    public static final int DEFAULT_BURST = 10;
+
+    /** Logger reference to output information to the application log files */
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitGate.class);
+
+    // Number of reservations between removals of pacing state for scopes which are no longer paced
+    private static final int CLEAN_UP_INTERVAL = 256;
+
+    private final RateLimitTracker rateLimitTracker;
+
+    private final ThrottlePolicy throttlePolicy;
+
+    private final int burst;
+
+    private final int reservedRequests;
+
+    private final Clock clock;
+
+    private final ConcurrentMap<String, Schedule> schedules;
+
+    private final AtomicInteger reservationsSinceCleanUp;
+
+    /**
+     * Creates a gate which paces requests against the {@link RateLimitTracker#getDefault() default tracker}
+     *
+     * @param throttlePolicy
+     *            Policy describing how requests which may not be made yet are treated
+     * @since 1.3.0
+     */
+    public RateLimitGate(ThrottlePolicy throttlePolicy) {
+        this(RateLimitTracker.getDefault(), throttlePolicy, DEFAULT_BURST, 0);
+    }
+
+    /**
+     * @param rateLimitTracker
+     *            Tracker providing the rate limit state reported by GitHub
+     * @param throttlePolicy
+     *            Policy describing how requests which may not be made yet are treated
+     * @param burst
+     *            The number of requests which may be made in a burst before requests are spaced out. Must be greater
+     *            than zero
+     * @param reservedRequests
+     *            The number of requests in each rate limit window to leave unused, such as for other applications
+     *            sharing the rate limit. Must be zero or greater
+     * @since 1.3.0
+     */
+    public RateLimitGate(RateLimitTracker rateLimitTracker, ThrottlePolicy throttlePolicy, int burst,
+            int reservedRequests) {
+        this(rateLimitTracker, throttlePolicy, burst, reservedRequests, Clock.systemUTC());
+    }
+
+    /**
+     * @param rateLimitTracker
+     *            Tracker providing the rate limit state reported by GitHub
+     * @param throttlePolicy
+     *            Policy describing how requests which may not be made yet are treated
+     * @param burst
+     *            The number of requests which may be made in a burst before requests are spaced out. Must be greater
+     *            than zero
+     * @param reservedRequests
+     *            The number of requests in each rate limit window to leave unused, such as for other applications
+     *            sharing the rate limit. Must be zero or greater
+     * @param clock
+     *            Clock used to measure the time remaining in rate limit windows. Should match the clock of the tracker
+     * @since 1.3.0
+     */
+    public RateLimitGate(RateLimitTracker rateLimitTracker, ThrottlePolicy throttlePolicy, int burst,
+            int reservedRequests, Clock clock) {
+        this.rateLimitTracker = Objects.requireNonNull(rateLimitTracker);
+        this.throttlePolicy = Objects.requireNonNull(throttlePolicy);
+        this.clock = Objects.requireNonNull(clock);
+
+        Preconditions.checkArgument(burst > 0, "Must provide a burst size greater than zero");
+        Preconditions.checkArgument(reservedRequests >= 0, "Must provide a reserved request count of zero or greater");
+
+        this.burst = burst;
+        this.reservedRequests = reservedRequests;
+
+        schedules = new ConcurrentHashMap<>();
+        reservationsSinceCleanUp = new AtomicInteger(0);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Duration delay = reserve(RateLimitTracker.getScope(request));
+
+        if (!delay.isZero()) {
+            logger.debug("Delaying request to {} by {} to pace against the remaining rate limit", request.url(), delay);
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new InterruptedIOException("Interrupted while waiting to make rate-limited request");
+            }
+        }
+
+        return chain.proceed(request);
+    }
+
+    /**
+     * Reserves the next opportunity for a request to be made as the provided scope
+     *
+     * <p>
+     * Used by {@link #intercept(Chain)} before each request. May be used directly to pace work which does not make
+     * requests through an HTTP client with this gate installed
+     *
+     * @param scope
+     *            The identity the request is made as
+     * @return The amount of time the caller must wait before making its request, which may be zero
+     * @throws RequestLimitExceededException
+     *             If the caller would need to wait longer than allowed by the throttle policy
+     * @since 1.3.0
+     */
+    public Duration reserve(String scope) throws RequestLimitExceededException {
+        Objects.requireNonNull(scope);
+
+        Instant now = clock.instant();
+        Optional<RateLimit> rateLimit = rateLimitTracker.getRateLimit(scope);
+        Duration result = Duration.ZERO;
+
+        if (rateLimit.isPresent()) {
+            RateLimit current = rateLimit.get();
+            Duration window = Duration.between(now, current.getReset());
+            int available = current.getRemaining() - reservedRequests;
+
+            if (available <= 0) {
+                result = check(current, window);
+            } else {
+                Duration interval = window.dividedBy(available);
+                Schedule schedule = schedules.computeIfAbsent(scope, key -> new Schedule(now));
+
+                synchronized (schedule) {
+                    Instant theoreticalArrival = max(schedule.getTheoreticalArrival(), now);
+                    Instant allowedAt = theoreticalArrival.minus(interval.multipliedBy(burst - 1));
+
+                    result = check(current, (allowedAt.isAfter(now) ? Duration.between(now, allowedAt) : Duration.ZERO));
+                    schedule.setTheoreticalArrival(theoreticalArrival.plus(interval));
+                }
+            }
+        } else {
+            // Pacing restarts from the next reported state, rather than a previous window's schedule
+            schedules.remove(scope);
+        }
+
+        if (reservationsSinceCleanUp.incrementAndGet() >= CLEAN_UP_INTERVAL) {
+            reservationsSinceCleanUp.set(0);
+            cleanUp();
+        }
+
+        return result;
+    }
+
+    /**
+     * Discards pacing state for scopes whose rate limit window has ended, or which have not reserved a request recently
+     * enough to affect pacing. Performed periodically as requests are reserved
+     *
+     * @since 1.3.0
+     */
+    public void cleanUp() {
+        Instant now = clock.instant();
+
+        for (String scope : schedules.keySet()) {
+            schedules.computeIfPresent(scope, (key, schedule) -> {
+                boolean paced = false;
+
+                synchronized (schedule) {
+                    paced = rateLimitTracker.getRateLimit(key).isPresent()
+                            && schedule.getTheoreticalArrival().isAfter(now);
+                }
+
+                return (paced ? schedule : null);
+            });
+        }
+    }
+
+    /**
+     * @return The number of scopes pacing state is currently retained for
+     * @since 1.3.0
+     */
+    public int size() {
+        return schedules.size();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("throttlePolicy", throttlePolicy)
+                .add("burst", burst)
+                .add("reservedRequests", reservedRequests)
+                .toString();
+    }
+
+    /**
+     * @param rateLimit
+     *            The current state of the rate limit requests are paced against
+     * @param delay
+     *            The amount of time a caller must wait before making its request
+     * @return The provided delay
+     * @throws RequestLimitExceededException
+     *             If the delay is longer than allowed by the throttle policy
+     */
+    private Duration check(RateLimit rateLimit, Duration delay) throws RequestLimitExceededException {
+        if (delay.compareTo(throttlePolicy.getMaximumWait()) > 0) {
+            throw new RequestLimitExceededException(Integer.toString(rateLimit.getLimit()),
+                    rateLimit.getReset().toString());
+        }
+
+        return delay;
+    }
+
+    private static Instant max(Instant first, Instant second) {
+        return (first.isAfter(second) ? first : second);
+    }
+
+    /**
+     * Tracks when the next request for a scope is expected, were requests made at exactly the paced interval
+     *
+     * @author romeara
+     */
+    private static final class Schedule {
+
+        private Instant theoreticalArrival;
+
+        public Schedule(Instant theoreticalArrival) {
+            this.theoreticalArrival = Objects.requireNonNull(theoreticalArrival);
+        }
+
+        public Instant getTheoreticalArrival() {
+            return theoreticalArrival;
+        }
+
+        public void setTheoreticalArrival(Instant theoreticalArrival) {
+            this.theoreticalArrival = Objects.requireNonNull(theoreticalArrival);
+        }
+
+    }
+
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.ratelimit;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.starchartlabs.alloy.core.MoreObjects;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Records the GitHub rate limit state reported by responses, so that work may be paced against the remaining request
+ * budget instead of failing once it is exhausted
+ *
+ * <p>
+ * State is kept per scope - the identity requests are made as, such as a GitHub App or one of its installations - and
+ * per rate limit resource within that scope, as reported by the {@code X-RateLimit-Resource} header. Calamari
+ * components record every response they receive to the {@link #getDefault() default tracker}
+ *
+ * <p>
+ * Responses received concurrently may be recorded out of order. Within a single rate limit window, the lowest reported
+ * remaining count is retained. State for a rate limit window which has ended is discarded, as GitHub has restored the
+ * full limit
+ *
+ * <p>
+ * Instances are safe for use by multiple threads
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public class RateLimitTracker {
+
+    /** Rate limit resource assumed when a response does not report one */
+    public static final String DEFAULT_RESOURCE = "core";
+
+    /** Logger reference to output information to the application log files */
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitTracker.class);
+
+    private static final String RATE_LIMIT_MAXIMUM_HEADER = "X-RateLimit-Limit";
+
+    private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final String RATE_LIMIT_RESET_HEADER = "X-RateLimit-Reset";
+
+    private static final String RATE_LIMIT_RESOURCE_HEADER = "X-RateLimit-Resource";
+
+    // Number of recorded responses between removals of state for ended rate limit windows
+    private static final int CLEAN_UP_INTERVAL = 256;
+
+    private static final AtomicReference<RateLimitTracker> DEFAULT_TRACKER = new AtomicReference<>();
+
+    private final Clock clock;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, RateLimit>> rateLimits;
+
+    private final AtomicInteger recordsSinceCleanUp;
+
+    /**
+     * Creates a tracker which measures rate limit windows against the system clock
+     *
+     * @since 1.3.0
+     */
+    public RateLimitTracker() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * @param clock
+     *            Clock used to determine when rate limit windows have ended
+     * @since 1.3.0
+     */
+    public RateLimitTracker(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+
+        rateLimits = new ConcurrentHashMap<>();
+        recordsSinceCleanUp = new AtomicInteger(0);
+    }
+
+    /**
+     * @return The tracker Calamari components record responses to. Created with the system clock unless a different
+     *         tracker has been set via {@link #setDefault(RateLimitTracker)}
+     * @since 1.3.0
+     */
+    public static RateLimitTracker getDefault() {
+        RateLimitTracker result = DEFAULT_TRACKER.get();
+
+        if (result == null) {
+            DEFAULT_TRACKER.compareAndSet(null, new RateLimitTracker());
+            result = DEFAULT_TRACKER.get();
+        }
+
+        return result;
+    }
+
+    /**
+     * Replaces the tracker Calamari components record responses to
+     *
+     * <p>
+     * Should be called during application initialization, before requests are made to GitHub
+     *
+     * @param rateLimitTracker
+     *            The tracker to use by default
+     * @since 1.3.0
+     */
+    public static void setDefault(RateLimitTracker rateLimitTracker) {
+        Objects.requireNonNull(rateLimitTracker);
+
+        DEFAULT_TRACKER.set(rateLimitTracker);
+    }
+
+    /**
+     * @param githubAppId
+     *            The ID of a GitHub App
+     * @return The scope of requests authenticated as the GitHub App itself, such as installation token exchanges
+     * @since 1.3.0
+     */
+    public static String applicationScope(String githubAppId) {
+        Objects.requireNonNull(githubAppId);
+
+        return "app:" + githubAppId;
+    }
+
+    /**
+     * @param installationAccessTokenUrl
+     *            The URL used to generate access tokens for a GitHub App installation
+     * @return The scope of requests authenticated as the installation, which share a rate limit across all access
+     *         tokens generated for it
+     * @since 1.3.0
+     */
+    public static String installationScope(String installationAccessTokenUrl) {
+        Objects.requireNonNull(installationAccessTokenUrl);
+
+        return "installation:" + installationAccessTokenUrl;
+    }
+
+    /**
+     * @param authorizationHeader
+     *            The {@code Authorization} header value requests are made with
+     * @return The scope of requests made with the header value, for credentials which are not associated with a known
+     *         GitHub App or installation. The credentials cannot be derived from the scope
+     * @since 1.3.0
+     */
+    public static String authorizationScope(String authorizationHeader) {
+        Objects.requireNonNull(authorizationHeader);
+
+        return "authorization:" + DigestUtils.sha256Hex(authorizationHeader);
+    }
+
+    /**
+     * Associates a request with the identity it is made as, so that rate limits reported for it are recorded, and
+     * paced, against the correct scope
+     *
+     * @param requestBuilder
+     *            Builder for the request to associate
+     * @param scope
+     *            The identity the request is made as
+     * @return The provided builder
+     * @since 1.3.0
+     * @see #getScope(Request)
+     */
+    public static Request.Builder withScope(Request.Builder requestBuilder, String scope) {
+        Objects.requireNonNull(requestBuilder);
+        Objects.requireNonNull(scope);
+
+        return requestBuilder.tag(ScopeTag.class, new ScopeTag(scope));
+    }
+
+    /**
+     * @param request
+     *            A request made to GitHub
+     * @return The scope associated with the request via {@link #withScope(Request.Builder, String)}, or the
+     *         {@link #authorizationScope(String) authorization scope} of its {@code Authorization} header if none was
+     *         associated
+     * @since 1.3.0
+     */
+    public static String getScope(Request request) {
+        Objects.requireNonNull(request);
+
+        return Optional.ofNullable(request.tag(ScopeTag.class))
+                .map(ScopeTag::getScope)
+                .orElseGet(() -> authorizationScope(Optional.ofNullable(request.header("Authorization")).orElse("")));
+    }
+
+    /**
+     * Records the rate limit state reported by a response, if any
+     *
+     * <p>
+     * To use this tracker with other web libraries, see {@link #record(String, Object, BiFunction)}
+     *
+     * @param scope
+     *            The identity the request was made as
+     * @param response
+     *            OkHttp3 representation of a web response
+     * @since 1.3.0
+     */
+    public void record(String scope, Response response) {
+        Objects.requireNonNull(response);
+
+        record(scope, response, (res, header) -> res.headers().values(header));
+    }
+
+    /**
+     * Records the rate limit state reported by a response, if any
+     *
+     * <p>
+     * Responses which do not report a complete, valid rate limit state are ignored
+     *
+     * @param scope
+     *            The identity the request was made as
+     * @param response
+     *            Representation of a web response
+     * @param headerLookup
+     *            Function which takes a response and header value as input, and produces all instances of that header
+     *            from the response
+     * @param <T>
+     *            Java type representing a web response
+     * @since 1.3.0
+     */
+    public <T> void record(String scope, T response, BiFunction<T, String, Collection<String>> headerLookup) {
+        Objects.requireNonNull(scope);
+        Objects.requireNonNull(response);
+        Objects.requireNonNull(headerLookup);
+
+        Integer limit = getInteger(getHeader(response, headerLookup, RATE_LIMIT_MAXIMUM_HEADER));
+        Integer remaining = getInteger(getHeader(response, headerLookup, RATE_LIMIT_REMAINING_HEADER));
+        Long reset = getLong(getHeader(response, headerLookup, RATE_LIMIT_RESET_HEADER));
+        String resource = Optional.ofNullable(getHeader(response, headerLookup, RATE_LIMIT_RESOURCE_HEADER))
+                .orElse(DEFAULT_RESOURCE);
+
+        if (limit != null && remaining != null && reset != null && limit >= 0 && remaining >= 0) {
+            RateLimit rateLimit = new RateLimit(resource, limit, remaining, Instant.ofEpochSecond(reset),
+                    clock.instant());
+
+            rateLimits.computeIfAbsent(scope, key -> new ConcurrentHashMap<>())
+            .merge(resource, rateLimit, RateLimitTracker::getMostRecent);
+
+            if (recordsSinceCleanUp.incrementAndGet() >= CLEAN_UP_INTERVAL) {
+                recordsSinceCleanUp.set(0);
+                cleanUp();
+            }
+        } else if (limit != null || remaining != null || reset != null) {
+            logger.debug("Ignoring incomplete or invalid rate limit headers (limit: {}, remaining: {}, reset: {})",
+                    limit, remaining, reset);
+        }
+    }
+
+    /**
+     * @param scope
+     *            The identity requests are made as
+     * @return The state of the {@value #DEFAULT_RESOURCE} rate limit for the scope, or empty if it is not known for the
+     *         current rate limit window
+     * @since 1.3.0
+     */
+    public Optional<RateLimit> getRateLimit(String scope) {
+        return getRateLimit(scope, DEFAULT_RESOURCE);
+    }
+
+    /**
+     * @param scope
+     *            The identity requests are made as
+     * @param resource
+     *            The GitHub resource the limit applies to, such as {@code core} or {@code search}
+     * @return The state of the rate limit for the scope and resource, or empty if it is not known for the current rate
+     *         limit window
+     * @since 1.3.0
+     */
+    public Optional<RateLimit> getRateLimit(String scope, String resource) {
+        Objects.requireNonNull(scope);
+        Objects.requireNonNull(resource);
+
+        Instant now = clock.instant();
+
+        return Optional.ofNullable(rateLimits.get(scope))
+                .map(resources -> resources.get(resource))
+                .filter(rateLimit -> !rateLimit.isExpired(now));
+    }
+
+    /**
+     * @param scope
+     *            The identity requests are made as
+     * @return The state of each rate limit known for the scope in the current rate limit window, by resource
+     * @since 1.3.0
+     */
+    public Map<String, RateLimit> getRateLimits(String scope) {
+        Objects.requireNonNull(scope);
+
+        Instant now = clock.instant();
+        Map<String, RateLimit> result = new HashMap<>();
+
+        Optional.ofNullable(rateLimits.get(scope))
+        .ifPresent(resources -> resources.forEach((resource, rateLimit) -> {
+            if (!rateLimit.isExpired(now)) {
+                result.put(resource, rateLimit);
+            }
+        }));
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Discards all state recorded for a scope
+     *
+     * @param scope
+     *            The identity requests are made as
+     * @since 1.3.0
+     */
+    public void invalidate(String scope) {
+        Objects.requireNonNull(scope);
+
+        rateLimits.remove(scope);
+    }
+
+    /**
+     * Discards all recorded state
+     *
+     * @since 1.3.0
+     */
+    public void invalidateAll() {
+        rateLimits.clear();
+    }
+
+    /**
+     * Discards state for rate limit windows which have ended. Performed periodically as responses are recorded
+     *
+     * @since 1.3.0
+     */
+    public void cleanUp() {
+        Instant now = clock.instant();
+
+        for (String scope : rateLimits.keySet()) {
+            rateLimits.computeIfPresent(scope, (key, resources) -> {
+                resources.values().removeIf(rateLimit -> rateLimit.isExpired(now));
+
+                return (resources.isEmpty() ? null : resources);
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("scopes", rateLimits.size())
+                .toString();
+    }
+
+    /**
+     * @param current
+     *            The state previously recorded for a scope and resource
+     * @param reported
+     *            The state reported by a newly recorded response
+     * @return The state which best represents the remaining budget
+     */
+    private static RateLimit getMostRecent(RateLimit current, RateLimit reported) {
+        RateLimit result = reported;
+
+        if (reported.getReset().isBefore(current.getReset())) {
+            // Response from a previous rate limit window, recorded late
+            result = current;
+        } else if (reported.getReset().equals(current.getReset()) && current.getRemaining() < reported.getRemaining()) {
+            // Response from the same window, recorded out of order
+            result = current;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static <T> String getHeader(T response, BiFunction<T, String, Collection<String>> headerLookup,
+            String header) {
+        return Optional.ofNullable(headerLookup.apply(response, header))
+                .orElse(Collections.emptyList())
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Nullable
+    private static Integer getInteger(@Nullable String value) {
+        Integer result = null;
+
+        if (value != null) {
+            try {
+                result = Integer.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static Long getLong(@Nullable String value) {
+        Long result = null;
+
+        if (value != null) {
+            try {
+                result = Long.valueOf(value.trim());
+            } catch (NumberFormatException e) {
+                result = null;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Request tag identifying the scope a request is made as
+     *
+     * @author romeara
+     */
+    private static final class ScopeTag {
+
+        private final String scope;
+
+        public ScopeTag(String scope) {
+            this.scope = Objects.requireNonNull(scope);
+        }
+
+        public String getScope() {
+            return scope;
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.core.ratelimit;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.starchartlabs.alloy.core.MoreObjects;
+import org.starchartlabs.alloy.core.Preconditions;
+
+/**
+ * Describes how a {@link RateLimitGate} treats requests which may not be made yet without exceeding the pace allowed
+ * by the remaining rate limit budget
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class ThrottlePolicy {
+
+    private static final ThrottlePolicy REJECT = new ThrottlePolicy(Duration.ZERO);
+
+    private final Duration maximumWait;
+
+    /**
+     * @param maximumWait
+     *            The longest amount of time a caller is parked before making its request
+     */
+    private ThrottlePolicy(Duration maximumWait) {
+        this.maximumWait = Objects.requireNonNull(maximumWait);
+    }
+
+    /**
+     * @return A policy which never parks callers, immediately rejecting requests which may not be made yet
+     * @since 1.3.0
+     */
+    public static ThrottlePolicy reject() {
+        return REJECT;
+    }
+
+    /**
+     * Creates a policy which parks callers until their request may be made, rejecting requests which would need to wait
+     * longer than a maximum - such as until the rate limit resets
+     *
+     * @param maximumWait
+     *            The longest amount of time to park a caller. Must be greater than zero
+     * @return A policy which parks callers until their request may be made
+     * @since 1.3.0
+     */
+    public static ThrottlePolicy park(Duration maximumWait) {
+        Objects.requireNonNull(maximumWait);
+        Preconditions.checkArgument(!maximumWait.isNegative() && !maximumWait.isZero(),
+                "Must provide a maximum wait greater than zero");
+
+        return new ThrottlePolicy(maximumWait);
+    }
+
+    /**
+     * @return The longest amount of time a caller is parked before making its request
+     */
+    Duration getMaximumWait() {
+        return maximumWait;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maximumWait);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        boolean result = false;
+
+        if (obj instanceof ThrottlePolicy) {
+            ThrottlePolicy compare = (ThrottlePolicy) obj;
+
+            result = Objects.equals(compare.maximumWait, maximumWait);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(getClass()).omitNullValues()
+                .add("maximumWait", maximumWait)
+                .toString();
+    }
+
+}
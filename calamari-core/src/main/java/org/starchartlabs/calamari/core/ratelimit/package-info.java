@@ -0,0 +1,16 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+/**
+ * Tracking of GitHub rate limits reported to Calamari components, allowing work to be paced against the remaining
+ * request budget
+ *
+ * @author romeara
+ */
+@ParametersAreNonnullByDefault
+package org.starchartlabs.calamari.core.ratelimit;
+
+import javax.annotation.ParametersAreNonnullByDefault;
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Clock which only advances when instructed, for deterministic tests of time-dependent behavior
+ *
+ * @author romeara
+ * @since 1.3.0
+ */
+public final class MutableClock extends Clock {
+
+    private volatile Instant now;
+
+    /**
+     * @param now
+     *            The initial point in time reported by the clock
+     */
+    public MutableClock(Instant now) {
+        this.now = Objects.requireNonNull(now);
+    }
+
+    /**
+     * @param duration
+     *            The amount of time to move the clock forward
+     */
+    public synchronized void advance(Duration duration) {
+        now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+}
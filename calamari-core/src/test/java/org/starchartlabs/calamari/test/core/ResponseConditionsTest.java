@@ -6,6 +6,7 @@
  */
 package org.starchartlabs.calamari.test.core;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,6 +30,8 @@ public class ResponseConditionsTest {
 
     private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
 
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
     @Test(expectedExceptions = NullPointerException.class)
     public void checkRateLimitResponseNullResponse() throws Exception {
         ResponseConditions.checkRateLimit(null);
@@ -222,6 +225,73 @@ public class ResponseConditionsTest {
         Assert.assertTrue(result.isPresent());
     }
 
+    @Test
+    public void validateRateLimitSecondaryRetryAfter() throws Exception {
+        Map<String, Collection<String>> headers = new HashMap<>();
+        headers.put(RATE_LIMIT_MAXIMUM_HEADER, Collections.singleton("1000"));
+        headers.put(RATE_LIMIT_REMAINING_HEADER, Collections.singleton("500"));
+        headers.put(RETRY_AFTER_HEADER, Collections.singleton("60"));
+
+        Optional<RequestLimitExceededException> result = ResponseConditions.validateRateLimit("a", a -> 403,
+                (a, b) -> headers.get(b));
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.isPresent());
+    }
+
+    @Test
+    public void validateRateLimitTooManyRequests() throws Exception {
+        Optional<RequestLimitExceededException> result = ResponseConditions.validateRateLimit("a", a -> 429,
+                (a, b) -> Collections.emptyList());
+
+        Assert.assertNotNull(result);
+        Assert.assertTrue(result.isPresent());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getRetryAfterResponseNullResponse() throws Exception {
+        ResponseConditions.getRetryAfter(null);
+    }
+
+    @Test
+    public void getRetryAfterResponse() throws Exception {
+        Response response = getResponseBuilder()
+                .code(403)
+                .header(RETRY_AFTER_HEADER, "60")
+                .build();
+
+        Assert.assertEquals(ResponseConditions.getRetryAfter(response), Optional.of(Duration.ofSeconds(60)));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getRetryAfterNullResponse() throws Exception {
+        ResponseConditions.getRetryAfter((String) null, (a, b) -> Collections.emptyList());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getRetryAfterNullHeaderLookup() throws Exception {
+        ResponseConditions.getRetryAfter("a", null);
+    }
+
+    @Test
+    public void getRetryAfterNotPresent() throws Exception {
+        Assert.assertFalse(ResponseConditions.getRetryAfter("a", (a, b) -> Collections.emptyList()).isPresent());
+    }
+
+    @Test
+    public void getRetryAfterInvalid() throws Exception {
+        // GitHub does not specify HTTP dates for Retry-After
+        Assert.assertFalse(ResponseConditions.getRetryAfter("a",
+                (a, b) -> Collections.singleton("Wed, 21 Oct 2015 07:28:00 GMT")).isPresent());
+        Assert.assertFalse(ResponseConditions.getRetryAfter("a", (a, b) -> Collections.singleton("-1")).isPresent());
+    }
+
+    @Test
+    public void getRetryAfter() throws Exception {
+        Assert.assertEquals(ResponseConditions.getRetryAfter("a", (a, b) -> Collections.singleton("60")),
+                Optional.of(Duration.ofSeconds(60)));
+    }
+
     private Response.Builder getResponseBuilder() {
         return new Response.Builder()
                 .request(new Request.Builder().url("http://localhost").build())
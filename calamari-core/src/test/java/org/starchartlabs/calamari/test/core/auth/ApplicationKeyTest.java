@@ -10,20 +10,30 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.Key;
 import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.PEMParser;
 import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
 import org.starchartlabs.calamari.core.auth.ApplicationKey;
+import org.starchartlabs.calamari.core.auth.RefreshPolicy;
 import org.starchartlabs.calamari.core.exception.KeyLoadingException;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -31,6 +41,7 @@ import org.testng.annotations.Test;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.gson.io.GsonDeserializer;
 
@@ -79,6 +90,26 @@ public class ApplicationKeyTest {
         new ApplicationKey("gitHubAppId", () -> "string", 11);
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructWithPolicyNullGitHubAppId() throws Exception {
+        new ApplicationKey(null, () -> "string", 5, RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructWithPolicyNullPrivateKeySupplier() throws Exception {
+        new ApplicationKey("gitHubAppId", null, 5, RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRefreshPolicy() throws Exception {
+        new ApplicationKey("gitHubAppId", () -> "string", 5, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructRefreshMarginTooLarge() throws Exception {
+        new ApplicationKey("gitHubAppId", () -> "string", 5, RefreshPolicy.refreshAhead(Duration.ofMinutes(5)));
+    }
+
 
     @Test(expectedExceptions = KeyLoadingException.class)
     public void getInvalidPrivateKey() throws Exception {
@@ -142,6 +173,101 @@ public class ApplicationKeyTest {
         Assert.assertEquals(privateKeySupplier.getCount(), 1);
     }
 
+    @Test
+    public void getRefreshAhead() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch generations = new CountDownLatch(3);
+
+        Supplier<String> privateKeySupplier = () -> {
+            generations.countDown();
+            return privateKey;
+        };
+
+        try {
+            // Refresh 100ms after generation of each JWT
+            ApplicationKey key = new ApplicationKey("gitHubAppId", privateKeySupplier, 1,
+                    RefreshPolicy.refreshAhead(Duration.ofMillis(59_900), scheduler));
+
+            Assert.assertTrue(key.get().startsWith("Bearer "));
+
+            // Further generations occur in the background, without additional calls to the key
+            Assert.assertTrue(generations.await(5, TimeUnit.SECONDS));
+            Assert.assertTrue(key.get().startsWith("Bearer "));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getRotatedPrivateKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+
+        String rotatedKey = toPem(generator.generateKeyPair());
+        AtomicReference<String> currentKey = new AtomicReference<>(privateKey);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            // Refresh 100ms after generation of each JWT
+            ApplicationKey key = new ApplicationKey("gitHubAppId", currentKey::get, 1,
+                    RefreshPolicy.refreshAhead(Duration.ofMillis(59_900), scheduler));
+
+            Assert.assertEquals(verify(key.get(), getPublicKey(privateKey)).getIssuer(), "gitHubAppId");
+
+            // Generations after the key content changes are signed with the new key, rather than the previously parsed
+            // key
+            currentKey.set(rotatedKey);
+
+            Key rotatedPublicKey = getPublicKey(rotatedKey);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            Claims claims = null;
+
+            while (claims == null && System.nanoTime() < deadline) {
+                try {
+                    claims = verify(key.get(), rotatedPublicKey);
+                } catch (JwtException expected) {
+                    // Still signed with the previous key - wait for the next generation
+                    Thread.sleep(50);
+                }
+            }
+
+            Assert.assertNotNull(claims);
+            Assert.assertEquals(claims.getIssuer(), "gitHubAppId");
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private Claims verify(String authorizationHeader, Key publicKey) {
+        Assert.assertTrue(authorizationHeader.startsWith("Bearer "));
+
+        return Jwts.parserBuilder()
+                .deserializeJsonWith(new GsonDeserializer<>())
+                .setSigningKey(publicKey)
+                .build()
+                .parseClaimsJws(authorizationHeader.substring("Bearer ".length()))
+                .getBody();
+    }
+
+    private Key getPublicKey(String privateKey) throws IOException {
+        try (PEMParser r = new PEMParser(new StringReader(privateKey))) {
+            PEMKeyPair pemKeyPair = (PEMKeyPair) r.readObject();
+            JcaPEMKeyConverter converter = new JcaPEMKeyConverter().setProvider("BC");
+
+            return converter.getKeyPair(pemKeyPair).getPublic();
+        }
+    }
+
+    private String toPem(KeyPair keyPair) throws IOException {
+        StringWriter writer = new StringWriter();
+
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(keyPair.getPrivate());
+        }
+
+        return writer.toString();
+    }
+
     private String readPrivateKey() {
         // Note: The test key was generated from a GitHub App, and immediately removed as a valid key, and so is not a
         // security issue
@@ -12,14 +12,31 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.starchartlabs.calamari.core.MediaTypes;
 import org.starchartlabs.calamari.core.auth.ApplicationKey;
 import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.auth.RefreshPolicy;
 import org.starchartlabs.calamari.core.exception.KeyLoadingException;
 import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.test.MutableClock;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -28,6 +45,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -41,6 +59,8 @@ public class InstallationAccessTokenTest {
 
     private static final Gson GSON = new GsonBuilder().create();
 
+    private static final int CONCURRENT_CALLERS = 200;
+
     private ApplicationKey applicationKey;
 
     private String accessToken;
@@ -123,6 +143,41 @@ public class InstallationAccessTokenTest {
         new InstallationAccessToken("http://url", applicationKey, "userAgent", "mediaType", 61);
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRefreshPolicy() throws Exception {
+        new InstallationAccessToken("http://url", applicationKey, "userAgent", "mediaType", 5, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructRefreshMarginTooLarge() throws Exception {
+        new InstallationAccessToken("http://url", applicationKey, "userAgent", "mediaType", 5,
+                RefreshPolicy.refreshAhead(Duration.ofMinutes(5)));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullExpirationSkew() throws Exception {
+        new InstallationAccessToken("http://url", applicationKey, "userAgent", "mediaType", 5,
+                RefreshPolicy.onExpiration(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructNegativeExpirationSkew() throws Exception {
+        new InstallationAccessToken("http://url", applicationKey, "userAgent", "mediaType", 5,
+                RefreshPolicy.onExpiration(), Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructRefreshMarginAndExpirationSkewTooLarge() throws Exception {
+        new InstallationAccessToken("http://url", applicationKey, "userAgent", "mediaType", 60,
+                RefreshPolicy.refreshAhead(Duration.ofMinutes(50)), Duration.ofMinutes(10));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new InstallationAccessToken("http://url", applicationKey, "userAgent", "mediaType", 5,
+                RefreshPolicy.onExpiration(), Duration.ofMinutes(2), null);
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void forRepositoryNullRepositoryUrl() throws Exception {
         InstallationAccessToken.forRepository(null, applicationKey, "userAgent");
@@ -143,6 +198,16 @@ public class InstallationAccessTokenTest {
         InstallationAccessToken.forRepository("http://repo", applicationKey, "userAgent", null);
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forRepositoryNullHttpClient() throws Exception {
+        InstallationAccessToken.forRepository("http://url", applicationKey, "userAgent", "mediaType", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getInstallationUrlNullHttpClient() throws Exception {
+        InstallationAccessToken.getInstallationUrl("http://url", applicationKey, "userAgent", null);
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void getInstallationUrlNullRepositoryUrl() throws Exception {
         InstallationAccessToken.getInstallationUrl(null, applicationKey, "userAgent");
@@ -563,6 +628,291 @@ public class InstallationAccessTokenTest {
         return GSON.toJson(json);
     }
 
+    @Test
+    public void getRemainingLifetimeNoToken() throws Exception {
+        InstallationAccessToken token = new InstallationAccessToken("http://url", applicationKey, "userAgent");
+
+        Assert.assertEquals(token.getRemainingLifetime(), Duration.ZERO);
+    }
+
+    @Test
+    public void getRemainingLifetimeNoExpiration() throws Exception {
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody(accessTokenResponse);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String installationAccessTokenUrl = server.url("/install").toString();
+
+            InstallationAccessToken token = new InstallationAccessToken(installationAccessTokenUrl, applicationKey,
+                    "userAgent");
+
+            token.getHeader();
+
+            // Without a reported expiration, the maximum token lifetime less the default skew is used
+            Duration result = token.getRemainingLifetime();
+
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(58)) <= 0, result.toString());
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(57)) > 0, result.toString());
+        }
+    }
+
+    @Test
+    public void getRemainingLifetimeInvalidExpiration() throws Exception {
+        JsonObject json = new JsonObject();
+        json.addProperty("token", accessToken);
+        json.addProperty("expires_at", "not-a-date");
+
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody(GSON.toJson(json));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String installationAccessTokenUrl = server.url("/install").toString();
+
+            InstallationAccessToken token = new InstallationAccessToken(installationAccessTokenUrl, applicationKey,
+                    "userAgent");
+
+            Assert.assertEquals(token.getHeader(), "token " + accessToken);
+
+            Duration result = token.getRemainingLifetime();
+
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(58)) <= 0, result.toString());
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(57)) > 0, result.toString());
+        }
+    }
+
+    @Test
+    public void getRemainingLifetimeServerClockSkew() throws Exception {
+        // Server clock is 30 minutes behind the local clock - lifetime should be measured against the server clock
+        Instant serverTime = Instant.now().minus(30, ChronoUnit.MINUTES);
+
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Date", toHttpDate(serverTime))
+                .setBody(toAccessTokenResponse(accessToken, serverTime.plus(60, ChronoUnit.MINUTES)));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String installationAccessTokenUrl = server.url("/install").toString();
+
+            InstallationAccessToken token = new InstallationAccessToken(installationAccessTokenUrl, applicationKey,
+                    "userAgent");
+
+            token.getHeader();
+
+            Duration result = token.getRemainingLifetime();
+
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(58)) <= 0, result.toString());
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(57)) > 0, result.toString());
+        }
+    }
+
+    @Test
+    public void getRemainingLifetimeLimitedByCacheExpiration() throws Exception {
+        Instant serverTime = Instant.now();
+
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Date", toHttpDate(serverTime))
+                .setBody(toAccessTokenResponse(accessToken, serverTime.plus(60, ChronoUnit.MINUTES)));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String installationAccessTokenUrl = server.url("/install").toString();
+
+            InstallationAccessToken token = new InstallationAccessToken(installationAccessTokenUrl, applicationKey,
+                    "userAgent", MediaTypes.APP_PREVIEW, 5);
+
+            token.getHeader();
+
+            Duration result = token.getRemainingLifetime();
+
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(5)) <= 0, result.toString());
+            Assert.assertTrue(result.compareTo(Duration.ofMinutes(4)) > 0, result.toString());
+        }
+    }
+
+    @Test
+    public void getHeaderReportedExpiration() throws Exception {
+        MutableClock clock = new MutableClock(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        Instant serverTime = clock.instant();
+
+        // Token expires 1 second after the skew margin is reached
+        MockResponse response1 = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Date", toHttpDate(serverTime))
+                .setBody(toAccessTokenResponse("token1", serverTime.plus(31, ChronoUnit.SECONDS)));
+
+        MockResponse response2 = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody(toAccessTokenResponse("token2", serverTime.plus(60, ChronoUnit.MINUTES)));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response1);
+            server.enqueue(response2);
+            server.start();
+
+            String installationAccessTokenUrl = server.url("/install").toString();
+
+            InstallationAccessToken token = new InstallationAccessToken(installationAccessTokenUrl, applicationKey,
+                    "userAgent", MediaTypes.APP_PREVIEW, 60, RefreshPolicy.onExpiration(), Duration.ofSeconds(30),
+                    HttpClients.getDefault(), clock);
+
+            Assert.assertEquals(token.getHeader(), "token token1");
+            Assert.assertEquals(token.getRemainingLifetime(), Duration.ofSeconds(1));
+
+            clock.advance(Duration.ofSeconds(1));
+
+            Assert.assertEquals(token.getRemainingLifetime(), Duration.ZERO);
+            Assert.assertEquals(token.getHeader(), "token token2");
+            Assert.assertEquals(server.getRequestCount(), 2);
+        }
+    }
+
+    @Test
+    public void getHeaderConcurrentInitialExchange() throws Exception {
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody(accessTokenResponse)
+                .setHeadersDelay(200, TimeUnit.MILLISECONDS);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String installationAccessTokenUrl = server.url("/install").toString();
+
+            InstallationAccessToken token = new InstallationAccessToken(installationAccessTokenUrl, applicationKey,
+                    "userAgent");
+
+            List<String> results = getHeaderConcurrently(token, CONCURRENT_CALLERS);
+
+            Assert.assertEquals(results.size(), CONCURRENT_CALLERS);
+            results.forEach(result -> Assert.assertEquals(result, "token " + accessToken));
+
+            // All callers waiting on an expired token share a single exchange
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    @Test
+    public void getHeaderStaleWhileRevalidate() throws Exception {
+        MutableClock clock = new MutableClock(Instant.now());
+        CountDownLatch releaseRenewal = new CountDownLatch(1);
+        AtomicInteger exchanges = new AtomicInteger(0);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    String token = "token" + exchanges.incrementAndGet();
+
+                    // Hold renewal exchanges until the test has verified callers are not blocked on them
+                    if (exchanges.get() > 1) {
+                        releaseRenewal.await(10, TimeUnit.SECONDS);
+                    }
+
+                    JsonObject json = new JsonObject();
+                    json.addProperty("token", token);
+
+                    return new MockResponse()
+                            .addHeader("Content-Type", "application/json")
+                            .setBody(GSON.toJson(json));
+                }
+
+            });
+            server.start();
+
+            String installationAccessTokenUrl = server.url("/install").toString();
+
+            // Renewal is due 500ms after each exchange, and stale tokens may be used up until expiration
+            InstallationAccessToken token = new InstallationAccessToken(installationAccessTokenUrl, applicationKey,
+                    "userAgent", MediaTypes.APP_PREVIEW, 1,
+                    RefreshPolicy.staleWhileRevalidate(Duration.ofMillis(59_500), Duration.ZERO),
+                    Duration.ofMinutes(2), HttpClients.getDefault(), clock);
+
+            try {
+                Assert.assertEquals(token.getHeader(), "token token1");
+
+                clock.advance(Duration.ofMillis(600));
+
+                // Renewal is held by the server - callers completing at all demonstrates they are not blocked on it
+                List<String> results = getHeaderConcurrently(token, CONCURRENT_CALLERS);
+
+                Assert.assertEquals(results.size(), CONCURRENT_CALLERS);
+                results.forEach(result -> Assert.assertEquals(result, "token token1"));
+
+                // Only a single renewal was started, despite all callers observing renewal was due
+                Assert.assertEquals(server.getRequestCount(), 2);
+            } finally {
+                releaseRenewal.countDown();
+            }
+
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+            String result = token.getHeader();
+
+            while (!Objects.equals(result, "token token2") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+                result = token.getHeader();
+            }
+
+            Assert.assertEquals(result, "token token2");
+        }
+    }
+
+    private List<String> getHeaderConcurrently(InstallationAccessToken token, int callers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return token.getHeader();
+                }));
+            }
+
+            start.countDown();
+
+            List<String> results = new ArrayList<>();
+
+            for (Future<String> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String toAccessTokenResponse(String token, Instant expiresAt) {
+        JsonObject json = new JsonObject();
+        json.addProperty("token", token);
+        json.addProperty("expires_at", expiresAt.truncatedTo(ChronoUnit.SECONDS).toString());
+
+        return GSON.toJson(json);
+    }
+
+    private String toHttpDate(Instant instant) {
+        return DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+                .format(instant.atZone(ZoneOffset.UTC));
+    }
+
     private String readPrivateKey() {
         // Note: The test key was generated from a GitHub App, and immediately removed as a valid key, and so is not a
         // security issue
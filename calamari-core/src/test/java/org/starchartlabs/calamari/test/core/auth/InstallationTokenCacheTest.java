@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.auth;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.auth.ApplicationKey;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.auth.InstallationTokenCache;
+import org.starchartlabs.calamari.core.auth.RefreshPolicy;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class InstallationTokenCacheTest {
+
+    private static final Path TEST_RESOURCE_FOLDER = Paths.get("org", "starchartlabs", "calamari", "test", "core",
+            "auth");
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private ApplicationKey applicationKey;
+
+    private String accessTokenResponse;
+
+    @BeforeClass
+    public void setup() {
+        applicationKey = new ApplicationKey("gitHubAppId", this::readPrivateKey);
+
+        JsonObject json = new JsonObject();
+        json.addProperty("token", "authorizationToken");
+
+        accessTokenResponse = GSON.toJson(json);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructDefaultsNullApplicationKey() throws Exception {
+        new InstallationTokenCache(null, "userAgent", 10);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructDefaultsNullUserAgent() throws Exception {
+        new InstallationTokenCache(applicationKey, null, 10);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructDefaultsZeroMaximumSize() throws Exception {
+        new InstallationTokenCache(applicationKey, "userAgent", 0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullApiUrl() throws Exception {
+        new InstallationTokenCache(null, applicationKey, "userAgent", "mediaType", 10, RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullApplicationKey() throws Exception {
+        new InstallationTokenCache("http://url", null, "userAgent", "mediaType", 10, RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullUserAgent() throws Exception {
+        new InstallationTokenCache("http://url", applicationKey, null, "mediaType", 10, RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullMediaType() throws Exception {
+        new InstallationTokenCache("http://url", applicationKey, "userAgent", null, 10, RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRefreshPolicy() throws Exception {
+        new InstallationTokenCache("http://url", applicationKey, "userAgent", "mediaType", 10, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new InstallationTokenCache("http://url", applicationKey, "userAgent", "mediaType", 10,
+                RefreshPolicy.onExpiration(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructInvalidApiUrl() throws Exception {
+        new InstallationTokenCache("not a url", applicationKey, "userAgent", "mediaType", 10,
+                RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroMaximumSize() throws Exception {
+        new InstallationTokenCache("http://url", applicationKey, "userAgent", "mediaType", 0,
+                RefreshPolicy.onExpiration());
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forUrlNullUrl() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        cache.forUrl(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void invalidateNullUrl() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        cache.invalidate(null);
+    }
+
+    @Test
+    public void forInstallationRetained() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        InstallationAccessToken result1 = cache.forInstallation(12345);
+        InstallationAccessToken result2 = cache.forInstallation(12345);
+        InstallationAccessToken result3 = cache.forUrl("https://api.github.com/app/installations/12345/access_tokens");
+
+        Assert.assertSame(result1, result2);
+        Assert.assertSame(result1, result3);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void forInstallationDistinct() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        InstallationAccessToken result1 = cache.forInstallation(12345);
+        InstallationAccessToken result2 = cache.forInstallation(67890);
+
+        Assert.assertNotSame(result1, result2);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void forInstallationSingleEntryEviction() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 1);
+
+        InstallationAccessToken first = cache.forInstallation(1);
+
+        Assert.assertSame(cache.forInstallation(1), first);
+
+        cache.forInstallation(2);
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertNotSame(cache.forInstallation(1), first);
+    }
+
+    @Test
+    public void forInstallationBounded() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.forInstallation(i);
+        }
+
+        Assert.assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void forInstallationEvictsLeastRecentlyUsed() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.forInstallation(i);
+        }
+
+        InstallationAccessToken last = cache.forInstallation(1_000);
+
+        // Installations which have not exchanged for a token yet are only evicted once least recently used
+        Assert.assertEquals(cache.size(), 100);
+        Assert.assertSame(cache.forInstallation(1_000), last);
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        InstallationAccessToken first = cache.forInstallation(12345);
+        cache.invalidate(12345);
+
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNotSame(cache.forInstallation(12345), first);
+    }
+
+    @Test
+    public void invalidateUrl() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        InstallationAccessToken first = cache.forInstallation(12345);
+        cache.invalidate("https://api.github.com/app/installations/12345/access_tokens");
+
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNotSame(cache.forInstallation(12345), first);
+    }
+
+    @Test
+    public void invalidateAll() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        cache.forInstallation(1);
+        cache.forInstallation(2);
+        cache.invalidateAll();
+
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void cleanUp() throws Exception {
+        InstallationTokenCache cache = new InstallationTokenCache(applicationKey, "userAgent", 10);
+
+        // Tokens which have not been exchanged for have not expired
+        cache.forInstallation(1);
+        cache.cleanUp();
+
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void forInstallationGetHeader() throws Exception {
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", "application/json")
+                .setBody(accessTokenResponse);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String apiUrl = server.url("/api/v3").toString();
+
+            InstallationTokenCache cache = new InstallationTokenCache(apiUrl, applicationKey, "userAgent",
+                    MediaTypes.APP_PREVIEW, 10, RefreshPolicy.onExpiration());
+
+            try {
+                Assert.assertEquals(cache.forInstallation(12345).getHeader(), "token authorizationToken");
+                Assert.assertEquals(cache.forInstallation(12345).getHeader(), "token authorizationToken");
+
+                // Token is retained and not cleaned up, as it has not expired
+                cache.cleanUp();
+                Assert.assertEquals(cache.size(), 1);
+            } finally {
+                Assert.assertEquals(server.getRequestCount(), 1);
+                RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+                Assert.assertNotNull(request.getHeader("Authorization"));
+                Assert.assertEquals(request.getHeader("User-Agent"), "userAgent");
+                Assert.assertEquals(request.getHeader("Accept"), MediaTypes.APP_PREVIEW);
+                Assert.assertEquals(request.getMethod(), "POST");
+                Assert.assertEquals(request.getPath(), "/api/v3/app/installations/12345/access_tokens");
+            }
+        }
+    }
+
+    private String readPrivateKey() {
+        // Note: The test key was generated from a GitHub App, and immediately removed as a valid key, and so is not a
+        // security issue
+        try (BufferedReader reader = getClasspathReader(
+                TEST_RESOURCE_FOLDER.resolve("orphaned-github-private-key.pem"))) {
+            return reader.lines()
+                    .collect(Collectors.joining("\n"));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private BufferedReader getClasspathReader(Path filePath) {
+        return new BufferedReader(
+                new InputStreamReader(getClass().getClassLoader().getResourceAsStream(filePath.toString()),
+                        StandardCharsets.UTF_8));
+    }
+
+}
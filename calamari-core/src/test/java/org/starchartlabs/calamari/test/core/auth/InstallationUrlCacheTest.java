@@ -0,0 +1,434 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.auth;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.starchartlabs.calamari.core.auth.ApplicationKey;
+import org.starchartlabs.calamari.core.auth.InstallationUrlCache;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.test.MutableClock;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class InstallationUrlCacheTest {
+
+    private static final Path TEST_RESOURCE_FOLDER = Paths.get("org", "starchartlabs", "calamari", "test", "core",
+            "auth");
+
+    private static final Gson GSON = new GsonBuilder().create();
+
+    private ApplicationKey applicationKey;
+
+    @BeforeClass
+    public void setup() {
+        applicationKey = new ApplicationKey("gitHubAppId", this::readPrivateKey);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullApplicationKey() throws Exception {
+        new InstallationUrlCache(null, "userAgent", 10, Duration.ofHours(1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullUserAgent() throws Exception {
+        new InstallationUrlCache(applicationKey, null, 10, Duration.ofHours(1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullExpiration() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullClock() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1), HttpClients.getDefault(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroMaximumSize() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 0, Duration.ofHours(1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroExpiration() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getInstallationUrlNullRepositoryUrl() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1)).getInstallationUrl(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void forRepositoryNullMediaType() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1)).forRepository("http://url",
+                null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void invalidateRepositoryNullRepositoryUrl() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1)).invalidateRepository(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void invalidateInstallationNullUrl() throws Exception {
+        new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1)).invalidateInstallation(null);
+    }
+
+    @Test
+    public void getInstallationUrlCached() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl = server.url("/repos/owner/repo").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1));
+
+            try {
+                for (int i = 0; i < 5; i++) {
+                    Assert.assertEquals(cache.getInstallationUrl(repoUrl), getAccessTokensUrl(server, "owner"));
+                }
+
+                Assert.assertEquals(cache.size(), 1);
+            } finally {
+                Assert.assertEquals(server.getRequestCount(), 1);
+                RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+                Assert.assertNotNull(request.getHeader("Authorization"));
+                Assert.assertEquals(request.getHeader("User-Agent"), "userAgent");
+                Assert.assertEquals(request.getPath(), "/repos/owner/repo/installation");
+            }
+        }
+    }
+
+    @Test
+    public void getInstallationUrlExpired() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl = server.url("/repos/owner/repo").toString();
+            MutableClock clock = new MutableClock(Instant.ofEpochSecond(1_700_000_000L));
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10,
+                    Duration.ofMinutes(10), HttpClients.getDefault(), clock);
+
+            cache.getInstallationUrl(repoUrl);
+            clock.advance(Duration.ofMinutes(9));
+            cache.getInstallationUrl(repoUrl);
+
+            Assert.assertEquals(server.getRequestCount(), 1);
+
+            clock.advance(Duration.ofMinutes(2));
+            cache.getInstallationUrl(repoUrl);
+
+            Assert.assertEquals(server.getRequestCount(), 2);
+        }
+    }
+
+    @Test
+    public void getInstallationUrlEvicted() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl1 = server.url("/repos/owner/repo1").toString();
+            String repoUrl2 = server.url("/repos/owner/repo2").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 1, Duration.ofHours(1));
+
+            cache.getInstallationUrl(repoUrl1);
+            cache.getInstallationUrl(repoUrl2);
+            cache.getInstallationUrl(repoUrl1);
+
+            Assert.assertEquals(cache.size(), 1);
+            Assert.assertEquals(server.getRequestCount(), 3);
+        }
+    }
+
+    @Test
+    public void getInstallationUrlFailureNotCached() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            String repoUrl = server.url("/repos/owner/repo").toString();
+            String accessTokensUrl = getAccessTokensUrl(server, "owner");
+
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.enqueue(new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(getRepositoryResponse(accessTokensUrl)));
+
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1));
+
+            try {
+                cache.getInstallationUrl(repoUrl);
+                Assert.fail("Expected failed lookup to throw an exception");
+            } catch (RuntimeException expected) {
+                // Failures are reported to the caller, and not retained
+            }
+
+            Assert.assertEquals(cache.size(), 0);
+            Assert.assertEquals(cache.getInstallationUrl(repoUrl), accessTokensUrl);
+            Assert.assertEquals(server.getRequestCount(), 2);
+        }
+    }
+
+    @Test
+    public void getInstallationUrlErrorNotCached() throws Exception {
+        AtomicBoolean failKeyRead = new AtomicBoolean(true);
+
+        // Errors (as opposed to exceptions) may occur while signing the lookup request, such as class loading failures
+        ApplicationKey failingKey = new ApplicationKey("gitHubAppId", () -> {
+            if (failKeyRead.getAndSet(false)) {
+                throw new LinkageError("Simulated linkage error");
+            }
+
+            return readPrivateKey();
+        });
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl = server.url("/repos/owner/repo").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(failingKey, "userAgent", 10, Duration.ofHours(1));
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            try {
+                try {
+                    cache.getInstallationUrl(repoUrl);
+                    Assert.fail("Expected failed lookup to throw an error");
+                } catch (LinkageError expected) {
+                    // Errors are reported to the caller, and not retained
+                }
+
+                Assert.assertEquals(cache.size(), 0);
+
+                // Later callers perform a new lookup, instead of waiting on the failed one
+                Future<String> retry = executor.submit(() -> cache.getInstallationUrl(repoUrl));
+
+                Assert.assertEquals(retry.get(5, TimeUnit.SECONDS), getAccessTokensUrl(server, "owner"));
+                Assert.assertEquals(server.getRequestCount(), 1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void getInstallationUrlConcurrent() throws Exception {
+        int callers = 50;
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 200));
+            server.start();
+
+            String repoUrl = server.url("/repos/owner/repo").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1));
+
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            CountDownLatch start = new CountDownLatch(1);
+
+            try {
+                List<Future<String>> futures = new ArrayList<>();
+
+                for (int i = 0; i < callers; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return cache.getInstallationUrl(repoUrl);
+                    }));
+                }
+
+                start.countDown();
+
+                for (Future<String> future : futures) {
+                    Assert.assertEquals(future.get(5, TimeUnit.SECONDS), getAccessTokensUrl(server, "owner"));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // All concurrent callers share a single lookup
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    @Test
+    public void invalidateRepository() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl1 = server.url("/repos/owner/repo1").toString();
+            String repoUrl2 = server.url("/repos/owner/repo2").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1));
+
+            cache.getInstallationUrl(repoUrl1);
+            cache.getInstallationUrl(repoUrl2);
+            cache.invalidateRepository(repoUrl1);
+
+            Assert.assertEquals(cache.size(), 1);
+
+            cache.getInstallationUrl(repoUrl1);
+            cache.getInstallationUrl(repoUrl2);
+
+            Assert.assertEquals(server.getRequestCount(), 3);
+        }
+    }
+
+    @Test
+    public void invalidateInstallation() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl1 = server.url("/repos/owner/repo1").toString();
+            String repoUrl2 = server.url("/repos/owner/repo2").toString();
+            String repoUrl3 = server.url("/repos/other/repo3").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1));
+
+            cache.getInstallationUrl(repoUrl1);
+            cache.getInstallationUrl(repoUrl2);
+            cache.getInstallationUrl(repoUrl3);
+            cache.invalidateInstallation(getAccessTokensUrl(server, "owner"));
+
+            Assert.assertEquals(cache.size(), 1);
+            Assert.assertEquals(server.getRequestCount(), 3);
+        }
+    }
+
+    @Test
+    public void invalidateInstallationId() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl1 = server.url("/repos/owner/repo1").toString();
+            String repoUrl2 = server.url("/repos/other/repo2").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1));
+
+            cache.getInstallationUrl(repoUrl1);
+            cache.getInstallationUrl(repoUrl2);
+            cache.invalidateInstallation(getInstallationId("other"));
+
+            Assert.assertEquals(cache.size(), 1);
+        }
+    }
+
+    @Test
+    public void invalidateAll() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new InstallationDispatcher(server, 0));
+            server.start();
+
+            String repoUrl1 = server.url("/repos/owner/repo1").toString();
+            String repoUrl2 = server.url("/repos/other/repo2").toString();
+            InstallationUrlCache cache = new InstallationUrlCache(applicationKey, "userAgent", 10, Duration.ofHours(1));
+
+            cache.getInstallationUrl(repoUrl1);
+            cache.getInstallationUrl(repoUrl2);
+            cache.invalidateAll();
+
+            Assert.assertEquals(cache.size(), 0);
+        }
+    }
+
+    private static long getInstallationId(String owner) {
+        return Math.abs(owner.hashCode());
+    }
+
+    private static String getAccessTokensUrl(MockWebServer server, String owner) {
+        return server.url("/app/installations/" + getInstallationId(owner) + "/access_tokens").toString();
+    }
+
+    private static String getRepositoryResponse(String installationUrl) {
+        JsonObject json = new JsonObject();
+        json.addProperty("access_tokens_url", installationUrl);
+
+        return GSON.toJson(json);
+    }
+
+    private String readPrivateKey() {
+        // Note: The test key was generated from a GitHub App, and immediately removed as a valid key, and so is not a
+        // security issue
+        try (BufferedReader reader = getClasspathReader(
+                TEST_RESOURCE_FOLDER.resolve("orphaned-github-private-key.pem"))) {
+            return reader.lines()
+                    .collect(Collectors.joining("\n"));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private BufferedReader getClasspathReader(Path filePath) {
+        return new BufferedReader(
+                new InputStreamReader(getClass().getClassLoader().getResourceAsStream(filePath.toString()),
+                        StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Responds to repository installation lookups, assigning each repository owner a distinct installation
+     *
+     * @author romeara
+     */
+    private static final class InstallationDispatcher extends Dispatcher {
+
+        private final MockWebServer server;
+
+        private final long delayMillis;
+
+        public InstallationDispatcher(MockWebServer server, long delayMillis) {
+            this.server = server;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            // Paths are of the form /repos/{owner}/{repo}/installation
+            String owner = request.getPath().split("/")[2];
+
+            return new MockResponse()
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(getRepositoryResponse(getAccessTokensUrl(server, owner)))
+                    .setHeadersDelay(delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+    }
+
+}
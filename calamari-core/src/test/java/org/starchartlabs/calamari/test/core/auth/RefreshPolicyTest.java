@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.auth;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.starchartlabs.calamari.core.auth.RefreshPolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RefreshPolicyTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void refreshAheadNullRefreshMargin() throws Exception {
+        RefreshPolicy.refreshAhead(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void refreshAheadZeroRefreshMargin() throws Exception {
+        RefreshPolicy.refreshAhead(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void refreshAheadNegativeRefreshMargin() throws Exception {
+        RefreshPolicy.refreshAhead(Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void refreshAheadWithSchedulerNullRefreshMargin() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            RefreshPolicy.refreshAhead(null, scheduler);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void refreshAheadNullScheduler() throws Exception {
+        RefreshPolicy.refreshAhead(Duration.ofSeconds(30), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void staleWhileRevalidateNullRefreshMargin() throws Exception {
+        RefreshPolicy.staleWhileRevalidate(null, Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void staleWhileRevalidateNullHardDeadlineMargin() throws Exception {
+        RefreshPolicy.staleWhileRevalidate(Duration.ofSeconds(30), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void staleWhileRevalidateNullExecutor() throws Exception {
+        RefreshPolicy.staleWhileRevalidate(Duration.ofSeconds(30), Duration.ZERO, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void staleWhileRevalidateZeroRefreshMargin() throws Exception {
+        RefreshPolicy.staleWhileRevalidate(Duration.ZERO, Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void staleWhileRevalidateNegativeHardDeadlineMargin() throws Exception {
+        RefreshPolicy.staleWhileRevalidate(Duration.ofSeconds(30), Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void staleWhileRevalidateHardDeadlineMarginTooLarge() throws Exception {
+        RefreshPolicy.staleWhileRevalidate(Duration.ofSeconds(30), Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void onExpiration() throws Exception {
+        Assert.assertEquals(RefreshPolicy.onExpiration(), RefreshPolicy.onExpiration());
+    }
+
+    @Test
+    public void hashCodeEqualPolicies() throws Exception {
+        RefreshPolicy result1 = RefreshPolicy.refreshAhead(Duration.ofSeconds(30));
+        RefreshPolicy result2 = RefreshPolicy.refreshAhead(Duration.ofSeconds(30));
+
+        Assert.assertEquals(result1.hashCode(), result2.hashCode());
+    }
+
+    @Test
+    public void equalsEqualPolicies() throws Exception {
+        RefreshPolicy result1 = RefreshPolicy.refreshAhead(Duration.ofSeconds(30));
+        RefreshPolicy result2 = RefreshPolicy.refreshAhead(Duration.ofSeconds(30));
+
+        Assert.assertEquals(result1, result2);
+    }
+
+    @Test
+    public void equalsDifferentMargin() throws Exception {
+        RefreshPolicy result1 = RefreshPolicy.refreshAhead(Duration.ofSeconds(30));
+        RefreshPolicy result2 = RefreshPolicy.refreshAhead(Duration.ofSeconds(31));
+
+        Assert.assertNotEquals(result1, result2);
+    }
+
+    @Test
+    public void equalsDifferentHardDeadlineMargin() throws Exception {
+        RefreshPolicy result1 = RefreshPolicy.staleWhileRevalidate(Duration.ofSeconds(30), Duration.ofSeconds(5));
+        RefreshPolicy result2 = RefreshPolicy.staleWhileRevalidate(Duration.ofSeconds(30), Duration.ofSeconds(10));
+
+        Assert.assertNotEquals(result1, result2);
+    }
+
+    @Test
+    public void equalsDifferentMode() throws Exception {
+        Assert.assertNotEquals(RefreshPolicy.onExpiration(), RefreshPolicy.refreshAhead(Duration.ofSeconds(30)));
+    }
+
+}
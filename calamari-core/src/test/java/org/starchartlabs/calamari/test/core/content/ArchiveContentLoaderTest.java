@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.content;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.content.ArchiveContentLoader;
+import org.starchartlabs.calamari.core.content.PathGlob;
+import org.starchartlabs.calamari.core.exception.FileContentException;
+import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+public class ArchiveContentLoaderTest {
+
+    private static final String ARCHIVE_ROOT = "owner-repository-0123456/";
+
+    private static final String LONG_PATH = "policies/" + repeat('d', 120) + "/" + repeat('f', 100) + ".yml";
+
+    @Mock
+    private InstallationAccessToken accessToken;
+
+    private ArchiveContentLoader archiveContentLoader;
+
+    private AutoCloseable mocks;
+
+    @BeforeMethod
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+
+        Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+        Mockito.when(accessToken.getInstallationAccessTokenUrl()).thenReturn("installationAccessTokenUrl");
+
+        archiveContentLoader = new ArchiveContentLoader("userAgent");
+    }
+
+    @AfterMethod
+    public void teardown() throws Exception {
+        mocks.close();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullUserAgent() throws Exception {
+        new ArchiveContentLoader(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new ArchiveContentLoader("userAgent", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void extractNullAccessToken() throws Exception {
+        archiveContentLoader.extract(null, "repositoryUrl", "ref", path -> true, (path, contents) -> {
+        });
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void extractNullFilter() throws Exception {
+        archiveContentLoader.extract(accessToken, "repositoryUrl", "ref", null, (path, contents) -> {
+        });
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void extractNullConsumer() throws Exception {
+        archiveContentLoader.extract(accessToken, "repositoryUrl", "ref", path -> true, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void extractToNullDirectory() throws Exception {
+        archiveContentLoader.extractTo(accessToken, "repositoryUrl", "ref", path -> true, null);
+    }
+
+    @Test
+    public void extractNotFound() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(404));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            OptionalInt result = archiveContentLoader.extract(accessToken, repositoryUrl, "main", path -> true,
+                    (path, contents) -> Assert.fail("No contents expected"));
+
+            Assert.assertFalse(result.isPresent());
+        }
+    }
+
+    @Test(expectedExceptions = GitHubResponseException.class)
+    public void extractErrorResponse() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(500));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            archiveContentLoader.extract(accessToken, repositoryUrl, "main", path -> true, (path, contents) -> {
+            });
+        }
+    }
+
+    @Test
+    public void extract() throws Exception {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put(".github/config.yml", "config");
+        files.put("README.md", "readme");
+        files.put(LONG_PATH, "long");
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(archive(files)));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+            Map<String, String> result = new LinkedHashMap<>();
+
+            OptionalInt count = archiveContentLoader.extract(accessToken, repositoryUrl, "main",
+                    new PathGlob("**/*.yml"),
+                    (path, contents) -> result.put(path, new String(contents, StandardCharsets.UTF_8)));
+
+            Assert.assertEquals(count, OptionalInt.of(2));
+            Assert.assertEquals(result.size(), 2);
+            Assert.assertEquals(result.get(".github/config.yml"), "config");
+            Assert.assertEquals(result.get(LONG_PATH), "long");
+
+            RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(request.getHeader("User-Agent"), "userAgent");
+            Assert.assertEquals(request.getHeader("Authorization"), "token authToken12345");
+            Assert.assertEquals(request.getPath(), "/api/repos/owner/repository/tarball/main");
+        }
+    }
+
+    @Test
+    public void extractTo() throws Exception {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put(".github/config.yml", "config");
+        files.put(".github/workflows/build.yml", "build");
+        files.put("README.md", "readme");
+
+        Path directory = Files.createTempDirectory("archiveContentLoaderTest");
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(archive(files)));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            OptionalInt count = archiveContentLoader.extractTo(accessToken, repositoryUrl, "main",
+                    new PathGlob(".github/**"), directory);
+
+            Assert.assertEquals(count, OptionalInt.of(2));
+            Assert.assertEquals(new String(Files.readAllBytes(directory.resolve(".github/config.yml")),
+                    StandardCharsets.UTF_8), "config");
+            Assert.assertEquals(new String(Files.readAllBytes(directory.resolve(".github/workflows/build.yml")),
+                    StandardCharsets.UTF_8), "build");
+            Assert.assertFalse(Files.exists(directory.resolve("README.md")));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void extractToParentPath() throws Exception {
+        Map<String, String> files = new LinkedHashMap<>();
+        files.put("../outside.yml", "outside");
+
+        Path directory = Files.createTempDirectory("archiveContentLoaderTest");
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(archive(files)));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            try {
+                archiveContentLoader.extractTo(accessToken, repositoryUrl, "main", path -> true, directory);
+
+                Assert.fail("Expected entry outside of the target directory to be rejected");
+            } catch (FileContentException expected) {
+                Assert.assertFalse(Files.exists(directory.resolveSibling("outside.yml")));
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static Buffer archive(Map<String, String> files) throws Exception {
+        ByteArrayOutputStream tar = new ByteArrayOutputStream();
+
+        // GitHub archives begin with a global header recording the commit, and place files within a root directory
+        writeEntry(tar, "pax_global_header", 'g',
+                paxRecord("comment", "0123456789abcdef0123456789abcdef01234567"));
+        writeEntry(tar, ARCHIVE_ROOT, '5', new byte[0]);
+
+        for (Map.Entry<String, String> file : files.entrySet()) {
+            String name = ARCHIVE_ROOT + file.getKey();
+
+            if (name.length() > 100) {
+                writeEntry(tar, "PaxHeaders/long", 'x', paxRecord("path", name));
+                name = name.substring(0, 100);
+            }
+
+            writeEntry(tar, name, '0', file.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+
+        tar.write(new byte[1024]);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(result)) {
+            gzip.write(tar.toByteArray());
+        }
+
+        return new Buffer().write(result.toByteArray());
+    }
+
+    private static void writeEntry(ByteArrayOutputStream tar, String name, char type, byte[] contents)
+            throws Exception {
+        byte[] header = new byte[512];
+
+        putString(header, 0, name);
+        putString(header, 100, "0000644");
+        putString(header, 124, String.format("%011o", contents.length));
+        putString(header, 136, "00000000000");
+        header[156] = (byte) type;
+        putString(header, 257, "ustar");
+        putString(header, 263, "00");
+
+        long checksum = 0;
+
+        for (int i = 0; i < header.length; i++) {
+            checksum += (i >= 148 && i < 156 ? ' ' : header[i] & 0xFF);
+        }
+
+        putString(header, 148, String.format("%06o", checksum));
+        header[155] = ' ';
+
+        tar.write(header);
+        tar.write(contents);
+        tar.write(new byte[(512 - (contents.length % 512)) % 512]);
+    }
+
+    private static byte[] paxRecord(String key, String value) {
+        String record = " " + key + "=" + value + "\n";
+        int length = record.length() + Integer.toString(record.length()).length();
+
+        // The length prefix counts its own digits
+        if (Integer.toString(length).length() != Integer.toString(record.length()).length()) {
+            length++;
+        }
+
+        return (length + record).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putString(byte[] header, int offset, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        System.arraycopy(bytes, 0, header, offset, bytes.length);
+    }
+
+    private static String repeat(char character, int count) {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            result.append(character);
+        }
+
+        return result.toString();
+    }
+
+    private static void delete(Path directory) throws Exception {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder())
+            .forEach(path -> path.toFile().delete());
+        }
+    }
+
+}
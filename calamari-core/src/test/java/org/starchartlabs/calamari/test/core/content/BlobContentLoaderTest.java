@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.content;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.content.BlobContentLoader;
+import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+public class BlobContentLoaderTest {
+
+    private static final Path TEST_RESOURCE_FOLDER = Paths.get("org", "starchartlabs", "calamari", "test", "core",
+            "content");
+
+    private static final String BLOB_SHA = "3d21ec53a331a6f037a91c368710b99387d012c1";
+
+    @Mock
+    private InstallationAccessToken accessToken;
+
+    private BlobContentLoader blobContentLoader;
+
+    private AutoCloseable mocks;
+
+    @BeforeMethod
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+
+        Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+        Mockito.when(accessToken.getInstallationAccessTokenUrl()).thenReturn("installationAccessTokenUrl");
+
+        blobContentLoader = new BlobContentLoader("userAgent");
+    }
+
+    @AfterMethod
+    public void teardown() throws Exception {
+        mocks.close();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullUserAgent() throws Exception {
+        new BlobContentLoader(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullMediaType() throws Exception {
+        new BlobContentLoader("userAgent", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new BlobContentLoader("userAgent", "mediaType", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void resolveBlobShaNullAccessToken() throws Exception {
+        blobContentLoader.resolveBlobSha(null, "repositoryUrl", "ref", "path.json");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void resolveBlobShaNullPath() throws Exception {
+        blobContentLoader.resolveBlobSha(accessToken, "repositoryUrl", "ref", null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void resolveBlobShaEmptyPath() throws Exception {
+        blobContentLoader.resolveBlobSha(accessToken, "http://localhost/api/repos/owner/repository", "ref", "/");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void transferBlobNullBlobSha() throws Exception {
+        blobContentLoader.transferBlob(accessToken, "repositoryUrl", null,
+                Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void transferContentsNullTarget() throws Exception {
+        blobContentLoader.transferContents(accessToken, "repositoryUrl", "ref", "path.json", (FileChannel) null);
+    }
+
+    @Test
+    public void resolveBlobSha() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Optional<String> result = blobContentLoader.resolveBlobSha(accessToken, repositoryUrl, "main",
+                    "assets/logo.png");
+
+            Assert.assertEquals(result, Optional.of(BLOB_SHA));
+
+            RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(request.getHeader("User-Agent"), "userAgent");
+            Assert.assertEquals(request.getHeader("Accept"), MediaTypes.APP_PREVIEW);
+            Assert.assertEquals(request.getHeader("Authorization"), "token authToken12345");
+            Assert.assertEquals(request.getPath(), "/api/repos/owner/repository/contents/assets?ref=main");
+        }
+    }
+
+    @Test
+    public void resolveBlobShaNotFile() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Assert.assertFalse(
+                    blobContentLoader.resolveBlobSha(accessToken, repositoryUrl, "main", "assets/images").isPresent());
+            Assert.assertFalse(
+                    blobContentLoader.resolveBlobSha(accessToken, repositoryUrl, "main", "assets/link.png").isPresent());
+            Assert.assertFalse(
+                    blobContentLoader.resolveBlobSha(accessToken, repositoryUrl, "main", "assets/missing.png")
+                    .isPresent());
+        }
+    }
+
+    @Test
+    public void resolveBlobShaRootFile() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Assert.assertEquals(blobContentLoader.resolveBlobSha(accessToken, repositoryUrl, "main", "/logo.png"),
+                    Optional.of(BLOB_SHA));
+
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getPath(),
+                    "/api/repos/owner/repository/contents?ref=main");
+        }
+    }
+
+    @Test
+    public void resolveBlobShaDirectoryNotFound() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(404));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Assert.assertFalse(
+                    blobContentLoader.resolveBlobSha(accessToken, repositoryUrl, "main", "assets/logo.png").isPresent());
+        }
+    }
+
+    @Test(expectedExceptions = GitHubResponseException.class)
+    public void transferBlobErrorResponse() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(412));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            blobContentLoader.transferBlob(accessToken, repositoryUrl, BLOB_SHA,
+                    Channels.newChannel(new ByteArrayOutputStream()));
+        }
+    }
+
+    @Test
+    public void transferContentsFileChannel() throws Exception {
+        // Binary content is transferred unmodified
+        byte[] expected = new byte[64 * 1024];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+        }
+
+        Path target = Files.createTempFile("blobContentLoaderTest", ".png");
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+            server.enqueue(new MockResponse().setBody(new Buffer().write(expected)));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+            OptionalLong result = null;
+
+            try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                result = blobContentLoader.transferContents(accessToken, repositoryUrl, "main", "assets/logo.png",
+                        channel);
+            }
+
+            Assert.assertEquals(result, OptionalLong.of(expected.length));
+            Assert.assertEquals(Files.readAllBytes(target), expected);
+
+            server.takeRequest(1, TimeUnit.SECONDS);
+            RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(request.getHeader("Accept"), MediaTypes.RAW);
+            Assert.assertEquals(request.getPath(), "/api/repos/owner/repository/git/blobs/" + BLOB_SHA);
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    public void transferContentsOutputStream() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+            server.enqueue(new MockResponse().setBody("This is test text"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+            OptionalLong result = blobContentLoader.transferContents(accessToken, repositoryUrl, "main",
+                    "assets/logo.png", target);
+
+            Assert.assertEquals(result, OptionalLong.of(17));
+            Assert.assertEquals(new String(target.toByteArray(), StandardCharsets.UTF_8), "This is test text");
+        }
+    }
+
+    @Test
+    public void transferContentsNotFound() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(getResource("directoryContentResponse.json")));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+            OptionalLong result = blobContentLoader.transferContents(accessToken, repositoryUrl, "main",
+                    "assets/missing.png", target);
+
+            Assert.assertFalse(result.isPresent());
+            Assert.assertEquals(target.size(), 0);
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    private String getResource(String fileName) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getClassLoader().getResourceAsStream(TEST_RESOURCE_FOLDER.resolve(fileName).toString()),
+                StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+
+}
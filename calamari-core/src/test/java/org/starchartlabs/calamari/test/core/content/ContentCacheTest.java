@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.content;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.starchartlabs.calamari.core.content.ContentCache;
+import org.starchartlabs.calamari.test.MutableClock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ContentCacheTest {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroMaximumBytes() throws Exception {
+        new ContentCache(0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRefTimeToLive() throws Exception {
+        new ContentCache(1024, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructNegativeRefTimeToLive() throws Exception {
+        new ContentCache(1024, Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullClock() throws Exception {
+        new ContentCache(1024, Duration.ofSeconds(30), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void isCommitShaNullRef() throws Exception {
+        ContentCache.isCommitSha(null);
+    }
+
+    @Test
+    public void isCommitSha() throws Exception {
+        Assert.assertTrue(ContentCache.isCommitSha("0123456789abcdef0123456789abcdef01234567"));
+        Assert.assertTrue(ContentCache.isCommitSha("0123456789ABCDEF0123456789ABCDEF01234567"));
+        Assert.assertTrue(
+                ContentCache.isCommitSha("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef"));
+
+        Assert.assertFalse(ContentCache.isCommitSha("main"));
+        Assert.assertFalse(ContentCache.isCommitSha("0123456"));
+        Assert.assertFalse(ContentCache.isCommitSha("refs/heads/0123456789abcdef0123456789abcdef01234567"));
+    }
+
+    @Test
+    public void empty() throws Exception {
+        ContentCache cache = new ContentCache(1024, Duration.ofSeconds(30), new MutableClock(Instant.EPOCH));
+
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getCurrentBytes(), 0);
+
+        cache.invalidateAll();
+
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+}
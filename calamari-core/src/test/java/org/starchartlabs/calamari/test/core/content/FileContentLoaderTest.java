@@ -7,12 +7,25 @@
 package org.starchartlabs.calamari.test.core.content;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.mockito.Mock;
@@ -20,14 +33,22 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.starchartlabs.calamari.core.MediaTypes;
 import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.content.ContentCache;
+import org.starchartlabs.calamari.core.content.ContentResult;
 import org.starchartlabs.calamari.core.content.FileContentLoader;
+import org.starchartlabs.calamari.core.content.RefResolver;
 import org.starchartlabs.calamari.core.exception.GitHubResponseException;
 import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.core.ratelimit.RateLimit;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitTracker;
+import org.starchartlabs.calamari.test.MutableClock;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -36,6 +57,8 @@ public class FileContentLoaderTest {
 
     private static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
 
+    private static final String COMMIT_SHA = "0123456789abcdef0123456789abcdef01234567";
+
     private static final Path TEST_RESOURCE_FOLDER = Paths.get("org", "starchartlabs", "calamari", "test", "core",
             "content");
 
@@ -50,6 +73,8 @@ public class FileContentLoaderTest {
     public void setup() {
         mocks = MockitoAnnotations.openMocks(this);
 
+        Mockito.when(accessToken.getInstallationAccessTokenUrl()).thenReturn("installationAccessTokenUrl");
+
         fileContentLoader = new FileContentLoader("userAgent");
     }
 
@@ -75,6 +100,11 @@ public class FileContentLoaderTest {
         new FileContentLoader("userAgent", null);
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new FileContentLoader("userAgent", "mediaType", null);
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void loadContentsNullAccessToken() throws Exception {
         fileContentLoader.loadContents(null, "repositoryUrl", "ref", "path.json");
@@ -128,6 +158,7 @@ public class FileContentLoaderTest {
                         "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
 
                 Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
             }
         }
     }
@@ -166,10 +197,45 @@ public class FileContentLoaderTest {
                         "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
 
                 Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
             }
         }
     }
 
+    @Test
+    public void loadContentsRecordsRateLimit() throws Exception {
+        MockResponse response = new MockResponse()
+                .setResponseCode(404)
+                .addHeader("X-RateLimit-Limit", "5000")
+                .addHeader(RATE_LIMIT_REMAINING_HEADER, "4321")
+                .addHeader("X-RateLimit-Reset", Long.toString(Instant.now().plus(Duration.ofHours(1)).getEpochSecond()));
+
+        RateLimitTracker tracker = new RateLimitTracker();
+        RateLimitTracker.setDefault(tracker);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            fileContentLoader.loadContents(accessToken, repositoryUrl, "ref", "path.json");
+
+            Optional<RateLimit> result = tracker
+                    .getRateLimit(RateLimitTracker.installationScope("installationAccessTokenUrl"));
+
+            Assert.assertEquals(result.map(RateLimit::getRemaining).orElse(null), Integer.valueOf(4321));
+            Assert.assertEquals(result.map(RateLimit::getLimit).orElse(null), Integer.valueOf(5000));
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken).getInstallationAccessTokenUrl();
+        } finally {
+            RateLimitTracker.setDefault(new RateLimitTracker());
+        }
+    }
+
     @Test
     public void loadContentsNotFound() throws Exception {
         MockResponse response = new MockResponse()
@@ -206,6 +272,7 @@ public class FileContentLoaderTest {
                         "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
 
                 Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
             }
         }
     }
@@ -252,6 +319,7 @@ public class FileContentLoaderTest {
                         "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
 
                 Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
             }
         }
     }
@@ -301,6 +369,7 @@ public class FileContentLoaderTest {
                         "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
 
                 Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
             }
         }
     }
@@ -358,6 +427,7 @@ public class FileContentLoaderTest {
                         "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
 
                 Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
             }
         }
     }
@@ -409,10 +479,646 @@ public class FileContentLoaderTest {
                         "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
 
                 Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
+            }
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadRawContentsNullAccessToken() throws Exception {
+        fileContentLoader.loadRawContents(null, "repositoryUrl", "ref", "path.json");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadRawContentsNullPath() throws Exception {
+        fileContentLoader.loadRawContents(accessToken, "repositoryUrl", "ref", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void openRawContentsNullRepositoryUrl() throws Exception {
+        fileContentLoader.openRawContents(accessToken, null, "ref", "path.json");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void transferRawContentsNullRef() throws Exception {
+        fileContentLoader.transferRawContents(accessToken, "repositoryUrl", null, "path.json",
+                Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void transferRawContentsNullTarget() throws Exception {
+        fileContentLoader.transferRawContents(accessToken, "repositoryUrl", "ref", "path.json", null);
+    }
+
+    @Test(expectedExceptions = GitHubResponseException.class)
+    public void loadRawContentsErrorResponse() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(412));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            try {
+                fileContentLoader.loadRawContents(accessToken, repositoryUrl, "ref", "path.json");
+            } finally {
+                Assert.assertEquals(server.getRequestCount(), 1);
+
+                Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
+            }
+        }
+    }
+
+    @Test
+    public void loadRawContentsNotFound() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(404));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Optional<byte[]> result = fileContentLoader.loadRawContents(accessToken, repositoryUrl, "ref", "path.json");
+
+            Assert.assertNotNull(result);
+            Assert.assertFalse(result.isPresent());
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void loadRawContents() throws Exception {
+        String owner = "owner";
+        String repository = "repository";
+        String ref = "ref";
+        String path = "path.json";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody("This is test text"));
+
+            String repositoryUrl = server.url("/api/repos/" + owner + "/" + repository).toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            try {
+                Optional<byte[]> result = fileContentLoader.loadRawContents(accessToken, repositoryUrl, ref, path);
+
+                Assert.assertNotNull(result);
+                Assert.assertTrue(result.isPresent());
+                Assert.assertEquals(new String(result.get(), StandardCharsets.UTF_8), "This is test text");
+            } finally {
+                Assert.assertEquals(server.getRequestCount(), 1);
+                RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+                Assert.assertEquals(request.getHeader("User-Agent"), "userAgent");
+                Assert.assertEquals(request.getHeader("Accept"), MediaTypes.RAW);
+                Assert.assertEquals(request.getHeader("Authorization"), "token authToken12345");
+                Assert.assertEquals(request.getPath(),
+                        "/api/repos/" + owner + "/" + repository + "/contents/" + path + "?ref=" + ref);
+
+                Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
+            }
+        }
+    }
+
+    @Test
+    public void openRawContents() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody("This is test text"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Optional<InputStream> result = fileContentLoader.openRawContents(accessToken, repositoryUrl, "ref",
+                    "path.json");
+
+            Assert.assertNotNull(result);
+            Assert.assertTrue(result.isPresent());
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(result.get(), StandardCharsets.UTF_8))) {
+                Assert.assertEquals(reader.lines().collect(Collectors.joining("\n")), "This is test text");
+            }
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void transferRawContents() throws Exception {
+        // Larger than the transfer buffer, to exercise multiple reads
+        StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 2000; i++) {
+            expected.append("line ").append(i).append('\n');
+        }
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(expected.toString()));
+            server.enqueue(new MockResponse().setResponseCode(404));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            OptionalLong result = fileContentLoader.transferRawContents(accessToken, repositoryUrl, "ref", "path.json",
+                    Channels.newChannel(target));
+
+            Assert.assertEquals(result, OptionalLong.of(expected.length()));
+            Assert.assertEquals(new String(target.toByteArray(), StandardCharsets.UTF_8), expected.toString());
+
+            OptionalLong notFound = fileContentLoader.transferRawContents(accessToken, repositoryUrl, "ref",
+                    "missing.json", Channels.newChannel(target));
+
+            Assert.assertFalse(notFound.isPresent());
+
+            Mockito.verify(accessToken, Mockito.times(2)).get();
+            Mockito.verify(accessToken, Mockito.times(2)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullContentCache() throws Exception {
+        new FileContentLoader("userAgent", "mediaType", HttpClients.getDefault(), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRefResolver() throws Exception {
+        new FileContentLoader("userAgent", "mediaType", HttpClients.getDefault(), new ContentCache(4096), null);
+    }
+
+    @Test
+    public void loadContentsCachedCommitSha() throws Exception {
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse()
+                    .addHeader("Content-Type", MediaTypes.APP_PREVIEW)
+                    .setBody("{\"encoding\": \"base64\", \"content\": \"VGhpcyBpcyB0ZXN0IHRleHQ=\"}"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Assert.assertEquals(contentLoader.loadContents(accessToken, repositoryUrl, COMMIT_SHA, "path.json"),
+                    Optional.of("This is test text"));
+            Assert.assertEquals(contentLoader.loadContents(accessToken, repositoryUrl, COMMIT_SHA, "path.json"),
+                    Optional.of("This is test text"));
+
+            // Contents at a commit never change
+            Assert.assertEquals(server.getRequestCount(), 1);
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken, Mockito.times(3)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void loadRawContentsCachedCommitSha() throws Exception {
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody("This is test text"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            byte[] first = contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "path.json").get();
+
+            // Modifying a result does not modify retained contents
+            first[0] = 'X';
+
+            byte[] second = contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "path.json").get();
+
+            Assert.assertEquals(new String(second, StandardCharsets.UTF_8), "This is test text");
+            Assert.assertEquals(server.getRequestCount(), 1);
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken, Mockito.times(3)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void loadRawContentsCachedRef() throws Exception {
+        MutableClock clock = new MutableClock(Instant.now());
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096, Duration.ofSeconds(30), clock));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody("first").setHeader("ETag", "\"first\""));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            server.enqueue(new MockResponse().setBody("second").setHeader("ETag", "\"second\""));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Assert.assertEquals(loadRawString(contentLoader, repositoryUrl), "first");
+            Assert.assertEquals(loadRawString(contentLoader, repositoryUrl), "first");
+            Assert.assertEquals(server.getRequestCount(), 1);
+
+            // Revalidated once the time-to-live has passed
+            clock.advance(Duration.ofSeconds(31));
+
+            Assert.assertEquals(loadRawString(contentLoader, repositoryUrl), "first");
+            Assert.assertEquals(loadRawString(contentLoader, repositoryUrl), "first");
+            Assert.assertEquals(server.getRequestCount(), 2);
+
+            clock.advance(Duration.ofSeconds(31));
+
+            Assert.assertEquals(loadRawString(contentLoader, repositoryUrl), "second");
+            Assert.assertEquals(server.getRequestCount(), 3);
+
+            Assert.assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"), "\"first\"");
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"), "\"first\"");
+
+            Mockito.verify(accessToken, Mockito.times(3)).get();
+            Mockito.verify(accessToken, Mockito.times(8)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void loadRawContentsCachedNotFound() throws Exception {
+        MutableClock clock = new MutableClock(Instant.now());
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096, Duration.ofSeconds(30), clock));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(404));
+            server.enqueue(new MockResponse().setBody("This is test text"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Assert.assertFalse(
+                    contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "path.json").isPresent());
+            Assert.assertFalse(
+                    contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "path.json").isPresent());
+            Assert.assertEquals(server.getRequestCount(), 1);
+
+            // Files not found are retained only for the time-to-live, even at a commit
+            clock.advance(Duration.ofSeconds(31));
+
+            Assert.assertTrue(
+                    contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "path.json").isPresent());
+            Assert.assertEquals(server.getRequestCount(), 2);
+
+            Mockito.verify(accessToken, Mockito.times(2)).get();
+            Mockito.verify(accessToken, Mockito.times(5)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void loadRawContentsCacheEviction() throws Exception {
+        ContentCache contentCache = new ContentCache(1024);
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), contentCache);
+
+        StringBuilder contents = new StringBuilder();
+
+        for (int i = 0; i < 400; i++) {
+            contents.append('a');
+        }
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(contents.toString()));
+            server.enqueue(new MockResponse().setBody(contents.toString()));
+            server.enqueue(new MockResponse().setBody(contents.toString()));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "first.txt");
+            contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "second.txt");
+
+            // Both files do not fit in the maximum size
+            Assert.assertEquals(contentCache.size(), 1);
+            Assert.assertTrue(contentCache.getCurrentBytes() <= 1024);
+
+            contentLoader.loadRawContents(accessToken, repositoryUrl, COMMIT_SHA, "first.txt");
+
+            Assert.assertEquals(server.getRequestCount(), 3);
+
+            Mockito.verify(accessToken, Mockito.times(3)).get();
+            Mockito.verify(accessToken, Mockito.times(6)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void loadRawContentsResolvedRef() throws Exception {
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096), new RefResolver("userAgent"));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA).setHeader("ETag", "\"sha\""));
+            server.enqueue(new MockResponse().setBody("This is test text"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Assert.assertEquals(loadRawString(contentLoader, repositoryUrl), "This is test text");
+            Assert.assertEquals(loadRawString(contentLoader, repositoryUrl), "This is test text");
+
+            // Both the resolution and the contents at the resolved commit are re-used
+            Assert.assertEquals(server.getRequestCount(), 2);
+
+            RecordedRequest resolveRequest = server.takeRequest(1, TimeUnit.SECONDS);
+            RecordedRequest contentsRequest = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(resolveRequest.getPath(), "/api/repos/owner/repository/commits/main");
+            Assert.assertEquals(resolveRequest.getHeader("Accept"), MediaTypes.SHA);
+            Assert.assertEquals(contentsRequest.getPath(),
+                    "/api/repos/owner/repository/contents/path.json?ref=" + COMMIT_SHA);
+
+            Mockito.verify(accessToken, Mockito.times(2)).get();
+            Mockito.verify(accessToken, Mockito.times(6)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test
+    public void loadRawContentsResolvedRefNotFound() throws Exception {
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096), new RefResolver("userAgent"));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(422));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Assert.assertFalse(
+                    contentLoader.loadRawContents(accessToken, repositoryUrl, "main", "path.json").isPresent());
+            Assert.assertEquals(server.getRequestCount(), 1);
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken, Mockito.times(2)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadAllContentsNullPaths() throws Exception {
+        fileContentLoader.loadAllContents(accessToken, "repositoryUrl", "ref", null, Runnable::run);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadAllContentsNullPathElement() throws Exception {
+        fileContentLoader.loadAllContents(accessToken, "repositoryUrl", "ref", Arrays.asList("path.json", null),
+                Runnable::run);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadAllContentsNullExecutor() throws Exception {
+        fileContentLoader.loadAllContents(accessToken, "repositoryUrl", "ref", Collections.singleton("path.json"),
+                null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void loadAllContentsZeroMaxConcurrency() throws Exception {
+        fileContentLoader.loadAllContents(accessToken, "repositoryUrl", "ref", Collections.singleton("path.json"),
+                Runnable::run, 0);
+    }
+
+    @Test
+    public void loadAllContentsEmpty() throws Exception {
+        Map<String, ContentResult> result = fileContentLoader.loadAllContents(accessToken, "repositoryUrl", "ref",
+                Collections.emptyList(), Runnable::run);
+
+        Assert.assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void loadAllContents() throws Exception {
+        String responseJson = null;
+
+        try (BufferedReader reader = getClasspathReader(TEST_RESOURCE_FOLDER.resolve("fileContentResponse.json"))) {
+            responseJson = reader.lines()
+                    .collect(Collectors.joining("\n"));
+        }
+
+        String foundResponse = responseJson;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    MockResponse response = new MockResponse().setResponseCode(404);
+
+                    if (request.getPath().startsWith("/api/repos/owner/repository/contents/found")) {
+                        response = new MockResponse().setBody(foundResponse);
+                    } else if (request.getPath().startsWith("/api/repos/owner/repository/contents/error.json")) {
+                        response = new MockResponse().setResponseCode(500);
+                    }
+
+                    return response;
+                }
+
+            });
+
+            server.start();
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Map<String, ContentResult> result = fileContentLoader.loadAllContents(accessToken, repositoryUrl, "ref",
+                    Arrays.asList("found1.json", "missing.json", "found1.json", "error.json", "found2.json"), executor,
+                    2);
+
+            // Duplicate paths are requested once, and results are in the order paths were provided
+            Assert.assertEquals(new ArrayList<>(result.keySet()),
+                    Arrays.asList("found1.json", "missing.json", "error.json", "found2.json"));
+            Assert.assertEquals(server.getRequestCount(), 4);
+
+            Assert.assertEquals(result.get("found1.json").getContents(), Optional.of("This is test text"));
+            Assert.assertEquals(result.get("found2.json").getContents(), Optional.of("This is test text"));
+            Assert.assertTrue(result.get("missing.json").isSuccessful());
+            Assert.assertEquals(result.get("missing.json").getContents(), Optional.empty());
+
+            Assert.assertFalse(result.get("error.json").isSuccessful());
+            Assert.assertEquals(result.get("error.json").getPath(), "error.json");
+            Assert.assertTrue(result.get("error.json").getError().get() instanceof GitHubResponseException);
+
+            Mockito.verify(accessToken, Mockito.times(4)).get();
+            Mockito.verify(accessToken, Mockito.times(4)).getInstallationAccessTokenUrl();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void loadAllContentsResolvedRef() throws Exception {
+        String responseJson = null;
+
+        try (BufferedReader reader = getClasspathReader(TEST_RESOURCE_FOLDER.resolve("fileContentResponse.json"))) {
+            responseJson = reader.lines()
+                    .collect(Collectors.joining("\n"));
+        }
+
+        String foundResponse = responseJson;
+        AtomicInteger resolveRequests = new AtomicInteger(0);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096), new RefResolver("userAgent"));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    MockResponse response = new MockResponse().setResponseCode(404);
+
+                    if (request.getPath().equals("/api/repos/owner/repository/commits/main")) {
+                        resolveRequests.incrementAndGet();
+                        response = new MockResponse().setBody(COMMIT_SHA);
+                    } else if (request.getPath().endsWith("?ref=" + COMMIT_SHA)) {
+                        response = new MockResponse().setBody(foundResponse);
+                    }
+
+                    return response;
+                }
+
+            });
+
+            server.start();
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Map<String, ContentResult> result = contentLoader.loadAllContents(accessToken, repositoryUrl, "main",
+                    Arrays.asList("one.json", "two.json", "three.json", "four.json", "five.json"), executor, 4);
+
+            // The ref is resolved once for the batch, and every file is read at the resolved commit
+            Assert.assertEquals(resolveRequests.get(), 1);
+            Assert.assertEquals(server.getRequestCount(), 6);
+            result.values().forEach(loaded -> Assert.assertEquals(loaded.getContents(),
+                    Optional.of("This is test text")));
+
+            Mockito.verify(accessToken, Mockito.times(6)).get();
+            Mockito.verify(accessToken, Mockito.times(12)).getInstallationAccessTokenUrl();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void loadAllContentsResolvedRefNotFound() throws Exception {
+        FileContentLoader contentLoader = new FileContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), new ContentCache(4096), new RefResolver("userAgent"));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(422));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Map<String, ContentResult> result = contentLoader.loadAllContents(accessToken, repositoryUrl, "main",
+                    Arrays.asList("one.json", "two.json"), Runnable::run);
+
+            // Files are not requested when the ref does not exist
+            Assert.assertEquals(server.getRequestCount(), 1);
+            Assert.assertEquals(result.get("one.json").getContents(), Optional.empty());
+            Assert.assertEquals(result.get("two.json").getContents(), Optional.empty());
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken, Mockito.times(2)).getInstallationAccessTokenUrl();
+        }
+    }
+
+    @Test(expectedExceptions = GitHubResponseException.class)
+    public void loadAllContentsErrorContents() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(500));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            try {
+                fileContentLoader.loadAllContents(accessToken, repositoryUrl, "ref",
+                        Collections.singleton("path.json"), Runnable::run)
+                .get("path.json")
+                .getContents();
+            } finally {
+                Mockito.verify(accessToken).get();
+                Mockito.verify(accessToken).getInstallationAccessTokenUrl();
             }
         }
     }
 
+    @Test
+    public void loadAllContentsRateLimitExceeded() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse()
+                    .setResponseCode(403)
+                    .addHeader(RATE_LIMIT_REMAINING_HEADER, "0"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+
+            Map<String, ContentResult> result = fileContentLoader.loadAllContents(accessToken, repositoryUrl, "ref",
+                    Arrays.asList("first.json", "second.json"), Runnable::run, 1);
+
+            // Files not yet requested are not requested once the rate limit is exceeded
+            Assert.assertEquals(server.getRequestCount(), 1);
+            Assert.assertTrue(result.get("first.json").getError().get() instanceof RequestLimitExceededException);
+            Assert.assertSame(result.get("second.json").getError().get(), result.get("first.json").getError().get());
+
+            Mockito.verify(accessToken).get();
+            Mockito.verify(accessToken).getInstallationAccessTokenUrl();
+        }
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void decodeFileContentNullEncoding() throws Exception {
         String encodedContent = "VGhpcyBpcyB0ZXN0IHRleHQ=";
@@ -465,6 +1171,12 @@ public class FileContentLoaderTest {
         Assert.assertEquals(result, expectedContents);
     }
 
+    private String loadRawString(FileContentLoader contentLoader, String repositoryUrl) {
+        return contentLoader.loadRawContents(accessToken, repositoryUrl, "main", "path.json")
+                .map(contents -> new String(contents, StandardCharsets.UTF_8))
+                .orElse(null);
+    }
+
     private BufferedReader getClasspathReader(Path filePath) {
         return new BufferedReader(
                 new InputStreamReader(getClass().getClassLoader().getResourceAsStream(filePath.toString()),
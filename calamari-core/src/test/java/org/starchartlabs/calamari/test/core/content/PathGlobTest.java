@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.content;
+
+import org.starchartlabs.calamari.core.content.PathGlob;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PathGlobTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullGlob() throws Exception {
+        new PathGlob(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructEmptyGlob() throws Exception {
+        new PathGlob("/");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructUnclosedAlternatives() throws Exception {
+        new PathGlob("*.{yml,yaml");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void testNullPath() throws Exception {
+        new PathGlob("*.yml").test(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void mayMatchWithinNullDirectory() throws Exception {
+        new PathGlob("*.yml").mayMatchWithin(null);
+    }
+
+    @Test
+    public void testSingleSegment() throws Exception {
+        PathGlob glob = new PathGlob(".github/*.yml");
+
+        Assert.assertTrue(glob.test(".github/config.yml"));
+        Assert.assertTrue(glob.test("/.github/config.yml"));
+        Assert.assertFalse(glob.test(".github/workflows/build.yml"));
+        Assert.assertFalse(glob.test(".github/config.yaml"));
+        Assert.assertFalse(glob.test("github/config.yml"));
+    }
+
+    @Test
+    public void testAnyDirectories() throws Exception {
+        PathGlob glob = new PathGlob("**/*.yml");
+
+        Assert.assertTrue(glob.test("config.yml"));
+        Assert.assertTrue(glob.test(".github/workflows/build.yml"));
+        Assert.assertFalse(glob.test(".github/workflows/build.yaml"));
+    }
+
+    @Test
+    public void testTrailingAnyDirectories() throws Exception {
+        PathGlob glob = new PathGlob("policies/**");
+
+        Assert.assertTrue(glob.test("policies/a.json"));
+        Assert.assertTrue(glob.test("policies/nested/b.json"));
+        Assert.assertFalse(glob.test("other/policies/a.json"));
+    }
+
+    @Test
+    public void testSingleCharacterAndAlternatives() throws Exception {
+        PathGlob glob = new PathGlob("v?/*.{yml,yaml}");
+
+        Assert.assertTrue(glob.test("v1/config.yml"));
+        Assert.assertTrue(glob.test("v2/config.yaml"));
+        Assert.assertFalse(glob.test("v10/config.yml"));
+        Assert.assertFalse(glob.test("v1/config.json"));
+    }
+
+    @Test
+    public void testLiteralCharacters() throws Exception {
+        PathGlob glob = new PathGlob("a+b/(c).json");
+
+        Assert.assertTrue(glob.test("a+b/(c).json"));
+        Assert.assertFalse(glob.test("aab/(c)xjson"));
+    }
+
+    @Test
+    public void mayMatchWithin() throws Exception {
+        PathGlob glob = new PathGlob(".github/workflows/*.yml");
+
+        Assert.assertTrue(glob.mayMatchWithin(""));
+        Assert.assertTrue(glob.mayMatchWithin(".github"));
+        Assert.assertTrue(glob.mayMatchWithin(".github/workflows/"));
+        Assert.assertTrue(glob.mayMatchWithin(".github/workflows/nested"));
+        Assert.assertFalse(glob.mayMatchWithin("src"));
+        Assert.assertFalse(glob.mayMatchWithin(".github/ISSUE_TEMPLATE"));
+        Assert.assertFalse(glob.mayMatchWithin(".githubx"));
+    }
+
+    @Test
+    public void mayMatchWithinLeadingWildcard() throws Exception {
+        PathGlob glob = new PathGlob("**/*.yml");
+
+        Assert.assertTrue(glob.mayMatchWithin("src"));
+        Assert.assertTrue(glob.mayMatchWithin(".github/workflows"));
+    }
+
+    @Test
+    public void equalsHashCode() throws Exception {
+        PathGlob glob = new PathGlob("**/*.yml");
+
+        Assert.assertEquals(glob.hashCode(), new PathGlob("/**/*.yml").hashCode());
+        Assert.assertEquals(glob, new PathGlob("/**/*.yml"));
+        Assert.assertNotEquals(glob, new PathGlob("*.yml"));
+    }
+
+}
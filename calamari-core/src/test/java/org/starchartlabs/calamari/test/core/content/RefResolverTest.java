@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.content;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.content.RefResolver;
+import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.test.MutableClock;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class RefResolverTest {
+
+    private static final String COMMIT_SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    private static final String UPDATED_COMMIT_SHA = "76543210fedcba9876543210fedcba9876543210";
+
+    @Mock
+    private InstallationAccessToken accessToken;
+
+    private MutableClock clock;
+
+    private RefResolver refResolver;
+
+    private AutoCloseable mocks;
+
+    @BeforeMethod
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+
+        Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+        Mockito.when(accessToken.getInstallationAccessTokenUrl()).thenReturn("installationAccessTokenUrl");
+
+        clock = new MutableClock(Instant.now());
+        refResolver = new RefResolver("userAgent", HttpClients.getDefault(), 100, Duration.ofSeconds(10), clock);
+    }
+
+    @AfterMethod
+    public void teardown() throws Exception {
+        mocks.close();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullUserAgent() throws Exception {
+        new RefResolver(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new RefResolver("userAgent", null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroMaximumSize() throws Exception {
+        new RefResolver("userAgent", HttpClients.getDefault(), 0, Duration.ofSeconds(10));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullTimeToLive() throws Exception {
+        new RefResolver("userAgent", HttpClients.getDefault(), 100, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullClock() throws Exception {
+        new RefResolver("userAgent", HttpClients.getDefault(), 100, Duration.ofSeconds(10), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void resolveNullAccessToken() throws Exception {
+        refResolver.resolve(null, "repositoryUrl", "ref");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void resolveNullRepositoryUrl() throws Exception {
+        refResolver.resolve(accessToken, null, "ref");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void resolveNullRef() throws Exception {
+        refResolver.resolve(accessToken, "repositoryUrl", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void invalidateNullRepositoryFullName() throws Exception {
+        refResolver.invalidate(null, "refs/heads/main");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void invalidateNullRef() throws Exception {
+        refResolver.invalidate("owner/repository", null);
+    }
+
+    @Test
+    public void resolveCommitSha() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, COMMIT_SHA), Optional.of(COMMIT_SHA));
+            Assert.assertEquals(server.getRequestCount(), 0);
+        }
+    }
+
+    @Test
+    public void resolve() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA + "\n").setHeader("ETag", "\"first\""));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, "main"), Optional.of(COMMIT_SHA));
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, "main"), Optional.of(COMMIT_SHA));
+            Assert.assertEquals(server.getRequestCount(), 1);
+            Assert.assertEquals(refResolver.size(), 1);
+
+            RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(request.getHeader("User-Agent"), "userAgent");
+            Assert.assertEquals(request.getHeader("Authorization"), "token authToken12345");
+            Assert.assertEquals(request.getHeader("Accept"), MediaTypes.SHA);
+            Assert.assertNull(request.getHeader("If-None-Match"));
+            Assert.assertEquals(request.getPath(), "/api/repos/owner/repository/commits/main");
+        }
+    }
+
+    @Test
+    public void resolveRevalidated() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA).setHeader("ETag", "\"first\""));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            server.enqueue(new MockResponse().setBody(UPDATED_COMMIT_SHA).setHeader("ETag", "\"second\""));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, "main"), Optional.of(COMMIT_SHA));
+
+            // Revalidated once the time-to-live has passed
+            clock.advance(Duration.ofSeconds(11));
+
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, "main"), Optional.of(COMMIT_SHA));
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, "main"), Optional.of(COMMIT_SHA));
+            Assert.assertEquals(server.getRequestCount(), 2);
+
+            clock.advance(Duration.ofSeconds(11));
+
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, "main"),
+                    Optional.of(UPDATED_COMMIT_SHA));
+            Assert.assertEquals(server.getRequestCount(), 3);
+
+            Assert.assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"), "\"first\"");
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"), "\"first\"");
+        }
+    }
+
+    @Test
+    public void resolveNotFound() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(404));
+            server.enqueue(new MockResponse().setResponseCode(422));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Assert.assertFalse(refResolver.resolve(accessToken, repositoryUrl, "main").isPresent());
+            Assert.assertFalse(refResolver.resolve(accessToken, repositoryUrl, "missing").isPresent());
+
+            // Refs which do not exist are not retained, as they may be created at any time
+            Assert.assertEquals(refResolver.size(), 0);
+        }
+    }
+
+    @Test(expectedExceptions = GitHubResponseException.class)
+    public void resolveErrorResponse() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(500));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            refResolver.resolve(accessToken, repositoryUrl, "main");
+        }
+    }
+
+    @Test(expectedExceptions = GitHubResponseException.class)
+    public void resolveUnexpectedResponse() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody("{\"sha\": \"" + COMMIT_SHA + "\"}"));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            refResolver.resolve(accessToken, repositoryUrl, "main");
+        }
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA));
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA));
+            server.enqueue(new MockResponse().setBody(UPDATED_COMMIT_SHA));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            refResolver.resolve(accessToken, repositoryUrl, "main");
+            refResolver.resolve(accessToken, repositoryUrl, "release");
+
+            // Push webhook events provide the full name of the repository and the fully qualified ref
+            refResolver.invalidate("Owner/Repository", "refs/heads/main");
+
+            Assert.assertEquals(refResolver.size(), 1);
+            Assert.assertEquals(refResolver.resolve(accessToken, repositoryUrl, "main"),
+                    Optional.of(UPDATED_COMMIT_SHA));
+            Assert.assertEquals(server.getRequestCount(), 3);
+        }
+    }
+
+    @Test
+    public void invalidateDuringResolve() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch pushed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (MockWebServer server = new MockWebServer()) {
+            // Responds with the commit referenced before a push, which is received while the response is in transit
+            server.setDispatcher(new Dispatcher() {
+
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    requested.countDown();
+                    pushed.await(5, TimeUnit.SECONDS);
+
+                    return new MockResponse().setBody(COMMIT_SHA);
+                }
+
+            });
+            server.start();
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Future<Optional<String>> resolution = executor
+                    .submit(() -> refResolver.resolve(accessToken, repositoryUrl, "main"));
+
+            Assert.assertTrue(requested.await(5, TimeUnit.SECONDS));
+
+            refResolver.invalidate("owner/repository", "refs/heads/main");
+            pushed.countDown();
+
+            Assert.assertEquals(resolution.get(5, TimeUnit.SECONDS), Optional.of(COMMIT_SHA));
+
+            // The possibly stale resolution is not retained
+            Assert.assertEquals(refResolver.size(), 0);
+
+            refResolver.resolve(accessToken, repositoryUrl, "main");
+
+            Assert.assertEquals(server.getRequestCount(), 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void resolveConcurrentSingleRequest() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+
+                @Override
+                public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                    requested.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+
+                    return new MockResponse().setBody(COMMIT_SHA);
+                }
+
+            });
+            server.start();
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            Future<Optional<String>> first = executor
+                    .submit(() -> refResolver.resolve(accessToken, repositoryUrl, "main"));
+
+            Assert.assertTrue(requested.await(5, TimeUnit.SECONDS));
+
+            Future<Optional<String>> second = executor
+                    .submit(() -> refResolver.resolve(accessToken, repositoryUrl, "main"));
+
+            // The second caller waits on the request in progress, rather than making its own
+            try {
+                second.get(200, TimeUnit.MILLISECONDS);
+                Assert.fail("Expected resolution to wait on the request in progress");
+            } catch (TimeoutException expected) {
+            }
+
+            release.countDown();
+
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), Optional.of(COMMIT_SHA));
+            Assert.assertEquals(second.get(5, TimeUnit.SECONDS), Optional.of(COMMIT_SHA));
+            Assert.assertEquals(server.getRequestCount(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void invalidateRepository() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA));
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+            String otherRepositoryUrl = server.url("/api/repos/owner/other").toString();
+
+            refResolver.resolve(accessToken, repositoryUrl, "main");
+            refResolver.resolve(accessToken, otherRepositoryUrl, "main");
+
+            refResolver.invalidateRepository("owner/repository");
+
+            Assert.assertEquals(refResolver.size(), 1);
+
+            refResolver.invalidateAll();
+
+            Assert.assertEquals(refResolver.size(), 0);
+        }
+    }
+
+    @Test
+    public void resolveEviction() throws Exception {
+        RefResolver refResolver = new RefResolver("userAgent", HttpClients.getDefault(), 1, Duration.ofSeconds(10));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA));
+            server.enqueue(new MockResponse().setBody(COMMIT_SHA));
+
+            String repositoryUrl = server.url("/api/repos/owner/repository").toString();
+
+            refResolver.resolve(accessToken, repositoryUrl, "main");
+            refResolver.resolve(accessToken, repositoryUrl, "release");
+
+            Assert.assertEquals(refResolver.size(), 1);
+        }
+    }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.content;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.starchartlabs.calamari.core.MediaTypes;
+import org.starchartlabs.calamari.core.auth.InstallationAccessToken;
+import org.starchartlabs.calamari.core.content.ContentCache;
+import org.starchartlabs.calamari.core.content.PathGlob;
+import org.starchartlabs.calamari.core.content.TreeContentLoader;
+import org.starchartlabs.calamari.core.exception.GitHubResponseException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+public class TreeContentLoaderTest {
+
+    private static final String REPOSITORY_PATH = "/api/repos/owner/repository";
+
+    private static final String CONFIG_SHA = "1111111111111111111111111111111111111111";
+
+    private static final String BUILD_SHA = "2222222222222222222222222222222222222222";
+
+    private static final String README_SHA = "3333333333333333333333333333333333333333";
+
+    private static final String LINK_SHA = "4444444444444444444444444444444444444444";
+
+    private static final String GITHUB_TREE_SHA = "5555555555555555555555555555555555555555";
+
+    private static final String SOURCE_TREE_SHA = "6666666666666666666666666666666666666666";
+
+    @Mock
+    private InstallationAccessToken accessToken;
+
+    private ExecutorService executor;
+
+    private AutoCloseable mocks;
+
+    @BeforeMethod
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+
+        Mockito.when(accessToken.get()).thenReturn("token authToken12345");
+        Mockito.when(accessToken.getInstallationAccessTokenUrl()).thenReturn("installationAccessTokenUrl");
+
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterMethod
+    public void teardown() throws Exception {
+        executor.shutdownNow();
+        mocks.close();
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullUserAgent() throws Exception {
+        new TreeContentLoader(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullMediaType() throws Exception {
+        new TreeContentLoader("userAgent", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new TreeContentLoader("userAgent", "mediaType", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullContentCache() throws Exception {
+        new TreeContentLoader("userAgent", "mediaType", HttpClients.getDefault(), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadContentsNullAccessToken() throws Exception {
+        new TreeContentLoader("userAgent").loadContents(null, "repositoryUrl", "ref", new PathGlob("*.yml"), executor);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadContentsNullGlob() throws Exception {
+        new TreeContentLoader("userAgent").loadContents(accessToken, "repositoryUrl", "ref", null, executor);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void loadContentsNullExecutor() throws Exception {
+        new TreeContentLoader("userAgent").loadContents(accessToken, "repositoryUrl", "ref", new PathGlob("*.yml"),
+                null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void loadContentsZeroMaxConcurrency() throws Exception {
+        new TreeContentLoader("userAgent").loadContents(accessToken, "repositoryUrl", "ref", new PathGlob("*.yml"),
+                executor, 0);
+    }
+
+    @Test
+    public void loadContentsNotFound() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(404));
+
+            String repositoryUrl = server.url(REPOSITORY_PATH).toString();
+
+            Optional<Map<String, byte[]>> result = new TreeContentLoader("userAgent").loadContents(accessToken,
+                    repositoryUrl, "main", new PathGlob("**"), executor);
+
+            Assert.assertFalse(result.isPresent());
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    @Test
+    public void loadContents() throws Exception {
+        Map<String, MockResponse> responses = new HashMap<>();
+        responses.put("/git/trees/main?recursive=1", new MockResponse().setBody(tree(false,
+                entry(".github", "tree", GITHUB_TREE_SHA),
+                entry(".github/config.yml", "blob", CONFIG_SHA),
+                entry(".github/copy.yml", "blob", CONFIG_SHA),
+                entry(".github/link.yml", "120000", "blob", LINK_SHA),
+                entry(".github/workflows", "tree", SOURCE_TREE_SHA),
+                entry(".github/workflows/build.yml", "blob", BUILD_SHA),
+                entry("README.md", "blob", README_SHA))));
+        responses.put("/git/blobs/" + CONFIG_SHA, new MockResponse().setBody("config"));
+        responses.put("/git/blobs/" + BUILD_SHA, new MockResponse().setBody("build"));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new PathDispatcher(responses));
+            server.start();
+
+            String repositoryUrl = server.url(REPOSITORY_PATH).toString();
+
+            Map<String, byte[]> result = new TreeContentLoader("userAgent").loadContents(accessToken, repositoryUrl,
+                    "main", new PathGlob(".github/**/*.yml"), executor).get();
+
+            Assert.assertEquals(new ArrayList<>(result.keySet()),
+                    Arrays.asList(".github/config.yml", ".github/copy.yml", ".github/workflows/build.yml"));
+            Assert.assertEquals(new String(result.get(".github/config.yml"), StandardCharsets.UTF_8), "config");
+            Assert.assertEquals(new String(result.get(".github/copy.yml"), StandardCharsets.UTF_8), "config");
+            Assert.assertEquals(new String(result.get(".github/workflows/build.yml"), StandardCharsets.UTF_8),
+                    "build");
+
+            // Identical contents share a blob, which is read once
+            List<String> paths = takeRequestPaths(server);
+
+            Assert.assertEquals(paths.size(), 3);
+            Assert.assertTrue(paths.contains(REPOSITORY_PATH + "/git/trees/main?recursive=1"));
+            Assert.assertTrue(paths.contains(REPOSITORY_PATH + "/git/blobs/" + CONFIG_SHA));
+            Assert.assertTrue(paths.contains(REPOSITORY_PATH + "/git/blobs/" + BUILD_SHA));
+        }
+    }
+
+    @Test
+    public void loadContentsRequestHeaders() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody(tree(false, entry("config.yml", "blob", CONFIG_SHA))));
+            server.enqueue(new MockResponse().setBody("config"));
+
+            String repositoryUrl = server.url(REPOSITORY_PATH).toString();
+
+            new TreeContentLoader("userAgent").loadContents(accessToken, repositoryUrl, "main",
+                    new PathGlob("*.yml"), executor);
+
+            RecordedRequest treeRequest = server.takeRequest();
+            RecordedRequest blobRequest = server.takeRequest();
+
+            Assert.assertEquals(treeRequest.getHeader("User-Agent"), "userAgent");
+            Assert.assertEquals(treeRequest.getHeader("Accept"), MediaTypes.APP_PREVIEW);
+            Assert.assertEquals(treeRequest.getHeader("Authorization"), "token authToken12345");
+            Assert.assertEquals(blobRequest.getHeader("Accept"), MediaTypes.RAW);
+        }
+    }
+
+    @Test
+    public void loadContentsTruncated() throws Exception {
+        Map<String, MockResponse> responses = new HashMap<>();
+        responses.put("/git/trees/main?recursive=1", new MockResponse().setBody(tree(true,
+                entry(".github", "tree", GITHUB_TREE_SHA))));
+        responses.put("/git/trees/main", new MockResponse().setBody(tree(false,
+                entry(".github", "tree", GITHUB_TREE_SHA),
+                entry("src", "tree", SOURCE_TREE_SHA),
+                entry("README.md", "blob", README_SHA))));
+        responses.put("/git/trees/" + GITHUB_TREE_SHA + "?recursive=1", new MockResponse().setBody(tree(false,
+                entry("config.yml", "blob", CONFIG_SHA),
+                entry("workflows", "tree", SOURCE_TREE_SHA),
+                entry("workflows/build.yml", "blob", BUILD_SHA))));
+        responses.put("/git/blobs/" + CONFIG_SHA, new MockResponse().setBody("config"));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new PathDispatcher(responses));
+            server.start();
+
+            String repositoryUrl = server.url(REPOSITORY_PATH).toString();
+
+            Map<String, byte[]> result = new TreeContentLoader("userAgent").loadContents(accessToken, repositoryUrl,
+                    "main", new PathGlob(".github/*.yml"), executor).get();
+
+            Assert.assertEquals(result.keySet(), Collections.singleton(".github/config.yml"));
+            Assert.assertEquals(new String(result.get(".github/config.yml"), StandardCharsets.UTF_8), "config");
+
+            // Sub-trees which cannot contain matches are not listed
+            List<String> paths = takeRequestPaths(server);
+
+            Assert.assertEquals(paths.size(), 4);
+            Assert.assertTrue(paths.contains(REPOSITORY_PATH + "/git/trees/main"));
+            Assert.assertTrue(paths.contains(REPOSITORY_PATH + "/git/trees/" + GITHUB_TREE_SHA + "?recursive=1"));
+            Assert.assertFalse(paths.contains(REPOSITORY_PATH + "/git/trees/" + SOURCE_TREE_SHA + "?recursive=1"));
+        }
+    }
+
+    @Test(expectedExceptions = GitHubResponseException.class)
+    public void loadContentsBlobErrorResponse() throws Exception {
+        Map<String, MockResponse> responses = new HashMap<>();
+        responses.put("/git/trees/main?recursive=1", new MockResponse().setBody(tree(false,
+                entry("config.yml", "blob", CONFIG_SHA))));
+        responses.put("/git/blobs/" + CONFIG_SHA, new MockResponse().setResponseCode(500));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new PathDispatcher(responses));
+            server.start();
+
+            String repositoryUrl = server.url(REPOSITORY_PATH).toString();
+
+            new TreeContentLoader("userAgent").loadContents(accessToken, repositoryUrl, "main", new PathGlob("*.yml"),
+                    executor);
+        }
+    }
+
+    @Test
+    public void loadContentsCachedBlobs() throws Exception {
+        Map<String, MockResponse> responses = new HashMap<>();
+        responses.put("/git/trees/main?recursive=1", new MockResponse().setBody(tree(false,
+                entry("config.yml", "blob", CONFIG_SHA))));
+        responses.put("/git/trees/feature?recursive=1", new MockResponse().setBody(tree(false,
+                entry("config.yml", "blob", CONFIG_SHA),
+                entry("other.yml", "blob", BUILD_SHA))));
+        responses.put("/git/blobs/" + CONFIG_SHA, new MockResponse().setBody("config"));
+        responses.put("/git/blobs/" + BUILD_SHA, new MockResponse().setBody("other"));
+
+        ContentCache contentCache = new ContentCache(1024);
+        TreeContentLoader contentLoader = new TreeContentLoader("userAgent", MediaTypes.APP_PREVIEW,
+                HttpClients.getDefault(), contentCache);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new PathDispatcher(responses));
+            server.start();
+
+            String repositoryUrl = server.url(REPOSITORY_PATH).toString();
+
+            Map<String, byte[]> first = contentLoader.loadContents(accessToken, repositoryUrl, "main",
+                    new PathGlob("*.yml"), executor).get();
+
+            // Modifying returned contents does not affect retained contents
+            first.get("config.yml")[0] = 'x';
+
+            Map<String, byte[]> second = contentLoader.loadContents(accessToken, repositoryUrl, "feature",
+                    new PathGlob("*.yml"), executor).get();
+
+            Assert.assertEquals(new String(second.get("config.yml"), StandardCharsets.UTF_8), "config");
+            Assert.assertEquals(new String(second.get("other.yml"), StandardCharsets.UTF_8), "other");
+
+            // Blobs retained from the first read are not requested again
+            List<String> paths = takeRequestPaths(server);
+
+            Assert.assertEquals(paths.size(), 4);
+            Assert.assertEquals(paths.stream()
+                    .filter(path -> path.equals(REPOSITORY_PATH + "/git/blobs/" + CONFIG_SHA))
+                    .count(), 1);
+        }
+    }
+
+    private static List<String> takeRequestPaths(MockWebServer server) throws Exception {
+        List<String> result = new ArrayList<>();
+
+        for (int i = server.getRequestCount(); i > 0; i--) {
+            result.add(server.takeRequest().getPath());
+        }
+
+        return result;
+    }
+
+    private static String tree(boolean truncated, String... entries) {
+        return "{\"sha\": \"0000000000000000000000000000000000000000\", \"tree\": [" + String.join(",", entries)
+                + "], \"truncated\": " + truncated + "}";
+    }
+
+    private static String entry(String path, String type, String sha) {
+        return entry(path, (type.equals("tree") ? "040000" : "100644"), type, sha);
+    }
+
+    private static String entry(String path, String mode, String type, String sha) {
+        return "{\"path\": \"" + path + "\", \"mode\": \"" + mode + "\", \"type\": \"" + type + "\", \"sha\": \""
+                + sha + "\", \"size\": 10}";
+    }
+
+    /**
+     * Provides responses by request path relative to the repository, or 404 for unknown paths
+     *
+     * @author romeara
+     */
+    private static final class PathDispatcher extends Dispatcher {
+
+        private final Map<String, MockResponse> responses;
+
+        public PathDispatcher(Map<String, MockResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String path = request.getPath().substring(REPOSITORY_PATH.length());
+
+            return responses.getOrDefault(path, new MockResponse().setResponseCode(404));
+        }
+
+    }
+
+}
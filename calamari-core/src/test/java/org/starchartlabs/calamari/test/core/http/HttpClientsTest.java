@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.http;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.core.http.RetryInterceptor;
+import org.starchartlabs.calamari.core.http.RetryPolicy;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitGate;
+import org.starchartlabs.calamari.core.ratelimit.ThrottlePolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+public class HttpClientsTest {
+
+    @Test
+    public void getDefault() throws Exception {
+        OkHttpClient result = HttpClients.getDefault();
+
+        Assert.assertNotNull(result);
+        Assert.assertSame(HttpClients.getDefault(), result);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void setDefaultNullClient() throws Exception {
+        HttpClients.setDefault(null);
+    }
+
+    @Test
+    public void setDefault() throws Exception {
+        OkHttpClient original = HttpClients.getDefault();
+        OkHttpClient replacement = HttpClients.builder().build();
+
+        try {
+            HttpClients.setDefault(replacement);
+
+            Assert.assertSame(HttpClients.getDefault(), replacement);
+        } finally {
+            HttpClients.setDefault(original);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderNegativeMaxIdleConnections() throws Exception {
+        HttpClients.builder().maxIdleConnections(-1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void builderNullKeepAlive() throws Exception {
+        HttpClients.builder().keepAlive(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderZeroKeepAlive() throws Exception {
+        HttpClients.builder().keepAlive(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderZeroMaxRequests() throws Exception {
+        HttpClients.builder().maxRequests(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderZeroMaxRequestsPerHost() throws Exception {
+        HttpClients.builder().maxRequestsPerHost(0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void builderNullConnectTimeout() throws Exception {
+        HttpClients.builder().connectTimeout(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderNegativeReadTimeout() throws Exception {
+        HttpClients.builder().readTimeout(Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderNegativeWriteTimeout() throws Exception {
+        HttpClients.builder().writeTimeout(Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void builderNegativeCallTimeout() throws Exception {
+        HttpClients.builder().callTimeout(Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void builderNullRetryPolicy() throws Exception {
+        HttpClients.builder().retryPolicy(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void builderNullRateLimitGate() throws Exception {
+        HttpClients.builder().rateLimitGate(null);
+    }
+
+    @Test
+    public void build() throws Exception {
+        OkHttpClient result = HttpClients.builder()
+                .maxIdleConnections(10)
+                .keepAlive(Duration.ofMinutes(1))
+                .maxRequests(32)
+                .maxRequestsPerHost(16)
+                .connectTimeout(Duration.ofSeconds(5))
+                .readTimeout(Duration.ofSeconds(30))
+                .writeTimeout(Duration.ofSeconds(30))
+                .callTimeout(Duration.ofMinutes(2))
+                .build();
+
+        Assert.assertNotNull(result);
+        Assert.assertEquals(result.dispatcher().getMaxRequests(), 32);
+        Assert.assertEquals(result.dispatcher().getMaxRequestsPerHost(), 16);
+        Assert.assertEquals(result.connectTimeoutMillis(), 5_000);
+        Assert.assertEquals(result.readTimeoutMillis(), 30_000);
+        Assert.assertEquals(result.writeTimeoutMillis(), 30_000);
+        Assert.assertEquals(result.callTimeoutMillis(), 120_000);
+        Assert.assertTrue(result.protocols().contains(Protocol.HTTP_2));
+    }
+
+    @Test
+    public void buildHttp2Disabled() throws Exception {
+        OkHttpClient result = HttpClients.builder()
+                .http2Enabled(false)
+                .build();
+
+        Assert.assertEquals(result.protocols(), Collections.singletonList(Protocol.HTTP_1_1));
+    }
+
+    @Test
+    public void buildRateLimitGate() throws Exception {
+        RateLimitGate rateLimitGate = new RateLimitGate(ThrottlePolicy.reject());
+
+        OkHttpClient result = HttpClients.builder()
+                .retryPolicy(RetryPolicy.none())
+                .rateLimitGate(rateLimitGate)
+                .build();
+
+        Assert.assertEquals(result.interceptors(), Collections.singletonList(rateLimitGate));
+    }
+
+    @Test
+    public void buildRetryPolicy() throws Exception {
+        RateLimitGate rateLimitGate = new RateLimitGate(ThrottlePolicy.reject());
+
+        OkHttpClient result = HttpClients.builder()
+                .rateLimitGate(rateLimitGate)
+                .build();
+
+        // Retries are made through the rate limit gate
+        Assert.assertEquals(result.interceptors().size(), 2);
+        Assert.assertTrue(result.interceptors().get(0) instanceof RetryInterceptor);
+        Assert.assertSame(result.interceptors().get(1), rateLimitGate);
+    }
+
+    @Test
+    public void buildRetryPolicyNone() throws Exception {
+        OkHttpClient result = HttpClients.builder()
+                .retryPolicy(RetryPolicy.none())
+                .build();
+
+        Assert.assertTrue(result.interceptors().isEmpty());
+    }
+
+}
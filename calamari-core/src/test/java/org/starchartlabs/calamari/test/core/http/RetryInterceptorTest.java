@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.http;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.core.http.RetryInterceptor;
+import org.starchartlabs.calamari.core.http.RetryPolicy;
+import org.starchartlabs.calamari.core.paging.GitHubPageIterator;
+import org.starchartlabs.calamari.test.MutableClock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+public class RetryInterceptorTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_700_000_000L);
+
+    private static final RetryPolicy POLICY = RetryPolicy.exponentialBackoff(3, Duration.ofSeconds(1),
+            Duration.ofSeconds(3)).withMaximumWait(Duration.ofMinutes(2));
+
+    private static final RetryPolicy FAST_POLICY = RetryPolicy.exponentialBackoff(2, Duration.ofMillis(1),
+            Duration.ofMillis(4));
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRetryPolicy() throws Exception {
+        new RetryInterceptor(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullClock() throws Exception {
+        new RetryInterceptor(POLICY, null, () -> 0.5);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRandom() throws Exception {
+        new RetryInterceptor(POLICY, new MutableClock(NOW), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getRetryDelayNullResponse() throws Exception {
+        new RetryInterceptor(POLICY).getRetryDelay(null, 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void getRetryDelayZeroRetry() throws Exception {
+        new RetryInterceptor(POLICY).getRetryDelay(getResponseBuilder("GET").code(503).build(), 0);
+    }
+
+    @Test
+    public void getRetryDelayNotRetried() throws Exception {
+        RetryInterceptor interceptor = new RetryInterceptor(POLICY, new MutableClock(NOW), () -> 0.5);
+
+        Assert.assertFalse(interceptor.getRetryDelay(getResponseBuilder("GET").code(200).build(), 1).isPresent());
+        Assert.assertFalse(interceptor.getRetryDelay(getResponseBuilder("GET").code(500).build(), 1).isPresent());
+
+        // Exhausted primary rate limits are not retried
+        Response primaryRateLimit = getResponseBuilder("GET")
+                .code(403)
+                .header("X-RateLimit-Remaining", "0")
+                .header("X-RateLimit-Reset", Long.toString(NOW.plusSeconds(60).getEpochSecond()))
+                .body(ResponseBody.create("{\"message\": \"API rate limit exceeded\"}", null))
+                .build();
+
+        Assert.assertFalse(interceptor.getRetryDelay(primaryRateLimit, 1).isPresent());
+    }
+
+    @Test
+    public void getRetryDelayTransient() throws Exception {
+        RetryInterceptor interceptor = new RetryInterceptor(POLICY, new MutableClock(NOW), () -> 0.5);
+
+        // Half of each back off is randomized
+        Assert.assertEquals(interceptor.getRetryDelay(getResponseBuilder("GET").code(502).build(), 1),
+                Optional.of(Duration.ofMillis(750)));
+        Assert.assertEquals(interceptor.getRetryDelay(getResponseBuilder("GET").code(503).build(), 2),
+                Optional.of(Duration.ofMillis(1500)));
+        Assert.assertEquals(interceptor.getRetryDelay(getResponseBuilder("GET").code(504).build(), 3),
+                Optional.of(Duration.ofMillis(2250)));
+        Assert.assertFalse(interceptor.getRetryDelay(getResponseBuilder("GET").code(503).build(), 4).isPresent());
+
+        // Retry-After is honored when longer than the back off
+        Assert.assertEquals(
+                interceptor.getRetryDelay(getResponseBuilder("GET").code(503).header("Retry-After", "5").build(), 1),
+                Optional.of(Duration.ofSeconds(5)));
+
+        // Requests which may have been processed are not repeated
+        Assert.assertFalse(interceptor.getRetryDelay(getResponseBuilder("POST").code(503).build(), 1).isPresent());
+    }
+
+    @Test
+    public void getRetryDelaySecondaryRateLimit() throws Exception {
+        RetryInterceptor interceptor = new RetryInterceptor(POLICY, new MutableClock(NOW), () -> 0.5);
+
+        Response retryAfter = getResponseBuilder("POST")
+                .code(403)
+                .header("Retry-After", "10")
+                .build();
+
+        Response tooManyRequests = getResponseBuilder("GET")
+                .code(429)
+                .header("Retry-After", "10")
+                .build();
+
+        Response message = getResponseBuilder("GET")
+                .code(403)
+                .body(ResponseBody.create("{\"message\": \"You have exceeded a secondary rate limit\"}", null))
+                .build();
+
+        Response messageExhausted = getResponseBuilder("GET")
+                .code(403)
+                .header("X-RateLimit-Remaining", "0")
+                .header("X-RateLimit-Reset", Long.toString(NOW.plusSeconds(90).getEpochSecond()))
+                .body(ResponseBody.create("{\"message\": \"You have exceeded a secondary rate limit\"}", null))
+                .build();
+
+        Assert.assertEquals(interceptor.getRetryDelay(retryAfter, 1), Optional.of(Duration.ofMillis(10_500)));
+        Assert.assertEquals(interceptor.getRetryDelay(tooManyRequests, 1), Optional.of(Duration.ofMillis(10_500)));
+        Assert.assertEquals(interceptor.getRetryDelay(message, 1), Optional.of(Duration.ofMillis(60_500)));
+        Assert.assertEquals(interceptor.getRetryDelay(messageExhausted, 1), Optional.of(Duration.ofMillis(90_500)));
+    }
+
+    @Test
+    public void getRetryDelayDefaultPolicy() throws Exception {
+        RetryInterceptor interceptor = new RetryInterceptor(RetryPolicy.defaults(), new MutableClock(NOW), () -> 0.5);
+
+        Response shortRetryAfter = getResponseBuilder("GET")
+                .code(429)
+                .header("Retry-After", "5")
+                .build();
+
+        Response message = getResponseBuilder("GET")
+                .code(403)
+                .body(ResponseBody.create("{\"message\": \"You have exceeded a secondary rate limit\"}", null))
+                .build();
+
+        // Only quick retries are made by default, so callers are not blocked for a minute or more
+        Assert.assertEquals(interceptor.getRetryDelay(getResponseBuilder("GET").code(503).build(), 1),
+                Optional.of(Duration.ofMillis(750)));
+        Assert.assertEquals(interceptor.getRetryDelay(shortRetryAfter, 1), Optional.of(Duration.ofMillis(5_500)));
+        Assert.assertFalse(interceptor.getRetryDelay(message, 1).isPresent());
+    }
+
+    @Test
+    public void getRetryDelayExceedsMaximumWait() throws Exception {
+        RetryInterceptor interceptor = new RetryInterceptor(POLICY.withMaximumWait(Duration.ofSeconds(30)),
+                new MutableClock(NOW), () -> 0.5);
+
+        Response response = getResponseBuilder("GET")
+                .code(429)
+                .header("Retry-After", "60")
+                .build();
+
+        Assert.assertFalse(interceptor.getRetryDelay(response, 1).isPresent());
+    }
+
+    @Test
+    public void intercept() throws Exception {
+        String path = "/api/endpoint";
+
+        OkHttpClient httpClient = HttpClients.builder()
+                .retryPolicy(FAST_POLICY)
+                .build();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+            server.enqueue(new MockResponse().setBody("[]"));
+
+            String url = server.url(path).toString();
+
+            Assert.assertTrue(GitHubPageIterator.gson(url, () -> "token", "userAgent", "mediaType", httpClient)
+                    .next()
+                    .isEmpty());
+
+            Assert.assertEquals(server.getRequestCount(), 3);
+        }
+    }
+
+    @Test
+    public void interceptRetriesExhausted() throws Exception {
+        String path = "/api/endpoint";
+
+        OkHttpClient httpClient = HttpClients.builder()
+                .retryPolicy(FAST_POLICY)
+                .build();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(503));
+
+            Request request = new Request.Builder().url(server.url(path)).get().build();
+
+            try (Response response = httpClient.newCall(request).execute()) {
+                Assert.assertEquals(response.code(), 503);
+            }
+
+            Assert.assertEquals(server.getRequestCount(), 3);
+        }
+    }
+
+    @Test
+    public void interceptNotIdempotent() throws Exception {
+        String path = "/api/endpoint";
+
+        OkHttpClient httpClient = HttpClients.builder()
+                .retryPolicy(FAST_POLICY)
+                .build();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+            server.enqueue(new MockResponse().setResponseCode(201));
+
+            Request request = new Request.Builder()
+                    .url(server.url(path))
+                    .post(RequestBody.create(new byte[] {}, MediaType.get("application/json")))
+                    .build();
+
+            // Transient errors may occur after the request is processed
+            try (Response response = httpClient.newCall(request).execute()) {
+                Assert.assertEquals(response.code(), 503);
+            }
+
+            // Secondary rate limits indicate the request was not processed
+            try (Response response = httpClient.newCall(request).execute()) {
+                Assert.assertEquals(response.code(), 201);
+            }
+
+            Assert.assertEquals(server.getRequestCount(), 3);
+        }
+    }
+
+    @Test
+    public void interceptRetryBudgetExhausted() throws Exception {
+        String path = "/api/endpoint";
+
+        OkHttpClient httpClient = HttpClients.builder()
+                .retryPolicy(FAST_POLICY.withRetryBudget(1, 0.5))
+                .build();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(200));
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setResponseCode(200));
+
+            Request request = new Request.Builder().url(server.url(path)).get().build();
+
+            try (Response response = httpClient.newCall(request).execute()) {
+                Assert.assertEquals(response.code(), 200);
+            }
+
+            // Budget is used - one request has only earned half a retry
+            try (Response response = httpClient.newCall(request).execute()) {
+                Assert.assertEquals(response.code(), 503);
+            }
+
+            // A second request earns the remainder of a retry
+            try (Response response = httpClient.newCall(request).execute()) {
+                Assert.assertEquals(response.code(), 200);
+            }
+
+            Assert.assertEquals(server.getRequestCount(), 5);
+        }
+    }
+
+    private Response.Builder getResponseBuilder(String method) {
+        return new Response.Builder()
+                .request(new Request.Builder()
+                        .url("http://localhost")
+                        .method(method, method.equals("GET") ? null : RequestBody.create(new byte[] {}, null))
+                        .build())
+                .protocol(Protocol.HTTP_1_1)
+                .message("message");
+    }
+
+}
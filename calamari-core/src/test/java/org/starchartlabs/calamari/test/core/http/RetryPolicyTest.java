@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.http;
+
+import java.time.Duration;
+
+import org.starchartlabs.calamari.core.http.RetryPolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RetryPolicyTest {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void exponentialBackoffZeroMaxRetries() throws Exception {
+        RetryPolicy.exponentialBackoff(0, Duration.ofSeconds(1), Duration.ofSeconds(10));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void exponentialBackoffNullInitialBackoff() throws Exception {
+        RetryPolicy.exponentialBackoff(1, null, Duration.ofSeconds(10));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void exponentialBackoffZeroInitialBackoff() throws Exception {
+        RetryPolicy.exponentialBackoff(1, Duration.ZERO, Duration.ofSeconds(10));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void exponentialBackoffNullMaxBackoff() throws Exception {
+        RetryPolicy.exponentialBackoff(1, Duration.ofSeconds(1), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void exponentialBackoffMaxBackoffBelowInitial() throws Exception {
+        RetryPolicy.exponentialBackoff(1, Duration.ofSeconds(10), Duration.ofSeconds(1));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void withMaximumWaitNull() throws Exception {
+        RetryPolicy.defaults().withMaximumWait(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withMaximumWaitNegative() throws Exception {
+        RetryPolicy.defaults().withMaximumWait(Duration.ofSeconds(-1));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withRetryBudgetZeroBudget() throws Exception {
+        RetryPolicy.defaults().withRetryBudget(0, 0.1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withRetryBudgetNegativeRatio() throws Exception {
+        RetryPolicy.defaults().withRetryBudget(10, -0.1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withRetryBudgetRatioAboveOne() throws Exception {
+        RetryPolicy.defaults().withRetryBudget(10, 1.1);
+    }
+
+    @Test
+    public void equality() throws Exception {
+        RetryPolicy policy = RetryPolicy.exponentialBackoff(3, Duration.ofSeconds(1), Duration.ofSeconds(30));
+
+        Assert.assertEquals(policy, RetryPolicy.defaults());
+        Assert.assertEquals(policy.hashCode(), RetryPolicy.defaults().hashCode());
+        Assert.assertNotEquals(policy.withMaximumWait(Duration.ZERO), RetryPolicy.defaults());
+        Assert.assertNotEquals(policy.withRetryBudget(5, 0.1), RetryPolicy.defaults());
+        Assert.assertNotEquals(RetryPolicy.none(), RetryPolicy.defaults());
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.paging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.starchartlabs.calamari.core.paging.CachedPage;
+import org.starchartlabs.calamari.core.paging.DiskPageCache;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class DiskPageCacheTest {
+
+    private Path directory;
+
+    @BeforeMethod
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("page-cache");
+    }
+
+    @AfterMethod
+    public void teardown() throws Exception {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder())
+            .forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullDirectory() throws Exception {
+        new DiskPageCache(null, 100);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroMaximumBytes() throws Exception {
+        new DiskPageCache(directory, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void getInvalidKey() throws Exception {
+        new DiskPageCache(directory, 1_000).get("../abc");
+    }
+
+    @Test
+    public void getNotPresent() throws Exception {
+        Assert.assertFalse(new DiskPageCache(directory, 1_000).get("abc").isPresent());
+    }
+
+    @Test
+    public void putAndGet() throws Exception {
+        DiskPageCache cache = new DiskPageCache(directory, 1_000);
+        CachedPage page = new CachedPage("body".getBytes(StandardCharsets.UTF_8), "\"tag\"", "lastModified",
+                Arrays.asList("<link1>; rel=\"next\"", "<link2>; rel=\"last\""));
+
+        cache.put("abc", page);
+
+        Assert.assertEquals(cache.get("abc"), Optional.of(page));
+        Assert.assertTrue(cache.getCurrentBytes() > 0);
+    }
+
+    @Test
+    public void putAndGetLargeHeaders() throws Exception {
+        DiskPageCache cache = new DiskPageCache(directory, 1_000_000);
+        String link = "<" + String.join("", Collections.nCopies(70_000, "a")) + ">; rel=\"next\"";
+        CachedPage page = new CachedPage("body".getBytes(StandardCharsets.UTF_8), "\"tag\"", null,
+                Collections.singletonList(link));
+
+        cache.put("abc", page);
+
+        Assert.assertEquals(cache.get("abc"), Optional.of(page));
+    }
+
+    @Test
+    public void getAcrossInstances() throws Exception {
+        CachedPage page = getPage("body");
+
+        new DiskPageCache(directory, 1_000).put("abc", page);
+
+        DiskPageCache cache = new DiskPageCache(directory, 1_000);
+
+        Assert.assertEquals(cache.get("abc"), Optional.of(page));
+        Assert.assertTrue(cache.getCurrentBytes() > 0);
+    }
+
+    @Test
+    public void getCorrupt() throws Exception {
+        DiskPageCache cache = new DiskPageCache(directory, 1_000);
+
+        cache.put("abc", getPage("body"));
+        Files.write(directory.resolve("abc.page"), new byte[] { 1, 2, 3 });
+
+        Assert.assertFalse(cache.get("abc").isPresent());
+        Assert.assertFalse(Files.exists(directory.resolve("abc.page")));
+    }
+
+    @Test
+    public void getCorruptLength() throws Exception {
+        DiskPageCache cache = new DiskPageCache(directory, 1_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // Format version, followed by an entity tag with a length far larger than the file
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(1);
+            output.writeBoolean(true);
+            output.writeInt(Integer.MAX_VALUE);
+        }
+
+        cache.put("abc", getPage("body"));
+        Files.write(directory.resolve("abc.page"), bytes.toByteArray());
+
+        Assert.assertFalse(cache.get("abc").isPresent());
+        Assert.assertFalse(Files.exists(directory.resolve("abc.page")));
+    }
+
+    @Test
+    public void putEvictsLeastRecentlyUsed() throws Exception {
+        DiskPageCache probe = new DiskPageCache(directory, 1_000);
+        probe.put("0", getPage("0123456789"));
+
+        long pageBytes = probe.getCurrentBytes();
+        probe.invalidate("0");
+
+        DiskPageCache cache = new DiskPageCache(directory, pageBytes * 2);
+
+        cache.put("a", getPage("0123456789"));
+        cache.put("b", getPage("0123456789"));
+
+        // Ensure "b" is the least recently used page, regardless of file system time resolution
+        Files.setLastModifiedTime(directory.resolve("b.page"), FileTime.fromMillis(0));
+        cache.put("c", getPage("0123456789"));
+
+        Assert.assertTrue(cache.get("a").isPresent());
+        Assert.assertFalse(cache.get("b").isPresent());
+        Assert.assertTrue(cache.get("c").isPresent());
+        Assert.assertEquals(cache.getCurrentBytes(), pageBytes * 2);
+    }
+
+    @Test
+    public void putStoredFileTooLarge() throws Exception {
+        DiskPageCache probe = new DiskPageCache(directory, 1_000);
+        probe.put("0", getPage("0123456789"));
+
+        long pageBytes = probe.getCurrentBytes();
+        probe.invalidate("0");
+
+        DiskPageCache cache = new DiskPageCache(directory, pageBytes);
+        cache.put("a", getPage("0123456789"));
+
+        // Page size is within the bound, but the stored file including framing is not
+        CachedPage large = getPage(String.join("", Collections.nCopies((int) pageBytes - 5, "0")));
+        Assert.assertTrue(large.getSize() <= pageBytes);
+
+        cache.put("b", large);
+
+        Assert.assertTrue(cache.get("a").isPresent());
+        Assert.assertFalse(cache.get("b").isPresent());
+        Assert.assertEquals(cache.getCurrentBytes(), pageBytes);
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        DiskPageCache cache = new DiskPageCache(directory, 1_000);
+
+        cache.put("abc", getPage("body"));
+        cache.invalidate("abc");
+
+        Assert.assertFalse(cache.get("abc").isPresent());
+        Assert.assertEquals(cache.getCurrentBytes(), 0L);
+    }
+
+    private CachedPage getPage(String body) {
+        return new CachedPage(body.getBytes(StandardCharsets.UTF_8), "\"tag\"", null, Collections.emptyList());
+    }
+
+}
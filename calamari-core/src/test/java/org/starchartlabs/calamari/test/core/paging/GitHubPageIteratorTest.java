@@ -6,26 +6,47 @@
  */
 package org.starchartlabs.calamari.test.core.paging;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.starchartlabs.alloy.core.collections.PageIterator;
 import org.starchartlabs.calamari.core.MediaTypes;
 import org.starchartlabs.calamari.core.exception.GitHubResponseException;
 import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+import org.starchartlabs.calamari.core.http.HttpClients;
 import org.starchartlabs.calamari.core.paging.GitHubPageIterator;
+import org.starchartlabs.calamari.core.paging.MemoryPageCache;
+import org.starchartlabs.calamari.core.paging.PageCursor;
 import org.starchartlabs.calamari.test.LinkHeaderTestSupport;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.google.gson.JsonElement;
 
+import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -62,6 +83,12 @@ public class GitHubPageIteratorTest {
                 null);
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullHttpClient() throws Exception {
+        new GitHubPageIterator<String>("url", () -> "header", "userAgent", a -> Collections.singletonList(a),
+                "mediaType", null);
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void gsonNullUrl() throws Exception {
         GitHubPageIterator.gson(null, () -> "header", "userAgent", "mediaType");
@@ -82,12 +109,44 @@ public class GitHubPageIteratorTest {
         GitHubPageIterator.gson("url", () -> "header", "userAgent", null);
     }
 
+    @Test(expectedExceptions = NullPointerException.class)
+    public void gsonNullHttpClient() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent", "mediaType", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void ofTypeNullType() throws Exception {
+        GitHubPageIterator.ofType("url", () -> "header", "userAgent", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void ofTypeNullMediaType() throws Exception {
+        GitHubPageIterator.ofType("url", () -> "header", "userAgent", Item.class, null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void streamingNullElementAdapter() throws Exception {
+        GitHubPageIterator.streaming("url", () -> "header", "userAgent", null, "mediaType", HttpClients.getDefault());
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void mapNullMapper() throws Exception {
         GitHubPageIterator.gson("url", () -> "header", "userAgent")
         .map(null);
     }
 
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withPrefetchZeroDepth() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent")
+        .withPrefetch(0, Runnable::run);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void withPrefetchNullExecutor() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent")
+        .withPrefetch(1, null);
+    }
+
     @Test(expectedExceptions = GitHubResponseException.class)
     public void nextErrorResponse() throws Exception {
         MockResponse response = new MockResponse()
@@ -236,6 +295,80 @@ public class GitHubPageIteratorTest {
         }
     }
 
+    @Test
+    public void nextOfType() throws Exception {
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", MediaTypes.APP_PREVIEW)
+                .setBody("[{\"id\": 1, \"name\": \"one\"}, {\"id\": 2, \"name\": \"two\"}]");
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String url = server.url("/api/endpoint").toString();
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.ofType(url, () -> "header", "userAgent", Item.class)
+                    .map(item -> item.getId() + ":" + item.getName());
+
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("1:one", "2:two"));
+            Assert.assertFalse(iterator.hasNext());
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void nextOfTypeNotArray() throws Exception {
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", MediaTypes.APP_PREVIEW)
+                .setBody("{\"id\": 1, \"name\": \"one\"}");
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String url = server.url("/api/endpoint").toString();
+
+            GitHubPageIterator.ofType(url, () -> "header", "userAgent", Item.class).next();
+        }
+    }
+
+    @Test
+    public void nextMappedCustomMediaTypeAndClient() throws Exception {
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", "mediaType")
+                .setBody(getResponseContent("1", "2"));
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(response);
+            server.start();
+
+            String authorizationHeader = "header";
+            String userAgent = "userAgent";
+            String path = "/api/endpoint";
+
+            String url = server.url(path).toString();
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(url, () -> authorizationHeader, userAgent,
+                    "mediaType", HttpClients.builder().build())
+                    .map(JsonElement::getAsString);
+
+            try {
+                Collection<String> result = iterator.next();
+
+                Assert.assertNotNull(result);
+                Assert.assertEquals(new ArrayList<>(result), Arrays.asList("1", "2"));
+                Assert.assertFalse(iterator.hasNext());
+            } finally {
+                Assert.assertEquals(server.getRequestCount(), 1);
+                RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+                // Mapping should retain the media type of the original iterator
+                Assert.assertEquals(request.getHeader("Accept"), "mediaType");
+                Assert.assertEquals(request.getPath(), path);
+            }
+        }
+    }
+
     @Test
     public void nextMultiplePages() throws Exception {
         String path = "/api/endpoint";
@@ -334,14 +467,783 @@ public class GitHubPageIteratorTest {
         }
     }
 
+    @Test
+    public void nextPrefetch() throws Exception {
+        String path = "/api/endpoint";
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 3, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 3, "3", "4"));
+            server.enqueue(getPageResponse(server, path, 3, 3, "5", "6"));
+
+            String url = server.url(path).toString();
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(url, () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withPrefetch(1, executor);
+
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("1", "2"));
+
+            // The second page should be requested without the consumer asking for it
+            RecordedRequest request1 = server.takeRequest(1, TimeUnit.SECONDS);
+            RecordedRequest request2 = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(request1.getPath(), path);
+            Assert.assertNotNull(request2);
+            Assert.assertEquals(request2.getRequestUrl().queryParameter("page"), "2");
+            Assert.assertEquals(request2.getHeader("User-Agent"), "userAgent");
+            Assert.assertEquals(request2.getHeader("Authorization"), "header");
+
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("3", "4"));
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("5", "6"));
+            Assert.assertFalse(iterator.hasNext());
+            Assert.assertEquals(iterator.estimateSize(), 0L);
+
+            Assert.assertEquals(server.getRequestCount(), 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void nextPrefetchDepth() throws Exception {
+        String path = "/api/endpoint";
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 4, "1"));
+            server.enqueue(getPageResponse(server, path, 2, 4, "2"));
+            server.enqueue(getPageResponse(server, path, 3, 4, "3"));
+            server.enqueue(getPageResponse(server, path, 4, 4, "4"));
+
+            String url = server.url(path).toString();
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(url, () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withPrefetch(2, executor);
+
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("1"));
+
+            // Two pages beyond the one read should be requested
+            for (int i = 0; i < 3; i++) {
+                Assert.assertNotNull(server.takeRequest(1, TimeUnit.SECONDS));
+            }
+
+            List<String> remaining = new ArrayList<>();
+
+            while (iterator.hasNext()) {
+                remaining.addAll(iterator.next());
+            }
+
+            Assert.assertEquals(remaining, Arrays.asList("2", "3", "4"));
+            Assert.assertEquals(server.getRequestCount(), 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void nextPrefetchErrorResponse() throws Exception {
+        String path = "/api/endpoint";
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 2, "1", "2"));
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.enqueue(getPageResponse(server, path, 2, 2, "3", "4"));
+
+            String url = server.url(path).toString();
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(url, () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withPrefetch(1, executor);
+
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("1", "2"));
+
+            // Failure of the background request is reported when the page is read
+            try {
+                iterator.next();
+                Assert.fail("Expected failed page request to be reported");
+            } catch (GitHubResponseException expected) {
+                // Position is retained, so the page may be requested again
+            }
+
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("3", "4"));
+            Assert.assertFalse(iterator.hasNext());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void withCacheNullCache() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").withCache(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void withCacheNullScope() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").withCache(new MemoryPageCache(1_000), null);
+    }
+
+    @Test
+    public void nextCacheNotModified() throws Exception {
+        String path = "/api/endpoint";
+        MemoryPageCache cache = new MemoryPageCache(10_000);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 2, "1", "2").addHeader("ETag", "\"page1\""));
+            server.enqueue(getPageResponse(server, path, 2, 2, "3").addHeader("Last-Modified", "lastModified"));
+            server.enqueue(new MockResponse().setResponseCode(304));
+            server.enqueue(new MockResponse().setResponseCode(304));
+
+            String url = server.url(path).toString();
+
+            List<String> first = new ArrayList<>();
+            GitHubPageIterator.gson(url, () -> "header", "userAgent")
+            .map(JsonElement::getAsString)
+            .withCache(cache)
+            .forEachRemaining(first::addAll);
+
+            List<String> second = new ArrayList<>();
+            GitHubPageIterator.gson(url, () -> "header", "userAgent")
+            .map(JsonElement::getAsString)
+            .withCache(cache)
+            .forEachRemaining(second::addAll);
+
+            Assert.assertEquals(first, Arrays.asList("1", "2", "3"));
+            Assert.assertEquals(second, first);
+
+            Assert.assertEquals(server.getRequestCount(), 4);
+            Assert.assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+            Assert.assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-Modified-Since"));
+
+            RecordedRequest conditional1 = server.takeRequest(1, TimeUnit.SECONDS);
+            RecordedRequest conditional2 = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(conditional1.getHeader("If-None-Match"), "\"page1\"");
+            Assert.assertEquals(conditional2.getHeader("If-Modified-Since"), "lastModified");
+            Assert.assertEquals(conditional2.getRequestUrl().queryParameter("page"), "2");
+        }
+    }
+
+    @Test
+    public void nextCacheScopedByAuthorization() throws Exception {
+        String path = "/api/endpoint";
+        MemoryPageCache cache = new MemoryPageCache(10_000);
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 1, "1").addHeader("ETag", "\"page1\""));
+            server.enqueue(getPageResponse(server, path, 1, 1, "1").addHeader("ETag", "\"page1\""));
+            server.enqueue(getPageResponse(server, path, 1, 1, "1").addHeader("ETag", "\"page1\""));
+            server.enqueue(new MockResponse().setResponseCode(304));
+
+            String url = server.url(path).toString();
+
+            GitHubPageIterator.gson(url, () -> "header1", "userAgent").withCache(cache).next();
+            GitHubPageIterator.gson(url, () -> "header2", "userAgent").withCache(cache).next();
+
+            // An explicit scope is shared by iterators using different authorization headers
+            GitHubPageIterator.gson(url, () -> "header3", "userAgent").withCache(cache, "installation").next();
+            GitHubPageIterator.gson(url, () -> "header4", "userAgent").withCache(cache, "installation").next();
+
+            Assert.assertEquals(server.getRequestCount(), 4);
+            Assert.assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+            Assert.assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+            Assert.assertNull(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"));
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getHeader("If-None-Match"), "\"page1\"");
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void toPublisherNullSubscriber() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").toPublisher().subscribe(null);
+    }
+
+    @Test
+    public void toPublisher() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 2, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 2, "3"));
+
+            String url = server.url(path).toString();
+            RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+            GitHubPageIterator.gson(url, () -> "header", "userAgent")
+            .map(JsonElement::getAsString)
+            .toPublisher()
+            .subscribe(subscriber);
+
+            subscriber.request(Long.MAX_VALUE);
+
+            Assert.assertTrue(subscriber.awaitTermination());
+            Assert.assertNull(subscriber.getFailure());
+            Assert.assertEquals(subscriber.getElements(), Arrays.asList("1", "2", "3"));
+            Assert.assertEquals(server.getRequestCount(), 2);
+
+            RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+
+            Assert.assertEquals(request.getHeader("User-Agent"), "userAgent");
+            Assert.assertEquals(request.getHeader("Authorization"), "header");
+            Assert.assertEquals(request.getPath(), path);
+        }
+    }
+
+    @Test
+    public void toPublisherDemand() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 2, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 2, "3"));
+
+            String url = server.url(path).toString();
+            RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+            GitHubPageIterator.gson(url, () -> "header", "userAgent")
+            .map(JsonElement::getAsString)
+            .toPublisher()
+            .subscribe(subscriber);
+
+            // No pages are requested without demand
+            Assert.assertEquals(server.getRequestCount(), 0);
+
+            subscriber.request(1);
+            Assert.assertEquals(subscriber.awaitElement(), "1");
+
+            // The remainder of the first page satisfies demand without a further request
+            subscriber.request(1);
+            Assert.assertEquals(subscriber.awaitElement(), "2");
+            Assert.assertEquals(server.getRequestCount(), 1);
+
+            subscriber.request(1);
+            Assert.assertEquals(subscriber.awaitElement(), "3");
+            Assert.assertTrue(subscriber.awaitTermination());
+            Assert.assertNull(subscriber.getFailure());
+            Assert.assertEquals(server.getRequestCount(), 2);
+        }
+    }
+
+    @Test
+    public void toPublisherBlockingAuthorization() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 1, "1"));
+
+            String url = server.url(path).toString();
+            CountDownLatch renewed = new CountDownLatch(1);
+            AtomicBoolean headerProvided = new AtomicBoolean(false);
+            RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+            // Simulates an installation token which must be renewed before a header can be provided
+            Supplier<String> authorizationHeader = () -> {
+                try {
+                    renewed.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                headerProvided.set(true);
+
+                return "header";
+            };
+
+            GitHubPageIterator.gson(url, authorizationHeader, "userAgent")
+            .map(JsonElement::getAsString)
+            .toPublisher()
+            .subscribe(subscriber);
+
+            subscriber.request(1);
+
+            // Requesting elements does not wait on the authorization header
+            Assert.assertFalse(headerProvided.get());
+
+            renewed.countDown();
+
+            Assert.assertEquals(subscriber.awaitElement(), "1");
+            Assert.assertTrue(subscriber.awaitTermination());
+            Assert.assertNull(subscriber.getFailure());
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getHeader("Authorization"), "header");
+        }
+    }
+
+    @Test
+    public void toPublisherErrorResponse() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.start();
+
+            RecordingSubscriber<JsonElement> subscriber = new RecordingSubscriber<>();
+
+            GitHubPageIterator.gson(server.url("/api/endpoint").toString(), () -> "header", "userAgent")
+            .toPublisher()
+            .subscribe(subscriber);
+
+            subscriber.request(1);
+
+            Assert.assertTrue(subscriber.awaitTermination());
+            Assert.assertTrue(subscriber.getFailure() instanceof GitHubResponseException);
+            Assert.assertTrue(subscriber.getElements().isEmpty());
+        }
+    }
+
+    @Test
+    public void toPublisherNonPositiveRequest() throws Exception {
+        RecordingSubscriber<JsonElement> subscriber = new RecordingSubscriber<>();
+
+        GitHubPageIterator.gson("http://localhost/api/endpoint", () -> "header", "userAgent")
+        .toPublisher()
+        .subscribe(subscriber);
+
+        subscriber.request(0);
+
+        Assert.assertTrue(subscriber.awaitTermination());
+        Assert.assertTrue(subscriber.getFailure() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void toPublisherCancel() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .addHeader("Content-Type", MediaTypes.APP_PREVIEW)
+                    .setBody(getResponseContent("1"))
+                    .setHeadersDelay(10, TimeUnit.SECONDS));
+            server.start();
+
+            RecordingSubscriber<JsonElement> subscriber = new RecordingSubscriber<>();
+
+            GitHubPageIterator.gson(server.url("/api/endpoint").toString(), () -> "header", "userAgent")
+            .toPublisher()
+            .subscribe(subscriber);
+
+            subscriber.request(1);
+            Assert.assertNotNull(server.takeRequest(1, TimeUnit.SECONDS));
+
+            subscriber.cancel();
+
+            // Cancelled subscriptions receive no further signals, including for the cancelled request
+            Assert.assertFalse(subscriber.awaitTermination(500, TimeUnit.MILLISECONDS));
+            Assert.assertTrue(subscriber.getElements().isEmpty());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withLimitZero() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").withLimit(0);
+    }
+
+    @Test
+    public void nextWithLimitSinglePage() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            // More elements than requested, as well as further pages, are returned - neither should be provided
+            server.enqueue(getPageResponse(server, path, 1, 3, "1", "2", "3", "4"));
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path).toString(), () -> "header",
+                    "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withLimit(3);
+
+            Assert.assertEquals(iterator.estimateSize(), 3);
+
+            List<String> result = new ArrayList<>();
+            iterator.forEachRemaining(result::addAll);
+
+            Assert.assertEquals(result, Arrays.asList("1", "2", "3"));
+            Assert.assertEquals(iterator.estimateSize(), 0);
+
+            Assert.assertEquals(server.getRequestCount(), 1);
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("per_page"), "3");
+        }
+    }
+
+    @Test
+    public void nextWithLimitSmallerPerPage() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 5, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 5, "3", "4"));
+            server.enqueue(getPageResponse(server, path, 3, 5, "5", "6"));
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path + "?per_page=2").toString(),
+                    () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withLimit(5);
+
+            List<String> result = new ArrayList<>();
+            iterator.forEachRemaining(result::addAll);
+
+            Assert.assertEquals(result, Arrays.asList("1", "2", "3", "4", "5"));
+
+            // No request is made for pages beyond the limit
+            Assert.assertEquals(server.getRequestCount(), 3);
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("per_page"), "2");
+        }
+    }
+
+    @Test
+    public void nextWithLimitPrefetch() throws Exception {
+        String path = "/api/endpoint";
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // Holds background requests beyond the first two until released, so the limit is reached before they start
+        AtomicInteger submitted = new AtomicInteger(0);
+        List<Runnable> held = new CopyOnWriteArrayList<>();
+        Executor gatedExecutor = task -> {
+            if (submitted.getAndIncrement() < 2) {
+                executor.execute(task);
+            } else {
+                held.add(task);
+            }
+        };
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 5, "1"));
+            server.enqueue(getPageResponse(server, path, 2, 5, "2"));
+            server.enqueue(getPageResponse(server, path, 3, 5, "3"));
+            server.enqueue(getPageResponse(server, path, 4, 5, "4"));
+            server.enqueue(getPageResponse(server, path, 5, 5, "5"));
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path + "?per_page=1").toString(),
+                    () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withPrefetch(3, gatedExecutor)
+                    .withLimit(2);
+
+            List<String> result = new ArrayList<>();
+            iterator.forEachRemaining(result::addAll);
+
+            Assert.assertEquals(result, Arrays.asList("1", "2"));
+
+            // Background requests queued once the limit is reached are never made
+            held.forEach(executor::execute);
+            executor.submit(() -> {
+            }).get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(server.getRequestCount(), 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void nextWithLimitMultiplePages() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 1, "1"));
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path).toString(), () -> "header",
+                    "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withLimit(150);
+
+            List<String> result = new ArrayList<>();
+            iterator.forEachRemaining(result::addAll);
+
+            // Fewer elements than the limit are available
+            Assert.assertEquals(result, Arrays.asList("1"));
+
+            // 150 elements are read as two even pages, rather than one full page and one half-full page
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("per_page"), "75");
+        }
+    }
+
+    @Test
+    public void toPublisherWithLimit() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 3, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 3, "3", "4"));
+
+            RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+            GitHubPageIterator.gson(server.url(path + "?per_page=2").toString(), () -> "header", "userAgent")
+            .map(JsonElement::getAsString)
+            .withLimit(3)
+            .toPublisher()
+            .subscribe(subscriber);
+
+            subscriber.request(Long.MAX_VALUE);
+
+            Assert.assertTrue(subscriber.awaitTermination(5, TimeUnit.SECONDS));
+            Assert.assertNull(subscriber.getFailure());
+            Assert.assertEquals(subscriber.getElements(), Arrays.asList("1", "2", "3"));
+            Assert.assertEquals(server.getRequestCount(), 2);
+        }
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void withCheckpointNullCheckpoint() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").withCheckpoint(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void resumeFromNullCursor() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").resumeFrom(null);
+    }
+
+    @Test
+    public void nextCheckpoint() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 2, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 2, "3"));
+
+            List<PageCursor> checkpoints = new ArrayList<>();
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path).toString(), () -> "header",
+                    "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withCheckpoint(checkpoints::add);
+
+            PageCursor initial = iterator.getCursor();
+
+            Assert.assertEquals(initial.getNextUrl().orElse(null), server.url(path).toString());
+            Assert.assertEquals(initial.getMediaType(), MediaTypes.APP_PREVIEW);
+            Assert.assertEquals(initial.getElementsConsumed(), 0);
+
+            iterator.forEachRemaining(page -> {
+                // Checkpoints are made before each page is provided
+                Assert.assertEquals(checkpoints.get(checkpoints.size() - 1), iterator.getCursor());
+            });
+
+            Assert.assertEquals(checkpoints.size(), 2);
+
+            Assert.assertEquals(HttpUrl.get(checkpoints.get(0).getNextUrl().get()).queryParameter("page"), "2");
+            Assert.assertEquals(checkpoints.get(0).getElementsConsumed(), 2);
+            Assert.assertFalse(checkpoints.get(0).isComplete());
+
+            Assert.assertFalse(checkpoints.get(1).getNextUrl().isPresent());
+            Assert.assertEquals(checkpoints.get(1).getElementsConsumed(), 3);
+            Assert.assertTrue(checkpoints.get(1).isComplete());
+        }
+    }
+
+    @Test
+    public void resumeFrom() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 3, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 3, "3", "4"));
+            server.enqueue(getPageResponse(server, path, 3, 3, "5"));
+
+            String url = server.url(path).toString();
+
+            GitHubPageIterator<String> interrupted = GitHubPageIterator.gson(url, () -> "header", "userAgent")
+                    .map(JsonElement::getAsString);
+
+            Assert.assertEquals(interrupted.next(), Arrays.asList("1", "2"));
+
+            PageCursor cursor = roundTrip(interrupted.getCursor());
+
+            GitHubPageIterator<String> resumed = GitHubPageIterator.gson(url, () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .resumeFrom(cursor);
+
+            List<String> result = new ArrayList<>();
+            resumed.forEachRemaining(result::addAll);
+
+            Assert.assertEquals(result, Arrays.asList("3", "4", "5"));
+            Assert.assertEquals(resumed.getCursor().getElementsConsumed(), 5);
+
+            // Pages consumed before the cursor are not requested again
+            Assert.assertEquals(server.getRequestCount(), 3);
+            server.takeRequest(1, TimeUnit.SECONDS);
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("page"), "2");
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("page"), "3");
+        }
+    }
+
+    @Test
+    public void resumeFromRetainsLimit() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 3, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 3, "3", "4"));
+
+            String url = server.url(path + "?per_page=2").toString();
+
+            GitHubPageIterator<String> interrupted = GitHubPageIterator.gson(url, () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withLimit(3);
+
+            interrupted.next();
+
+            GitHubPageIterator<String> resumed = GitHubPageIterator.gson(url, () -> "header", "userAgent")
+                    .map(JsonElement::getAsString)
+                    .resumeFrom(roundTrip(interrupted.getCursor()));
+
+            List<String> result = new ArrayList<>();
+            resumed.forEachRemaining(result::addAll);
+
+            Assert.assertEquals(result, Arrays.asList("3"));
+            Assert.assertEquals(server.getRequestCount(), 2);
+        }
+    }
+
+    @Test
+    public void resumeFromComplete() throws Exception {
+        GitHubPageIterator<JsonElement> result = GitHubPageIterator.gson("url", () -> "header", "userAgent")
+                .resumeFrom(new PageCursor(null, MediaTypes.APP_PREVIEW, 10));
+
+        Assert.assertFalse(result.hasNext());
+        Assert.assertEquals(result.getCursor(), new PageCursor(null, MediaTypes.APP_PREVIEW, 10));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withParallelismZeroConcurrency() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").withParallelism(0, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void withParallelismNegativeHeadroom() throws Exception {
+        GitHubPageIterator.gson("url", () -> "header", "userAgent").withParallelism(2, -1);
+    }
+
     @Test
     public void trySplit() throws Exception {
         PageIterator<?> result = GitHubPageIterator.gson("url", () -> "header", "userAgent").trySplit();
 
-        // Currently, the GitHubPageIterator implementation does not support splitting
+        // Splitting is not enabled by default
         Assert.assertNull(result);
     }
 
+    @Test
+    public void trySplitDisjointRanges() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 4, "1", "2"));
+            server.enqueue(getPageResponse(server, path, 2, 4, "3", "4"));
+            server.enqueue(getPageResponse(server, path, 3, 4, "5", "6"));
+            server.enqueue(getPageResponse(server, path, 4, 4, "7", "8"));
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path).toString(), () -> "header",
+                    "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withParallelism(4, 0);
+
+            // The first page is read to determine the range of pages
+            PageIterator<String> prefix = iterator.trySplit();
+
+            Assert.assertNotNull(prefix);
+            Assert.assertEquals(server.getRequestCount(), 1);
+            Assert.assertEquals(prefix.estimateSize(), 4L);
+            Assert.assertEquals(iterator.estimateSize(), 4L);
+
+            Assert.assertEquals(new ArrayList<>(prefix.next()), Arrays.asList("1", "2"));
+            Assert.assertEquals(new ArrayList<>(prefix.next()), Arrays.asList("3", "4"));
+            Assert.assertFalse(prefix.hasNext());
+
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("5", "6"));
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("7", "8"));
+            Assert.assertFalse(iterator.hasNext());
+
+            Assert.assertEquals(server.getRequestCount(), 4);
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getPath(), path);
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("page"), "2");
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("page"), "3");
+            Assert.assertEquals(server.takeRequest(1, TimeUnit.SECONDS).getRequestUrl().queryParameter("page"), "4");
+        }
+    }
+
+    @Test
+    public void trySplitMaxConcurrency() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 8, "1"));
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path).toString(), () -> "header",
+                    "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withParallelism(2, 0);
+
+            PageIterator<String> prefix = iterator.trySplit();
+
+            Assert.assertNotNull(prefix);
+
+            // Two iterators now exist, so neither may split further
+            Assert.assertNull(iterator.trySplit());
+            Assert.assertNull(prefix.trySplit());
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    @Test
+    public void trySplitRateLimitHeadroom() throws Exception {
+        String path = "/api/endpoint";
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(getPageResponse(server, path, 1, 4, "1").addHeader("X-RateLimit-Remaining", "10"));
+            server.enqueue(getPageResponse(server, path, 2, 4, "2"));
+
+            GitHubPageIterator<String> iterator = GitHubPageIterator.gson(server.url(path).toString(), () -> "header",
+                    "userAgent")
+                    .map(JsonElement::getAsString)
+                    .withParallelism(4, 8);
+
+            // Reading the remaining three pages would leave seven requests, less than the headroom
+            Assert.assertNull(iterator.trySplit());
+
+            // Iteration continues sequentially, beginning with the page read while attempting to split
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("1"));
+            Assert.assertEquals(new ArrayList<>(iterator.next()), Arrays.asList("2"));
+            Assert.assertEquals(server.getRequestCount(), 2);
+        }
+    }
+
     @Test
     public void estimateSizeNoEstimate() throws Exception {
         // Before paging is started, the implementation cannot meaningfully estimate the remaining elements
@@ -491,6 +1393,110 @@ public class GitHubPageIteratorTest {
         }
     }
 
+    private PageCursor roundTrip(PageCursor cursor) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(cursor);
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (PageCursor) input.readObject();
+        }
+    }
+
+    private MockResponse getPageResponse(MockWebServer server, String path, int page, int maxPage,
+            String... expected) {
+        MockResponse response = new MockResponse()
+                .addHeader("Content-Type", MediaTypes.APP_PREVIEW)
+                .setBody(getResponseContent(expected));
+
+        LinkHeaderTestSupport.getLinkHeaders(server, path, page, maxPage, expected.length)
+        .forEach(link -> response.addHeader("Link", link));
+
+        return response;
+    }
+
+    private static final class RecordingSubscriber<T> implements Subscriber<T> {
+
+        private final BlockingQueue<T> received = new LinkedBlockingQueue<>();
+
+        private final List<T> elements = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private volatile Subscription subscription;
+
+        private volatile Throwable failure;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T element) {
+            elements.add(element);
+            received.add(element);
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            this.failure = failure;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        public void request(long n) {
+            subscription.request(n);
+        }
+
+        public void cancel() {
+            subscription.cancel();
+        }
+
+        public T awaitElement() throws InterruptedException {
+            return received.poll(5, TimeUnit.SECONDS);
+        }
+
+        public boolean awaitTermination() throws InterruptedException {
+            return awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return terminated.await(timeout, unit);
+        }
+
+        public List<T> getElements() {
+            return new ArrayList<>(elements);
+        }
+
+        public Throwable getFailure() {
+            return failure;
+        }
+
+    }
+
+    private static final class Item {
+
+        private int id;
+
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
     private String getResponseContent(String... expected) {
         return "[" + Stream.of(expected).map(v -> "\"" + v + "\"").collect(Collectors.joining(", ")) + "]";
     }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.starchartlabs.calamari.core.paging.CachedPage;
+import org.starchartlabs.calamari.core.paging.MemoryPageCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class MemoryPageCacheTest {
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroMaximumBytes() throws Exception {
+        new MemoryPageCache(0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getNullKey() throws Exception {
+        new MemoryPageCache(100).get(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void putNullKey() throws Exception {
+        new MemoryPageCache(100).put(null, getPage("body"));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void putNullPage() throws Exception {
+        new MemoryPageCache(100).put("abc", null);
+    }
+
+    @Test
+    public void getNotPresent() throws Exception {
+        Assert.assertFalse(new MemoryPageCache(100).get("abc").isPresent());
+    }
+
+    @Test
+    public void putAndGet() throws Exception {
+        MemoryPageCache cache = new MemoryPageCache(100);
+        CachedPage page = getPage("body");
+
+        cache.put("abc", page);
+
+        Assert.assertEquals(cache.get("abc"), Optional.of(page));
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getCurrentBytes(), page.getSize());
+    }
+
+    @Test
+    public void putReplaces() throws Exception {
+        MemoryPageCache cache = new MemoryPageCache(100);
+        CachedPage replacement = getPage("replacement");
+
+        cache.put("abc", getPage("body"));
+        cache.put("abc", replacement);
+
+        Assert.assertEquals(cache.get("abc"), Optional.of(replacement));
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getCurrentBytes(), replacement.getSize());
+    }
+
+    @Test
+    public void putEvictsLeastRecentlyUsed() throws Exception {
+        CachedPage page = getPage("0123456789");
+        MemoryPageCache cache = new MemoryPageCache(page.getSize() * 2);
+
+        cache.put("a", page);
+        cache.put("b", page);
+
+        // Reading "a" makes "b" the least recently used page
+        cache.get("a");
+        cache.put("c", page);
+
+        Assert.assertTrue(cache.get("a").isPresent());
+        Assert.assertFalse(cache.get("b").isPresent());
+        Assert.assertTrue(cache.get("c").isPresent());
+        Assert.assertEquals(cache.getCurrentBytes(), page.getSize() * 2);
+    }
+
+    @Test
+    public void putLargerThanMaximum() throws Exception {
+        MemoryPageCache cache = new MemoryPageCache(5);
+
+        cache.put("abc", getPage("0123456789"));
+
+        Assert.assertFalse(cache.get("abc").isPresent());
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        MemoryPageCache cache = new MemoryPageCache(100);
+
+        cache.put("abc", getPage("body"));
+        cache.invalidate("abc");
+
+        Assert.assertFalse(cache.get("abc").isPresent());
+        Assert.assertEquals(cache.getCurrentBytes(), 0L);
+    }
+
+    private CachedPage getPage(String body) {
+        return new CachedPage(body.getBytes(StandardCharsets.UTF_8), "\"tag\"", null, Collections.emptyList());
+    }
+
+}
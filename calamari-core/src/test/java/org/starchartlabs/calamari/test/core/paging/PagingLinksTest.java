@@ -97,6 +97,47 @@ public class PagingLinksTest {
         Assert.assertEquals(result.getLastPageUrl().get(), LAST_PAGE_LINK);
     }
 
+    @Test
+    public void linkContainingComma() throws Exception {
+        String link = "https://api.github.com/search/code?q=a,b&page=2";
+
+        PagingLinks result = new PagingLinks(
+                Arrays.asList(LinkHeaderTestSupport.getLinkHeader(link, "next") + ", " + LAST_PAGE_HEADER));
+
+        Assert.assertEquals(result.getNextPageUrl().get(), link);
+        Assert.assertEquals(result.getLastPageUrl().get(), LAST_PAGE_LINK);
+    }
+
+    @Test
+    public void unquotedRelationAndAdditionalParameters() throws Exception {
+        PagingLinks result = new PagingLinks(Arrays.asList("<" + NEXT_PAGE_LINK + ">;rel=next; title=\"a, b\", <"
+                + LAST_PAGE_LINK + "> ; REL = \"last\""));
+
+        Assert.assertEquals(result.getNextPageUrl().get(), NEXT_PAGE_LINK);
+        Assert.assertEquals(result.getLastPageUrl().get(), LAST_PAGE_LINK);
+    }
+
+    @Test
+    public void multipleRelations() throws Exception {
+        PagingLinks result = new PagingLinks(Arrays.asList("<" + FIRST_PAGE_LINK + ">; rel=\"first prev\""));
+
+        Assert.assertEquals(result.getFirstPageUrl().get(), FIRST_PAGE_LINK);
+        Assert.assertEquals(result.getPreviousPageUrl().get(), FIRST_PAGE_LINK);
+        Assert.assertFalse(result.getNextPageUrl().isPresent());
+        Assert.assertFalse(result.getLastPageUrl().isPresent());
+    }
+
+    @Test
+    public void malformedLinksIgnored() throws Exception {
+        PagingLinks result = new PagingLinks(Arrays.asList("<" + FIRST_PAGE_LINK + ">; rel=\"unknown\", <"
+                + PREV_PAGE_LINK + ">, " + NEXT_PAGE_HEADER + ", <" + LAST_PAGE_LINK + "; rel=\"last\""));
+
+        Assert.assertFalse(result.getFirstPageUrl().isPresent());
+        Assert.assertFalse(result.getPreviousPageUrl().isPresent());
+        Assert.assertEquals(result.getNextPageUrl().get(), NEXT_PAGE_LINK);
+        Assert.assertFalse(result.getLastPageUrl().isPresent());
+    }
+
     @Test(expectedExceptions = NullPointerException.class)
     public void getPageNullUrl() throws Exception {
         PagingLinks.getPage(null);
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.starchartlabs.calamari.core.paging.CachedPage;
+import org.starchartlabs.calamari.core.paging.MemoryPageCache;
+import org.starchartlabs.calamari.core.paging.TieredPageCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class TieredPageCacheTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullPrimary() throws Exception {
+        new TieredPageCache(null, new MemoryPageCache(100));
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullSecondary() throws Exception {
+        new TieredPageCache(new MemoryPageCache(100), null);
+    }
+
+    @Test
+    public void putStoresInBoth() throws Exception {
+        MemoryPageCache primary = new MemoryPageCache(100);
+        MemoryPageCache secondary = new MemoryPageCache(100);
+        CachedPage page = getPage();
+
+        new TieredPageCache(primary, secondary).put("abc", page);
+
+        Assert.assertEquals(primary.get("abc"), Optional.of(page));
+        Assert.assertEquals(secondary.get("abc"), Optional.of(page));
+    }
+
+    @Test
+    public void getPromotesFromSecondary() throws Exception {
+        MemoryPageCache primary = new MemoryPageCache(100);
+        MemoryPageCache secondary = new MemoryPageCache(100);
+        CachedPage page = getPage();
+
+        secondary.put("abc", page);
+
+        Assert.assertEquals(new TieredPageCache(primary, secondary).get("abc"), Optional.of(page));
+        Assert.assertEquals(primary.get("abc"), Optional.of(page));
+    }
+
+    @Test
+    public void invalidateRemovesFromBoth() throws Exception {
+        MemoryPageCache primary = new MemoryPageCache(100);
+        MemoryPageCache secondary = new MemoryPageCache(100);
+        TieredPageCache cache = new TieredPageCache(primary, secondary);
+
+        cache.put("abc", getPage());
+        cache.invalidate("abc");
+
+        Assert.assertFalse(primary.get("abc").isPresent());
+        Assert.assertFalse(secondary.get("abc").isPresent());
+    }
+
+    private CachedPage getPage() {
+        return new CachedPage("body".getBytes(StandardCharsets.UTF_8), "\"tag\"", null, Collections.emptyList());
+    }
+
+}
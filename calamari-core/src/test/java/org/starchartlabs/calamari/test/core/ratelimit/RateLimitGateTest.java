@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.starchartlabs.calamari.core.exception.RequestLimitExceededException;
+import org.starchartlabs.calamari.core.http.HttpClients;
+import org.starchartlabs.calamari.core.paging.GitHubPageIterator;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitGate;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitTracker;
+import org.starchartlabs.calamari.core.ratelimit.ThrottlePolicy;
+import org.starchartlabs.calamari.test.MutableClock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+public class RateLimitGateTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_700_000_000L);
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullThrottlePolicy() throws Exception {
+        new RateLimitGate(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullRateLimitTracker() throws Exception {
+        new RateLimitGate(null, ThrottlePolicy.reject(), 1, 0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullClock() throws Exception {
+        new RateLimitGate(new RateLimitTracker(), ThrottlePolicy.reject(), 1, 0, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructZeroBurst() throws Exception {
+        new RateLimitGate(new RateLimitTracker(), ThrottlePolicy.reject(), 0, 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void constructNegativeReservedRequests() throws Exception {
+        new RateLimitGate(new RateLimitTracker(), ThrottlePolicy.reject(), 1, -1);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void reserveNullScope() throws Exception {
+        new RateLimitGate(ThrottlePolicy.reject()).reserve(null);
+    }
+
+    @Test
+    public void reserveUnknownRateLimit() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitGate gate = new RateLimitGate(new RateLimitTracker(clock), ThrottlePolicy.reject(), 1, 0, clock);
+
+        // Requests are not paced until GitHub has reported a rate limit
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+        }
+    }
+
+    @Test
+    public void reserveBurstThenPaced() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+        RateLimitGate gate = new RateLimitGate(tracker, ThrottlePolicy.park(Duration.ofMinutes(1)), 3, 0, clock);
+
+        // 1000 requests over 1000 seconds - one request per second
+        record(tracker, "scope", 1000, NOW.plusSeconds(1000));
+
+        Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+        Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+        Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+        Assert.assertEquals(gate.reserve("scope"), Duration.ofSeconds(1));
+        Assert.assertEquals(gate.reserve("scope"), Duration.ofSeconds(2));
+
+        // Two requests made, two seconds later - still one request per second
+        clock.advance(Duration.ofSeconds(2));
+        record(tracker, "scope", 998, NOW.plusSeconds(1000));
+
+        Assert.assertEquals(gate.reserve("scope"), Duration.ofSeconds(1));
+
+        // Scopes are paced independently
+        record(tracker, "other", 1000, NOW.plusSeconds(1000));
+
+        Assert.assertEquals(gate.reserve("other"), Duration.ZERO);
+    }
+
+    @Test
+    public void reserveRejected() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+        RateLimitGate gate = new RateLimitGate(tracker, ThrottlePolicy.reject(), 2, 0, clock);
+
+        record(tracker, "scope", 1000, NOW.plusSeconds(1000));
+
+        Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+        Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+
+        try {
+            gate.reserve("scope");
+            Assert.fail("Expected request to be rejected");
+        } catch (RequestLimitExceededException expected) {
+            // Rejected requests do not consume an opportunity to make a request
+        }
+
+        clock.advance(Duration.ofSeconds(2));
+
+        Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+    }
+
+    @Test
+    public void reserveExhausted() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+        RateLimitGate parking = new RateLimitGate(tracker, ThrottlePolicy.park(Duration.ofHours(1)), 1, 10, clock);
+        RateLimitGate rejecting = new RateLimitGate(tracker, ThrottlePolicy.park(Duration.ofMinutes(10)), 1, 10,
+                clock);
+
+        // All remaining requests are reserved
+        record(tracker, "scope", 10, NOW.plus(Duration.ofMinutes(30)));
+
+        Assert.assertEquals(parking.reserve("scope"), Duration.ofMinutes(30));
+
+        try {
+            rejecting.reserve("scope");
+            Assert.fail("Expected request to be rejected");
+        } catch (RequestLimitExceededException expected) {
+            // Waiting until the rate limit resets exceeds the maximum wait
+        }
+
+        clock.advance(Duration.ofMinutes(30));
+
+        Assert.assertEquals(parking.reserve("scope"), Duration.ZERO);
+        Assert.assertEquals(rejecting.reserve("scope"), Duration.ZERO);
+    }
+
+    @Test
+    public void reserveCleansUpUnusedScopes() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+        RateLimitGate gate = new RateLimitGate(tracker, ThrottlePolicy.park(Duration.ofMinutes(1)), 1, 0, clock);
+
+        for (int i = 0; i < 100; i++) {
+            record(tracker, "scope" + i, 1000, NOW.plusSeconds(60));
+            gate.reserve("scope" + i);
+        }
+
+        Assert.assertEquals(gate.size(), 100);
+
+        // Rate limit windows for all scopes end, and the scopes are not used again
+        clock.advance(Duration.ofMinutes(2));
+
+        for (int i = 0; i < 156; i++) {
+            Assert.assertEquals(gate.reserve("other"), Duration.ZERO);
+        }
+
+        Assert.assertEquals(gate.size(), 0);
+    }
+
+    @Test
+    public void cleanUp() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+        RateLimitGate gate = new RateLimitGate(tracker, ThrottlePolicy.park(Duration.ofMinutes(1)), 1, 0, clock);
+
+        // 1000 requests over 1000 seconds - one request per second
+        record(tracker, "scope", 1000, NOW.plusSeconds(1000));
+        record(tracker, "other", 1000, NOW.plusSeconds(1000));
+
+        gate.reserve("scope");
+        gate.reserve("other");
+        gate.reserve("other");
+
+        // Only "other" has reserved a request which has not yet been reached
+        clock.advance(Duration.ofSeconds(1));
+        gate.cleanUp();
+
+        Assert.assertEquals(gate.size(), 1);
+        Assert.assertEquals(gate.reserve("other"), Duration.ofSeconds(1));
+
+        clock.advance(Duration.ofSeconds(2));
+        gate.cleanUp();
+
+        Assert.assertEquals(gate.size(), 0);
+        Assert.assertEquals(gate.reserve("scope"), Duration.ZERO);
+    }
+
+    @Test
+    public void intercept() throws Exception {
+        String path = "/api/endpoint";
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+        RateLimitGate gate = new RateLimitGate(tracker, ThrottlePolicy.reject(), 1, 0, clock);
+
+        OkHttpClient httpClient = HttpClients.builder()
+                .rateLimitGate(gate)
+                .build();
+
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+
+            server.enqueue(new MockResponse().setBody("[]"));
+
+            String url = server.url(path).toString();
+
+            record(tracker, RateLimitTracker.authorizationScope("token exhausted"), 0, NOW.plusSeconds(60));
+
+            try {
+                GitHubPageIterator.gson(url, () -> "token exhausted", "userAgent", "mediaType", httpClient).next();
+                Assert.fail("Expected request to be rejected");
+            } catch (RequestLimitExceededException expected) {
+                // Rejected requests are not made
+            }
+
+            Assert.assertEquals(server.getRequestCount(), 0);
+
+            // Requests made with other credentials are not affected
+            Assert.assertTrue(
+                    GitHubPageIterator.gson(url, () -> "token available", "userAgent", "mediaType", httpClient)
+                    .next()
+                    .isEmpty());
+
+            Assert.assertEquals(server.getRequestCount(), 1);
+        }
+    }
+
+    private void record(RateLimitTracker tracker, String scope, int remaining, Instant reset) {
+        Map<String, Collection<String>> headers = new HashMap<>();
+
+        headers.put("X-RateLimit-Limit", Collections.singleton("5000"));
+        headers.put("X-RateLimit-Remaining", Collections.singleton(Integer.toString(remaining)));
+        headers.put("X-RateLimit-Reset", Collections.singleton(Long.toString(reset.getEpochSecond())));
+
+        tracker.record(scope, headers, (response, header) -> response.getOrDefault(header, Collections.emptyList()));
+    }
+
+}
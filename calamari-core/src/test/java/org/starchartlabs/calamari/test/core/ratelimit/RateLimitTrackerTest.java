@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.starchartlabs.calamari.core.ratelimit.RateLimit;
+import org.starchartlabs.calamari.core.ratelimit.RateLimitTracker;
+import org.starchartlabs.calamari.test.MutableClock;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class RateLimitTrackerTest {
+
+    private static final Instant NOW = Instant.ofEpochSecond(1_700_000_000L);
+
+    private static final Instant RESET = NOW.plus(Duration.ofMinutes(30));
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void constructNullClock() throws Exception {
+        new RateLimitTracker(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void setDefaultNull() throws Exception {
+        RateLimitTracker.setDefault(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void applicationScopeNullId() throws Exception {
+        RateLimitTracker.applicationScope(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void installationScopeNullUrl() throws Exception {
+        RateLimitTracker.installationScope(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void authorizationScopeNullHeader() throws Exception {
+        RateLimitTracker.authorizationScope(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void recordNullScope() throws Exception {
+        new RateLimitTracker().record(null, getHeaders(5000, 4999, RESET, "core"), this::lookup);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void recordNullResponse() throws Exception {
+        new RateLimitTracker().record("scope", null, this::lookup);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void recordNullHeaderLookup() throws Exception {
+        new RateLimitTracker().record("scope", getHeaders(5000, 4999, RESET, "core"), null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getRateLimitNullScope() throws Exception {
+        new RateLimitTracker().getRateLimit(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getRateLimitNullResource() throws Exception {
+        new RateLimitTracker().getRateLimit("scope", null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void getRateLimitsNullScope() throws Exception {
+        new RateLimitTracker().getRateLimits(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void invalidateNullScope() throws Exception {
+        new RateLimitTracker().invalidate(null);
+    }
+
+    @Test
+    public void scopes() throws Exception {
+        Assert.assertNotEquals(RateLimitTracker.applicationScope("1"), RateLimitTracker.installationScope("1"));
+        Assert.assertNotEquals(RateLimitTracker.installationScope("1"), RateLimitTracker.authorizationScope("1"));
+
+        // Credentials are not retained in scopes
+        Assert.assertFalse(RateLimitTracker.authorizationScope("token secret").contains("secret"));
+        Assert.assertEquals(RateLimitTracker.authorizationScope("token secret"),
+                RateLimitTracker.authorizationScope("token secret"));
+    }
+
+    @Test
+    public void record() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+
+        tracker.record("scope", getHeaders(5000, 4999, RESET, "core"), this::lookup);
+
+        Optional<RateLimit> result = tracker.getRateLimit("scope");
+
+        Assert.assertEquals(result, Optional.of(new RateLimit("core", 5000, 4999, RESET, NOW)));
+        Assert.assertEquals(tracker.getRateLimit("scope", "core"), result);
+        Assert.assertFalse(tracker.getRateLimit("other").isPresent());
+    }
+
+    @Test
+    public void recordDefaultResource() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+
+        tracker.record("scope", getHeaders(5000, 4999, RESET, null), this::lookup);
+
+        Assert.assertEquals(tracker.getRateLimit("scope").map(RateLimit::getResource).orElse(null),
+                RateLimitTracker.DEFAULT_RESOURCE);
+    }
+
+    @Test
+    public void recordPerResource() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+
+        tracker.record("scope", getHeaders(5000, 4999, RESET, "core"), this::lookup);
+        tracker.record("scope", getHeaders(30, 10, RESET, "search"), this::lookup);
+
+        Map<String, RateLimit> result = tracker.getRateLimits("scope");
+
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertEquals(result.get("core").getRemaining(), 4999);
+        Assert.assertEquals(result.get("search").getRemaining(), 10);
+        Assert.assertTrue(tracker.getRateLimits("other").isEmpty());
+    }
+
+    @Test
+    public void recordIncompleteHeaders() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+
+        Map<String, Collection<String>> headers = getHeaders(5000, 4999, RESET, "core");
+        headers.remove("X-RateLimit-Reset");
+
+        tracker.record("scope", headers, this::lookup);
+        tracker.record("scope", Collections.emptyMap(), this::lookup);
+
+        Assert.assertFalse(tracker.getRateLimit("scope").isPresent());
+    }
+
+    @Test
+    public void recordInvalidHeaders() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+
+        Map<String, Collection<String>> headers = getHeaders(5000, 4999, RESET, "core");
+        headers.put("X-RateLimit-Remaining", Collections.singleton("many"));
+
+        tracker.record("scope", headers, this::lookup);
+
+        Assert.assertFalse(tracker.getRateLimit("scope").isPresent());
+    }
+
+    @Test
+    public void recordOutOfOrderSameWindow() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+
+        tracker.record("scope", getHeaders(5000, 4990, RESET, "core"), this::lookup);
+        tracker.record("scope", getHeaders(5000, 4995, RESET, "core"), this::lookup);
+
+        Assert.assertEquals(tracker.getRateLimit("scope").map(RateLimit::getRemaining).orElse(null),
+                Integer.valueOf(4990));
+    }
+
+    @Test
+    public void recordNewWindow() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+        Instant nextReset = RESET.plus(Duration.ofHours(1));
+
+        tracker.record("scope", getHeaders(5000, 10, RESET, "core"), this::lookup);
+        tracker.record("scope", getHeaders(5000, 4999, nextReset, "core"), this::lookup);
+
+        // Late response from the previous window
+        tracker.record("scope", getHeaders(5000, 5, RESET, "core"), this::lookup);
+
+        Optional<RateLimit> result = tracker.getRateLimit("scope");
+
+        Assert.assertEquals(result.map(RateLimit::getRemaining).orElse(null), Integer.valueOf(4999));
+        Assert.assertEquals(result.map(RateLimit::getReset).orElse(null), nextReset);
+    }
+
+    @Test
+    public void getRateLimitExpired() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+
+        tracker.record("scope", getHeaders(5000, 0, RESET, "core"), this::lookup);
+
+        Assert.assertTrue(tracker.getRateLimit("scope").isPresent());
+
+        clock.advance(Duration.ofMinutes(30));
+
+        Assert.assertFalse(tracker.getRateLimit("scope").isPresent());
+        Assert.assertTrue(tracker.getRateLimits("scope").isEmpty());
+    }
+
+    @Test
+    public void invalidate() throws Exception {
+        RateLimitTracker tracker = new RateLimitTracker(new MutableClock(NOW));
+
+        tracker.record("scope", getHeaders(5000, 4999, RESET, "core"), this::lookup);
+        tracker.record("other", getHeaders(5000, 4999, RESET, "core"), this::lookup);
+
+        tracker.invalidate("scope");
+
+        Assert.assertFalse(tracker.getRateLimit("scope").isPresent());
+        Assert.assertTrue(tracker.getRateLimit("other").isPresent());
+
+        tracker.invalidateAll();
+
+        Assert.assertFalse(tracker.getRateLimit("other").isPresent());
+    }
+
+    @Test
+    public void cleanUp() throws Exception {
+        MutableClock clock = new MutableClock(NOW);
+        RateLimitTracker tracker = new RateLimitTracker(clock);
+
+        tracker.record("scope", getHeaders(5000, 4999, RESET, "core"), this::lookup);
+        tracker.record("scope", getHeaders(30, 29, NOW.plus(Duration.ofMinutes(1)), "search"), this::lookup);
+
+        clock.advance(Duration.ofMinutes(5));
+        tracker.cleanUp();
+
+        Assert.assertEquals(tracker.getRateLimits("scope").keySet(), Collections.singleton("core"));
+    }
+
+    private Map<String, Collection<String>> getHeaders(int limit, int remaining, Instant reset, String resource) {
+        Map<String, Collection<String>> headers = new HashMap<>();
+
+        headers.put("X-RateLimit-Limit", Collections.singleton(Integer.toString(limit)));
+        headers.put("X-RateLimit-Remaining", Collections.singleton(Integer.toString(remaining)));
+        headers.put("X-RateLimit-Reset", Collections.singleton(Long.toString(reset.getEpochSecond())));
+
+        if (resource != null) {
+            headers.put("X-RateLimit-Resource", Collections.singleton(resource));
+        }
+
+        return headers;
+    }
+
+    private Collection<String> lookup(Map<String, Collection<String>> headers, String header) {
+        return headers.getOrDefault(header, Collections.emptyList());
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2026 StarChart-Labs@github.com Authors
+ *
+ * This software may be modified and distributed under the terms
+ * of the MIT license. See the LICENSE file for details.
+ */
+package org.starchartlabs.calamari.test.core.ratelimit;
+
+import java.time.Duration;
+
+import org.starchartlabs.calamari.core.ratelimit.ThrottlePolicy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ThrottlePolicyTest {
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void parkNullMaximumWait() throws Exception {
+        ThrottlePolicy.park(null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void parkZeroMaximumWait() throws Exception {
+        ThrottlePolicy.park(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void parkNegativeMaximumWait() throws Exception {
+        ThrottlePolicy.park(Duration.ofSeconds(-1));
+    }
+
+    @Test
+    public void equality() throws Exception {
+        Assert.assertEquals(ThrottlePolicy.reject(), ThrottlePolicy.reject());
+        Assert.assertEquals(ThrottlePolicy.park(Duration.ofSeconds(5)), ThrottlePolicy.park(Duration.ofSeconds(5)));
+        Assert.assertEquals(ThrottlePolicy.park(Duration.ofSeconds(5)).hashCode(),
+                ThrottlePolicy.park(Duration.ofSeconds(5)).hashCode());
+
+        Assert.assertNotEquals(ThrottlePolicy.park(Duration.ofSeconds(5)), ThrottlePolicy.park(Duration.ofSeconds(6)));
+        Assert.assertNotEquals(ThrottlePolicy.park(Duration.ofSeconds(5)), ThrottlePolicy.reject());
+    }
+
+}